@@ -0,0 +1,132 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks {@link JCompilationUnit#preAnalyze(ArrayList)} and
+ * {@link JCompilationUnit#analyze(Context)} over the corpus. The units are
+ * brought to the phase measured, in a fresh session, before each invocation.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalysisBenchmark {
+
+    /**
+     * Parsed units, ready for pre-analysis.
+     */
+
+    @State(Scope.Thread)
+    public static class Parsed {
+
+        /** The session. */
+        Session session;
+
+        /** The units. */
+        ArrayList<JCompilationUnit> units;
+
+        /**
+         * Parses the corpus in a fresh session.
+         *
+         * @param corpus
+         *            the corpus.
+         */
+
+        @Setup(Level.Invocation)
+        public void setup(Corpus corpus) {
+            session = Corpus.enter();
+            units = corpus.parse();
+        }
+
+        /**
+         * Leaves the session.
+         */
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            Corpus.exit(session);
+        }
+
+    }
+
+    /**
+     * Pre-analyzed units, ready for analysis.
+     */
+
+    @State(Scope.Thread)
+    public static class PreAnalyzed {
+
+        /** The session. */
+        Session session;
+
+        /** The units. */
+        ArrayList<JCompilationUnit> units;
+
+        /**
+         * Parses and pre-analyzes the corpus in a fresh session.
+         *
+         * @param corpus
+         *            the corpus.
+         */
+
+        @Setup(Level.Invocation)
+        public void setup(Corpus corpus) {
+            session = Corpus.enter();
+            units = corpus.preAnalyze();
+        }
+
+        /**
+         * Leaves the session.
+         */
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            Corpus.exit(session);
+        }
+
+    }
+
+    /**
+     * Pre-analyzes the corpus.
+     *
+     * @param parsed
+     *            the parsed units.
+     * @return the units.
+     */
+
+    @Benchmark
+    public Object preAnalyze(Parsed parsed) {
+        JCompilationUnit.preAnalyze(parsed.units);
+        return parsed.units;
+    }
+
+    /**
+     * Analyzes the corpus.
+     *
+     * @param preAnalyzed
+     *            the pre-analyzed units.
+     * @return the units.
+     */
+
+    @Benchmark
+    public Object analyze(PreAnalyzed preAnalyzed) {
+        for (JCompilationUnit unit : preAnalyzed.units) {
+            unit.analyze(null);
+        }
+        return preAnalyzed.units;
+    }
+
+}
@@ -0,0 +1,87 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link CLAbsorber}: reading the class files the corpus compiles
+ * to. Since CLAbsorber finds classes on the class path, the folder the class
+ * files are written to is prepended to the java.class.path property.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CLAbsorberBenchmark {
+
+    /**
+     * The class files of the corpus.
+     */
+
+    @State(Scope.Thread)
+    public static class Written {
+
+        /** Names of the classes, in internal form. */
+        ArrayList<String> names;
+
+        /**
+         * Compiles the corpus to class files, and puts them on the class path.
+         *
+         * @param corpus
+         *            the corpus.
+         */
+
+        @Setup(Level.Trial)
+        public void setup(Corpus corpus) {
+            File classes = new File(corpus.dir, "classes");
+            names = new ArrayList<String>();
+            Session session = Corpus.enter();
+            try {
+                for (JCompilationUnit unit : corpus.analyze()) {
+                    CLEmitter output = new CLEmitter(true);
+                    output.destinationDir(classes.getPath());
+                    unit.codegen(output);
+                    for (Type type : unit.declaredTypes()) {
+                        names.add(type.jvmName());
+                    }
+                }
+            } finally {
+                Corpus.exit(session);
+            }
+            System.setProperty("java.class.path", classes.getPath()
+                    + File.pathSeparator
+                    + System.getProperty("java.class.path"));
+        }
+
+    }
+
+    /**
+     * Reads the class files.
+     *
+     * @param written
+     *            the class files.
+     * @return the classes read.
+     */
+
+    @Benchmark
+    public Object read(Written written) {
+        ArrayList<CLFile> classFiles = new ArrayList<CLFile>();
+        for (String name : written.names) {
+            classFiles.add(new CLAbsorber(name).classFile());
+        }
+        return classFiles;
+    }
+
+}
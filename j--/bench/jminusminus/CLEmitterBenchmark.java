@@ -0,0 +1,184 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static jminusminus.CLConstants.*;
+
+/**
+ * Benchmarks {@link CLEmitter}: code generation over the corpus, emission of
+ * a class with many methods through the CLEmitter API directly, and writing
+ * the classes of the corpus out (to memory).
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CLEmitterBenchmark {
+
+    /**
+     * Analyzed units, ready for code generation.
+     */
+
+    @State(Scope.Thread)
+    public static class Analyzed {
+
+        /** The session. */
+        Session session;
+
+        /** The units. */
+        ArrayList<JCompilationUnit> units;
+
+        /**
+         * Parses, pre-analyzes, and analyzes the corpus in a fresh session.
+         *
+         * @param corpus
+         *            the corpus.
+         */
+
+        @Setup(Level.Invocation)
+        public void setup(Corpus corpus) {
+            session = Corpus.enter();
+            units = corpus.analyze();
+        }
+
+        /**
+         * Leaves the session.
+         */
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            Corpus.exit(session);
+        }
+
+    }
+
+    /**
+     * The classes of the corpus, ready to be written.
+     */
+
+    @State(Scope.Thread)
+    public static class Generated {
+
+        /** The classes. */
+        ArrayList<CLFile> clFiles;
+
+        /**
+         * Compiles the corpus to (in-memory) classes.
+         *
+         * @param corpus
+         *            the corpus.
+         */
+
+        @Setup(Level.Trial)
+        public void setup(Corpus corpus) {
+            Session session = Corpus.enter();
+            try {
+                clFiles = new ArrayList<CLFile>();
+                for (ArrayList<CLFile> unitFiles : corpus.codegen()) {
+                    clFiles.addAll(unitFiles);
+                }
+            } finally {
+                Corpus.exit(session);
+            }
+        }
+
+    }
+
+    /** Number of methods of the class emitted. */
+    @Param({ "1000" })
+    public int methods;
+
+    /**
+     * Generates code for the corpus.
+     *
+     * @param analyzed
+     *            the analyzed units.
+     * @return the units.
+     */
+
+    @Benchmark
+    public Object codegen(Analyzed analyzed) {
+        for (JCompilationUnit unit : analyzed.units) {
+            unit.codegen(new CLEmitter(false));
+        }
+        return analyzed.units;
+    }
+
+    /**
+     * Emits a class having a number of methods, each of which sums the
+     * integers below its argument, through the CLEmitter API.
+     *
+     * @return the class.
+     */
+
+    @Benchmark
+    public Object emitMethods() {
+        CLEmitter e = new CLEmitter(false);
+        ArrayList<String> accessFlags = new ArrayList<String>();
+        accessFlags.add("public");
+        e.addClass(accessFlags, "Emitted", "java/lang/Object", null, false);
+        accessFlags.add("static");
+        for (int i = 0; i < methods; i++) {
+            e.addMethod(accessFlags, "sum" + i, "(I)I", null, false);
+            String loop = e.createLabel();
+            String done = e.createLabel();
+            e.addNoArgInstruction(ICONST_0);
+            e.addNoArgInstruction(ISTORE_1);
+            e.addLabel(loop);
+            e.addNoArgInstruction(ILOAD_0);
+            e.addBranchInstruction(IFLE, done);
+            e.addNoArgInstruction(ILOAD_1);
+            e.addNoArgInstruction(ILOAD_0);
+            e.addNoArgInstruction(IADD);
+            e.addNoArgInstruction(ISTORE_1);
+            e.addIINCInstruction(0, -1);
+            e.addBranchInstruction(GOTO, loop);
+            e.addLabel(done);
+            e.addLDCInstruction(i);
+            e.addNoArgInstruction(ILOAD_1);
+            e.addNoArgInstruction(IADD);
+            e.addNoArgInstruction(IRETURN);
+        }
+        e.write();
+        return e.clFile();
+    }
+
+    /**
+     * Writes the classes of the corpus to memory.
+     *
+     * @param generated
+     *            the classes.
+     * @return the number of bytes written.
+     * @exception IOException
+     *                never.
+     */
+
+    @Benchmark
+    public int write(Generated generated) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (CLFile clFile : generated.clFiles) {
+            CLOutputStream out = new CLOutputStream(bytes);
+            clFile.write(out);
+            out.flush();
+        }
+        return bytes.size();
+    }
+
+}
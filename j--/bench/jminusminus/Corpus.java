@@ -0,0 +1,223 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The j-- programs the benchmarks run over: either the programs in one of the
+ * folders under tests (pass or spim), or a {@link SyntheticCorpus} of a given
+ * shape and size (by default, of a given number of classes). The tests folder
+ * is given by the jminusminus.bench.tests system property (tests by default).
+ * For example, the parser over 800 nested casts:
+ *
+ * <pre>
+ *   ant runBenchmarks -DBENCH_ARGS="ParserBenchmark -p corpus=synthetic
+ *       -p shape=casts -p scale=200"
+ * </pre>
+ * <p>
+ * Also provides the steps of the compiler pipeline, so that each benchmark can
+ * bring its input to the phase it measures. Each compilation runs in a
+ * {@link Session} of its own, entered by the thread running it.
+ */
+
+@State(Scope.Benchmark)
+public class Corpus {
+
+    /** The programs: pass, spim, or synthetic. */
+    @Param({ "pass", "synthetic" })
+    public String corpus;
+
+    /** Number of classes of the synthetic corpus. */
+    @Param({ "20" })
+    public int scale;
+
+    /**
+     * Shape of the synthetic corpus (see {@link SyntheticCorpus}); for the
+     * shapes other than calls, scale is the size of the one program.
+     */
+    @Param({ "calls" })
+    public String shape;
+
+    /** The source files. */
+    ArrayList<String> files;
+
+    /** Directory for the synthetic corpus and the class files written. */
+    File dir;
+
+    /**
+     * Lists (or writes) the source files.
+     *
+     * @exception IOException
+     *                if the synthetic corpus cannot be written.
+     */
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = File.createTempFile("j--bench", "");
+        dir.delete();
+        dir.mkdirs();
+        if (corpus.equals("synthetic")) {
+            files = SyntheticCorpus.write(dir, shape, scale);
+            return;
+        }
+        File tests = new File(System.getProperty("jminusminus.bench.tests",
+                "tests"), corpus);
+        File[] sources = tests.listFiles();
+        if (sources == null) {
+            throw new IOException("no such corpus " + tests);
+        }
+        Arrays.sort(sources);
+        files = new ArrayList<String>();
+        for (File source : sources) {
+            if (source.getName().endsWith(".java")) {
+                files.add(source.getPath());
+            }
+        }
+    }
+
+    /**
+     * Deletes the synthetic corpus and the class files written.
+     */
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        delete(dir);
+    }
+
+    /**
+     * Enters a fresh session, discarding whatever the compiler prints, and
+     * returns it.
+     *
+     * @return the session.
+     */
+
+    static Session enter() {
+        return enter(1);
+    }
+
+    /**
+     * Enters a fresh session compiling up to the specified number of units in
+     * parallel, discarding whatever the compiler prints, and returns it.
+     *
+     * @param parallelism
+     *            maximum number of units compiled in parallel.
+     * @return the session.
+     */
+
+    static Session enter(int parallelism) {
+        PrintStream discard = new PrintStream(new OutputStream() {
+            public void write(int b) {
+            }
+
+            public void write(byte[] b, int off, int len) {
+            }
+        });
+        Session session = new Session(parallelism);
+        session.enter();
+        Session.streams(discard, discard);
+        return session;
+    }
+
+    /**
+     * Leaves the specified session.
+     *
+     * @param session
+     *            the session.
+     */
+
+    static void exit(Session session) {
+        Session.streams(null, null);
+        session.exit();
+    }
+
+    /**
+     * Parses the source files.
+     *
+     * @return the compilation units.
+     */
+
+    ArrayList<JCompilationUnit> parse() {
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (String file : files) {
+            try {
+                units.add(new Parser(new LookaheadScanner(file))
+                        .compilationUnit());
+            } catch (FileNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Parses and pre-analyzes the source files.
+     *
+     * @return the compilation units.
+     */
+
+    ArrayList<JCompilationUnit> preAnalyze() {
+        ArrayList<JCompilationUnit> units = parse();
+        JCompilationUnit.preAnalyze(units);
+        return units;
+    }
+
+    /**
+     * Parses, pre-analyzes, and analyzes the source files.
+     *
+     * @return the compilation units.
+     */
+
+    ArrayList<JCompilationUnit> analyze() {
+        ArrayList<JCompilationUnit> units = preAnalyze();
+        for (JCompilationUnit unit : units) {
+            unit.analyze(null);
+        }
+        return units;
+    }
+
+    /**
+     * Compiles the source files to (in-memory) classes.
+     *
+     * @return the classes, one list per compilation unit.
+     */
+
+    ArrayList<ArrayList<CLFile>> codegen() {
+        ArrayList<ArrayList<CLFile>> clFiles = new ArrayList<ArrayList<CLFile>>();
+        for (JCompilationUnit unit : analyze()) {
+            unit.codegen(new CLEmitter(false));
+            clFiles.add(unit.clFiles());
+        }
+        return clFiles;
+    }
+
+    /**
+     * Deletes the specified file or directory.
+     *
+     * @param file
+     *            the file.
+     */
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        for (int i = 0; files != null && i < files.length; i++) {
+            delete(files[i]);
+        }
+        file.delete();
+    }
+
+}
@@ -0,0 +1,87 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.FileNotFoundException;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the front ends against each other: {@link FrontEnd#parse} over
+ * the corpus, read in memory beforehand, with the hand-written front end and
+ * with the one generated by JavaCC. For example:
+ *
+ * <pre>
+ *   ant runBenchmarks -DBENCH_ARGS="FrontEndBenchmark
+ *       -p corpus=synthetic -p scale=200"
+ * </pre>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FrontEndBenchmark {
+
+    /** The front end: handwritten or javacc. */
+    @Param({ "handwritten", "javacc" })
+    public String frontend;
+
+    /** The front end. */
+    private FrontEnd frontEnd;
+
+    /** The source files, read. */
+    private ArrayList<CharReader> inputs;
+
+    /**
+     * Chooses the front end, and reads the source files.
+     *
+     * @param corpus
+     *            the corpus.
+     * @exception FileNotFoundException
+     *                if a source file is missing.
+     */
+
+    @Setup(Level.Trial)
+    public void setup(Corpus corpus) throws FileNotFoundException {
+        frontEnd = Main.frontEnd(frontend);
+        if (frontEnd == null) {
+            throw new IllegalStateException("No " + frontend + " front end");
+        }
+        inputs = new ArrayList<CharReader>();
+        for (String file : corpus.files) {
+            inputs.add(new CharReader(file));
+        }
+    }
+
+    /**
+     * Scans and parses the corpus.
+     *
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object parse() {
+        Session session = Corpus.enter();
+        try {
+            ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+            for (CharReader input : inputs) {
+                units.add(frontEnd.parse(input, new ArrayList<Diagnostic>()));
+            }
+            return units;
+        } finally {
+            Corpus.exit(session);
+        }
+    }
+
+}
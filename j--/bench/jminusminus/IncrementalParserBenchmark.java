@@ -0,0 +1,138 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks {@link IncrementalParser}: a keystroke (a character typed and
+ * then deleted) in the middle of each source of the corpus, against parsing
+ * the source from scratch. With -p corpus=synthetic -p shape=methods, the
+ * keystroke should cost the same whatever the scale.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IncrementalParserBenchmark {
+
+    /**
+     * The sources of the corpus, parsed, and where each is edited.
+     */
+
+    @State(Scope.Thread)
+    public static class Edited {
+
+        /** Names of the source files. */
+        ArrayList<String> files;
+
+        /** The sources. */
+        ArrayList<String> sources;
+
+        /** Their parsers. */
+        ArrayList<IncrementalParser> parsers;
+
+        /**
+         * Offsets of the edits: in the middle of each source, after the first
+         * letter there ending a word.
+         */
+        int[] offsets;
+
+        /** The session the sources are parsed in. */
+        Session session;
+
+        /**
+         * Reads and parses the sources.
+         *
+         * @param corpus
+         *            the corpus.
+         * @exception IOException
+         *                if a source cannot be read.
+         */
+
+        @Setup(Level.Trial)
+        public void setup(Corpus corpus) throws IOException {
+            session = Corpus.enter();
+            files = corpus.files;
+            sources = new ArrayList<String>();
+            parsers = new ArrayList<IncrementalParser>();
+            offsets = new int[corpus.files.size()];
+            for (String file : corpus.files) {
+                String source = new String(Files.readAllBytes(new File(file)
+                        .toPath()), CharReader.ENCODING);
+                int offset = Math.max(1, source.length() / 2);
+                while (offset < source.length()
+                        && !(Character.isLetter(source.charAt(offset - 1)) && !Character
+                                .isLetterOrDigit(source.charAt(offset)))) {
+                    offset++;
+                }
+                offsets[sources.size()] = offset;
+                sources.add(source);
+                parsers.add(new IncrementalParser(file, source));
+            }
+        }
+
+        /**
+         * Leaves the session.
+         */
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            Corpus.exit(session);
+        }
+
+    }
+
+    /**
+     * Types a character in the middle of each source, and deletes it.
+     *
+     * @param edited
+     *            the sources.
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object keystroke(Edited edited) {
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (int i = 0; i < edited.parsers.size(); i++) {
+            IncrementalParser parser = edited.parsers.get(i);
+            parser.edit(edited.offsets[i], 0, "1");
+            units.add(parser.edit(edited.offsets[i], 1, ""));
+        }
+        return units;
+    }
+
+    /**
+     * Parses each source from scratch.
+     *
+     * @param edited
+     *            the sources.
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object parse(Edited edited) {
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (int i = 0; i < edited.sources.size(); i++) {
+            units.add(new IncrementalParser(edited.files.get(i), edited.sources
+                    .get(i)).compilationUnit());
+        }
+        return units;
+    }
+
+}
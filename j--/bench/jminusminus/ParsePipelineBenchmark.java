@@ -0,0 +1,60 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the front end of a parallel session: the corpus read and parsed
+ * through a {@link ParsePipeline} by a given number of workers. For example,
+ * a corpus of 400 classes with 1 to 8 workers:
+ *
+ * <pre>
+ *   ant runBenchmarks -DBENCH_ARGS="ParsePipelineBenchmark
+ *       -p corpus=synthetic -p scale=400 -p workers=1,2,4,8"
+ * </pre>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ParsePipelineBenchmark {
+
+    /** Number of parser workers. */
+    @Param({ "1", "4" })
+    public int workers;
+
+    /**
+     * Reads and parses the corpus.
+     *
+     * @param corpus
+     *            the corpus.
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object parse(Corpus corpus) {
+        Session session = Corpus.enter(workers);
+        try {
+            ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+            ParsePipeline pipeline = new ParsePipeline(session,
+                    new HandwrittenFrontEnd(), corpus.files);
+            while (pipeline.hasNext()) {
+                units.add(pipeline.next());
+            }
+            return units;
+        } finally {
+            Corpus.exit(session);
+        }
+    }
+
+}
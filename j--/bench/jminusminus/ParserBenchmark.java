@@ -0,0 +1,39 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Benchmarks the hand-written parser: {@link Parser#compilationUnit()} over
+ * the corpus, scanning included.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+
+    /**
+     * Parses the corpus.
+     *
+     * @param corpus
+     *            the corpus.
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object compilationUnit(Corpus corpus) {
+        Session session = Corpus.enter();
+        try {
+            return corpus.parse();
+        } finally {
+            Corpus.exit(session);
+        }
+    }
+
+}
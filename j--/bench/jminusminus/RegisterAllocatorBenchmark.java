@@ -0,0 +1,152 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the register allocators of the SPIM back end
+ * ({@link NNaiveRegisterAllocator}, {@link NLinearRegisterAllocator}, and
+ * {@link NGraphRegisterAllocator}) over the control flow graphs of the
+ * methods of a corpus. The corpus is tests/spim or the synthetic one, since
+ * the SPIM back end handles a subset of j-- only.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegisterAllocatorBenchmark {
+
+    /**
+     * The control flow graphs, in LIR, ready for register allocation.
+     */
+
+    @State(Scope.Thread)
+    public static class Graphs {
+
+        /** The programs: spim or synthetic. */
+        @Param({ "spim", "synthetic" })
+        public String corpus;
+
+        /** Number of classes of the synthetic corpus. */
+        @Param({ "20" })
+        public int scale;
+
+        /** The register allocation scheme: naive, linear, or graph. */
+        @Param({ "naive", "linear", "graph" })
+        public String allocator;
+
+        /** The corpus. */
+        Corpus programs;
+
+        /** The classes of the corpus. */
+        ArrayList<CLFile> clFiles;
+
+        /** The control flow graphs. */
+        ArrayList<NControlFlowGraph> cfgs;
+
+        /**
+         * Compiles the corpus to (in-memory) classes.
+         *
+         * @exception IOException
+         *                if the synthetic corpus cannot be written.
+         */
+
+        @Setup(Level.Trial)
+        public void setupTrial() throws IOException {
+            programs = new Corpus();
+            programs.corpus = corpus;
+            programs.scale = scale;
+            programs.setup();
+            Session session = Corpus.enter();
+            try {
+                clFiles = new ArrayList<CLFile>();
+                for (ArrayList<CLFile> unitFiles : programs.codegen()) {
+                    clFiles.addAll(unitFiles);
+                }
+            } finally {
+                Corpus.exit(session);
+            }
+        }
+
+        /**
+         * Builds the control flow graphs of the methods of the classes, and
+         * brings them to LIR, as {@link NEmitter} does.
+         */
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            Session session = Corpus.enter();
+            try {
+                cfgs = new ArrayList<NControlFlowGraph>();
+                for (CLFile clFile : clFiles) {
+                    for (CLMethodInfo m : clFile.methods) {
+                        NControlFlowGraph cfg = new NControlFlowGraph(
+                                clFile.constantPool, m);
+                        cfg.detectLoops(cfg.basicBlocks.get(0), null);
+                        cfg.removeUnreachableBlocks();
+                        cfg.computeDominators(cfg.basicBlocks.get(0), null);
+                        cfg.tuplesToHir();
+                        cfg.eliminateRedundantPhiFunctions();
+                        cfg.optimize();
+                        cfg.hirToLir();
+                        cfg.resolvePhiFunctions();
+                        cfg.orderBlocks();
+                        cfg.renumberLirInstructions();
+                        cfgs.add(cfg);
+                    }
+                }
+            } finally {
+                Corpus.exit(session);
+            }
+        }
+
+        /**
+         * Deletes the synthetic corpus.
+         */
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            programs.tearDown();
+        }
+
+    }
+
+    /**
+     * Allocates registers for the control flow graphs.
+     *
+     * @param graphs
+     *            the control flow graphs.
+     * @return the graphs.
+     */
+
+    @Benchmark
+    public Object allocation(Graphs graphs) {
+        for (NControlFlowGraph cfg : graphs.cfgs) {
+            NRegisterAllocator regAllocator;
+            if (graphs.allocator.equals("naive")) {
+                regAllocator = new NNaiveRegisterAllocator(cfg);
+            } else if (graphs.allocator.equals("linear")) {
+                regAllocator = new NLinearRegisterAllocator(cfg);
+            } else {
+                regAllocator = new NGraphRegisterAllocator(cfg);
+            }
+            regAllocator.allocation();
+        }
+        return graphs.cfgs;
+    }
+
+}
@@ -0,0 +1,223 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import java.util.ArrayList;
+
+/**
+ * Compiles the programs of a {@link SyntheticCorpus} at increasing sizes and
+ * reports, for each shape and size, the time and the memory allocated by each
+ * phase of the compiler (as gathered by {@link Stats}), together with the
+ * growth exponents of the total time and allocation from one size to the next:
+ * an exponent near 1 means the compiler scales linearly with that shape, one
+ * near 2 quadratically. Usage:
+ *
+ * <pre>
+ *   java jminusminus.ScalingDriver [-shapes s1,s2,...] [-sizes n1,n2,...]
+ *       [-repeat n]
+ * </pre>
+ *
+ * Each program is compiled n times (3 by default), in a session of its own,
+ * and the fastest compilation is reported. A compilation that overflows the
+ * stack is reported as such, and the larger sizes of its shape are skipped.
+ */
+
+public class ScalingDriver {
+
+    /** The phases reported. */
+    private static final Stats.Phase[] PHASES = { Stats.Phase.PARSE,
+            Stats.Phase.PRE_ANALYZE, Stats.Phase.ANALYZE, Stats.Phase.CODEGEN,
+            Stats.Phase.WRITE };
+
+    /**
+     * Entry point.
+     *
+     * @param args
+     *            the command-line arguments.
+     * @exception IOException
+     *                if a program cannot be written.
+     */
+
+    public static void main(String[] args) throws IOException {
+        String[] shapes = SyntheticCorpus.SHAPES;
+        int[] sizes = { 100, 200, 400, 800 };
+        int repeat = 3;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-shapes") && i + 1 < args.length) {
+                shapes = args[++i].split(",");
+            } else if (args[i].equals("-sizes") && i + 1 < args.length) {
+                String[] s = args[++i].split(",");
+                sizes = new int[s.length];
+                for (int j = 0; j < s.length; j++) {
+                    sizes[j] = Integer.parseInt(s[j]);
+                }
+            } else if (args[i].equals("-repeat") && i + 1 < args.length) {
+                repeat = Math.max(1, Integer.parseInt(args[++i]));
+            } else {
+                System.err.println("Usage: java jminusminus.ScalingDriver "
+                        + "[-shapes s1,s2,...] [-sizes n1,n2,...] "
+                        + "[-repeat n]");
+                System.exit(1);
+            }
+        }
+
+        PrintStream out = System.out;
+        out.printf("%-12s %8s", "shape", "size");
+        for (Stats.Phase phase : PHASES) {
+            out.printf(" %11s", phase);
+        }
+        out.printf(" %11s %14s %8s %8s\n", "total (ms)", "allocated (KB)",
+                "time ^", "alloc ^");
+        for (String shape : shapes) {
+            long[] previous = null;
+            int previousSize = 0;
+            for (int size : sizes) {
+                out.printf("%-12s %8d", shape, size);
+                Stats best = null;
+                try {
+                    for (int r = 0; r < repeat; r++) {
+                        Stats stats = compile(shape, size);
+                        if (stats == null) {
+                            break;
+                        }
+                        if (best == null
+                                || total(stats)[0] < total(best)[0]) {
+                            best = stats;
+                        }
+                    }
+                } catch (StackOverflowError e) {
+                    out.println(" stack overflow");
+                    break;
+                }
+                if (best == null) {
+                    out.println(" compilation failed");
+                    break;
+                }
+                for (Stats.Phase phase : PHASES) {
+                    out.printf(" %11.3f", best.total(phase)[0] / 1e6);
+                }
+                long[] total = total(best);
+                out.printf(" %11.3f %14d", total[0] / 1e6, total[2] / 1024);
+                if (previous != null) {
+                    out.printf(" %8.2f %8.2f", exponent(previous[0], total[0],
+                            previousSize, size), exponent(previous[2],
+                            total[2], previousSize, size));
+                }
+                out.println();
+                previous = total;
+                previousSize = size;
+            }
+        }
+    }
+
+    /**
+     * Writes the program of the specified shape and size, compiles it to
+     * class files in a fresh session, and returns the statistics gathered.
+     *
+     * @param shape
+     *            the shape.
+     * @param size
+     *            the size.
+     * @return the statistics, or {@code null} if the program did not compile.
+     * @exception IOException
+     *                if the program cannot be written.
+     */
+
+    private static Stats compile(String shape, int size) throws IOException {
+        File dir = File.createTempFile("j--scaling", "");
+        dir.delete();
+        dir.mkdirs();
+        Session session = Corpus.enter();
+        Stats stats = new Stats();
+        session.stats(stats);
+        try {
+            ArrayList<String> files = SyntheticCorpus.write(dir, shape, size);
+            ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+            boolean errorHasOccurred = false;
+            for (String file : files) {
+                Stats.start(file, Stats.Phase.PARSE);
+                try {
+                    Parser parser = new Parser(new LookaheadScanner(file));
+                    units.add(parser.compilationUnit());
+                    errorHasOccurred |= parser.errorHasOccurred();
+                } catch (FileNotFoundException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    Stats.stop();
+                }
+            }
+            if (errorHasOccurred
+                    || !Main.compile(session, units, "", new File(dir,
+                            "classes").getPath(), false, "", null)) {
+                return null;
+            }
+            return stats;
+        } finally {
+            Corpus.exit(session);
+            delete(dir);
+        }
+    }
+
+    /**
+     * Returns the totals, over the phases reported, of the specified
+     * statistics: the wall time, the CPU time, and the allocated bytes.
+     *
+     * @param stats
+     *            the statistics.
+     * @return the totals.
+     */
+
+    private static long[] total(Stats stats) {
+        long[] total = new long[3];
+        for (Stats.Phase phase : PHASES) {
+            long[] m = stats.total(phase);
+            for (int i = 0; i < 3; i++) {
+                total[i] += m[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the exponent k such that measure grows like size^k from the
+     * first to the second size.
+     *
+     * @param m1
+     *            the measure at the first size.
+     * @param m2
+     *            the measure at the second size.
+     * @param s1
+     *            the first size.
+     * @param s2
+     *            the second size.
+     * @return the exponent.
+     */
+
+    private static double exponent(long m1, long m2, int s1, int s2) {
+        if (m1 <= 0 || m2 <= 0 || s1 == s2) {
+            return Double.NaN;
+        }
+        return Math.log((double) m2 / m1) / Math.log((double) s2 / s1);
+    }
+
+    /**
+     * Deletes the specified file or directory.
+     *
+     * @param file
+     *            the file.
+     */
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        for (int i = 0; files != null && i < files.length; i++) {
+            delete(files[i]);
+        }
+        file.delete();
+    }
+
+}
@@ -0,0 +1,47 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.FileNotFoundException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import static jminusminus.TokenKind.EOF;
+
+/**
+ * Benchmarks the hand-written scanner: {@link Scanner#scan()} over all of the
+ * tokens of the corpus.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScannerBenchmark {
+
+    /**
+     * Scans the corpus.
+     *
+     * @param corpus
+     *            the corpus.
+     * @return the number of tokens.
+     * @exception FileNotFoundException
+     *                if a source file is missing.
+     */
+
+    @Benchmark
+    public int scan(Corpus corpus) throws FileNotFoundException {
+        int tokens = 0;
+        for (String file : corpus.files) {
+            Scanner scanner = new Scanner(file);
+            while (scanner.tokens().kind(scanner.scan()) != EOF) {
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+
+}
@@ -0,0 +1,509 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.util.ArrayList;
+
+/**
+ * Writes synthetic j-- programs (in package {@code synthetic}) of a given
+ * shape and size, for measuring how the compiler scales. The shapes, and what
+ * their size is, are the following:
+ * <ul>
+ *   <li>calls: size classes, each declaring 10 static int methods that loop,
+ *       branch, do arithmetic, and call the methods of the previous class.
+ *       Only constructs the SPIM back end handles are used.</li>
+ *   <li>methods: one class declaring size methods.</li>
+ *   <li>expressions: one method returning an expression nested size deep.</li>
+ *   <li>casts: one method returning an expression of size nested casts, to
+ *       qualified type names, each (but the innermost) of a parenthesized
+ *       expression: the pathological case for the lookahead of the
+ *       parser.</li>
+ *   <li>statements: one method made of size statements.</li>
+ *   <li>locals: one method declaring size local variables, each initialized
+ *       from the ones declared before it.</li>
+ *   <li>nesting: one method of blocks nested size deep, each declaring a
+ *       local variable, and referring to the ones of the blocks surrounding
+ *       it and to the method's parameter.</li>
+ *   <li>constants: size distinct int constants, too large for an immediate
+ *       operand, and as many distinct double constants, each of which takes
+ *       entries in the constant pool.</li>
+ *   <li>strings: size distinct string literals.</li>
+ *   <li>classes: one compilation unit declaring size classes.</li>
+ *   <li>inheritance: a chain of size classes, each in a unit of its own and
+ *       extending the previous one.</li>
+ * </ul>
+ * Only constructs the {@link Parser} accepts are used, and every program
+ * compiles without errors.
+ */
+
+public class SyntheticCorpus {
+
+    /** The shapes. */
+    public static final String[] SHAPES = { "calls", "methods", "expressions",
+            "casts", "statements", "locals", "nesting", "constants",
+            "strings", "classes", "inheritance" };
+
+    /** Number of methods per class of the calls shape. */
+    private static final int METHODS = 10;
+
+    /**
+     * Most statements per method; a method's code must stay under 64K bytes.
+     */
+    private static final int STATEMENTS = 1000;
+
+    /**
+     * Writes the program of the specified shape and size in the specified
+     * directory, and returns the names of the files written.
+     *
+     * @param dir
+     *            the directory.
+     * @param shape
+     *            the shape.
+     * @param size
+     *            the size.
+     * @return the source files.
+     * @exception IOException
+     *                if a file cannot be written.
+     */
+
+    public static ArrayList<String> write(File dir, String shape, int size)
+            throws IOException {
+        ArrayList<String> files = new ArrayList<String>();
+        if (shape.equals("calls")) {
+            for (int i = 0; i < size; i++) {
+                PrintWriter out = open(dir, "C" + i, files);
+                writeCalls(out, i);
+                out.close();
+            }
+        } else if (shape.equals("inheritance")) {
+            for (int i = 0; i < size; i++) {
+                PrintWriter out = open(dir, "C" + i, files);
+                writeSubclass(out, i);
+                out.close();
+            }
+        } else {
+            PrintWriter out = open(dir, "C", files);
+            if (shape.equals("methods")) {
+                writeMethods(out, size);
+            } else if (shape.equals("expressions")) {
+                writeExpression(out, size);
+            } else if (shape.equals("casts")) {
+                writeCasts(out, size);
+            } else if (shape.equals("statements")) {
+                writeStatements(out, size);
+            } else if (shape.equals("locals")) {
+                writeLocals(out, size);
+            } else if (shape.equals("nesting")) {
+                writeNesting(out, size);
+            } else if (shape.equals("constants")) {
+                writeConstants(out, size);
+            } else if (shape.equals("strings")) {
+                writeStrings(out, size);
+            } else if (shape.equals("classes")) {
+                writeClasses(out, size);
+            } else {
+                out.close();
+                throw new IllegalArgumentException("no such shape " + shape);
+            }
+            out.close();
+        }
+        return files;
+    }
+
+    /**
+     * Opens the source file of the specified class, for writing, and adds it
+     * to the specified files.
+     *
+     * @param dir
+     *            the directory.
+     * @param name
+     *            name of the class.
+     * @param files
+     *            the files written so far.
+     * @return the output.
+     * @exception IOException
+     *                if the file cannot be opened.
+     */
+
+    private static PrintWriter open(File dir, String name,
+            ArrayList<String> files) throws IOException {
+        File file = new File(dir, name + ".java");
+        files.add(file.getPath());
+        PrintWriter out = new PrintWriter(file);
+        out.println("package synthetic;");
+        out.println();
+        return out;
+    }
+
+    /**
+     * Writes class Ci of the calls shape.
+     *
+     * @param out
+     *            where to write.
+     * @param i
+     *            index of the class.
+     */
+
+    private static void writeCalls(PrintWriter out, int i) {
+        out.printf("public class C%d {\n", i);
+        for (int j = 0; j < METHODS; j++) {
+            out.println();
+            out.printf("    public static int m%d(int n, int a, int b) {\n", j);
+            out.println("        int s = 0;");
+            out.println("        int k = 0;");
+            out.println("        while (k < n) {");
+            out.printf("            s = s + k * %d - a / (b + 1);\n", j + 1);
+            out.printf("            if (s > %d) {\n", 1000 + i);
+            out.println("                s = s - a * b + k;");
+            out.println("            } else {");
+            out.printf("                s = s + (a - b) * (k + %d);\n", j);
+            out.println("            }");
+            out.println("            k = k + 1;");
+            out.println("        }");
+            if (i > 0) {
+                out.printf("        return s + C%d.m%d(n - 1, b, a);\n", i - 1,
+                        j);
+            } else {
+                out.println("        return s;");
+            }
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class Ci of the inheritance shape: it extends C(i-1), adds a
+     * field and a method, and overrides the method of C(i-1).
+     *
+     * @param out
+     *            where to write.
+     * @param i
+     *            index of the class.
+     */
+
+    private static void writeSubclass(PrintWriter out, int i) {
+        out.printf("public class C%d%s {\n", i, i > 0 ? " extends C"
+                + (i - 1) : "");
+        out.println();
+        out.printf("    protected int f%d;\n", i);
+        out.println();
+        out.printf("    public int g%d(int x) {\n", i);
+        out.printf("        return x + f%d;\n", i);
+        out.println("    }");
+        if (i > 0) {
+            out.println();
+            out.printf("    public int g%d(int x) {\n", i - 1);
+            out.printf("        return g%d(x) + super.g%d(x);\n", i, i - 1);
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, declaring the specified number of methods, each
+     * calling the previous one.
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            number of methods.
+     */
+
+    private static void writeMethods(PrintWriter out, int size) {
+        out.println("public class C {");
+        for (int i = 0; i < size; i++) {
+            out.println();
+            out.printf("    public static int m%d(int x, int y) {\n", i);
+            if (i > 0) {
+                out.printf("        return m%d(y, x) + x * %d;\n", i - 1, i);
+            } else {
+                out.println("        return x - y;");
+            }
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, declaring a method returning an expression nested to the
+     * specified depth.
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            depth of the expression.
+     */
+
+    private static void writeExpression(PrintWriter out, int size) {
+        String[] operators = { " + ", " * ", " - " };
+        StringBuffer expression = new StringBuffer();
+        for (int i = 0; i < size; i++) {
+            expression.append('(');
+        }
+        expression.append('x');
+        for (int i = 0; i < size; i++) {
+            expression.append(operators[i % operators.length]);
+            expression.append(i % 7 + 1);
+            expression.append(')');
+        }
+        out.println("public class C {");
+        out.println();
+        out.println("    public static int m(int x) {");
+        out.printf("        return %s;\n", expression);
+        out.println("    }");
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, declaring a method returning an expression of the
+     * specified number of nested casts, each (but the innermost) of a
+     * parenthesized expression, alternately to java.lang.String and
+     * java.lang.Object.
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            number of casts.
+     */
+
+    private static void writeCasts(PrintWriter out, int size) {
+        StringBuffer expression = new StringBuffer();
+        for (int i = 0; i < size; i++) {
+            expression.append(i % 2 == 0 ? "(java.lang.String) "
+                    : "(java.lang.Object) ");
+            expression.append(i < size - 1 ? "(" : "s");
+        }
+        for (int i = 1; i < size; i++) {
+            expression.append(')');
+        }
+        out.println("public class C {");
+        out.println();
+        out.println("    public static String m(String s) {");
+        out.printf("        return %s;\n", expression);
+        out.println("    }");
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, declaring a method made of the specified number of
+     * statements (or methods of {@link #STATEMENTS} statements each, calling
+     * the next one, if there are more).
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            number of statements.
+     */
+
+    private static void writeStatements(PrintWriter out, int size) {
+        out.println("public class C {");
+        int methods = (size + STATEMENTS - 1) / STATEMENTS;
+        for (int m = 0; m < methods; m++) {
+            out.println();
+            out.printf("    public static int m%d(int x) {\n", m);
+            out.println("        int s = x;");
+            for (int i = m * STATEMENTS; i < Math.min(size, (m + 1)
+                    * STATEMENTS); i++) {
+                if (i % 2 == 0) {
+                    out.printf("        s = s * %d + x;\n", i % 13 + 1);
+                } else {
+                    out.printf("        if (s > %d) {\n", i);
+                    out.println("            s = s - x;");
+                    out.println("        }");
+                }
+            }
+            if (m + 1 < methods) {
+                out.printf("        return m%d(s);\n", m + 1);
+            } else {
+                out.println("        return s;");
+            }
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, declaring a method that declares the specified number of
+     * local variables (or methods of {@link #STATEMENTS} local variables each,
+     * calling the next one, if there are more).
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            number of local variables.
+     */
+
+    private static void writeLocals(PrintWriter out, int size) {
+        out.println("public class C {");
+        int methods = (size + STATEMENTS - 1) / STATEMENTS;
+        for (int m = 0; m < methods; m++) {
+            out.println();
+            out.printf("    public static int m%d(int x) {\n", m);
+            int first = m * STATEMENTS;
+            int last = Math.min(size, (m + 1) * STATEMENTS) - 1;
+            for (int i = first; i <= last; i++) {
+                if (i == first) {
+                    out.printf("        int v%d = x;\n", i);
+                } else {
+                    out.printf("        int v%d = v%d - v%d + x;\n", i,
+                            i - 1, (first + i) / 2);
+                }
+            }
+            if (m + 1 < methods) {
+                out.printf("        return m%d(v%d);\n", m + 1, last);
+            } else {
+                out.printf("        return v%d;\n", last);
+            }
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, declaring a method made of blocks nested to the
+     * specified depth.
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            depth of the blocks.
+     */
+
+    private static void writeNesting(PrintWriter out, int size) {
+        out.println("public class C {");
+        out.println();
+        out.println("    public static int m(int x) {");
+        out.println("        int s = x;");
+        StringBuffer indent = new StringBuffer("        ");
+        for (int i = 0; i < size; i++) {
+            out.printf("%s{\n", indent);
+            indent.append("    ");
+            if (i == 0) {
+                out.printf("%sint v0 = x;\n", indent);
+            } else {
+                out.printf("%sint v%d = v%d + v%d - x;\n", indent, i, i - 1,
+                        i / 2);
+            }
+        }
+        out.printf("%ss = v%d;\n", indent, size - 1);
+        for (int i = 0; i < size; i++) {
+            indent.setLength(indent.length() - 4);
+            out.printf("%s}\n", indent);
+        }
+        out.println("        return s;");
+        out.println("    }");
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, using the specified number of distinct int constants
+     * and as many distinct double ones.
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            number of constants of each type.
+     */
+
+    private static void writeConstants(PrintWriter out, int size) {
+        out.println("public class C {");
+        int methods = (size + STATEMENTS - 1) / STATEMENTS;
+        for (int m = 0; m < methods; m++) {
+            out.println();
+            out.printf("    public static int m%d(int x) {\n", m);
+            out.println("        int s = x;");
+            out.println("        double d = 0.5;");
+            for (int i = m * STATEMENTS; i < Math.min(size, (m + 1)
+                    * STATEMENTS); i++) {
+                out.printf("        s = s + %d;\n", 100000 + i);
+                out.printf("        d = d + %d.%d;\n", i, i % 9 + 1);
+            }
+            out.println("        return s;");
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes class C, using the specified number of distinct string literals.
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            number of string literals.
+     */
+
+    private static void writeStrings(PrintWriter out, int size) {
+        out.println("public class C {");
+        int methods = (size + STATEMENTS - 1) / STATEMENTS;
+        for (int m = 0; m < methods; m++) {
+            out.println();
+            out.printf("    public static String m%d(String x) {\n", m);
+            out.println("        String s = x;");
+            for (int i = m * STATEMENTS; i < Math.min(size, (m + 1)
+                    * STATEMENTS); i++) {
+                if (i % 10 == 0) {
+                    out.printf("        s = \"literal %d\" + x;\n", i);
+                } else {
+                    out.printf("        s = \"literal %d\";\n", i);
+                }
+            }
+            out.println("        return s;");
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+    }
+
+    /**
+     * Writes public class C and the specified number of other classes, in one
+     * compilation unit. Each class holds a reference to the next one.
+     *
+     * @param out
+     *            where to write.
+     * @param size
+     *            number of classes.
+     */
+
+    private static void writeClasses(PrintWriter out, int size) {
+        out.println("public class C {");
+        out.println();
+        out.println("    public static int m(int x) {");
+        out.println("        K0 k = new K0();");
+        out.println("        return k.get(x);");
+        out.println("    }");
+        out.println();
+        out.println("}");
+        for (int i = 0; i < size; i++) {
+            out.println();
+            out.printf("class K%d {\n", i);
+            out.println();
+            out.printf("    private int f = %d;\n", i);
+            out.println();
+            out.println("    public int get(int x) {");
+            if (i + 1 < size) {
+                out.printf("        K%d next = new K%d();\n", i + 1, i + 1);
+                out.println("        return next.get(x) + f;");
+            } else {
+                out.println("        return x + f;");
+            }
+            out.println("    }");
+            out.println();
+            out.println("}");
+        }
+    }
+
+}
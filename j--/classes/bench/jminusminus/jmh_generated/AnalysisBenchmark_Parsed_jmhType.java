@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class AnalysisBenchmark_Parsed_jmhType extends AnalysisBenchmark_Parsed_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class AnalysisBenchmark_PreAnalyzed_jmhType extends AnalysisBenchmark_PreAnalyzed_jmhType_B3 {
+}
+
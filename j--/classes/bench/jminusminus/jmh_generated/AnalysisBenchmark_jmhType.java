@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class AnalysisBenchmark_jmhType extends AnalysisBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class CLAbsorberBenchmark_Written_jmhType extends CLAbsorberBenchmark_Written_jmhType_B3 {
+}
+
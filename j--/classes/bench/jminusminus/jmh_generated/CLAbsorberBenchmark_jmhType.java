@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class CLAbsorberBenchmark_jmhType extends CLAbsorberBenchmark_jmhType_B3 {
+}
+
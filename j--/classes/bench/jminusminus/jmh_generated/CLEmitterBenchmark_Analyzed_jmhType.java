@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class CLEmitterBenchmark_Analyzed_jmhType extends CLEmitterBenchmark_Analyzed_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class CLEmitterBenchmark_Generated_jmhType extends CLEmitterBenchmark_Generated_jmhType_B3 {
+}
+
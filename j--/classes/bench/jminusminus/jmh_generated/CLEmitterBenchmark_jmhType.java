@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class CLEmitterBenchmark_jmhType extends CLEmitterBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class Corpus_jmhType extends Corpus_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class IncrementalParserBenchmark_Edited_jmhType extends IncrementalParserBenchmark_Edited_jmhType_B3 {
+}
+
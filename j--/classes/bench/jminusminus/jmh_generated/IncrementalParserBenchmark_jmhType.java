@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class IncrementalParserBenchmark_jmhType extends IncrementalParserBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class ParsePipelineBenchmark_jmhType extends ParsePipelineBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class RegisterAllocatorBenchmark_Graphs_jmhType extends RegisterAllocatorBenchmark_Graphs_jmhType_B3 {
+}
+
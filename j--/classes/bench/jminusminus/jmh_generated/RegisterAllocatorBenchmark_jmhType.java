@@ -0,0 +1,4 @@
+package jminusminus.jmh_generated;
+public class RegisterAllocatorBenchmark_jmhType extends RegisterAllocatorBenchmark_jmhType_B3 {
+}
+
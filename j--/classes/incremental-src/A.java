@@ -0,0 +1,5 @@
+public class A {
+    public static boolean f() {
+        return true;
+    }
+}
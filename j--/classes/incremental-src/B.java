@@ -0,0 +1,5 @@
+public class B {
+    public static int g() {
+        return A.f() + 1;
+    }
+}
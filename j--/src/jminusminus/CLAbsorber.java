@@ -26,6 +26,12 @@ public class CLAbsorber {
     /** Name of the class that is read. */
     private String className;
 
+    /**
+     * Whether only the headers of the class and of its members are read, the
+     * attributes being skipped.
+     */
+    private boolean headersOnly;
+
     /**
      * Print the specified warning to STDERR.
      * 
@@ -110,9 +116,27 @@ public class CLAbsorber {
                 case CONSTANT_Utf8:
                     int length = in.readUnsignedShort();
                     byte[] b = new byte[length];
-                    in.read(b);
+                    in.readFully(b);
                     cp.addCPItem(new CLConstantUtf8Info(b));
                     break;
+                case CONSTANT_MethodHandle:
+                    cp.addCPItem(new CLConstantMethodHandleInfo(in
+                            .readUnsignedByte(), in.readUnsignedShort()));
+                    break;
+                case CONSTANT_MethodType:
+                    cp.addCPItem(new CLConstantMethodTypeInfo(in
+                            .readUnsignedShort()));
+                    break;
+                case CONSTANT_Dynamic:
+                case CONSTANT_InvokeDynamic:
+                    cp.addCPItem(new CLConstantDynamicInfo((short) tag, in
+                            .readUnsignedShort(), in.readUnsignedShort()));
+                    break;
+                case CONSTANT_Module:
+                case CONSTANT_Package:
+                    cp.addCPItem(new CLConstantModuleInfo((short) tag, in
+                            .readUnsignedShort()));
+                    break;
                 default:
                     reportError("Unknown cp_info tag '%d'", tag);
                     return cp;
@@ -200,6 +224,10 @@ public class CLAbsorber {
     private ArrayList<CLAttributeInfo> readAttributes(CLInputStream in,
             int attributesCount) {
         ArrayList<CLAttributeInfo> attributes = new ArrayList<CLAttributeInfo>();
+        if (headersOnly) {
+            skipAttributes(in, attributesCount);
+            return attributes;
+        }
         try {
             CLConstantPool cp = classFile.constantPool;
             for (int i = 0; i < attributesCount; i++) {
@@ -284,6 +312,35 @@ public class CLAbsorber {
         return attributes;
     }
 
+    /**
+     * Skip the attributes in the specified stream.
+     * 
+     * @param in
+     *            input stream.
+     * @param attributesCount
+     *            number of attributes.
+     */
+
+    private void skipAttributes(CLInputStream in, int attributesCount) {
+        try {
+            for (int i = 0; i < attributesCount; i++) {
+                in.readUnsignedShort();
+                long attributeLength = in.readUnsignedInt();
+                while (attributeLength > 0) {
+                    int skipped = in.skipBytes((int) Math.min(attributeLength,
+                            Integer.MAX_VALUE));
+                    if (skipped == 0) {
+                        in.readUnsignedByte();
+                        skipped = 1;
+                    }
+                    attributeLength -= skipped;
+                }
+            }
+        } catch (IOException e) {
+            reportError("Error reading attributes from file %s", className);
+        }
+    }
+
     /**
      * Read a ConstantValue attribute from the specified input stream, and
      * return it.
@@ -943,15 +1000,47 @@ public class CLAbsorber {
      */
 
     public CLAbsorber(String className) {
+        this.className = className;
+        CLInputStream in = new CLPath().loadClass(className);
+        if (in == null) {
+            reportError("Error loading %s", className);
+            return;
+        }
+        read(in);
+    }
+
+    /**
+     * Construct a CLAbsorber object reading the class with the specified
+     * (fully-qualified) name from the specified stream, which is closed once
+     * read. If only the headers are read, the attributes of the class, and
+     * those of its fields and methods, are skipped: what is read is the
+     * constant pool, the access flags, the class and its super types, and the
+     * access flags, names and descriptors of the members.
+     * 
+     * @param in
+     *            input stream.
+     * @param className
+     *            fully qualified name of the input class file.
+     * @param headersOnly
+     *            whether only the headers are read.
+     */
+
+    public CLAbsorber(CLInputStream in, String className, boolean headersOnly) {
+        this.className = className;
+        this.headersOnly = headersOnly;
+        read(in);
+    }
+
+    /**
+     * Read the class from the specified stream, and close it.
+     * 
+     * @param in
+     *            input stream.
+     */
+
+    private void read(CLInputStream in) {
         try {
-            this.className = className;
-            CLPath classPath = new CLPath();
-            CLInputStream in = classPath.loadClass(className);
             errorHasOccurred = false;
-            if (in == null) {
-                reportError("Error loading %s", className);
-                return;
-            }
             classFile = new CLFile();
 
             // Read magic number (0xCAFEBABE)
@@ -1014,9 +1103,16 @@ public class CLAbsorber {
             reportError("Unexpected end of file %s", className);
         } catch (IOException e) {
             reportError("Error reading file %s", className);
+        } finally {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // Ignore
+            }
         }
     }
 
+
     /**
      * Returns the {@code CLFile} representation of the class that was read.
      * 
@@ -1110,7 +1206,7 @@ class CLInputStream extends DataInputStream {
     public final long readUnsignedInt() throws IOException {
         byte[] b = new byte[4];
         long mask = 0xFF, l;
-        in.read(b);
+        readFully(b);
         l = ((b[0] & mask) << 24) | ((b[1] & mask) << 16)
                 | ((b[2] & mask) << 8) | (b[3] & mask);
         return l;
@@ -800,3 +800,254 @@ class CLConstantUtf8Info extends CLCPInfo {
     }
 
 }
+
+/**
+ * Representation of CONSTANT_MethodHandle_info structure (JVM Spec, Java SE 17
+ * Edition, Section 4.4.8).
+ */
+
+class CLConstantMethodHandleInfo extends CLCPInfo {
+
+    /** CONSTANT_MethodHandle_info.reference_kind item. */
+    public int referenceKind;
+
+    /** CONSTANT_MethodHandle_info.reference_index item. */
+    public int referenceIndex;
+
+    /**
+     * Constructs a CLConstantMethodHandleInfo object.
+     * 
+     * @param referenceKind
+     *            CONSTANT_MethodHandle_info.reference_kind item.
+     * @param referenceIndex
+     *            CONSTANT_MethodHandle_info.reference_index item.
+     */
+
+    public CLConstantMethodHandleInfo(int referenceKind, int referenceIndex) {
+        super.tag = CONSTANT_MethodHandle;
+        this.referenceKind = referenceKind;
+        this.referenceIndex = referenceIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(CLOutputStream out) throws IOException {
+        super.write(out);
+        out.writeByte(referenceKind);
+        out.writeShort(referenceIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public boolean equals(Object obj) {
+        if (obj instanceof CLConstantMethodHandleInfo) {
+            CLConstantMethodHandleInfo c = (CLConstantMethodHandleInfo) obj;
+            if ((c.referenceKind == referenceKind)
+                    && (c.referenceIndex == referenceIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void writeToStdOut(PrettyPrinter p) {
+        super.writeToStdOut(p);
+        p.printf("%-20s%-8s%-8s\n", "MethodHandle", referenceKind,
+                referenceIndex);
+    }
+
+}
+
+/**
+ * Representation of CONSTANT_MethodType_info structure (JVM Spec, Java SE 17
+ * Edition, Section 4.4.9).
+ */
+
+class CLConstantMethodTypeInfo extends CLCPInfo {
+
+    /** CONSTANT_MethodType_info.descriptor_index item. */
+    public int descriptorIndex;
+
+    /**
+     * Constructs a CLConstantMethodTypeInfo object.
+     * 
+     * @param descriptorIndex
+     *            CONSTANT_MethodType_info.descriptor_index item.
+     */
+
+    public CLConstantMethodTypeInfo(int descriptorIndex) {
+        super.tag = CONSTANT_MethodType;
+        this.descriptorIndex = descriptorIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(CLOutputStream out) throws IOException {
+        super.write(out);
+        out.writeShort(descriptorIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public boolean equals(Object obj) {
+        if (obj instanceof CLConstantMethodTypeInfo) {
+            CLConstantMethodTypeInfo c = (CLConstantMethodTypeInfo) obj;
+            if (c.descriptorIndex == descriptorIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void writeToStdOut(PrettyPrinter p) {
+        super.writeToStdOut(p);
+        p.printf("%-20s%s\n", "MethodType", descriptorIndex);
+    }
+
+}
+
+/**
+ * Representation of CONSTANT_Dynamic_info and CONSTANT_InvokeDynamic_info
+ * structures (JVM Spec, Java SE 17 Edition, Section 4.4.10), which differ in
+ * their tags only.
+ */
+
+class CLConstantDynamicInfo extends CLCPInfo {
+
+    /** bootstrap_method_attr_index item. */
+    public int bootstrapMethodAttrIndex;
+
+    /** name_and_type_index item. */
+    public int nameAndTypeIndex;
+
+    /**
+     * Constructs a CLConstantDynamicInfo object.
+     * 
+     * @param tag
+     *            CONSTANT_Dynamic or CONSTANT_InvokeDynamic.
+     * @param bootstrapMethodAttrIndex
+     *            bootstrap_method_attr_index item.
+     * @param nameAndTypeIndex
+     *            name_and_type_index item.
+     */
+
+    public CLConstantDynamicInfo(short tag, int bootstrapMethodAttrIndex,
+            int nameAndTypeIndex) {
+        super.tag = tag;
+        this.bootstrapMethodAttrIndex = bootstrapMethodAttrIndex;
+        this.nameAndTypeIndex = nameAndTypeIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(CLOutputStream out) throws IOException {
+        super.write(out);
+        out.writeShort(bootstrapMethodAttrIndex);
+        out.writeShort(nameAndTypeIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public boolean equals(Object obj) {
+        if (obj instanceof CLConstantDynamicInfo) {
+            CLConstantDynamicInfo c = (CLConstantDynamicInfo) obj;
+            if ((c.tag == tag)
+                    && (c.bootstrapMethodAttrIndex == bootstrapMethodAttrIndex)
+                    && (c.nameAndTypeIndex == nameAndTypeIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void writeToStdOut(PrettyPrinter p) {
+        super.writeToStdOut(p);
+        p.printf("%-20s%-8s%-8s\n", tag == CONSTANT_Dynamic ? "Dynamic"
+                : "InvokeDynamic", bootstrapMethodAttrIndex, nameAndTypeIndex);
+    }
+
+}
+
+/**
+ * Representation of CONSTANT_Module_info and CONSTANT_Package_info structures
+ * (JVM Spec, Java SE 17 Edition, Sections 4.4.11 and 4.4.12), which differ in
+ * their tags only.
+ */
+
+class CLConstantModuleInfo extends CLCPInfo {
+
+    /** name_index item. */
+    public int nameIndex;
+
+    /**
+     * Constructs a CLConstantModuleInfo object.
+     * 
+     * @param tag
+     *            CONSTANT_Module or CONSTANT_Package.
+     * @param nameIndex
+     *            name_index item.
+     */
+
+    public CLConstantModuleInfo(short tag, int nameIndex) {
+        super.tag = tag;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(CLOutputStream out) throws IOException {
+        super.write(out);
+        out.writeShort(nameIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public boolean equals(Object obj) {
+        if (obj instanceof CLConstantModuleInfo) {
+            CLConstantModuleInfo c = (CLConstantModuleInfo) obj;
+            if ((c.tag == tag) && (c.nameIndex == nameIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void writeToStdOut(PrettyPrinter p) {
+        super.writeToStdOut(p);
+        p.printf("%-20s%s\n", tag == CONSTANT_Module ? "Module" : "Package",
+                nameIndex);
+    }
+
+}
@@ -4,6 +4,7 @@ package jminusminus;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 /**
  * Representation of a class' constant_pool table (JVM Spec Section 4.5). An
@@ -22,6 +23,14 @@ class CLConstantPool {
     /** List of constant pool items. */
     private ArrayList<CLCPInfo> cpItems;
 
+    /**
+     * Indices of the CONSTANT_Utf8_info items added by
+     * {@link #constantUtf8Info(String)}, keyed by their strings. Names come
+     * from the symbol table of the session, so they are mostly found by
+     * identity.
+     */
+    private HashMap<String, Integer> utf8Indices;
+
     /**
      * Look for the specified item in the constant pool. If it exists, return
      * its index. Otherwise, add the item to the constant pool and return its
@@ -47,6 +56,7 @@ class CLConstantPool {
     public CLConstantPool() {
         cpIndex = 1;
         cpItems = new ArrayList<CLCPInfo>();
+        utf8Indices = new HashMap<String, Integer>();
     }
 
     /**
@@ -336,8 +346,12 @@ class CLConstantPool {
      */
 
     public int constantUtf8Info(String s) {
-        CLCPInfo c = new CLConstantUtf8Info(s.getBytes());
-        return findOrAdd(c);
+        Integer index = utf8Indices.get(s);
+        if (index == null) {
+            index = addCPItem(new CLConstantUtf8Info(s.getBytes()));
+            utf8Indices.put(s, index);
+        }
+        return index;
     }
 
 }
@@ -0,0 +1,67 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.HashSet;
+
+/**
+ * A sink writing each class to a .class file under a directory, in the
+ * sub-directory of its package. The sub-directories are created as needed,
+ * once each.
+ */
+
+public class CLDirectorySink implements CLSink {
+
+    /** The directory. */
+    private String dir;
+
+    /** The sub-directories known to exist. */
+    private HashSet<File> dirs;
+
+    /**
+     * Constructs a sink writing classes under the specified directory.
+     *
+     * @param dir
+     *            the directory.
+     */
+
+    public CLDirectorySink(String dir) {
+        this.dir = dir;
+        dirs = new HashSet<File>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(String name, byte[] bytes) throws IOException {
+        File file = Session.file(dir + File.separator
+                + name.replace(".", File.separator) + ".class");
+        File parent = file.getParentFile();
+        synchronized (dirs) {
+            if (parent != null && dirs.add(parent)) {
+                parent.mkdirs();
+            }
+        }
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            out.write(bytes);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void close() {
+    }
+
+}
@@ -5,13 +5,13 @@ package jminusminus;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Stack;
 import java.util.StringTokenizer;
@@ -25,10 +25,10 @@ import static jminusminus.CLConstants.Category.*;
  * based) representation of Java classes.
  * <p>
  * j-- uses this interface to produce target JVM bytecode from a j-- source
- * program. During the pre-analysis and analysis phases, j-- produces partial
- * (in-memory) classes for the type declarations within the compilation unit,
- * and during the code generation phase, it produces file-based classes for the
- * declarations.
+ * program: during the code generation phase, it produces classes for the type
+ * declarations within the compilation unit, written to files or kept in
+ * memory. (The pre-analysis and analysis phases need no classes; the member
+ * headers of the declared types are recorded in {@link CLSymbol}s.)
  */
 
 public class CLEmitter {
@@ -45,6 +45,9 @@ public class CLEmitter {
     /** Destination directory for the class. */
     private String destDir;
 
+    /** Where the class is written to; null for the destination directory. */
+    private CLSink sink;
+
     /** In-memory representation of the class. */
     private CLFile clFile;
 
@@ -139,12 +142,6 @@ public class CLEmitter {
      */
     private boolean errorHasOccurred;
 
-    /**
-     * Class loader to use for creating in-memory representation of classes from
-     * byte streams.
-     */
-    private static ByteClassLoader byteClassLoader;
-
     /**
      * Initialize all variables used for adding a method to the ClassFile
      * structure to their appropriate values.
@@ -872,8 +869,7 @@ public class CLEmitter {
      */
 
     private void reportEmitterError(String message, Object... args) {
-        System.err.printf(message, args);
-        System.err.println();
+        Session.report(null, 0, message, args);
         errorHasOccurred = true;
     }
 
@@ -896,6 +892,19 @@ public class CLEmitter {
         this.toFile = toFile;
     }
 
+    /**
+     * Constructs a CLEmitter instance that writes its classes to the
+     * specified sink rather than to the destination directory.
+     * 
+     * @param sink
+     *            where to write the classes.
+     */
+
+    public CLEmitter(CLSink sink) {
+        this(false);
+        this.sink = sink;
+    }
+
     /**
      * Sets the destination directory for the class file to the specified value.
      * 
@@ -1884,14 +1893,6 @@ public class CLEmitter {
         return constantPool;
     }
 
-    /**
-     * Sets a new ByteClassLoader for loading classes from byte streams.
-     */
-
-    public static void initializeByteClassLoader() {
-        byteClassLoader = new ByteClassLoader();
-    }
-
     /**
      * Returns the {@code CLFile} instance corresponding to the class built by 
      * this emitter.
@@ -1904,60 +1905,53 @@ public class CLEmitter {
     }
 
     /**
-     * Returns the class being constructed as a Java {@code Class} instance.
+     * Extracts the bytes from the class representation in memory into an
+     * array of bytes.
      * 
-     * @return Java Class instance.
+     * @return bytes representing the class.
+     * @exception IOException
+     *                if the class cannot be written to the byte stream.
      */
-    public Class toClass() {
-        endOpenMethodIfAny();
-        Class theClass = null;
-        try {
-            // Extract the bytes from the class representation in
-            // memory into an array of bytes
-            ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-            CLOutputStream out = new CLOutputStream(new BufferedOutputStream(
-                    byteStream));
-            clFile.write(out);
-            out.close();
-            byte[] classBytes = byteStream.toByteArray();
-            byteStream.close();
-
-            // Load a Java Class instance from its byte
-            // representation
-            byteClassLoader.setClassBytes(classBytes);
-            theClass = byteClassLoader.loadClass(name, true);
-        } catch (IOException e) {
-            reportEmitterError("Cannot write class to byte stream");
-        } catch (ClassNotFoundException e) {
-            reportEmitterError("Cannot load class from byte stream");
-        }
-        return theClass;
+
+    private byte[] toBytes() throws IOException {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        CLOutputStream out = new CLOutputStream(new BufferedOutputStream(
+                byteStream));
+        clFile.write(out);
+        out.close();
+        return byteStream.toByteArray();
     }
 
     /**
-     * Writes out the class to the file system as a .class file if 
-     * {@code toFile} is {@code true}. The destination directory for the file 
-     * can be set using the {@link #destinationDir(String)} method.
+     * Writes out the class to the sink the emitter was given, if any, or else
+     * to the file system as a .class file if {@code toFile} is {@code true}.
+     * The destination directory for the file can be set using the
+     * {@link #destinationDir(String)} method.
      */
 
     public void write() {
         endOpenMethodIfAny();
-        if (!toFile) {
+        Stats.count(Stats.Counter.CONSTANT_POOL_ENTRIES,
+                clFile.constantPoolCount - 1);
+        for (CLMethodInfo method : clFile.methods) {
+            for (CLAttributeInfo attribute : method.attributes) {
+                if (attribute instanceof CLCodeAttribute) {
+                    Stats.count(Stats.Counter.BYTECODE_BYTES,
+                            ((CLCodeAttribute) attribute).codeLength);
+                }
+            }
+        }
+        if (sink == null && !toFile) {
             return;
         }
-        String outFile = destDir + File.separator + name + ".class";
+        CLSink out = sink == null ? new CLDirectorySink(destDir) : sink;
         try {
-            File file = new File(destDir + File.separator
-                    + name.substring(0, name.lastIndexOf("/") + 1));
-            file.mkdirs();
-            CLOutputStream out = new CLOutputStream(new BufferedOutputStream(
-                    new FileOutputStream(outFile)));
-            clFile.write(out);
-            out.close();
+            out.write(name.replace("/", "."), toBytes());
         } catch (FileNotFoundException e) {
-            reportEmitterError("File %s not found", outFile);
+            reportEmitterError("File %s not found", e.getMessage());
         } catch (IOException e) {
-            reportEmitterError("Cannot write to file %s", outFile);
+            reportEmitterError("Cannot write class %s: %s", name, e
+                    .getMessage());
         }
     }
 }
@@ -2180,65 +2174,65 @@ class CLBranchStack {
 }
 
 /**
- * A class loader to be able to load a class from a byte stream.
+ * A class loader to be able to load a class from a byte stream. Classes loaded
+ * by the same loader can refer to one another, which allows the classes of
+ * several compilation units to be run together.
  */
 
 class ByteClassLoader extends ClassLoader {
 
-    /** Bytes representing the class. */
-    private byte[] bytes;
+    /**
+     * Bytes representing the classes set but not yet defined, keyed by their
+     * binary names.
+     */
+    private HashMap<String, byte[]> pending = new HashMap<String, byte[]>();
 
-    /** Has a package been defined for this class loader? */
-    private boolean pkgDefined = false;
+    /** Packages defined for this class loader. */
+    private HashSet<String> packages = new HashSet<String>();
 
     /**
-     * Sets the bytes representing the class.
+     * Sets the bytes representing a class.
      * 
+     * @param name
+     *            name of the class (in internal or binary form).
      * @param bytes
      *            bytes representing the class.
      */
 
-    public void setClassBytes(byte[] bytes) {
-        this.bytes = bytes;
+    public synchronized void setClassBytes(String name, byte[] bytes) {
+        pending.put(name.replace("/", "."), bytes);
     }
 
     /**
      * {@inheritDoc}
      */
 
-    public Class<?> loadClass(String name, boolean resolve)
+    public synchronized Class<?> loadClass(String name, boolean resolve)
             throws ClassNotFoundException {
+        name = name.replace("/", ".");
         Class cls = findLoadedClass(name);
-        if (cls == null) {
-            try {
-                cls = findSystemClass(name);
-            } catch (Exception e) {
-                // Ignore these
-            } catch (NoClassDefFoundError e) {
-                // If we get here we know the class exists, 
-                // so change the name to its binary name as defined
-                // in the Java Language Specifications
-                cls = findSystemClass(name.replace("/", "."));
-            }
-        }
-        if (cls == null) {
-            name = name.replace("/", ".");
+        byte[] bytes = cls == null ? pending.remove(name) : null;
+        if (bytes != null) {
+            // The class being built takes precedence over any
+            // (stale) class of the same name on the class path
             String pkg = name.lastIndexOf('.') == -1 ? "" : name.substring(0,
                     name.lastIndexOf('.'));
-            if (!pkgDefined) {
+            if (!packages.contains(pkg)) {
                 // Packages must be created before the class is
                 // defined, and package names must be unique
-                // within
-                // a class loader and cannot be redefined or
+                // within a class loader and cannot be redefined or
                 // changed once created
                 definePackage(pkg, "", "", "", "", "", "", null);
-                pkgDefined = true;
+                packages.add(pkg);
             }
             cls = defineClass(name, bytes, 0, bytes.length);
             if (resolve && cls != null) {
                 resolveClass(cls);
             }
         }
+        if (cls == null) {
+            cls = findSystemClass(name);
+        }
         return cls;
     }
 
@@ -0,0 +1,147 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+/**
+ * A sink streaming the classes into a jar file, one entry per class in the
+ * order they are written, after a minimal manifest. The entries are either
+ * compressed (DEFLATED) or, for speed, STORED as they are. All of the entries
+ * carry the same time stamp, so that the same classes written in the same
+ * order make the same jar, byte for byte. A class written a second time is
+ * left out.
+ */
+
+public class CLJarSink implements CLSink {
+
+    /** Time stamp of the entries: the earliest a jar can hold. */
+    private static final long TIME = new GregorianCalendar(1980, 0, 1)
+            .getTimeInMillis();
+
+    /** The jar being written. */
+    private JarOutputStream out;
+
+    /** Whether the entries are stored rather than compressed. */
+    private boolean stored;
+
+    /** Names of the entries written. */
+    private HashSet<String> entries;
+
+    /**
+     * Constructs a sink writing the specified jar file.
+     *
+     * @param file
+     *            the jar file.
+     * @param stored
+     *            whether the entries are stored rather than compressed.
+     * @exception IOException
+     *                if the file cannot be written.
+     */
+
+    public CLJarSink(File file, boolean stored) throws IOException {
+        this(new BufferedOutputStream(new FileOutputStream(file)), stored);
+    }
+
+    /**
+     * Constructs a sink writing a jar to the specified stream.
+     *
+     * @param out
+     *            the stream.
+     * @param stored
+     *            whether the entries are stored rather than compressed.
+     * @exception IOException
+     *                if the stream cannot be written.
+     */
+
+    public CLJarSink(OutputStream out, boolean stored) throws IOException {
+        this.out = new JarOutputStream(out);
+        this.stored = stored;
+        entries = new HashSet<String>();
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION,
+                "1.0");
+        putEntry("META-INF/", new byte[0]);
+        putEntry(JarFile.MANIFEST_NAME, manifestBytes(manifest));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public synchronized void write(String name, byte[] bytes)
+            throws IOException {
+        putEntry(name.replace(".", "/") + ".class", bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Writes an entry having the specified name and contents, unless one was
+     * written already.
+     *
+     * @param name
+     *            name of the entry.
+     * @param bytes
+     *            contents of the entry.
+     * @exception IOException
+     *                if the entry cannot be written.
+     */
+
+    private void putEntry(String name, byte[] bytes) throws IOException {
+        if (!entries.add(name)) {
+            return;
+        }
+        JarEntry entry = new JarEntry(name);
+        entry.setTime(TIME);
+        if (stored) {
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(bytes.length);
+            entry.setCompressedSize(bytes.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(bytes);
+        out.closeEntry();
+    }
+
+    /**
+     * Returns the bytes of the specified manifest.
+     *
+     * @param manifest
+     *            the manifest.
+     * @return its bytes.
+     * @exception IOException
+     *                if the manifest cannot be written.
+     */
+
+    private static byte[] manifestBytes(Manifest manifest) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        manifest.write(bytes);
+        return bytes.toByteArray();
+    }
+
+}
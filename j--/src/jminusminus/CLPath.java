@@ -3,11 +3,19 @@
 package jminusminus;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.StringTokenizer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -16,6 +24,17 @@ import java.util.zip.ZipFile;
  * This class can be used to locate and load system, extension, and user-defined
  * class files from directories and zip (jar) files. The code for this class has
  * been adapted from the Kopi (http://www.dms.at/kopi/) project.
+ * <p>
+ * The system classes are those of the JVM running the compiler, or those of
+ * another Java installation, given by its home directory: they are found in
+ * its rt.jar, or, from Java 9 on, in its run-time image, through the jrt file
+ * system. They are searched first, then the extension classes, and then the
+ * class path; the first class found is the one loaded. The zip files are
+ * opened once, and kept open until the path is closed.
+ * <p>
+ * A CLPath may also be made for the classes on a class path alone (see
+ * {@link #forClassPath(String)}), neither the system classes nor the extension
+ * classes being searched.
  */
 
 class CLPath {
@@ -26,44 +45,111 @@ class CLPath {
      */
     private ArrayList<String> dirs;
 
+    /** The zip and jar files opened so far, by name. */
+    private HashMap<String, ZipFile> zips;
+
+    /**
+     * The run-time image holding the system classes; null if they are in an
+     * rt.jar (in dirs).
+     */
+    private FileSystem jrt;
+
+    /**
+     * The modules of the run-time image declaring each package looked up so
+     * far, by package name.
+     */
+    private HashMap<String, ArrayList<Path>> packages;
+
     /**
      * Return a list of conceptual directories defining the class path.
      * 
      * @param classPath
      *            the directory names defining the class path.
+     * @param extdir
+     *            the directory for the Java extension classes.
+     * @param system
+     *            home directory of the Java installation whose system classes
+     *            are used; null for that of this JVM.
      * @return a list of conceptual directories defining the class path.
      */
 
-    private ArrayList<String> loadClassPath(String classPath) {
+    private ArrayList<String> loadClassPath(String classPath, String extdir,
+            String system) {
         ArrayList<String> container = new ArrayList<String>();
 
-        // Add directories/jars/zips from the classpath
-        StringTokenizer entries = new StringTokenizer(classPath,
-                File.pathSeparator);
-        while (entries.hasMoreTokens()) {
-            container.add(entries.nextToken());
-        }
-
         // Add system directories
-        if (System.getProperty("sun.boot.class.path") != null) {
-            entries = new StringTokenizer(System
+        if (system == null && System.getProperty("sun.boot.class.path") != null) {
+            StringTokenizer entries = new StringTokenizer(System
                     .getProperty("sun.boot.class.path"), File.pathSeparator);
             while (entries.hasMoreTokens()) {
                 container.add(entries.nextToken());
             }
         } else {
-            float version = Float
-                    .parseFloat(System.getProperty("java.version"));
-            if (version > 1.1) {
-                String dir = System.getProperty("java.home")
-                        + File.separatorChar + "lib" + File.separatorChar
-                        + "rt.jar";
-                container.add(dir);
+            String home = system == null ? System.getProperty("java.home")
+                    : system;
+            File rtJar = new File(home, "lib" + File.separatorChar + "rt.jar");
+            if (!rtJar.isFile()) {
+                rtJar = new File(home, "jre" + File.separatorChar + "lib"
+                        + File.separatorChar + "rt.jar");
+            }
+            if (rtJar.isFile()) {
+                container.add(rtJar.getPath());
+            } else {
+                jrt = runTimeImage(system);
+                packages = new HashMap<String, ArrayList<Path>>();
             }
         }
+
+        // Add the Java extension classes
+        if (extdir != null) {
+            File extDirectory = new File(extdir);
+            if (extDirectory.isDirectory()) {
+                File[] extFiles = extDirectory.listFiles();
+                for (int i = 0; i < extFiles.length; i++) {
+                    File file = extFiles[i];
+                    if (file.isFile()
+                            && (file.getName().endsWith(".zip") || file
+                                    .getName().endsWith(".jar"))) {
+                        container.add(file.getPath());
+                    } else {
+                        // Wrong suffix; ignore
+                    }
+                }
+            }
+        }
+
+        // Add directories/jars/zips from the classpath
+        StringTokenizer entries = new StringTokenizer(classPath,
+                File.pathSeparator);
+        while (entries.hasMoreTokens()) {
+            container.add(entries.nextToken());
+        }
         return container;
     }
 
+    /**
+     * Returns the jrt file system of the specified Java installation, or
+     * {@code null} if it cannot be opened (as in a JVM before Java 9).
+     * 
+     * @param system
+     *            home directory of the Java installation; null for that of
+     *            this JVM.
+     * @return the jrt file system or {@code null}.
+     */
+
+    private static FileSystem runTimeImage(String system) {
+        try {
+            if (system == null) {
+                return FileSystems.getFileSystem(URI.create("jrt:/"));
+            }
+            HashMap<String, String> env = new HashMap<String, String>();
+            env.put("java.home", system);
+            return FileSystems.newFileSystem(URI.create("jrt:/"), env);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * Constructs a CLPath object.
      */
@@ -84,6 +170,25 @@ class CLPath {
      */
 
     public CLPath(String path, String extdir) {
+        this(path, extdir, null);
+    }
+
+    /**
+     * Constructs a CLPath object given the directory names defining the path,
+     * the directory for the Java extension classes, and the home directory of
+     * the Java installation whose system classes are used.
+     * 
+     * @param path
+     *            the directory names defining the class path, separated by path
+     *            separator.
+     * @param extdir
+     *            the directory for the Java extension classes.
+     * @param system
+     *            home directory of the Java installation whose system classes
+     *            are used; null for that of this JVM.
+     */
+
+    public CLPath(String path, String extdir, String system) {
         if (path == null) {
             // No path specified, use CLASSPATH
             path = System.getProperty("java.class.path");
@@ -92,27 +197,61 @@ class CLPath {
             // Last resort, use current directory
             path = ".";
         }
-        dirs = loadClassPath(path);
-        if (extdir == null) {
+        if (extdir == null && system == null) {
             // Java extension classes
             extdir = System.getProperty("java.ext.dirs");
         }
-        if (extdir != null) {
-            File extDirectory = new File(extdir);
-            if (extDirectory.isDirectory()) {
-                File[] extFiles = extDirectory.listFiles();
-                for (int i = 0; i < extFiles.length; i++) {
-                    File file = extFiles[i];
-                    if (file.isFile()
-                            && (file.getName().endsWith(".zip") || file
-                                    .getName().endsWith(".jar"))) {
-                        dirs.add(file.getName());
-                    } else {
-                        // Wrong suffix; ignore
-                    }
-                }
+        zips = new HashMap<String, ZipFile>();
+        dirs = loadClassPath(path, extdir, system);
+    }
+
+    /**
+     * Constructs a CLPath object searching the specified directories, zip,
+     * and jar files only.
+     * 
+     * @param dirs
+     *            the directories, zip, and jar files.
+     */
+
+    private CLPath(ArrayList<String> dirs) {
+        zips = new HashMap<String, ZipFile>();
+        this.dirs = dirs;
+    }
+
+    /**
+     * Returns a CLPath object for the classes on the specified class path
+     * alone: neither the system classes nor the extension classes are
+     * searched.
+     * 
+     * @param path
+     *            the directory names defining the class path, separated by path
+     *            separator.
+     * @return the CLPath object.
+     */
+
+    public static CLPath forClassPath(String path) {
+        ArrayList<String> dirs = new ArrayList<String>();
+        StringTokenizer entries = new StringTokenizer(path, File.pathSeparator);
+        while (entries.hasMoreTokens()) {
+            dirs.add(entries.nextToken());
+        }
+        return new CLPath(dirs);
+    }
+
+    /**
+     * Closes the zip and jar files opened so far. They are opened again if
+     * classes are loaded from them later.
+     */
+
+    public synchronized void close() {
+        for (ZipFile zip : zips.values()) {
+            try {
+                zip.close();
+            } catch (IOException e) {
+                // Ignore
             }
         }
+        zips.clear();
     }
 
     /**
@@ -127,8 +266,17 @@ class CLPath {
      *         {@code null} if the class was not found.
      */
 
-    public CLInputStream loadClass(String name) {
-        CLInputStream reader = null;
+    public synchronized CLInputStream loadClass(String name) {
+        if (jrt != null) {
+            try {
+                CLInputStream reader = loadSystemClass(name);
+                if (reader != null) {
+                    return reader;
+                }
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
         for (int i = 0; i < dirs.size(); i++) {
             String dir = dirs.get(i);
             File file = new File(dir);
@@ -138,7 +286,7 @@ class CLPath {
                         + ".class");
                 if (theClass.canRead()) {
                     try {
-                        reader = new CLInputStream(new BufferedInputStream(
+                        return new CLInputStream(new BufferedInputStream(
                                 new FileInputStream(theClass)));
                     } catch (FileNotFoundException e) {
                         // Ignore
@@ -146,10 +294,15 @@ class CLPath {
                 }
             } else if (file.isFile()) {
                 try {
-                    ZipFile zip = new ZipFile(dir);
+                    ZipFile zip = zips.get(dir);
+                    if (zip == null) {
+                        zip = new ZipFile(dir);
+                        zips.put(dir, zip);
+                    }
                     ZipEntry entry = zip.getEntry(name + ".class");
                     if (entry != null) {
-                        reader = new CLInputStream(zip.getInputStream(entry));
+                        return new CLInputStream(new BufferedInputStream(zip
+                                .getInputStream(entry)));
                     }
                 } catch (IOException e) {
                     // Ignore
@@ -158,7 +311,53 @@ class CLPath {
                 // Bogus entry; ignore
             }
         }
-        return reader;
+        return null;
+    }
+
+    /**
+     * Returns a CLInputStream instance for the system class with the specified
+     * name, read from the run-time image, or {@code null} if it is not there.
+     * The classes of a package are looked for in the modules listed for it
+     * under /packages in the image.
+     * 
+     * @param name
+     *            the fully-qualified name of the class.
+     * @return a CLInputStream instance for the class or {@code null}.
+     * @throws IOException
+     *             if an error occurs while reading.
+     */
+
+    private CLInputStream loadSystemClass(String name) throws IOException {
+        int i = name.lastIndexOf('/');
+        if (i == -1) {
+            return null;
+        }
+        String packageName = name.substring(0, i).replace('/', '.');
+        ArrayList<Path> modules = packages.get(packageName);
+        if (modules == null) {
+            modules = new ArrayList<Path>();
+            Path dir = jrt.getPath("/packages", packageName);
+            if (Files.isDirectory(dir)) {
+                DirectoryStream<Path> links = Files.newDirectoryStream(dir);
+                try {
+                    for (Path link : links) {
+                        modules.add(jrt.getPath("/modules", link.getFileName()
+                                .toString()));
+                    }
+                } finally {
+                    links.close();
+                }
+            }
+            packages.put(packageName, modules);
+        }
+        for (Path module : modules) {
+            Path theClass = module.resolve(name + ".class");
+            if (Files.isRegularFile(theClass)) {
+                return new CLInputStream(new ByteArrayInputStream(Files
+                        .readAllBytes(theClass)));
+            }
+        }
+        return null;
     }
 
 }
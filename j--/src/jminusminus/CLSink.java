@@ -0,0 +1,94 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Where a {@link CLEmitter} writes the classes it builds: a directory of
+ * .class files ({@link CLDirectorySink}), a jar file ({@link CLJarSink}), or
+ * memory. A sink may be written to by the emitters of several compilation
+ * units at once, so implementations must be thread-safe.
+ */
+
+public interface CLSink {
+
+    /**
+     * Writes the specified class.
+     *
+     * @param name
+     *            binary name of the class (pkg.Outer, for example).
+     * @param bytes
+     *            bytes representing the class.
+     * @exception IOException
+     *                if the class cannot be written.
+     */
+
+    public void write(String name, byte[] bytes) throws IOException;
+
+    /**
+     * Finishes writing the classes, and releases the resources held by the
+     * sink.
+     *
+     * @exception IOException
+     *                if the classes cannot be written.
+     */
+
+    public void close() throws IOException;
+
+}
+
+/**
+ * A sink keeping the classes in memory, in the order they were written.
+ */
+
+class CLMemorySink implements CLSink {
+
+    /** The classes, keyed by their binary names. */
+    private LinkedHashMap<String, byte[]> classes =
+        new LinkedHashMap<String, byte[]>();
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public synchronized void write(String name, byte[] bytes) {
+        classes.put(name, bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void close() {
+    }
+
+    /**
+     * Returns the classes, keyed by their binary names.
+     *
+     * @return the classes.
+     */
+
+    public synchronized LinkedHashMap<String, byte[]> classes() {
+        return classes;
+    }
+
+    /**
+     * Writes the classes, in the order they were written, to the specified
+     * sink.
+     *
+     * @param sink
+     *            the sink.
+     * @exception IOException
+     *                if a class cannot be written.
+     */
+
+    public synchronized void writeTo(CLSink sink) throws IOException {
+        for (String name : classes.keySet()) {
+            sink.write(name, classes.get(name));
+        }
+    }
+
+}
@@ -0,0 +1,680 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import static jminusminus.CLConstants.*;
+
+/**
+ * The library classes that compiled code may refer to, read from their class
+ * files on a {@link CLPath} (with a {@link CLAbsorber}) rather than loaded into
+ * the JVM running the compiler. So the classes compiled against need not be
+ * those the compiler runs with (they may even be those of another Java
+ * installation), and none of them is linked or initialized for the sake of a
+ * compilation.
+ * <p>
+ * Only the headers of a class are read: its access flags, its super types, and
+ * the access flags, names and descriptors of its members. A class is read when
+ * it is first referred to, and kept, as a {@link CLSymbol}, for as long as the
+ * table.
+ * <p>
+ * The system classes of a Java installation, which do not change while the
+ * compiler runs, are read in a table of their own, shared by all of the
+ * sessions, so that a resident compiler reads each of them once. The classes
+ * on a class path may be built (or rebuilt) from one session to the next, so
+ * each session reads them in a table of its own, over the shared one: nothing
+ * read from the class path, and no class found missing from it, carries over
+ * to the next session.
+ * <p>
+ * Each compilation session has a table of its own over the shared one, in
+ * which the types declared by its units are declared (see
+ * {@link #declare(CLSymbol)}) as they are pre-analyzed: a session type is
+ * looked up like a library class, and hides any library class of the same
+ * name. So the types of a session are known by their member headers alone,
+ * without building and loading (partial) classes for them; and the types
+ * declared by sessions compiling side by side (or one after another, in a
+ * resident compiler) are never seen by each other.
+ * <p>
+ * A class already read (or declared) is looked up without locking; only the
+ * reading of a class is done by one thread at a time.
+ */
+
+class CLSymbolTable {
+
+    /**
+     * The tables of system classes built so far, by home directory of the
+     * Java installation (null for that of this JVM).
+     */
+    private static HashMap<String, CLSymbolTable> systems =
+        new HashMap<String, CLSymbolTable>();
+
+    /** Where the class files are looked for; null for a session's table. */
+    private CLPath classPath;
+
+    /**
+     * The table looked in first: the table of the library classes, under the
+     * table of a session; the table of system classes, under a table of the
+     * classes on a class path; null for a table of system classes.
+     */
+    private CLSymbolTable library;
+
+    /**
+     * The classes read so far, by internal name; or, in the table of a
+     * session, the classes declared.
+     */
+    private ConcurrentHashMap<String, CLSymbol> symbols;
+
+    /** Internal names of the classes looked for but not found. */
+    private HashSet<String> missing;
+
+    /**
+     * Constructs a CLSymbolTable of the classes found on the specified path,
+     * over the specified table.
+     *
+     * @param classPath
+     *            where the class files are looked for.
+     * @param library
+     *            the table looked in first; null if none.
+     */
+
+    private CLSymbolTable(CLPath classPath, CLSymbolTable library) {
+        this.classPath = classPath;
+        this.library = library;
+        symbols = new ConcurrentHashMap<String, CLSymbol>();
+        missing = new HashSet<String>();
+    }
+
+    /**
+     * Constructs the table of a compilation session, over the specified table
+     * of library classes.
+     *
+     * @param library
+     *            the table of library classes.
+     */
+
+    public CLSymbolTable(CLSymbolTable library) {
+        this.library = library;
+        symbols = new ConcurrentHashMap<String, CLSymbol>();
+    }
+
+    /**
+     * Closes the zip and jar files of the class path opened by this table, or,
+     * if this is the table of a session, by the table of library classes under
+     * it. The files of the system classes are left open.
+     */
+
+    public void close() {
+        if (classPath != null) {
+            if (library != null) {
+                classPath.close();
+            }
+        } else if (library != null) {
+            library.close();
+        }
+    }
+
+    /**
+     * Returns a new table of the classes on the specified class path, over the
+     * (shared) table of the system classes of the specified Java installation.
+     * Relative entries of the class path given, and a relative home directory,
+     * are taken relative to the current thread's directory (see
+     * {@link Session#file(String)}).
+     *
+     * @param classPath
+     *            the class path; null for that of this JVM.
+     * @param system
+     *            home directory of the Java installation whose system classes
+     *            are used; null for that of this JVM.
+     * @return the table.
+     */
+
+    public static CLSymbolTable forPath(String classPath, String system) {
+        String path = System.getProperty("java.class.path", ".");
+        if (classPath != null) {
+            StringBuffer entries = new StringBuffer();
+            for (String entry : classPath.split(File.pathSeparator)) {
+                if (!entry.equals("")) {
+                    if (entries.length() > 0) {
+                        entries.append(File.pathSeparator);
+                    }
+                    entries.append(Session.file(entry).getPath());
+                }
+            }
+            path = entries.toString();
+        }
+        if (system != null) {
+            system = Session.file(system).getPath();
+        }
+        return new CLSymbolTable(CLPath.forClassPath(path), systemTable(
+                system));
+    }
+
+    /**
+     * Returns the table of the system classes of the specified Java
+     * installation, building it if it has not been yet.
+     *
+     * @param system
+     *            home directory of the Java installation; null for that of
+     *            this JVM.
+     * @return the table.
+     */
+
+    private static synchronized CLSymbolTable systemTable(String system) {
+        CLSymbolTable table = systems.get(system);
+        if (table == null) {
+            table = new CLSymbolTable(new CLPath("", null, system), null);
+            systems.put(system, table);
+        }
+        return table;
+    }
+
+    /**
+     * Returns the class having the specified internal name, reading it if it
+     * has not been yet; in the table of a session, the class declared by the
+     * session if there is one, and the library class otherwise; in the table
+     * of a class path, the system class if there is one, and the class on the
+     * class path otherwise.
+     *
+     * @param name
+     *            internal name of the class -- java/util/ArrayList for example.
+     * @return the class, or {@code null} if it cannot be found or read.
+     */
+
+    public CLSymbol symbol(String name) {
+        CLSymbol symbol = symbols.get(name);
+        if (symbol == null && library != null) {
+            symbol = library.symbol(name);
+        }
+        if (symbol == null && classPath != null) {
+            symbol = read(name);
+        }
+        return symbol;
+    }
+
+    /**
+     * Reads the class having the specified internal name, unless it has been
+     * read (or looked for) already.
+     *
+     * @param name
+     *            internal name of the class.
+     * @return the class, or {@code null} if it cannot be found or read.
+     */
+
+    private synchronized CLSymbol read(String name) {
+        CLSymbol symbol = symbols.get(name);
+        if (symbol != null || missing.contains(name)) {
+            return symbol;
+        }
+        CLInputStream in = classPath.loadClass(name);
+        if (in != null) {
+            CLAbsorber absorber = new CLAbsorber(in, name, true);
+            if (!absorber.errorHasOccurred()
+                    && absorber.classFile().magic == MAGIC) {
+                symbol = new CLSymbol(this, absorber.classFile());
+                if (!symbol.name().equals(name)) {
+                    // Found under the wrong name
+                    symbol = null;
+                }
+            }
+        }
+        if (symbol == null) {
+            missing.add(name);
+        } else {
+            symbols.put(name, symbol);
+        }
+        return symbol;
+    }
+
+    /**
+     * Declares the specified class, built by a compilation session, in this
+     * table (which is the session's); it takes the place of any class of the
+     * same name declared before.
+     *
+     * @param symbol
+     *            the class.
+     */
+
+    public void declare(CLSymbol symbol) {
+        symbols.put(symbol.name(), symbol);
+    }
+
+    /**
+     * Returns the class having the specified internal name declared in this
+     * table (which is a session's): a type declared by one of the session's
+     * units, or compiled by an earlier session. The library classes are not
+     * looked in.
+     *
+     * @param name
+     *            internal name of the class.
+     * @return the class, or {@code null} if none is declared.
+     */
+
+    public CLSymbol declared(String name) {
+        return symbols.get(name);
+    }
+
+    /**
+     * Returns the type having the specified (field) descriptor. A class that
+     * cannot be found is taken as {@link Type#ANY}.
+     *
+     * @param descriptor
+     *            the descriptor -- Ljava/lang/String; or [I for example.
+     * @return the type.
+     */
+
+    public Type typeFor(String descriptor) {
+        switch (descriptor.charAt(0)) {
+        case 'I':
+            return Type.INT;
+        case 'C':
+            return Type.CHAR;
+        case 'D':
+            return Type.DOUBLE;
+        case 'Z':
+            return Type.BOOLEAN;
+        case 'V':
+            return Type.VOID;
+        case 'B':
+            return Type.typeFor(byte.class);
+        case 'S':
+            return Type.typeFor(short.class);
+        case 'J':
+            return Type.typeFor(long.class);
+        case 'F':
+            return Type.typeFor(float.class);
+        case '[':
+            return typeFor(descriptor.substring(1)).arrayType();
+        default:
+            Type type = Type.typeFor(this, descriptor.substring(1, descriptor
+                    .length() - 1));
+            return type == null ? Type.ANY : type;
+        }
+    }
+
+    /**
+     * Returns the types of the parameters of a method having the specified
+     * descriptor.
+     *
+     * @param descriptor
+     *            the method descriptor -- (I[Ljava/lang/String;)V for example.
+     * @return the parameter types.
+     */
+
+    public Type[] parameterTypes(String descriptor) {
+        ArrayList<Type> types = new ArrayList<Type>();
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            int end = i;
+            while (descriptor.charAt(end) == '[') {
+                end++;
+            }
+            end = descriptor.charAt(end) == 'L' ? descriptor.indexOf(';', end)
+                    : end;
+            types.add(typeFor(descriptor.substring(i, end + 1)));
+            i = end + 1;
+        }
+        return types.toArray(new Type[0]);
+    }
+
+}
+
+/**
+ * A library class, as read from its class file by a {@link CLSymbolTable}: its
+ * access flags, the names of its super types, and the headers of its fields
+ * and methods. The {@link Type} of the class is made when first asked for, and
+ * its members are those of the type (see {@link Type#methodFor}). A CLSymbol is
+ * not changed once read, so it may be shared by threads.
+ * <p>
+ * A type declared by a compilation session is a CLSymbol too, built from its
+ * declaration rather than read: it is made with the name and access flags of
+ * the type, and its super types and member headers are added as the
+ * declaration is pre-analyzed (which is done by one thread, before the members
+ * of the type are looked up).
+ */
+
+class CLSymbol {
+
+    /**
+     * The header of a field or method: its access flags, name and descriptor.
+     */
+
+    static class MemberHeader {
+
+        /** Access flags. */
+        int accessFlags;
+
+        /** Name. */
+        String name;
+
+        /** Descriptor. */
+        String descriptor;
+
+    }
+
+    /** The table the class was read in. */
+    private CLSymbolTable table;
+
+    /** Internal name of the class. */
+    private String name;
+
+    /** Access flags of the class. */
+    private int accessFlags;
+
+    /** Internal name of the super class; null if there is none. */
+    private String superName;
+
+    /** Internal names of the interfaces implemented (or extended). */
+    private ArrayList<String> interfaceNames;
+
+    /** Headers of the fields, in the order they are declared. */
+    private ArrayList<MemberHeader> fields;
+
+    /**
+     * Headers of the methods (including the constructors), in the order they
+     * are declared.
+     */
+    private ArrayList<MemberHeader> methods;
+
+    /** Whether the class was declared by a session rather than read. */
+    private boolean isDeclared;
+
+    /** The type of the class; null until asked for. */
+    private Type type;
+
+    /**
+     * Constructs a CLSymbol from the headers of a class file.
+     *
+     * @param table
+     *            the table the class is read in.
+     * @param classFile
+     *            the class file.
+     */
+
+    public CLSymbol(CLSymbolTable table, CLFile classFile) {
+        CLConstantPool cp = classFile.constantPool;
+        this.table = table;
+        name = className(cp, classFile.thisClass);
+        accessFlags = classFile.accessFlags;
+        superName = classFile.superClass == 0 ? null : className(cp,
+                classFile.superClass);
+        interfaceNames = new ArrayList<String>();
+        for (int index : classFile.interfaces) {
+            interfaceNames.add(className(cp, index));
+        }
+        fields = new ArrayList<MemberHeader>();
+        for (CLMemberInfo field : classFile.fields) {
+            fields.add(header(cp, field));
+        }
+        methods = new ArrayList<MemberHeader>();
+        for (CLMemberInfo method : classFile.methods) {
+            methods.add(header(cp, method));
+        }
+    }
+
+    /**
+     * Constructs a CLSymbol for a type declared by a compilation session,
+     * having no interfaces and no members (yet).
+     *
+     * @param table
+     *            the table of the session.
+     * @param name
+     *            internal name of the type.
+     * @param accessFlags
+     *            access flags of the type.
+     * @param superName
+     *            internal name of the super class.
+     */
+
+    public CLSymbol(CLSymbolTable table, String name, int accessFlags,
+            String superName) {
+        this.table = table;
+        this.name = name;
+        this.accessFlags = accessFlags;
+        this.superName = superName;
+        interfaceNames = new ArrayList<String>();
+        fields = new ArrayList<MemberHeader>();
+        methods = new ArrayList<MemberHeader>();
+        isDeclared = true;
+    }
+
+    /**
+     * Returns the access flags (as found in a class file) denoted by the
+     * specified modifiers.
+     *
+     * @param mods
+     *            the modifiers -- public and static for example.
+     * @return the access flags.
+     */
+
+    public static int accessFlags(ArrayList<String> mods) {
+        int accessFlags = 0;
+        for (String mod : mods) {
+            accessFlags |= CLFile.accessFlagToInt(mod);
+        }
+        return accessFlags;
+    }
+
+    /**
+     * Returns the table the class was read in.
+     *
+     * @return the table.
+     */
+
+    public CLSymbolTable table() {
+        return table;
+    }
+
+    /**
+     * Returns the internal name of the class.
+     *
+     * @return the internal name.
+     */
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the access flags of the class.
+     *
+     * @return the access flags.
+     */
+
+    public int accessFlags() {
+        return accessFlags;
+    }
+
+    /**
+     * Returns the internal name of the super class.
+     *
+     * @return the internal name, or {@code null} if there is no super class.
+     */
+
+    public String superName() {
+        return superName;
+    }
+
+    /**
+     * Returns the internal names of the interfaces the class implements (or,
+     * for an interface, extends).
+     *
+     * @return the internal names.
+     */
+
+    public ArrayList<String> interfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * Returns the headers of the fields.
+     *
+     * @return the field headers.
+     */
+
+    public ArrayList<MemberHeader> fields() {
+        return fields;
+    }
+
+    /**
+     * Returns the headers of the methods, including the constructors (named
+     * &lt;init&gt;) and the class initializer (named &lt;clinit&gt;).
+     *
+     * @return the method headers.
+     */
+
+    public ArrayList<MemberHeader> methods() {
+        return methods;
+    }
+
+    /**
+     * Is this a type declared by a compilation session (rather than a library
+     * class read from its class file)?
+     *
+     * @return true or false.
+     */
+
+    public boolean isDeclared() {
+        return isDeclared;
+    }
+
+    /**
+     * Sets the internal name of the super class of this declared type.
+     *
+     * @param superName
+     *            the internal name.
+     */
+
+    public void superName(String superName) {
+        this.superName = superName;
+    }
+
+    /**
+     * Adds an interface to those this declared type implements (or, for an
+     * interface, extends).
+     *
+     * @param interfaceName
+     *            internal name of the interface.
+     */
+
+    public void addInterface(String interfaceName) {
+        interfaceNames.add(interfaceName);
+    }
+
+    /**
+     * Adds the header of a field to this declared type.
+     *
+     * @param accessFlags
+     *            access flags of the field.
+     * @param name
+     *            name of the field.
+     * @param descriptor
+     *            descriptor of the field.
+     */
+
+    public void addField(int accessFlags, String name, String descriptor) {
+        fields.add(header(accessFlags, name, descriptor));
+    }
+
+    /**
+     * Adds the header of a method (or a constructor, named &lt;init&gt;) to
+     * this declared type.
+     *
+     * @param accessFlags
+     *            access flags of the method.
+     * @param name
+     *            name of the method.
+     * @param descriptor
+     *            descriptor of the method.
+     */
+
+    public void addMethod(int accessFlags, String name, String descriptor) {
+        methods.add(header(accessFlags, name, descriptor));
+    }
+
+    /**
+     * Returns the type of the class.
+     *
+     * @return the type.
+     */
+
+    public synchronized Type type() {
+        if (type == null) {
+            type = Type.symbolType(this);
+        }
+        return type;
+    }
+
+    /**
+     * Returns the internal name of the class at the specified index of the
+     * specified constant pool.
+     *
+     * @param cp
+     *            the constant pool.
+     * @param index
+     *            index of a CONSTANT_Class_info item.
+     * @return the internal name.
+     */
+
+    private static String className(CLConstantPool cp, int index) {
+        return utf8(cp, ((CLConstantClassInfo) cp.cpItem(index)).nameIndex);
+    }
+
+    /**
+     * Returns the string at the specified index of the specified constant
+     * pool.
+     *
+     * @param cp
+     *            the constant pool.
+     * @param index
+     *            index of a CONSTANT_Utf8_info item.
+     * @return the string.
+     */
+
+    private static String utf8(CLConstantPool cp, int index) {
+        return new String(((CLConstantUtf8Info) cp.cpItem(index)).b,
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the header of the specified field or method.
+     *
+     * @param cp
+     *            the constant pool.
+     * @param member
+     *            the field or method.
+     * @return the header.
+     */
+
+    private static MemberHeader header(CLConstantPool cp, CLMemberInfo member) {
+        return header(member.accessFlags, utf8(cp, member.nameIndex), utf8(cp,
+                member.descriptorIndex));
+    }
+
+    /**
+     * Returns the header of a field or method having the specified access
+     * flags, name and descriptor.
+     *
+     * @param accessFlags
+     *            the access flags.
+     * @param name
+     *            the name.
+     * @param descriptor
+     *            the descriptor.
+     * @return the header.
+     */
+
+    private static MemberHeader header(int accessFlags, String name,
+            String descriptor) {
+        MemberHeader header = new MemberHeader();
+        header.accessFlags = accessFlags;
+        header.name = name;
+        header.descriptor = descriptor;
+        return header;
+    }
+
+}
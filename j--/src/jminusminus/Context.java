@@ -32,6 +32,11 @@ import java.util.Set;
  * only into the type (for example a class) declaration for typing the members;
  * pre-analysis does not reach into the method bodies. The rest of it is built
  * during analysis.
+ * <p>
+ * The names declared in the contexts of a compilation unit are bound in one
+ * {@link ScopeTable}, shared by the contexts, so that a name is looked up with
+ * one probe, rather than one per context out to the one declaring it; each
+ * context records the bindings made in it.
  */
 
 class Context {
@@ -50,11 +55,21 @@ class Context {
      */
     protected CompilationUnitContext compilationUnitContext;
 
+    /** The symbol table of the compilation unit. */
+    protected ScopeTable scopes;
+
     /**
-     * Map of (local variable, formal parameters, type) names to their
-     * definitions.
+     * Depth of this context: 0 for the compilation unit context, 1 more than
+     * its surrounding context's for the others.
+     */
+    protected int depth;
+
+    /**
+     * Bindings of (local variable, formal parameters, type) names to their
+     * definitions made in this context, in the order they were made; null if
+     * none.
      */
-    protected Map<String, IDefn> entries;
+    protected ArrayList<ScopeTable.Binding> bindings;
 
     /**
      * Constructs a Context.
@@ -73,7 +88,14 @@ class Context {
         this.surroundingContext = surrounding;
         this.classContext = classContext;
         this.compilationUnitContext = compilationUnitContext;
-        this.entries = new HashMap<String, IDefn>();
+        if (surrounding == null) {
+            scopes = new ScopeTable();
+            depth = 0;
+        } else {
+            scopes = surrounding.scopes;
+            depth = surrounding.depth + 1;
+        }
+        scopes.enter(this);
     }
 
     /**
@@ -89,11 +111,15 @@ class Context {
      */
 
     public void addEntry(int line, String name, IDefn definition) {
-        if (entries.containsKey(name)) {
-            JAST.compilationUnit.reportSemanticError(line, "redefining name: "
+        ScopeTable.Binding binding = scopes.declare(this, name, definition);
+        if (binding == null) {
+            JAST.compilationUnit().reportSemanticError(line, "redefining name: "
                     + name);
         } else {
-            entries.put(name, definition);
+            if (bindings == null) {
+                bindings = new ArrayList<ScopeTable.Binding>();
+            }
+            bindings.add(binding);
         }
     }
 
@@ -107,10 +133,9 @@ class Context {
      */
 
     public IDefn lookup(String name) {
-        IDefn iDefn = (IDefn) entries.get(name);
-        return iDefn != null ? iDefn
-                : surroundingContext != null ? surroundingContext.lookup(name)
-                        : null;
+        IDefn definition = scopes.lookup(this, name);
+        return definition != null ? definition : compilationUnitContext
+                .sessionType(name);
     }
 
     /**
@@ -124,7 +149,14 @@ class Context {
 
     public Type lookupType(String name) {
         TypeNameDefn defn = (TypeNameDefn) compilationUnitContext.lookup(name);
-        return defn == null ? null : defn.type();
+        if (defn == null) {
+            return null;
+        }
+        JCompilationUnit unit = JAST.compilationUnit();
+        if (unit != null) {
+            unit.addDependency(defn.type());
+        }
+        return defn.type();
     }
 
     /**
@@ -208,7 +240,24 @@ class Context {
      */
 
     public Set<String> names() {
-        return entries.keySet();
+        return entries().keySet();
+    }
+
+    /**
+     * Returns the map of the names declared in this context to their
+     * definitions.
+     * 
+     * @return the map of names to definitions.
+     */
+
+    protected Map<String, IDefn> entries() {
+        Map<String, IDefn> entries = new HashMap<String, IDefn>();
+        if (bindings != null) {
+            for (ScopeTable.Binding binding : bindings) {
+                entries.put(binding.name, binding.definition);
+            }
+        }
+        return entries;
     }
 
     /**
@@ -231,14 +280,53 @@ class Context {
 
 class CompilationUnitContext extends Context {
 
+    /**
+     * The table of the session compiling the unit, in which the types of the
+     * session are declared; null if none.
+     */
+    private CLSymbolTable classSymbols;
+
+    /** Internal name of the unit's package, followed by a /; or "". */
+    private String packagePrefix;
+
     /**
      * Constructs a new compilation unit context. There are no surrounding
      * contexts.
+     *
+     * @param classSymbols
+     *            the table of the session compiling the unit; null if none.
+     * @param packageName
+     *            internal name of the unit's package; "" if none.
      */
 
-    public CompilationUnitContext() {
+    public CompilationUnitContext(CLSymbolTable classSymbols,
+            String packageName) {
         super(null, null, null);
         compilationUnitContext = this;
+        this.classSymbols = classSymbols;
+        packagePrefix = packageName.equals("") ? "" : packageName + "/";
+    }
+
+    /**
+     * Returns the definition of the specified name as a type declared in the
+     * session (by another unit, or by an earlier session) that is not
+     * declared in this context: a type of the unit's package by its simple
+     * name, and any other type by its fully qualified name. So the types of
+     * the session are looked up in the table they are declared in once,
+     * rather than declared in the context of each unit.
+     *
+     * @param name
+     *            the name.
+     * @return the definition; {@code null}, if not found.
+     */
+
+    public IDefn sessionType(String name) {
+        if (classSymbols == null) {
+            return null;
+        }
+        CLSymbol symbol = classSymbols.declared(name.indexOf('.') == -1
+                ? packagePrefix + name : name.replace('.', '/'));
+        return symbol == null ? null : new TypeNameDefn(symbol.type());
     }
 
     /**
@@ -249,13 +337,11 @@ class CompilationUnitContext extends Context {
         p.println("<CompilationUnitContext>");
         p.indentRight();
         p.println("<Entries>");
-        if (entries != null) {
-            p.indentRight();
-            for (String key : names()) {
-                p.println("<Entry>" + key + "</Entry>");
-            }
-            p.indentLeft();
+        p.indentRight();
+        for (String key : names()) {
+            p.println("<Entry>" + key + "</Entry>");
         }
+        p.indentLeft();
         p.println("</Entries>");
         p.indentLeft();
         p.println("</CompilationUnitContext>");
@@ -396,17 +482,16 @@ class LocalContext extends Context {
         p.println("<LocalContext>");
         p.indentRight();
         p.println("<Entries>");
-        if (entries != null) {
-            p.indentRight();
-            for (String key : names()) {
-                IDefn defn = entries.get(key);
-                if (defn instanceof LocalVariableDefn) {
-                    p.printf("<Entry name=\"%s\" " + "offset=\"%d\"/>\n", key,
-                            ((LocalVariableDefn) defn).offset());
-                }
+        p.indentRight();
+        Map<String, IDefn> entries = entries();
+        for (String key : entries.keySet()) {
+            IDefn defn = entries.get(key);
+            if (defn instanceof LocalVariableDefn) {
+                p.printf("<Entry name=\"%s\" " + "offset=\"%d\"/>\n", key,
+                        ((LocalVariableDefn) defn).offset());
             }
-            p.indentLeft();
         }
+        p.indentLeft();
         p.println("</Entries>");
         p.indentLeft();
         p.println("</LocalContext>");
@@ -0,0 +1,312 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * A resident j-- compiler, listening on a local (Unix-domain) socket, and the
+ * thin client that talks to it. Keeping one compiler JVM warm saves every
+ * compilation the JVM start-up and the time spent running the scanner, the
+ * parser, and the code emitter in the interpreter.
+ * <p>
+ * A client sends the daemon its working directory and its argument vector,
+ * and the daemon runs {@link Main} on them, streaming back whatever Main
+ * prints to STDOUT and STDERR, followed by the exit status (0 if no error
+ * occurred and 1 otherwise). Requests are served one at a time; each of them
+ * is compiled in a fresh {@link Session}, with its relative file names
+ * resolved against the client's working directory, so no state is carried
+ * over from one request to the next. The options that set static state (-r)
+ * are undone once the request is served. The daemon options (--daemon,
+ * --client, --stop) are refused in a request, as is -run, which would run
+ * the program in the daemon's JVM.
+ * <p>
+ * The protocol is made of the following messages, written with
+ * {@link DataOutputStream}:
+ * <pre>
+ *   request  ::= UTF(directory) INT(n) {UTF(argument)}    (n arguments)
+ *   response ::= {OUT INT(n) byte... | ERR INT(n) byte...} EXIT INT(status)
+ * </pre>
+ * An argument vector made of the single argument --stop makes the daemon stop.
+ */
+
+class Daemon {
+
+    /** Tag of a chunk of STDOUT. */
+    private static final int OUT = 1;
+
+    /** Tag of a chunk of STDERR. */
+    private static final int ERR = 2;
+
+    /** Tag of the exit status. */
+    private static final int EXIT = 0;
+
+    /** The argument asking the daemon to stop. */
+    private static final String STOP = "--stop";
+
+    /**
+     * Returns the socket used when none is specified: j--.USER.sock in the
+     * temporary directory.
+     *
+     * @return the default socket file name.
+     */
+
+    public static String defaultSocket() {
+        return System.getProperty("java.io.tmpdir") + File.separator
+                + "j--." + System.getProperty("user.name") + ".sock";
+    }
+
+    /**
+     * Listens on the specified socket and serves the requests sent to it,
+     * until asked to stop.
+     *
+     * @param socket
+     *            the socket file name.
+     * @exception IOException
+     *                if the socket cannot be set up, or if a daemon is
+     *                already listening on it.
+     */
+
+    public static void serve(String socket) throws IOException {
+        Path path = Paths.get(socket);
+        if (Files.exists(path)) {
+            if (isListening(path)) {
+                throw new IOException("a daemon is already listening on "
+                        + socket);
+            }
+
+            // A stale socket, left by a daemon that did not stop
+            Files.delete(path);
+        }
+        ServerSocketChannel server = ServerSocketChannel
+                .open(StandardProtocolFamily.UNIX);
+        try {
+            server.bind(UnixDomainSocketAddress.of(path));
+            try {
+                // The daemon compiles (and writes) whatever it is asked
+                // to, so only its owner may talk to it
+                Files.setPosixFilePermissions(path,
+                        PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                // Not a POSIX file system; rely on the directory
+            }
+            boolean stop = false;
+            while (!stop) {
+                SocketChannel channel = server.accept();
+                try {
+                    stop = serve(channel);
+                } catch (IOException e) {
+                    // The client went away; serve the next one
+                } finally {
+                    channel.close();
+                }
+            }
+        } finally {
+            server.close();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Returns true if a daemon is listening on the specified socket; false
+     * otherwise.
+     *
+     * @param path
+     *            the socket file.
+     * @return true or false.
+     */
+
+    private static boolean isListening(Path path) {
+        try {
+            SocketChannel.open(UnixDomainSocketAddress.of(path)).close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Serves the request sent on the specified channel.
+     *
+     * @param channel
+     *            the channel connected to the client.
+     * @return {@code true} if the daemon was asked to stop and {@code false}
+     *         otherwise.
+     * @exception IOException
+     *                if the request cannot be read or the response cannot be
+     *                written.
+     */
+
+    private static boolean serve(SocketChannel channel) throws IOException {
+        DataInputStream in = new DataInputStream(Channels
+                .newInputStream(channel));
+        final DataOutputStream out = new DataOutputStream(Channels
+                .newOutputStream(channel));
+        File dir = new File(in.readUTF());
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+        if (args.length == 1 && args[0].equals(STOP)) {
+            out.writeByte(EXIT);
+            out.writeInt(0);
+            out.flush();
+            return true;
+        }
+
+        PrintStream stdout = new PrintStream(new ChunkOutputStream(out, OUT));
+        PrintStream stderr = new PrintStream(new ChunkOutputStream(out, ERR));
+        int maxCount = NPhysicalRegister.MAX_COUNT;
+        int status;
+        Session.streams(stdout, stderr);
+        Session.directory(dir);
+        try {
+            Main.request(args);
+            status = Main.errorHasOccurred() ? 1 : 0;
+        } catch (Throwable e) {
+            e.printStackTrace(stderr);
+            status = 1;
+        } finally {
+            Session.streams(null, null);
+            Session.directory(null);
+            NPhysicalRegister.MAX_COUNT = maxCount;
+        }
+        stdout.flush();
+        stderr.flush();
+        synchronized (out) {
+            out.writeByte(EXIT);
+            out.writeInt(status);
+            out.flush();
+        }
+        return false;
+    }
+
+    /**
+     * Sends the specified arguments to the daemon listening on the specified
+     * socket, to be compiled in the current working directory, and copies the
+     * daemon's output to STDOUT and STDERR.
+     *
+     * @param socket
+     *            the socket file name.
+     * @param args
+     *            the arguments.
+     * @return the exit status.
+     * @exception IOException
+     *                if the daemon cannot be reached.
+     */
+
+    public static int request(String socket, String[] args)
+            throws IOException {
+        SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress
+                .of(Paths.get(socket)));
+        try {
+            DataOutputStream out = new DataOutputStream(Channels
+                    .newOutputStream(channel));
+            DataInputStream in = new DataInputStream(Channels
+                    .newInputStream(channel));
+            out.writeUTF(new File("").getAbsolutePath());
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            out.flush();
+            while (true) {
+                int tag = in.readByte();
+                if (tag == EXIT) {
+                    return in.readInt();
+                }
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                PrintStream stream = tag == OUT ? Session.out() : Session
+                        .err();
+                stream.write(bytes, 0, bytes.length);
+                stream.flush();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Asks the daemon listening on the specified socket to stop.
+     *
+     * @param socket
+     *            the socket file name.
+     * @exception IOException
+     *                if the daemon cannot be reached.
+     */
+
+    public static void stop(String socket) throws IOException {
+        request(socket, new String[] { STOP });
+    }
+
+}
+
+/**
+ * An output stream sending whatever is written to it to the client, as tagged
+ * chunks.
+ */
+
+class ChunkOutputStream extends OutputStream {
+
+    /** The stream to the client. */
+    private DataOutputStream out;
+
+    /** Tag of the chunks. */
+    private int tag;
+
+    /**
+     * Constructs a ChunkOutputStream.
+     *
+     * @param out
+     *            the stream to the client; shared by the streams of all tags.
+     * @param tag
+     *            tag of the chunks.
+     */
+
+    public ChunkOutputStream(DataOutputStream out, int tag) {
+        this.out = out;
+        this.tag = tag;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        synchronized (out) {
+            out.writeByte(tag);
+            out.writeInt(len);
+            out.write(b, off, len);
+            out.flush();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+/**
+ * An error reported by the compiler: the source file and the line it was found
+ * at, and the message describing it. Errors that are not tied to a source
+ * file (those of the emitters, for example) have no file and line 0.
+ */
+
+public class Diagnostic {
+
+    /** Name of the source file; null if none. */
+    private String file;
+
+    /** Line in the source file; 0 if none. */
+    private int line;
+
+    /** The message. */
+    private String message;
+
+    /**
+     * Constructs a Diagnostic.
+     *
+     * @param file
+     *            name of the source file; null if none.
+     * @param line
+     *            line in the source file; 0 if none.
+     * @param message
+     *            the message.
+     */
+
+    public Diagnostic(String file, int line, String message) {
+        this.file = file;
+        this.line = line;
+        this.message = message;
+    }
+
+    /**
+     * Returns the name of the source file, or {@code null} if there is none.
+     *
+     * @return the source file.
+     */
+
+    public String file() {
+        return file;
+    }
+
+    /**
+     * Returns the line in the source file, or 0 if there is none.
+     *
+     * @return the line.
+     */
+
+    public int line() {
+        return line;
+    }
+
+    /**
+     * Returns the message.
+     *
+     * @return the message.
+     */
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * Returns the diagnostic as the compiler prints it.
+     *
+     * @return the diagnostic as a string.
+     */
+
+    public String toString() {
+        return file == null ? message : String.format("%s:%d: %s", file, line,
+                message);
+    }
+
+}
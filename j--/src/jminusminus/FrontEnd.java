@@ -0,0 +1,81 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.ArrayList;
+
+import static jminusminus.TokenKind.EOF;
+
+/**
+ * The front end of the compiler, as chosen with -frontend: the scanner and
+ * the parser of j-- sources, either the hand-written ones
+ * ({@link HandwrittenFrontEnd}) or those generated by JavaCC from j--.jj
+ * ({@link JavaCCFrontEnd}). A front end may be used by several threads at
+ * once, each on a source of its own.
+ */
+
+interface FrontEnd {
+
+    /**
+     * Scans the specified source, printing its tokens to {@link Session#out()}
+     * and its lexical errors to {@link Session#err()}.
+     *
+     * @param input
+     *            the source.
+     * @return {@code true} if a lexical error has occurred; {@code false}
+     *         otherwise.
+     */
+
+    public boolean tokenize(CharReader input);
+
+    /**
+     * Scans and parses the specified source, adding the errors found to the
+     * specified list rather than reporting them.
+     *
+     * @param input
+     *            the source.
+     * @param diagnostics
+     *            where the errors found are added.
+     * @return the compilation unit, partial if a syntax error has occurred;
+     *         null if the parse gave up.
+     */
+
+    public JCompilationUnit parse(CharReader input,
+            ArrayList<Diagnostic> diagnostics);
+
+}
+
+/**
+ * The hand-written front end: {@link Scanner} and {@link Parser}.
+ */
+
+class HandwrittenFrontEnd implements FrontEnd {
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public boolean tokenize(CharReader input) {
+        LookaheadScanner scanner = new LookaheadScanner(new Scanner(input));
+        TokenInfo token;
+        do {
+            scanner.next();
+            token = scanner.token();
+            Session.out().printf("%d\t : %s = %s\n", token.line(), token
+                    .tokenRep(), token.image());
+        } while (token.kind() != EOF);
+        return scanner.errorHasOccured();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public JCompilationUnit parse(CharReader input,
+            ArrayList<Diagnostic> diagnostics) {
+        Scanner scanner = new Scanner(input, 0, diagnostics);
+        return new Parser(new LookaheadScanner(scanner), diagnostics, null)
+                .compilationUnit();
+    }
+
+}
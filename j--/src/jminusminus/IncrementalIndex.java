@@ -0,0 +1,515 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.nio.file.Files;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.TreeSet;
+
+/**
+ * The index kept by incremental compilation (-i) in the output directory, in a
+ * file named .j--index. For every source file compiled there, the index
+ * records the SHA-256 hash of its contents, the types it declares along with
+ * their headers (their access flags, super types, and member headers, as
+ * recorded by pre-analysis in a {@link CLSymbol}), the session types its
+ * declarations extend, and the session types it refers to.
+ * <p>
+ * A source file is out of date if its contents changed, if it has never been
+ * compiled into the output directory, or if any of its output files is
+ * missing. It is also out of date if one of its types extends a type declared
+ * in an out-of-date file, since a type inherits the members of its super type.
+ * The types of the remaining (up-to-date) files are declared to the session
+ * from their headers (see {@link Session#addCompiledType(CLSymbol)}), so that
+ * the files compiled may refer to them.
+ * <p>
+ * Once the out-of-date files have been pre-analyzed, any up-to-date file
+ * referring to a type whose headers changed (or that was added or removed) is
+ * out of date as well, and the session is started over; so a change to a
+ * method body recompiles one file, and a change to a member header recompiles
+ * the files that depend on it.
+ * <p>
+ * The index is a text file, encoded in UTF-8, made of the following lines for
+ * each source file:
+ * <pre>
+ *   unit hash path
+ *   supertype name
+ *   depends name
+ *   type name access-flags super-name interface-name...
+ *   field access-flags name descriptor
+ *   method access-flags name descriptor
+ * </pre>
+ * where names are in internal form, and the field and method lines of a type
+ * follow its type line.
+ */
+
+class IncrementalIndex {
+
+    /** Name of the index file. */
+    private static final String FILE_NAME = ".j--index";
+
+    /** The index file. */
+    private File file;
+
+    /** Where output files are placed. */
+    private String outputDir;
+
+    /** Whether SPIM code is generated. */
+    private boolean spimOutput;
+
+    /** Maps canonical paths of the source files to their entries. */
+    private LinkedHashMap<String, Entry> entries;
+
+    /** Maps source file names to the hashes of their current contents. */
+    private Hashtable<String, String> hashes;
+
+    /**
+     * What is recorded for a source file.
+     */
+
+    private static class Entry {
+
+        /** Hash of the contents of the file when compiled. */
+        String hash;
+
+        /** Session types extended by the file's types. */
+        TreeSet<String> superTypes = new TreeSet<String>();
+
+        /** Session types the file refers to (other than its own). */
+        TreeSet<String> dependencies = new TreeSet<String>();
+
+        /**
+         * Maps the types declared in the file to their headers, as written
+         * in the index file.
+         */
+        LinkedHashMap<String, String> types =
+            new LinkedHashMap<String, String>();
+
+    }
+
+    /**
+     * Constructs an IncrementalIndex for the specified output directory,
+     * reading the index file if there is one. An index file that cannot be
+     * read is taken as empty, so everything gets compiled.
+     *
+     * @param outputDir
+     *            where output files are placed.
+     * @param spimOutput
+     *            whether SPIM code is generated.
+     */
+
+    public IncrementalIndex(String outputDir, boolean spimOutput) {
+        this.outputDir = outputDir;
+        this.spimOutput = spimOutput;
+        file = Session.file(outputDir + File.separator + FILE_NAME);
+        entries = new LinkedHashMap<String, Entry>();
+        hashes = new Hashtable<String, String>();
+        try {
+            read();
+        } catch (Exception e) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns those of the specified source files that are out of date: the
+     * ones that changed, that were never compiled, or whose output files are
+     * missing, along with the ones declaring subtypes of their types.
+     *
+     * @param sourceFiles
+     *            the source files.
+     * @return the out-of-date source files, in the order given.
+     */
+
+    public ArrayList<String> outOfDate(ArrayList<String> sourceFiles) {
+        ArrayList<String> outOfDate = new ArrayList<String>();
+        for (String sourceFile : sourceFiles) {
+            Entry entry = entries.get(path(sourceFile));
+            if (entry == null || !entry.hash.equals(hash(sourceFile))
+                    || !hasOutputs(sourceFile, entry)) {
+                outOfDate.add(sourceFile);
+            }
+        }
+        return withSubtypes(sourceFiles, outOfDate);
+    }
+
+    /**
+     * Adds, to the out-of-date source files, those of the specified source
+     * files that refer to any of the types changed by the compilation of the
+     * specified units (the out-of-date files, pre-analyzed), along with the
+     * ones declaring subtypes of their types.
+     *
+     * @param sourceFiles
+     *            the source files.
+     * @param outOfDate
+     *            the out-of-date source files.
+     * @param units
+     *            the pre-analyzed units of the out-of-date source files.
+     * @return the out-of-date source files, in the order given; the same as
+     *         before if no type changed.
+     */
+
+    public ArrayList<String> outOfDate(ArrayList<String> sourceFiles,
+            ArrayList<String> outOfDate, ArrayList<JCompilationUnit> units) {
+        TreeSet<String> changed = new TreeSet<String>();
+        TreeSet<String> declared = new TreeSet<String>();
+        for (JCompilationUnit unit : units) {
+            Entry entry = entries.get(path(unit.fileName()));
+            for (Type type : unit.declaredTypes()) {
+                String name = type.jvmName();
+                declared.add(name);
+                if (entry == null
+                        || !headers(type.symbol()).equals(
+                                entry.types.get(name))) {
+                    changed.add(name);
+                }
+            }
+        }
+        for (String sourceFile : outOfDate) {
+            Entry entry = entries.get(path(sourceFile));
+            if (entry != null) {
+                for (String name : entry.types.keySet()) {
+                    if (!declared.contains(name)) {
+                        changed.add(name);
+                    }
+                }
+            }
+        }
+
+        ArrayList<String> dependents = new ArrayList<String>();
+        for (String sourceFile : sourceFiles) {
+            Entry entry = entries.get(path(sourceFile));
+            if (outOfDate.contains(sourceFile) || entry == null) {
+                dependents.add(sourceFile);
+                continue;
+            }
+            for (String name : entry.dependencies) {
+                if (changed.contains(name)) {
+                    dependents.add(sourceFile);
+                    break;
+                }
+            }
+        }
+        return dependents.size() == outOfDate.size() ? outOfDate
+                : withSubtypes(sourceFiles, dependents);
+    }
+
+    /**
+     * Declares the types of those of the specified source files that are up
+     * to date to the current session.
+     *
+     * @param sourceFiles
+     *            the source files.
+     * @param outOfDate
+     *            the out-of-date source files.
+     */
+
+    public void declareCompiledTypes(ArrayList<String> sourceFiles,
+            ArrayList<String> outOfDate) {
+        Session session = Session.current();
+        for (String sourceFile : sourceFiles) {
+            if (outOfDate.contains(sourceFile)) {
+                continue;
+            }
+            Entry entry = entries.get(path(sourceFile));
+            for (String name : entry.types.keySet()) {
+                session.addCompiledType(symbol(session.classSymbols(),
+                        entry.types.get(name)));
+            }
+        }
+    }
+
+    /**
+     * Records the specified units, just compiled in the current session, and
+     * writes the index file.
+     *
+     * @param units
+     *            the compiled units.
+     * @exception IOException
+     *                if the index file cannot be written.
+     */
+
+    public void update(ArrayList<JCompilationUnit> units) throws IOException {
+        for (JCompilationUnit unit : units) {
+            Entry entry = new Entry();
+            entry.hash = hash(unit.fileName());
+            entry.superTypes.addAll(unit.superTypes());
+            entry.dependencies.addAll(unit.dependencies());
+            for (Type type : unit.declaredTypes()) {
+                String name = type.jvmName();
+                entry.dependencies.remove(name);
+                entry.types.put(name, headers(type.symbol()));
+            }
+            entries.put(path(unit.fileName()), entry);
+        }
+        write();
+    }
+
+    /**
+     * Adds to the specified out-of-date source files, until there are no more,
+     * those of the source files whose types extend a type declared by one of
+     * them.
+     *
+     * @param sourceFiles
+     *            the source files.
+     * @param outOfDate
+     *            the out-of-date source files.
+     * @return the out-of-date source files, in the order given.
+     */
+
+    private ArrayList<String> withSubtypes(ArrayList<String> sourceFiles,
+            ArrayList<String> outOfDate) {
+        ArrayList<String> result = outOfDate;
+        boolean added = true;
+        while (added) {
+            TreeSet<String> declared = new TreeSet<String>();
+            for (String sourceFile : result) {
+                Entry entry = entries.get(path(sourceFile));
+                if (entry != null) {
+                    declared.addAll(entry.types.keySet());
+                }
+            }
+            added = false;
+            ArrayList<String> next = new ArrayList<String>();
+            for (String sourceFile : sourceFiles) {
+                if (result.contains(sourceFile)) {
+                    next.add(sourceFile);
+                    continue;
+                }
+                for (String name : entries.get(path(sourceFile)).superTypes) {
+                    if (declared.contains(name)) {
+                        next.add(sourceFile);
+                        added = true;
+                        break;
+                    }
+                }
+            }
+            result = next;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the headers of the specified type, as written in the index
+     * file: its type line, followed by its field and method lines.
+     *
+     * @param symbol
+     *            the type.
+     * @return the headers.
+     */
+
+    private static String headers(CLSymbol symbol) {
+        StringBuffer headers = new StringBuffer();
+        headers.append(String.format("type %s %d %s", symbol.name(), symbol
+                .accessFlags(), symbol.superName()));
+        for (String name : symbol.interfaceNames()) {
+            headers.append(" " + name);
+        }
+        for (CLSymbol.MemberHeader field : symbol.fields()) {
+            headers.append(String.format("\nfield %d %s %s",
+                    field.accessFlags, field.name, field.descriptor));
+        }
+        for (CLSymbol.MemberHeader method : symbol.methods()) {
+            headers.append(String.format("\nmethod %d %s %s",
+                    method.accessFlags, method.name, method.descriptor));
+        }
+        return headers.toString();
+    }
+
+    /**
+     * Returns the type having the specified headers, made in the specified
+     * table.
+     *
+     * @param table
+     *            the table of the session.
+     * @param headers
+     *            the headers, as written in the index file.
+     * @return the type.
+     */
+
+    private static CLSymbol symbol(CLSymbolTable table, String headers) {
+        String[] lines = headers.split("\n");
+        String[] fields = lines[0].split(" ");
+        CLSymbol symbol = new CLSymbol(table, fields[1], Integer
+                .parseInt(fields[2]), fields[3]);
+        for (int i = 4; i < fields.length; i++) {
+            symbol.addInterface(fields[i]);
+        }
+        for (int i = 1; i < lines.length; i++) {
+            fields = lines[i].split(" ");
+            if (fields[0].equals("field")) {
+                symbol.addField(Integer.parseInt(fields[1]), fields[2],
+                        fields[3]);
+            } else {
+                symbol.addMethod(Integer.parseInt(fields[1]), fields[2],
+                        fields[3]);
+            }
+        }
+        return symbol;
+    }
+
+    /**
+     * Returns true if the output files of the specified source file are all
+     * there; false otherwise.
+     *
+     * @param sourceFile
+     *            the source file.
+     * @param entry
+     *            its entry.
+     * @return {@code true} or {@code false}.
+     */
+
+    private boolean hasOutputs(String sourceFile, Entry entry) {
+        if (spimOutput) {
+            // Named as NEmitter names it, after the source file alone
+            String name = sourceFile.substring(sourceFile
+                    .lastIndexOf(File.separator) + 1);
+            return Session.file(outputDir + File.separator
+                    + name.replace(".java", ".s")).exists();
+        }
+        for (String name : entry.types.keySet()) {
+            if (!Session.file(outputDir + File.separator + name + ".class")
+                    .exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the canonical path of the specified source file, by which it is
+     * known in the index.
+     *
+     * @param sourceFile
+     *            the source file.
+     * @return its canonical path.
+     */
+
+    private static String path(String sourceFile) {
+        File file = Session.file(sourceFile);
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    /**
+     * Returns the (hex) SHA-256 hash of the contents of the specified source
+     * file, or the empty string if the file cannot be read.
+     *
+     * @param sourceFile
+     *            the source file.
+     * @return the hash.
+     */
+
+    private String hash(String sourceFile) {
+        String hash = hashes.get(sourceFile);
+        if (hash != null) {
+            return hash;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+                    Files.readAllBytes(Session.file(sourceFile).toPath()));
+            StringBuffer hex = new StringBuffer();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b & 0xff));
+            }
+            hash = hex.toString();
+        } catch (IOException e) {
+            hash = "";
+        } catch (NoSuchAlgorithmException e) {
+            hash = "";
+        }
+        hashes.put(sourceFile, hash);
+        return hash;
+    }
+
+    /**
+     * Reads the index file, if there is one.
+     *
+     * @exception IOException
+     *                if the index file cannot be read.
+     */
+
+    private void read() throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        BufferedReader in = Files.newBufferedReader(file.toPath(),
+                CharReader.ENCODING);
+        try {
+            Entry entry = null;
+            String type = null;
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] fields = line.split(" ", 3);
+                if (fields[0].equals("unit")) {
+                    entry = new Entry();
+                    entry.hash = fields[1];
+                    entries.put(fields[2], entry);
+                    type = null;
+                } else if (fields[0].equals("supertype")) {
+                    entry.superTypes.add(fields[1]);
+                } else if (fields[0].equals("depends")) {
+                    entry.dependencies.add(fields[1]);
+                } else if (fields[0].equals("type")
+                        && line.split(" ").length >= 4
+                        && line.split(" ")[2].matches("[0-9]+")) {
+                    type = fields[1];
+                    entry.types.put(type, line);
+                } else if ((fields[0].equals("field")
+                        || fields[0].equals("method")) && type != null) {
+                    entry.types.put(type, entry.types.get(type) + "\n" + line);
+                } else {
+                    throw new IOException("malformed index file " + file);
+                }
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Writes the index file.
+     *
+     * @exception IOException
+     *                if the index file cannot be written.
+     */
+
+    private void write() throws IOException {
+        file.getParentFile().mkdirs();
+        PrintWriter out = new PrintWriter(file, CharReader.ENCODING);
+        try {
+            for (String path : entries.keySet()) {
+                Entry entry = entries.get(path);
+                out.printf("unit %s %s\n", entry.hash, path);
+                for (String name : entry.superTypes) {
+                    out.printf("supertype %s\n", name);
+                }
+                for (String name : entry.dependencies) {
+                    out.printf("depends %s\n", name);
+                }
+                for (String name : entry.types.keySet()) {
+                    out.printf("%s\n", entry.types.get(name));
+                }
+            }
+        } finally {
+            out.close();
+        }
+        if (out.checkError()) {
+            throw new IOException("cannot write index file " + file);
+        }
+    }
+
+}
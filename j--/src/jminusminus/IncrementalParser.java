@@ -0,0 +1,455 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A front end for a source that is edited as it is compiled (in an editor, or
+ * a watch mode): it keeps the characters, the tokens and the AST of the
+ * source, and brings them up to date after each edit by scanning and parsing
+ * again as little of the source as it can.
+ * <p>
+ * An edit replaces a range of the characters with a text. The tokens are
+ * scanned again from the end of the last token preceding the edit, until the
+ * scan is in step with the tokens following it: when a token starts where one
+ * of those started (the offsets shifted by the edit), the rest are the same,
+ * and are kept. Then the innermost member (of a class or an interface body)
+ * enclosing the tokens replaced is parsed again, and replaces the member in
+ * the AST; the {@link Parser} records the span (in the tokens) of each member
+ * for this. The source is parsed again from its tokens, without being scanned
+ * again, when
+ * <ul>
+ * <li>the edit adds or removes lines, as the AST nodes following it have the
+ * line they occur in;</li>
+ * <li>no member encloses the tokens replaced, or the member parsed again does
+ * not end where it did (the edit removed a closing brace, for example).</li>
+ * </ul>
+ * The source is scanned again too when it has lexical errors.
+ * <p>
+ * The errors are kept rather than reported, so that those of the source as
+ * it stands are at hand after each edit; each span records the range of the
+ * syntax errors found in the member, which the errors found when it is parsed
+ * again replace.
+ */
+
+public class IncrementalParser {
+
+    /** Name of the file the source is reported as. */
+    private String fileName;
+
+    /** The characters of the source. */
+    private CharReader input;
+
+    /** The tokens of the source. */
+    private TokenStream tokens;
+
+    /** The AST of the source. */
+    private JCompilationUnit unit;
+
+    /**
+     * The spans of the members of the class and interface bodies, in the
+     * order the members start.
+     */
+    private ArrayList<MemberSpan> spans;
+
+    /**
+     * Index of the first span the shift below is to be applied to: as with
+     * the tokens (see {@link TokenStream}), the shift of the spans following
+     * a member parsed again is only recorded, until the next one is.
+     */
+    private int shifted;
+
+    /**
+     * The shift of the token indices and of the error indices of the spans
+     * from index shifted on.
+     */
+    private int tokenShift, errorShift;
+
+    /** The lexical errors of the source. */
+    private ArrayList<Diagnostic> lexicalErrors;
+
+    /** The syntax errors of the source, in the order they were found. */
+    private ArrayList<Diagnostic> syntaxErrors;
+
+    /**
+     * Constructs an IncrementalParser for the specified source, and parses
+     * it.
+     *
+     * @param fileName
+     *            the name of the file the source is reported as.
+     * @param source
+     *            the source.
+     */
+
+    public IncrementalParser(String fileName, CharSequence source) {
+        this.fileName = fileName;
+        input = new CharReader(fileName, source);
+        scan();
+    }
+
+    /**
+     * Returns the AST of the source, as parsed (not analyzed).
+     *
+     * @return the compilation unit.
+     */
+
+    public JCompilationUnit compilationUnit() {
+        return unit;
+    }
+
+    /**
+     * Pretty-prints the AST of the source to STDOUT, as the -p option does.
+     */
+
+    public void writeToStdOut() {
+        unit.writeToStdOut(new PrettyPrinter());
+    }
+
+    /**
+     * Returns the source (its new lines mapped to '\n').
+     *
+     * @return the source.
+     */
+
+    public String source() {
+        return new String(input.chars(), 0, input.length());
+    }
+
+    /**
+     * Returns the errors of the source: the lexical ones, and then the syntax
+     * ones.
+     *
+     * @return the errors.
+     */
+
+    public List<Diagnostic> diagnostics() {
+        ArrayList<Diagnostic> diagnostics = new ArrayList<Diagnostic>(
+                lexicalErrors);
+        diagnostics.addAll(syntaxErrors);
+        return diagnostics;
+    }
+
+    /**
+     * Has the source lexical or syntax errors?
+     *
+     * @return {@code true} if it has; {@code false} otherwise.
+     */
+
+    public boolean errorHasOccurred() {
+        return !lexicalErrors.isEmpty() || unit.isPartial();
+    }
+
+    /**
+     * Replaces the specified range of the source with the specified text, and
+     * brings the tokens and the AST up to date.
+     *
+     * @param offset
+     *            offset of the first character replaced.
+     * @param removed
+     *            number of characters replaced.
+     * @param inserted
+     *            the text replacing them.
+     * @return the compilation unit.
+     * @exception IndexOutOfBoundsException
+     *                if the range is not one of the source.
+     */
+
+    public JCompilationUnit edit(int offset, int removed, CharSequence inserted) {
+        if (offset < 0 || removed < 0 || offset + removed > input.length()) {
+            throw new IndexOutOfBoundsException("Edit of [" + offset + ", "
+                    + (offset + removed) + ") in a source of "
+                    + input.length() + " characters");
+        }
+        int length = input.length();
+        int lineDelta = input.edit(offset, removed, inserted);
+        int delta = input.length() - length;
+        if (!lexicalErrors.isEmpty()) {
+            scan();
+            return unit;
+        }
+
+        // Scan from the end of the last token preceding the edit, until a
+        // token starts where one following the edit started (tokens ending
+        // at the offset are scanned again, as the edit may extend them)
+        int first = tokens.endingAfter(offset);
+        int last = first;
+        while (tokens.start(last) < offset + removed) {
+            last++;
+        }
+        ArrayList<Diagnostic> errors = new ArrayList<Diagnostic>();
+        Scanner scanner = new Scanner(input, first > 0 ? tokens.end(first - 1)
+                : 0, errors);
+        TokenStream scanned = scanner.tokens();
+        int count = 0;
+        while (true) {
+            int start = scanned.start(scanner.scan());
+            while (tokens.start(last) + delta < start) {
+                last++;
+            }
+            if (tokens.start(last) + delta == start) {
+                break;
+            }
+            count++;
+        }
+        if (!errors.isEmpty()) {
+            scan();
+            return unit;
+        }
+        tokens.replace(first, last, scanned, count, delta, lineDelta, input
+                .chars());
+        if (lineDelta != 0) {
+            parse();
+        } else if ((count > 0 || last > first)
+                && !reparse(first, last, count - (last - first))) {
+            parse();
+        }
+        return unit;
+    }
+
+    /**
+     * Parses the innermost member enclosing the specified (replaced) range of
+     * tokens again, and replaces it in the AST, unless there is none, or the
+     * member parsed again does not end where it did.
+     *
+     * @param first
+     *            index of the first token replaced.
+     * @param last
+     *            index of the token following the last one replaced (before
+     *            the tokens were replaced).
+     * @param tokenDelta
+     *            change to the number of tokens.
+     * @return true if the member was parsed again; false otherwise.
+     */
+
+    private boolean reparse(int first, int last, int tokenDelta) {
+        // The last span starting at or before the first token replaced, or
+        // the innermost of those enclosing it, is the one
+        int low = 0;
+        int high = spans.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (first(mid) <= first) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return false;
+        }
+        settle(low);
+        MemberSpan span = spans.get(low - 1);
+        while (span != null && span.end() < last) {
+            span = span.parent();
+        }
+        if (span == null || span.end() + tokenDelta <= span.first()) {
+            return false;
+        }
+        int from = indexOf(span.first(), low);
+        int to = from + 1;
+        while (to < spans.size() && first(to) < span.end()) {
+            to++;
+        }
+
+        // Parse it again
+        int end = span.end() + tokenDelta;
+        ArrayList<Diagnostic> errors = new ArrayList<Diagnostic>();
+        ArrayList<MemberSpan> nested = new ArrayList<MemberSpan>();
+        nested.add(new MemberSpan(span.members(), span.isInterface(), span
+                .parent(), span.first(), 0));
+        LookaheadScanner scanner = new LookaheadScanner(fileName, tokens, span
+                .first());
+        JMember member = new Parser(scanner, errors, nested).member(nested
+                .get(0));
+        if (scanner.position() != end) {
+            return false;
+        }
+
+        // Splice the member into the body
+        ArrayList<JMember> members = span.members();
+        if (span.member() != null) {
+            int i = indexOf(members, span.member());
+            if (member != null) {
+                members.set(i, member);
+            } else {
+                members.remove(i);
+            }
+        } else if (member != null) {
+            members.add(indexAfter(from), member);
+        }
+
+        // And its errors into the errors
+        int errorDelta = errors.size() - (span.endError() - span.firstError());
+        syntaxErrors.subList(span.firstError(), span.endError()).clear();
+        syntaxErrors.addAll(span.firstError(), errors);
+
+        // And its span (and those of the members nested in it) into the
+        // spans; the spans following it are to be shifted, and those
+        // enclosing it are stretched
+        for (MemberSpan s : nested) {
+            s.shiftErrors(span.firstError(), span.firstError());
+        }
+        int delta = nested.size() - (to - from);
+        if (tokenShift == 0 && errorShift == 0 || shifted <= to) {
+            shifted = from + nested.size();
+        } else {
+            for (int i = to; i < shifted; i++) {
+                spans.get(i).shift(tokenDelta, tokenDelta);
+                spans.get(i).shiftErrors(errorDelta, errorDelta);
+            }
+            shifted += delta;
+        }
+        tokenShift += tokenDelta;
+        errorShift += errorDelta;
+        for (MemberSpan s = span.parent(); s != null; s = s.parent()) {
+            s.shift(0, tokenDelta);
+            s.shiftErrors(0, errorDelta);
+        }
+        if (delta == 0) {
+            for (int i = 0; i < nested.size(); i++) {
+                spans.set(from + i, nested.get(i));
+            }
+        } else {
+            spans.subList(from, to).clear();
+            spans.addAll(from, nested);
+        }
+        unit.partial(!syntaxErrors.isEmpty());
+        return true;
+    }
+
+    /**
+     * Returns the index of the first token of the member of the specified
+     * span.
+     *
+     * @param i
+     *            index of the span.
+     * @return the index of the token.
+     */
+
+    private int first(int i) {
+        MemberSpan span = spans.get(i);
+        return i < shifted ? span.first() : span.first() + tokenShift;
+    }
+
+    /**
+     * Applies the pending shift for good to the spans preceding the specified
+     * one.
+     *
+     * @param end
+     *            index of the span.
+     */
+
+    private void settle(int end) {
+        if (tokenShift == 0 && errorShift == 0) {
+            shifted = Math.max(shifted, end);
+            return;
+        }
+        for (; shifted < end; shifted++) {
+            spans.get(shifted).shift(tokenShift, tokenShift);
+            spans.get(shifted).shiftErrors(errorShift, errorShift);
+        }
+    }
+
+    /**
+     * Returns the index of the span whose member starts at the specified
+     * token, among the (settled) spans preceding the specified one.
+     *
+     * @param first
+     *            index of the token.
+     * @param end
+     *            index of the span.
+     * @return the index of the span.
+     */
+
+    private int indexOf(int first, int end) {
+        int low = 0;
+        int high = end - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (spans.get(mid).first() < first) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index at which the member (to be) parsed in the specified
+     * span goes in its body: the one following the last member added to the
+     * body before it.
+     *
+     * @param i
+     *            index of the span.
+     * @return the index.
+     */
+
+    private int indexAfter(int i) {
+        MemberSpan span = spans.get(i);
+        for (int j = i - 1; j >= 0 && spans.get(j) != span.parent(); j--) {
+            MemberSpan s = spans.get(j);
+            if (s.members() == span.members() && s.member() != null) {
+                return indexOf(span.members(), s.member()) + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Scans and parses the source.
+     */
+
+    private void scan() {
+        lexicalErrors = new ArrayList<Diagnostic>();
+        Scanner scanner = new Scanner(input, 0, lexicalErrors);
+        tokens = scanner.tokens();
+        parse(new LookaheadScanner(scanner));
+    }
+
+    /**
+     * Parses the source again from its tokens.
+     */
+
+    private void parse() {
+        parse(new LookaheadScanner(fileName, tokens, 0));
+    }
+
+    /**
+     * Parses the source, taking tokens from the specified scanner.
+     *
+     * @param scanner
+     *            the lexical analyzer with which tokens are scanned.
+     */
+
+    private void parse(LookaheadScanner scanner) {
+        syntaxErrors = new ArrayList<Diagnostic>();
+        spans = new ArrayList<MemberSpan>();
+        shifted = 0;
+        tokenShift = errorShift = 0;
+        unit = new Parser(scanner, syntaxErrors, spans).compilationUnit();
+    }
+
+    /**
+     * Returns the index of the specified member (the very object) in the
+     * specified members.
+     *
+     * @param members
+     *            the members.
+     * @param member
+     *            the member.
+     * @return the index; -1 if it is not there.
+     */
+
+    private static int indexOf(ArrayList<JMember> members, JMember member) {
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i) == member) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -9,12 +9,37 @@ package jminusminus;
 
 abstract class JAST {
 
-    /** Current compilation unit (set in JCompilationUnit()). */
-    public static JCompilationUnit compilationUnit;
+    /**
+     * Current compilation unit (set in JCompilationUnit()); one per thread, so
+     * that units may be compiled in parallel.
+     */
+    private static ThreadLocal<JCompilationUnit> compilationUnit = 
+        new ThreadLocal<JCompilationUnit>();
 
     /** Line in which the source for the AST was found. */
     protected int line;
 
+    /**
+     * Returns the compilation unit currently being compiled by this thread.
+     * 
+     * @return the current compilation unit.
+     */
+
+    public static JCompilationUnit compilationUnit() {
+        return compilationUnit.get();
+    }
+
+    /**
+     * Sets the compilation unit currently being compiled by this thread.
+     * 
+     * @param unit
+     *            the current compilation unit.
+     */
+
+    static void compilationUnit(JCompilationUnit unit) {
+        compilationUnit.set(unit);
+    }
+
     /**
      * Constructs an AST node the given its line number in the source file.
      * 
@@ -24,6 +49,7 @@ abstract class JAST {
 
     protected JAST(int line) {
         this.line = line;
+        Stats.count(Stats.Counter.AST_NODES, 1);
     }
 
     /**
@@ -47,21 +73,6 @@ abstract class JAST {
 
     public abstract JAST analyze(Context context);
 
-    /**
-     * Generates a partial class for this type, reflecting only the member
-     * information required to do analysis.
-     * 
-     * @param context
-     *            the parent (class) context.
-     * @param partial
-     *            the code emitter (basically an abstraction for producing the
-     *            partial class).
-     */
-
-    public void partialCodegen(Context context, CLEmitter partial) {
-        // A dummy -- redefined where necessary.
-    }
-
     /**
      * Performs code generation for this AST.
      * 
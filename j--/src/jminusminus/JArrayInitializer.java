@@ -48,7 +48,7 @@ class JArrayInitializer extends JExpression {
     public JExpression analyze(Context context) {
         type = type.resolve(context);
         if (!type.isArray()) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                 "Cannot initialize a " + type.toString()
                     + " with an array sequence {...}");
             return this; // un-analyzed
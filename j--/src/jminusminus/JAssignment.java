@@ -57,7 +57,9 @@ class JAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
+            return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
         }
@@ -66,7 +68,7 @@ class JAssign extends JAssignment {
         type = rhs.type();
         if (lhs instanceof JVariable) {
             IDefn defn = ((JVariable) lhs).iDefn();
-            if (defn != null) {
+            if (defn instanceof LocalVariableDefn) {
                 // Local variable; consider it to be initialized now.
                 ((LocalVariableDefn) defn).initialize();
             }
@@ -127,7 +129,8 @@ class JPlusAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -143,7 +146,8 @@ class JPlusAssign extends JAssignment {
             rhs = (new JStringConcatenationOp(line, lhs, rhs)).analyze(context);
             type = Type.STRING;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for +=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for +=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -206,7 +210,8 @@ class JMinusAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -219,7 +224,8 @@ class JMinusAssign extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.DOUBLE);
             type = Type.DOUBLE;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for -=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for -=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -278,7 +284,8 @@ class JStarAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -292,7 +299,8 @@ class JStarAssign extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.DOUBLE);
             type = Type.DOUBLE;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for *=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for *=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -351,7 +359,8 @@ class JDivAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -365,7 +374,8 @@ class JDivAssign extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.DOUBLE);
             type = Type.DOUBLE;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for /=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for /=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -418,7 +428,8 @@ class JModAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -428,7 +439,8 @@ class JModAssign extends JAssignment {
             rhs.type.mustMatchExpected(line, Type.INT);
             type = Type.INT;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for %=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for %%=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -471,7 +483,8 @@ class JShiftRAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -481,7 +494,8 @@ class JShiftRAssign extends JAssignment {
             rhs.type.mustMatchExpected(line, Type.INT);
             type = Type.INT;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for >>=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for >>=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -524,7 +538,8 @@ class JUshiftRAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -534,7 +549,8 @@ class JUshiftRAssign extends JAssignment {
             rhs.type.mustMatchExpected(line, Type.INT);
             type = Type.INT;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for >>>=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for >>>=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -577,7 +593,8 @@ class JShiftLAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -587,7 +604,8 @@ class JShiftLAssign extends JAssignment {
             rhs.type.mustMatchExpected(line, Type.INT);
             type = Type.INT;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for <<=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for <<=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -630,7 +648,8 @@ class JBitAndAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -640,7 +659,8 @@ class JBitAndAssign extends JAssignment {
             rhs.type.mustMatchExpected(line, Type.INT);
             type = Type.INT;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for &=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for &=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -683,7 +703,8 @@ class JBitOrAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -693,7 +714,8 @@ class JBitOrAssign extends JAssignment {
             rhs.type.mustMatchExpected(line, Type.INT);
             type = Type.INT;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for |=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for |=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -736,7 +758,8 @@ class JXorAssign extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
+            type = Type.ANY;
             return this;
         } else {
             lhs = ((JLhs) lhs).analyzeLhs(context);
@@ -746,7 +769,8 @@ class JXorAssign extends JAssignment {
             rhs.type.mustMatchExpected(line, Type.INT);
             type = Type.INT;
         }else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for ^=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for ^=: " + lhs.type());
+            type = Type.ANY;
         }
         return this;
     }
@@ -111,7 +111,7 @@ class JPlusOp extends JBinaryExpression {
             type = Type.DOUBLE;
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid operand types for +");
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid operand types for +");
         }
         return this;
     }
@@ -47,8 +47,11 @@ class JBlock extends JStatement {
 
     /**
      * Analyzing a block consists of creating a new nested context for that
-     * block and analyzing each of its statements within that context.
-     * 
+     * block and analyzing each of its statements within that context, up to
+     * the first wild statement (one having a syntax error), if any: the
+     * statements following it might refer to a variable it would have
+     * declared, so they are not analyzed.
+     *
      * @param context
      *            context in which names are resolved.
      * @return the analyzed (and possibly rewritten) AST subtree.
@@ -59,7 +62,11 @@ class JBlock extends JStatement {
         this.context = new LocalContext(context);
 
         for (int i = 0; i < statements.size(); i++) {
-            statements.set(i, (JStatement) statements.get(i).analyze(this.context));
+            JStatement statement = statements.get(i);
+            statements.set(i, (JStatement) statement.analyze(this.context));
+            if (statement instanceof JWildStatement) {
+                break;
+            }
         }
         return this;
     }
@@ -23,7 +23,7 @@ public class JCatchClause extends JAST implements JMember {
     }
 
     @Override
-    public void preAnalyze(Context context, CLEmitter partial) {
+    public void preAnalyze(Context context, CLSymbol symbol) {
         // TODO: PREANALYZE
     }
 
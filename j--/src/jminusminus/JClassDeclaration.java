@@ -125,10 +125,11 @@ class JClassDeclaration extends JAST implements JTypeDecl, JMember {
      */
 
     public void declareThisType(Context context) {
-        String qualifiedName = JAST.compilationUnit.packageName().equals("") ? name : JAST.compilationUnit.packageName() + "/" + name;
-        CLEmitter partial = new CLEmitter(false);
-        partial.addClass(mods, qualifiedName, Type.OBJECT.jvmName(), null, false); // Object for superClass, just for now
-        thisType = Type.typeFor(partial.toClass());
+        String qualifiedName = JAST.compilationUnit().packageName().equals("") ? name : JAST.compilationUnit().packageName() + "/" + name;
+        CLSymbolTable classSymbols = Session.current().classSymbols();
+        CLSymbol symbol = new CLSymbol(classSymbols, qualifiedName, CLSymbol.accessFlags(mods), Type.OBJECT.jvmName()); // Object for superClass, just for now
+        classSymbols.declare(symbol);
+        thisType = symbol.type();
         context.addType(line, thisType);
     }
 
@@ -137,7 +138,7 @@ class JClassDeclaration extends JAST implements JTypeDecl, JMember {
      * interface
      */
     @Override
-    public void preAnalyze(Context context, CLEmitter partial) {
+    public void preAnalyze(Context context, CLSymbol symbol) {
         // TODO Auto-generated method stub
     }
 
@@ -160,30 +161,29 @@ class JClassDeclaration extends JAST implements JTypeDecl, JMember {
         // Resolve superclass
         superType = superType.resolve(this.context);
 
-        // Creating a partial class in memory can result in a
-        // java.lang.VerifyError if the semantics below are
-        // violated, so we can't defer these checks to analyze()
+        // The super class is checked here, before it is recorded
+        // as that of this type
         thisType.checkAccess(line, superType);
         if (superType.isFinal()) {
-            JAST.compilationUnit.reportSemanticError(line, "Cannot extend a final type: %s", superType.toString());
+            JAST.compilationUnit().reportSemanticError(line, "Cannot extend a final type: %s", superType.toString());
         }
 
-        // Create the (partial) class
-        CLEmitter partial = new CLEmitter(false);
-
-        // Add the class header to the partial class
-        String qualifiedName = JAST.compilationUnit.packageName().equals("") ? name : JAST.compilationUnit.packageName() + "/" + name;
-        partial.addClass(mods, qualifiedName, superType.jvmName(), null, false);
+        // Record the super class of this type, unless it could not be
+        // resolved (Object standing for it then)
+        CLSymbol symbol = thisType.symbol();
+        if (superType != Type.ANY) {
+            symbol.superName(superType.jvmName());
+        }
 
-        // Pre-analyze the members and add them to the partial
-        // class
+        // Pre-analyze the members and add their headers to this
+        // type
         for (JMember member : classBlock) {
             if (member instanceof JTypeDecl) {
-                JAST.compilationUnit.reportSemanticError(line, "Nested classes and interfaces not supported");
+                JAST.compilationUnit().reportSemanticError(line, "Nested classes and interfaces not supported");
                 return;
             }
 
-            member.preAnalyze(this.context, partial);
+            member.preAnalyze(this.context, symbol);
 
             if (member instanceof JConstructorDeclaration && ((JConstructorDeclaration) member).params.size() == 0) {
                 hasExplicitConstructor = true;
@@ -192,14 +192,7 @@ class JClassDeclaration extends JAST implements JTypeDecl, JMember {
 
         // Add the implicit empty constructor?
         if (!hasExplicitConstructor) {
-            codegenPartialImplicitConstructor(partial);
-        }
-
-        // Get the Class rep for the (partial) class and make it
-        // the representation for this type
-        Type id = this.context.lookupType(name);
-        if (id != null && !JAST.compilationUnit.errorHasOccurred()) {
-            id.setClassRep(partial.toClass());
+            symbol.addMethod(ACC_PUBLIC, "<init>", "()V");
         }
     }
 
@@ -238,7 +231,7 @@ class JClassDeclaration extends JAST implements JTypeDecl, JMember {
             for (Method method : thisType.abstractMethods()) {
                 methods += "\n" + method;
             }
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Class must be declared abstract since it defines "
                             + "the following abstract methods: %s", methods);
 
@@ -256,8 +249,8 @@ class JClassDeclaration extends JAST implements JTypeDecl, JMember {
 
     public void codegen(CLEmitter output) {
         // The class header
-        String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-                : JAST.compilationUnit.packageName() + "/" + name;
+        String qualifiedName = JAST.compilationUnit().packageName() == "" ? name
+                : JAST.compilationUnit().packageName() + "/" + name;
         output.addClass(mods, qualifiedName, superType.jvmName(), null, false);
 
         // The implicit empty constructor?
@@ -319,28 +312,6 @@ class JClassDeclaration extends JAST implements JTypeDecl, JMember {
         p.println("</JClassDeclaration>");
     }
 
-    /**
-     * Generates code for an implicit empty constructor. (Necessary only if there
-     * is not already an explicit one.)
-     * 
-     * @param partial
-     *            the code emitter (basically an abstraction for producing a
-     *            Java class).
-     */
-
-    private void codegenPartialImplicitConstructor(CLEmitter partial) {
-        // Invoke super constructor
-        ArrayList<String> mods = new ArrayList<String>();
-        mods.add("public");
-        partial.addMethod(mods, "<init>", "()V", null, false);
-        partial.addNoArgInstruction(ALOAD_0);
-        partial.addMemberAccessInstruction(INVOKESPECIAL, superType.jvmName(),
-                "<init>", "()V");
-
-        // Return
-        partial.addNoArgInstruction(RETURN);
-    }
-
     /**
      * Generates code for an implicit empty constructor. (Necessary only if there
      * is not already an explicit one.
@@ -3,6 +3,9 @@
 package jminusminus;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.TreeSet;
 
 /**
  * The abstract syntax tree (AST) node representing a compilation unit, and so
@@ -20,9 +23,9 @@ import java.util.ArrayList;
  *   <li>Method {@code preAnalyze} is invoked for making a first pass at type 
  *       analysis, recursively reaching down to the member headers for declaring
  *       types and member interfaces in the environment (contexts). 
- *       {@code preAnalyze} also creates a partial class file (in memory) for 
- *       recording member header information, using the {@code partialCodegen} 
- *       method.</li>
+ *       {@code preAnalyze} also records the member header information of 
+ *       each declared type, in the {@link CLSymbol} representing the type 
+ *       (in memory) for the rest of the compilation.</li>
  * 
  *   <li>Method {@code analyze} is invoked for type-checking field 
  *       initializations and method bodies, and determining the types of all 
@@ -65,9 +68,24 @@ class JCompilationUnit extends JAST {
     /** For imports and type declarations. */
     private CompilationUnitContext context;
 
+    /** The types declared in this unit, once they are declared. */
+    private ArrayList<Type> declaredTypes;
+
     /** Whether a semantic error has been found. */
     private boolean isInError;
 
+    /** Whether the unit was parsed from a source having syntax errors. */
+    private boolean isPartial;
+
+    /**
+     * Internal names of the session types this unit refers to, from the
+     * pre-analysis of its types on.
+     */
+    private TreeSet<String> dependencies;
+
+    /** Whether the references to session types are being recorded. */
+    private boolean isRecordingDependencies;
+
     /**
      * Constructs an AST node for a compilation unit given a file name, class
      * directory, line number, package name, list of imports, and type
@@ -93,7 +111,8 @@ class JCompilationUnit extends JAST {
         this.imports = imports;
         this.typeDeclarations = typeDeclarations;
         clFiles = new ArrayList<CLFile>();
-        compilationUnit = this;
+        dependencies = new TreeSet<String>();
+        compilationUnit(this);
     }
 
     /**
@@ -118,6 +137,32 @@ class JCompilationUnit extends JAST {
         return isInError;
     }
 
+    /**
+     * Marks this compilation unit as partial, or not: parsed from a source
+     * having syntax errors, with the statements in error replaced by wild ones
+     * and the members in error left out. A partial unit is pre-analyzed and
+     * analyzed, so that the semantic errors in the rest of it are reported
+     * along with the syntax errors, but no code is generated for it.
+     * 
+     * @param isPartial
+     *            whether the unit is partial.
+     */
+
+    public void partial(boolean isPartial) {
+        this.isPartial = isPartial;
+    }
+
+    /**
+     * Is this compilation unit partial (parsed from a source having syntax
+     * errors)?
+     * 
+     * @return {@code true} if it is partial; {@code false} otherwise.
+     */
+
+    public boolean isPartial() {
+        return isPartial;
+    }
+
     /**
      * Reports a semantic error.
      * 
@@ -132,9 +177,50 @@ class JCompilationUnit extends JAST {
     public void reportSemanticError(int line, String message,
             Object... arguments) {
         isInError = true;
-        System.err.printf("%s:%d: ", fileName, line);
-        System.err.printf(message, arguments);
-        System.err.println();
+        Session.report(fileName, line, message, arguments);
+    }
+
+    /**
+     * Records a reference from this unit to the specified type, if it is (or
+     * is an array of) a session type. Such references are only recorded once
+     * the unit's types are being pre-analyzed, so that the session types
+     * merely declared to the unit are not taken as its dependencies.
+     * 
+     * @param type
+     *            the type referred to.
+     */
+
+    public void addDependency(Type type) {
+        if (!isRecordingDependencies) {
+            return;
+        }
+        while (type.isArray()) {
+            type = type.componentType();
+        }
+        if (type.isSessionType()) {
+            dependencies.add(type.jvmName());
+        }
+    }
+
+    /**
+     * Returns the internal names of the session types this unit refers to
+     * (including its own types).
+     * 
+     * @return the dependencies of this unit.
+     */
+
+    public TreeSet<String> dependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Returns the name of the source file.
+     * 
+     * @return the source file name.
+     */
+
+    public String fileName() {
+        return fileName;
     }
 
     /**
@@ -144,37 +230,227 @@ class JCompilationUnit extends JAST {
      */
 
     public void preAnalyze() {
-        context = new CompilationUnitContext();
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        units.add(this);
+        preAnalyze(units);
+    }
+
+    /**
+     * Pre-analyzes the specified compilation units together, as a single
+     * compilation session. Types declared in any of the units are visible to
+     * all of them: those in the same package by their simple names, and the
+     * rest by their fully qualified names (or simple names, if imported). The
+     * types are declared in the class table of the current {@link Session},
+     * where the units look them up, and units are pre-analyzed in an order where the declaring unit of a
+     * super type comes before the units that extend it. The units' types are
+     * declared and imported in parallel if the session allows it.
+     * 
+     * @param units
+     *            the compilation units making up the session.
+     */
+
+    public static void preAnalyze(final ArrayList<JCompilationUnit> units) {
+        Session session = Session.current();
+
+        // Declare the locally declared type(s) of every unit
+        session.forEach(units.size(), new Session.Task() {
+            public void run(int i) {
+                Stats.start(units.get(i).fileName(), Stats.Phase.PRE_ANALYZE);
+                try {
+                    units.get(i).declareTypes();
+                } finally {
+                    Stats.stop();
+                }
+            }
+        });
+
+        // Declare implicit and imported types
+        session.forEach(units.size(), new Session.Task() {
+            public void run(int i) {
+                Stats.start(units.get(i).fileName(), Stats.Phase.PRE_ANALYZE);
+                try {
+                    units.get(i).importTypes();
+                } finally {
+                    Stats.stop();
+                }
+            }
+        });
+
+        // Pre-analyze the locally declared type(s), recording
+        // only the member interface type information. This is
+        // done sequentially, since super classes must be
+        // pre-analyzed before their subclasses
+        HashMap<Type, JCompilationUnit> declaringUnits =
+            new HashMap<Type, JCompilationUnit>();
+        for (JCompilationUnit unit : units) {
+            for (Type type : unit.declaredTypes()) {
+                declaringUnits.put(type, unit);
+            }
+        }
+        ArrayList<JCompilationUnit> ordered = new ArrayList<JCompilationUnit>();
+        HashSet<JCompilationUnit> visited = new HashSet<JCompilationUnit>();
+        for (JCompilationUnit unit : units) {
+            unit.orderBySuperTypes(declaringUnits, ordered, visited);
+        }
+        for (JCompilationUnit unit : ordered) {
+            Stats.start(unit.fileName(), Stats.Phase.PRE_ANALYZE);
+            try {
+                unit.preAnalyzeTypes();
+            } finally {
+                Stats.stop();
+            }
+        }
+    }
+
+    /**
+     * Constructs the context for this compilation unit and declares the
+     * locally declared type(s) in it.
+     */
+
+    private void declareTypes() {
+        compilationUnit(this);
+        context = new CompilationUnitContext(Session.current().classSymbols(),
+                packageName());
+        declaredTypes = new ArrayList<Type>();
+        for (JAST typeDeclaration : typeDeclarations) {
+            JTypeDecl typeDecl = (JTypeDecl) typeDeclaration;
+            typeDecl.declareThisType(context);
+            if (typeDecl.thisType() != null) {
+                declaredTypes.add(typeDecl.thisType());
+            }
+        }
+    }
+
+    /**
+     * Declares the implicit types and the imported types in this unit's
+     * context. The types declared by the other units in the session, and
+     * those compiled by an earlier session, are not declared in it: they are
+     * looked up in the session's table, where they are declared (see
+     * {@link CompilationUnitContext#sessionType(String)}).
+     */
+
+    private void importTypes() {
+        compilationUnit(this);
 
         // Declare the two implicit types java.lang.Object and
         // java.lang.String
         context.addType(0, Type.OBJECT);
         context.addType(0, Type.STRING);
 
-        // Declare any imported types
+        // Declare any imported types; types declared in the session
+        // take precedence over the ones found on the class path
+        CLSymbolTable classSymbols = Session.current().classSymbols();
         for (TypeName imported : imports) {
-            try {
-                Class<?> classRep = Class.forName(imported.toString());
-                context.addType(imported.line(), Type.typeFor(classRep));
-            } catch (Exception e) {
-                JAST.compilationUnit.reportSemanticError(imported.line(),
+            CLSymbol declared = classSymbols.declared(imported.jvmName());
+            if (declared != null) {
+                Type sessionType = declared.type();
+                if (sessionType != context.lookupType(sessionType
+                        .simpleName())) {
+                    context.addType(imported.line(), sessionType);
+                }
+                continue;
+            }
+            Type type = Type.typeFor(classSymbols, imported.jvmName());
+            if (type != null) {
+                context.addType(imported.line(), type);
+            } else {
+                JAST.compilationUnit().reportSemanticError(imported.line(),
                         "Unable to find %s", imported.toString());
             }
         }
+    }
+
+    /**
+     * Pre-analyzes the locally declared type(s) of this unit.
+     */
+
+    private void preAnalyzeTypes() {
+        compilationUnit(this);
+        isRecordingDependencies = true;
+        for (JAST typeDeclaration : typeDeclarations) {
+            ((JTypeDecl) typeDeclaration).preAnalyze(context);
+        }
+    }
+
+    /**
+     * Returns the types declared in this compilation unit, as declared in its
+     * pre-analysis.
+     * 
+     * @return the declared types.
+     */
+
+    ArrayList<Type> declaredTypes() {
+        return declaredTypes;
+    }
 
-        // Declare the locally declared type(s)
-        CLEmitter.initializeByteClassLoader();
+    /**
+     * Returns the internal names of the (direct) super types of the types
+     * declared in this compilation unit that are session types.
+     * 
+     * @return the super types.
+     */
+
+    TreeSet<String> superTypes() {
+        compilationUnit(this);
+        TreeSet<String> superTypes = new TreeSet<String>();
         for (JAST typeDeclaration : typeDeclarations) {
-            ((JTypeDecl) typeDeclaration).declareThisType(context);
+            ArrayList<Type> types = new ArrayList<Type>();
+            if (typeDeclaration instanceof JInterfaceDeclaration) {
+                types.addAll(((JInterfaceDeclaration) typeDeclaration)
+                        .superClasses());
+            } else if (((JTypeDecl) typeDeclaration).superType() != null) {
+                types.add(((JTypeDecl) typeDeclaration).superType());
+            }
+            for (Type superType : types) {
+                Type type = context.lookupType(superType.toString());
+                if (type != null && type.isSessionType()) {
+                    superTypes.add(type.jvmName());
+                }
+            }
         }
+        return superTypes;
+    }
+
+    /**
+     * Appends this unit to the specified list after the units declaring its
+     * (direct) super types, since a type's super type must be pre-analyzed
+     * (and so know its own super type and members) before the type is.
+     * 
+     * @param declaringUnits
+     *            the unit declaring each type of the session.
+     * @param ordered
+     *            the units ordered so far.
+     * @param visited
+     *            the units appended to the list, or being appended to it.
+     */
 
-        // Pre-analyze the locally declared type(s). Generate
-        // (partial) Class instances, reflecting only the member
-        // interface type information
-        CLEmitter.initializeByteClassLoader();
+    private void orderBySuperTypes(
+            HashMap<Type, JCompilationUnit> declaringUnits,
+            ArrayList<JCompilationUnit> ordered,
+            HashSet<JCompilationUnit> visited) {
+        if (!visited.add(this)) {
+            return;
+        }
         for (JAST typeDeclaration : typeDeclarations) {
-            ((JTypeDecl) typeDeclaration).preAnalyze(context);
+            ArrayList<Type> superTypes = new ArrayList<Type>();
+            if (typeDeclaration instanceof JInterfaceDeclaration) {
+                superTypes.addAll(((JInterfaceDeclaration) typeDeclaration)
+                        .superClasses());
+            } else if (((JTypeDecl) typeDeclaration).superType() != null) {
+                superTypes.add(((JTypeDecl) typeDeclaration).superType());
+            }
+            for (Type superType : superTypes) {
+                Type type = context.lookupType(superType.toString());
+                JCompilationUnit unit = type == null ? null : declaringUnits
+                        .get(type);
+                if (unit != null) {
+                    unit.orderBySuperTypes(declaringUnits, ordered, visited);
+                }
+            }
         }
+
+        // This unit comes after the ones it depends on
+        ordered.add(this);
     }
 
     /**
@@ -186,6 +462,7 @@ class JCompilationUnit extends JAST {
      */
 
     public JAST analyze(Context context) {
+        compilationUnit(this);
         for (JAST typeDeclaration : typeDeclarations) {
             typeDeclaration.analyze(this.context);
         }
@@ -202,9 +479,15 @@ class JCompilationUnit extends JAST {
      */
 
     public void codegen(CLEmitter output) {
+        compilationUnit(this);
         for (JAST typeDeclaration : typeDeclarations) {
             typeDeclaration.codegen(output);
-            output.write();
+            Stats.start(fileName, Stats.Phase.WRITE);
+            try {
+                output.write();
+            } finally {
+                Stats.stop();
+            }
             clFiles.add(output.clFile());
         }
     }
@@ -44,18 +44,17 @@ class JConstructorDeclaration extends JMethodDeclaration implements JMember {
      * 
      * @param context
      *            the parent (class) context.
-     * @param partial
-     *            the code emitter (basically an abstraction for producing the
-     *            partial class).
+     * @param symbol
+     *            the declaring type, whose headers are being recorded.
      */
 
-    public void preAnalyze(Context context, CLEmitter partial) {
-        super.preAnalyze(context, partial);
+    public void preAnalyze(Context context, CLSymbol symbol) {
+        super.preAnalyze(context, symbol);
         if (isStatic) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Constructor cannot be declared static");
         } else if (isAbstract) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Constructor cannot be declared abstract");
         }
 
@@ -80,7 +79,7 @@ class JConstructorDeclaration extends JMethodDeclaration implements JMember {
                 Type type = typeName.resolve(context);
 
                 if(type != Type.ANY && !Type.THROWABLE.isJavaAssignableFrom(type)){
-                    JAST.compilationUnit.reportSemanticError(line, "Throw type must be of type THROWABLE: \"%s\"", 
+                    JAST.compilationUnit().reportSemanticError(line, "Throw type must be of type THROWABLE: \"%s\"", 
                             type.toString());
                 }
             }
@@ -124,24 +123,14 @@ class JConstructorDeclaration extends JMethodDeclaration implements JMember {
     }
 
     /**
-     * Adds this constructor declaration to the partial class.
+     * Adds the header of this constructor declaration to the declaring type.
      * 
-     * @param context
-     *            the parent (class) context.
-     * @param partial
-     *            the code emitter (basically an abstraction for producing the
-     *            partial class).
+     * @param symbol
+     *            the declaring type.
      */
 
-    public void partialCodegen(Context context, CLEmitter partial) {
-        partial.addMethod(mods, "<init>", descriptor, null, false);
-        if (!invokesConstructor) {
-            partial.addNoArgInstruction(ALOAD_0);
-            partial.addMemberAccessInstruction(INVOKESPECIAL,
-                    ((JTypeDecl) context.classContext().definition())
-                            .superType().jvmName(), "<init>", "()V");
-        }
-        partial.addNoArgInstruction(RETURN);
+    protected void declareHeader(CLSymbol symbol) {
+        symbol.addMethod(CLSymbol.accessFlags(mods), "<init>", descriptor);
     }
 
     /**
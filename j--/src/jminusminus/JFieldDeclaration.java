@@ -51,26 +51,26 @@ class JFieldDeclaration extends JAST implements JMember {
     }
 
     /**
-     * Declares fields in the parent's (partial) class.
+     * Declares fields in the parent's type.
      * 
      * @param context
      *            the parent (class) context.
-     * @param partial
-     *            the code emitter (basically an abstraction for producing the
-     *            partial class).
+     * @param symbol
+     *            the declaring type, whose headers are being recorded.
      */
 
-    public void preAnalyze(Context context, CLEmitter partial) {
+    public void preAnalyze(Context context, CLSymbol symbol) {
         // Fields may not be declared abstract.
         if (mods.contains("abstract")) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Field cannot be declared abstract");
         }
 
         for (JVariableDeclarator decl : decls) {
-            // Add field to (partial) class
+            // Add field to the declaring type
             decl.setType(decl.type().resolve(context));
-            partial.addField(mods, decl.name(), decl.type().toDescriptor(), false);
+            symbol.addField(CLSymbol.accessFlags(mods), decl.name(), decl
+                    .type().toDescriptor());
         }
     }
 
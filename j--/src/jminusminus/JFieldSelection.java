@@ -78,10 +78,15 @@ class JFieldSelection extends JExpression implements JLhs {
                     target = expr;
                 else {
                     // Can't even happen syntactically
-                    JAST.compilationUnit.reportSemanticError(line(), "Badly formed suffix");
+                    JAST.compilationUnit().reportSemanticError(line(), "Badly formed suffix");
                 }
             }
         }
+        if (target == null) {
+            // The ambiguous part could not be reclassified (reported)
+            type = Type.ANY;
+            return this;
+        }
         target = (JExpression) target.analyze(context);
         Type targetType = target.type();
 
@@ -92,13 +97,13 @@ class JFieldSelection extends JExpression implements JLhs {
             // Other than that, targetType has to be a
             // ReferenceType
             if (targetType.isPrimitive()) {
-                JAST.compilationUnit.reportSemanticError(line(), "Target of a field selection must " + "be a defined type");
+                JAST.compilationUnit().reportSemanticError(line(), "Target of a field selection must " + "be a defined type");
                 type = Type.ANY;
                 return this;
             }
             field = targetType.fieldFor(fieldName);
             if (field == null) {
-                JAST.compilationUnit.reportSemanticError(line(), "Cannot find a field: " + fieldName);
+                JAST.compilationUnit().reportSemanticError(line(), "Cannot find a field: " + fieldName);
                 type = Type.ANY;
             } else {
                 context.definingType().checkAccess(line, field);
@@ -108,7 +113,7 @@ class JFieldSelection extends JExpression implements JLhs {
                 if (!field.isStatic()) {
                     if (target instanceof JVariable && 
                        ((JVariable) target).iDefn() instanceof TypeNameDefn) {
-                        JAST.compilationUnit.reportSemanticError(line(),
+                        JAST.compilationUnit().reportSemanticError(line(),
                                     "Non-static field " + fieldName +
                                 " cannot be referenced from a static context");
                     }
@@ -130,8 +135,8 @@ class JFieldSelection extends JExpression implements JLhs {
 
     public JExpression analyzeLhs(Context context) {
         JExpression result = analyze(context);
-        if (field.isFinal()) {
-            JAST.compilationUnit.reportSemanticError(line, "The field "
+        if (field != null && field.isFinal()) {
+            JAST.compilationUnit().reportSemanticError(line, "The field "
                     + fieldName + " in type " + target.type.toString()
                     + " is declared final.");
         }
@@ -17,7 +17,7 @@ public class JFinallyBlock extends JAST implements JMember {
     }
 
     @Override
-    public void preAnalyze(Context context, CLEmitter partial) {
+    public void preAnalyze(Context context, CLSymbol symbol) {
         // do nothing
     }
 
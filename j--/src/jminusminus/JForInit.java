@@ -46,7 +46,7 @@ public class JForInit {
                 // First, check for shadowing
                 IDefn previousDefn = context.lookup(decl.name());
                 if (previousDefn instanceof LocalVariableDefn) {
-                    JAST.compilationUnit.reportSemanticError(decl.line(), "The name " + decl.name() + " overshadows another local variable.");
+                    JAST.compilationUnit().reportSemanticError(decl.line(), "The name " + decl.name() + " overshadows another local variable.");
                 }
     
                 // Then declare it in the local context
@@ -26,7 +26,7 @@ public class JForeachStatement extends JStatement {
         expression.analyze(lContext);
 
         if (!Type.ITERABLE.isJavaAssignableFrom(expression.type()) && !expression.type().isArray()) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Local variable must be of type array or iterable: \"%s\"", expression.type().toString());
         }
 
@@ -35,7 +35,7 @@ public class JForeachStatement extends JStatement {
         // First, check for shadowing
         IDefn previousDefn = context.lookup(parameter.name());
         if (previousDefn instanceof LocalVariableDefn) {
-            JAST.compilationUnit.reportSemanticError(parameter.line(), "The name " + parameter.name() + " overshadows another local variable.");
+            JAST.compilationUnit().reportSemanticError(parameter.line(), "The name " + parameter.name() + " overshadows another local variable.");
         }
 
         // All initializations must be turned into assignment statements and analyzed
@@ -18,7 +18,7 @@ public class JInitBlock extends JBlock implements JMember {
     }
 
     @Override
-    public void preAnalyze(Context context, CLEmitter partial) {
+    public void preAnalyze(Context context, CLSymbol symbol) {
         // TODO Auto-generated method stub
 
     }
@@ -35,7 +35,8 @@ public class JInitBlock extends JBlock implements JMember {
 
     /**
      * Analyzing a block consists of creating a new nested context for that
-     * block and analyzing each of its statements within that context.
+     * block and analyzing each of its statements within that context, up to
+     * the first wild statement, if any (as for a {@link JBlock}).
      * 
      * @param context
      *                context in which names are resolved.
@@ -47,8 +48,11 @@ public class JInitBlock extends JBlock implements JMember {
         this.context = new LocalContext(context);
 
         for (int i = 0; i < statements.size(); i++) {
-            statements.set(i, (JStatement) statements.get(i).analyze(
-                    this.context));
+            JStatement statement = statements.get(i);
+            statements.set(i, (JStatement) statement.analyze(this.context));
+            if (statement instanceof JWildStatement) {
+                break;
+            }
         }
         return this;
     }
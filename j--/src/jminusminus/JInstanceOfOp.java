@@ -53,17 +53,17 @@ class JInstanceOfOp extends JExpression {
         expr = (JExpression) expr.analyze(context);
         typeSpec = typeSpec.resolve(context);
         if (!typeSpec.isReference()) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                 "Type argument to instanceof "
                     + "operator must be a reference type");
         } else if (!(expr.type() == Type.NULLTYPE
             || expr.type() == Type.ANY || expr.type().isReference())) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                 "operand to instanceof "
                     + "operator must be a reference type");
         } else if (expr.type().isReference()
             && !typeSpec.isJavaAssignableFrom(expr.type())) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                 "It is impossible for the expression "
                     + "to be an instance of this type");
         }
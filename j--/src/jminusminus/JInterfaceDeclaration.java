@@ -67,18 +67,24 @@ public class JInterfaceDeclaration extends JAST implements JTypeDecl, JMember {
 	}
 
 	public void declareThisType(Context context) {
-		String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-				: JAST.compilationUnit.packageName() + "/" + name;
-		CLEmitter partial = new CLEmitter(false);
-		partial.addClass(mods, qualifiedName, Type.NULLTYPE.jvmName(), null, 
-				false); // Object for superClass, just for now
-		type = Type.typeFor(partial.toClass());
+		//Add implicit abstract modifier
+		if (!mods.contains("abstract")) {
+			mods.add("abstract");
+		}
+
+		String qualifiedName = JAST.compilationUnit().packageName() == "" ? name
+				: JAST.compilationUnit().packageName() + "/" + name;
+		CLSymbolTable classSymbols = Session.current().classSymbols();
+		CLSymbol symbol = new CLSymbol(classSymbols, qualifiedName,
+				CLSymbol.accessFlags(mods), Type.OBJECT.jvmName());
+		classSymbols.declare(symbol);
+		type = symbol.type();
 		context.addType(line, type);
 	}
 
 	/** This is the pre analyze of a JMember meaning that the interface is the inner interface */
 	@Override
-	public void preAnalyze(Context context, CLEmitter partial) {
+	public void preAnalyze(Context context, CLSymbol symbol) {
 		// TODO Auto-generated method stub
 
 		// TODO: Analyze inner interfaces.
@@ -88,46 +94,24 @@ public class JInterfaceDeclaration extends JAST implements JTypeDecl, JMember {
 	public void preAnalyze(Context context) {
 		// Construct a class context
 		this.context = new InterfaceContext(this, context);
-		
-		//Add implicit abstract modifier
-		if (!mods.contains("abstract")) {
-			mods.add("abstract");
-		}
 
+		// Record the super interfaces of this type
+		CLSymbol symbol = type.symbol();
 		for (Type type : superClasses) {
 			type = type.resolve(this.context);
 			type.checkAccess(line, type);
 			if (type.matchesExpected(Type.NULLTYPE) || !type.isInterface()) {
-				JAST.compilationUnit.reportSemanticError(line, "Cannot extend a non interface type: %s",
+				JAST.compilationUnit().reportSemanticError(line, "Cannot extend a non interface type: %s",
 						type.toString());
+			} else {
+				symbol.addInterface(type.jvmName());
 			}
 		}
 
-		// Create the (partial) class
-		CLEmitter partial = new CLEmitter(false);
-
-		// Add the class header to the partial class
-		String superTypesjvmNames = (superClasses.size() > 0) ? "" : "java/lang/Object";
-		for (Type type : superClasses) {
-			superTypesjvmNames = superTypesjvmNames + type.jvmName();
-		}
-
-		String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-				: JAST.compilationUnit.packageName() + "/" + name;
-		partial.addClass(mods, qualifiedName, superTypesjvmNames, null, false);
-
-		// Pre-analyze the members and add them to the partial
-		// class
+		// Pre-analyze the members and add their headers to this
+		// type
 		for (JMember member : block) {
-			member.preAnalyze(this.context, partial);
-		}
-
-		// Get the Class rep for the (partial) class and make it
-		// the
-		// representation for this type
-		Type id = this.context.lookupType(name);
-		if (id != null && !JAST.compilationUnit.errorHasOccurred()) {
-			id.setClassRep(partial.toClass());
+			member.preAnalyze(this.context, symbol);
 		}
 	}
 
@@ -141,7 +125,7 @@ public class JInterfaceDeclaration extends JAST implements JTypeDecl, JMember {
 		for (Type type : superClasses) {
 			superTypesjvmNames = superTypesjvmNames + type.jvmName();
 		}
-		String qualifiedName = JAST.compilationUnit.packageName().equals("") ? name : JAST.compilationUnit.packageName() + "/" + name;
+		String qualifiedName = JAST.compilationUnit().packageName().equals("") ? name : JAST.compilationUnit().packageName() + "/" + name;
 		output.addClass(mods, qualifiedName, superTypesjvmNames, null, false);
 
 		// The members
@@ -9,17 +9,16 @@ package jminusminus;
 interface JMember {
 
     /**
-     * Declares the member name(s) in the specified (class) context. Generates 
-     * the member header(s) in the (partial) class. All members must support 
-     * this method.
+     * Declares the member name(s) in the specified (class) context. Adds the
+     * member header(s) to the declaring type. All members must support this
+     * method.
      * 
      * @param context
      *            class context in which names are resolved.
-     * @param partial
-     *            the code emitter (basically an abstraction for producing the
-     *            partial class).
+     * @param symbol
+     *            the declaring type, whose headers are being recorded.
      */
 
-    public void preAnalyze(Context context, CLEmitter partial);
+    public void preAnalyze(Context context, CLSymbol symbol);
 
 }
@@ -99,7 +99,7 @@ class JMessageExpression extends JExpression {
                     target = expr;
                 } else {
                     // Can't even happen syntactically
-                    JAST.compilationUnit.reportSemanticError(line(),
+                    JAST.compilationUnit().reportSemanticError(line(),
                             "Badly formed suffix");
                 }
             }
@@ -120,7 +120,8 @@ class JMessageExpression extends JExpression {
         // Then analyze the target
         if (target == null) {
             // Implied this (or, implied type for statics)
-            if (!context.methodContext().isStatic()) {
+            if (context.methodContext() == null
+                    || !context.methodContext().isStatic()) {
                 target = new JThis(line()).analyze(context);
             } else {
                 target = new JVariable(line(), context.definingType()
@@ -129,7 +130,7 @@ class JMessageExpression extends JExpression {
         } else {
             target = (JExpression) target.analyze(context);
             if (target.type().isPrimitive()) {
-                JAST.compilationUnit.reportSemanticError(line(),
+                JAST.compilationUnit().reportSemanticError(line(),
                         "cannot invoke a message on a primitive type:"
                                 + target.type());
             }
@@ -139,9 +140,9 @@ class JMessageExpression extends JExpression {
         method = target.type().methodFor(messageName, argTypes);
         if (method == null) {
             try {
-                JAST.compilationUnit.reportSemanticError(line(), "Cannot find method for: " + Type.signatureFor(messageName, argTypes));
+                JAST.compilationUnit().reportSemanticError(line(), "Cannot find method for: " + Type.signatureFor(messageName, argTypes));
             } catch (Exception e) {
-                JAST.compilationUnit.reportSemanticError(line(), "Cannot find method for: " + messageName);
+                JAST.compilationUnit().reportSemanticError(line(), "Cannot find method for: " + messageName);
             }
             type = Type.ANY;
         } else {
@@ -152,7 +153,7 @@ class JMessageExpression extends JExpression {
             if (!method.isStatic()) {
                 if (target instanceof JVariable
                         && ((JVariable) target).iDefn() instanceof TypeNameDefn) {
-                    JAST.compilationUnit
+                    JAST.compilationUnit()
                             .reportSemanticError(
                                     line(),
                                     "Non-static method "
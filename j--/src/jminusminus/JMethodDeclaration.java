@@ -113,11 +113,11 @@ class JMethodDeclaration extends JAST implements JMember {
      * Declares this method in the parent (class) context.
      *
      * @param context the parent (class) context.
-     * @param partial the code emitter (basically an abstraction
-     *                for producing the partial class).
+     * @param symbol  the declaring type, whose headers are being
+     *                recorded.
      */
 
-    public void preAnalyze(Context context, CLEmitter partial) {
+    public void preAnalyze(Context context, CLSymbol symbol) {
         // Interface method Checking 
         if (context instanceof InterfaceContext) {
             if (!isPublic) {
@@ -129,7 +129,7 @@ class JMethodDeclaration extends JAST implements JMember {
                 isAbstract = true;
             }
             if (isStatic || isFinal) {
-                JAST.compilationUnit.reportSemanticError(line,
+                JAST.compilationUnit().reportSemanticError(line,
                         "Interface methods can not be declared static or final!");
             }
         }
@@ -139,7 +139,7 @@ class JMethodDeclaration extends JAST implements JMember {
             for (TypeName typeName : exceptions) {
                 Type type = typeName.resolve(context);
                 if (type != Type.ANY && !Type.THROWABLE.isJavaAssignableFrom(type)) {
-                    JAST.compilationUnit.reportSemanticError(line, "Throw type must be of type Throwable: \"%s\"", type.toString());
+                    JAST.compilationUnit().reportSemanticError(line, "Throw type must be of type Throwable: \"%s\"", type.toString());
                 }
             }
         }
@@ -154,19 +154,19 @@ class JMethodDeclaration extends JAST implements JMember {
 
         // Check proper local use of abstract
         if (isAbstract && body != null) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "abstract method cannot have a body");
         } else if (body == null && !isAbstract && !(context instanceof InterfaceContext)) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Method with null body must be abstract");
         } else if (isAbstract && isPrivate) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "private method cannot be declared abstract");
         } else if (isAbstract && isStatic) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "static method cannot be declared abstract");
         } else if (isStatic && body == null) {
-            JAST.compilationUnit.reportSemanticError(line(), "static method must have a body");
+            JAST.compilationUnit().reportSemanticError(line(), "static method must have a body");
         }
 
         // Compute descriptor
@@ -176,8 +176,8 @@ class JMethodDeclaration extends JAST implements JMember {
         }
         descriptor += ")" + returnType.toDescriptor();
 
-        // Generate the method with an empty body (for now)
-        partialCodegen(context, partial);
+        // Add the method header to the declaring type
+        declareHeader(symbol);
     }
 
     /**
@@ -212,7 +212,7 @@ class JMethodDeclaration extends JAST implements JMember {
         if (body != null) {
             body = body.analyze(this.context);
             if (returnType != Type.VOID && !methodContext.methodHasReturn()) {
-                JAST.compilationUnit.reportSemanticError(line(),
+                JAST.compilationUnit().reportSemanticError(line(),
                         "Non-void method must have a return statement");
             }
         }
@@ -220,33 +220,13 @@ class JMethodDeclaration extends JAST implements JMember {
     }
 
     /**
-     * Adds this method declaration to the partial class.
+     * Adds the header of this method declaration to the declaring type.
      *
-     * @param context the parent (class) context.
-     * @param partial the code emitter (basically an abstraction
-     *                for producing the partial class).
+     * @param symbol the declaring type.
      */
 
-    public void partialCodegen(Context context, CLEmitter partial) {
-        // Generate a method with an empty body; need a return to
-        // make the class verifier happy.
-        partial.addMethod(mods, name, descriptor, null, false);
-
-        // Add implicit RETURN
-        if (returnType == Type.VOID) {
-            partial.addNoArgInstruction(RETURN);
-        } else if (returnType == Type.INT
-                || returnType == Type.BOOLEAN || returnType == Type.CHAR) {
-            partial.addNoArgInstruction(ICONST_0);
-            partial.addNoArgInstruction(IRETURN);
-        } else if (returnType == Type.DOUBLE) {
-            partial.addNoArgInstruction(DCONST_0);
-            partial.addNoArgInstruction(DRETURN);
-        } else {
-            // A reference type.
-            partial.addNoArgInstruction(ACONST_NULL);
-            partial.addNoArgInstruction(ARETURN);
-        }
+    protected void declareHeader(CLSymbol symbol) {
+        symbol.addMethod(CLSymbol.accessFlags(mods), name, descriptor);
     }
 
     /**
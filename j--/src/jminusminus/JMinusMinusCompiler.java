@@ -0,0 +1,210 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A programmatic interface to the j-- compiler (with the hand-written
+ * front-end) that compiles sources held in memory to class bytes held in
+ * memory, without touching the file system: the sources are scanned from
+ * strings, the classes are kept in memory (or written to a {@link CLSink} of
+ * the caller's choosing, a {@link CLJarSink} for example) rather than to
+ * .class files, and the errors are returned as {@link Diagnostic}s rather
+ * than printed. For example,
+ *
+ * <pre>
+ *   Map&lt;String, CharSequence&gt; sources = ...;
+ *   sources.put("Hello.java", "public class Hello { ... }");
+ *   JMinusMinusCompiler.Result result = JMinusMinusCompiler.compile(sources);
+ *   if (result.succeeded()) {
+ *       byte[] hello = result.classes().get("Hello");
+ *       ...
+ *   }
+ * </pre>
+ *
+ * The sources are compiled together, in a {@link Session} of their own, on the
+ * calling thread; so several threads may compile at the same time. The
+ * session and streams of the calling thread are left as they were.
+ */
+
+public class JMinusMinusCompiler {
+
+    /** Stream discarding what the compiler prints. */
+    private static final PrintStream DISCARD = new PrintStream(
+            new OutputStream() {
+                public void write(int b) {
+                }
+
+                public void write(byte[] b, int off, int len) {
+                }
+            });
+
+    /**
+     * The outcome of a compilation: the classes compiled and the errors
+     * reported.
+     */
+
+    public static class Result {
+
+        /** The classes, keyed by their binary names. */
+        private Map<String, byte[]> classes;
+
+        /** The errors. */
+        private List<Diagnostic> diagnostics;
+
+        /**
+         * Constructs a Result.
+         *
+         * @param classes
+         *            the classes.
+         * @param diagnostics
+         *            the errors.
+         */
+
+        private Result(Map<String, byte[]> classes,
+                List<Diagnostic> diagnostics) {
+            this.classes = Collections.unmodifiableMap(classes);
+            this.diagnostics = Collections.unmodifiableList(diagnostics);
+        }
+
+        /**
+         * Returns whether the sources compiled without errors.
+         *
+         * @return {@code true} if they did; {@code false} otherwise.
+         */
+
+        public boolean succeeded() {
+            return diagnostics.isEmpty();
+        }
+
+        /**
+         * Returns the bytes of the classes compiled, keyed by their binary
+         * names (pkg.Outer, for example), in the order of the sources; empty
+         * if an error was reported, or if they were written to a sink.
+         *
+         * @return the classes.
+         */
+
+        public Map<String, byte[]> classes() {
+            return classes;
+        }
+
+        /**
+         * Returns the errors reported, in the order they were reported.
+         *
+         * @return the errors.
+         */
+
+        public List<Diagnostic> diagnostics() {
+            return diagnostics;
+        }
+
+    }
+
+    /**
+     * Compiles the specified sources, keeping the classes in memory.
+     *
+     * @param sources
+     *            the sources, keyed by the names of their files (which are
+     *            only used in the diagnostics).
+     * @return the outcome of the compilation.
+     */
+
+    public static Result compile(Map<String, ? extends CharSequence> sources) {
+        CLMemorySink sink = new CLMemorySink();
+        Result result = compile(sources, sink);
+        return result.succeeded() ? new Result(sink.classes(), result
+                .diagnostics()) : result;
+    }
+
+    /**
+     * Compiles the specified sources, writing the classes to the specified
+     * sink, in the order of the sources. The sink is not closed. No class is
+     * written if an error is reported before code generation.
+     *
+     * @param sources
+     *            the sources, keyed by the names of their files (which are
+     *            only used in the diagnostics).
+     * @param sink
+     *            where to write the classes.
+     * @return the outcome of the compilation.
+     */
+
+    public static Result compile(
+            final Map<String, ? extends CharSequence> sources,
+            final CLSink sink) {
+        final Session session = new Session(1);
+        session.keepDiagnostics();
+        session.run(new Runnable() {
+            public void run() {
+                try {
+                    compileInSession(sources, sink);
+                } catch (RuntimeException e) {
+                    // A failure of the compiler is reported as an error (in
+                    // the unit being compiled, if any) rather than thrown at
+                    // the caller
+                    JCompilationUnit unit = JAST.compilationUnit();
+                    Session.report(unit == null ? null : unit.fileName(), 0,
+                            "Internal compiler error: %s", e);
+                } finally {
+                    session.exit();
+                }
+            }
+        }, DISCARD, DISCARD);
+        return new Result(new LinkedHashMap<String, byte[]>(), session
+                .diagnostics());
+    }
+
+    /**
+     * Compiles the specified sources in the current session, writing the
+     * classes to the specified sink. Stops after the first phase reporting
+     * errors; except that sources having syntax errors are still analyzed
+     * (partially), for the semantic errors in the rest of them.
+     *
+     * @param sources
+     *            the sources, keyed by the names of their files.
+     * @param sink
+     *            where to write the classes.
+     */
+
+    private static void compileInSession(
+            Map<String, ? extends CharSequence> sources, CLSink sink) {
+        boolean errorHasOccurred = false;
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (Map.Entry<String, ? extends CharSequence> source : sources
+                .entrySet()) {
+            Parser parser = new Parser(new LookaheadScanner(source.getKey(),
+                    source.getValue()));
+            JCompilationUnit unit = parser.compilationUnit();
+            if (unit != null) {
+                units.add(unit);
+            }
+        }
+        JCompilationUnit.preAnalyze(units);
+        for (JCompilationUnit unit : units) {
+            errorHasOccurred |= unit.errorHasOccurred();
+        }
+        if (errorHasOccurred) {
+            return;
+        }
+        for (JCompilationUnit unit : units) {
+            unit.analyze(null);
+            errorHasOccurred |= unit.errorHasOccurred() || unit.isPartial();
+        }
+        if (errorHasOccurred) {
+            return;
+        }
+        for (JCompilationUnit unit : units) {
+            unit.codegen(new CLEmitter(sink));
+        }
+    }
+
+}
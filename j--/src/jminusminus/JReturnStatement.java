@@ -44,17 +44,17 @@ class JReturnStatement extends JStatement {
     public JStatement analyze(Context context) {
         MethodContext methodContext = context.methodContext();
 
-        // The methodContext can be null if return statement
-        // occurs in a block that is not within a method.
-        // For example, in the Java grammar, return statement, at least
-        // syntactically, can occur in a static block. But since
-        // j-- does not allow a block to occur outside of a
-        // method, we don't check for methodContext being null
+        // The methodContext is null if return statement
+        // occurs in a block that is not within a method, that is,
+        // in an initialization block.
 
-        if (methodContext.methodReturnType() == Type.CONSTRUCTOR) {
+        if (methodContext == null) {
+            JAST.compilationUnit().reportSemanticError(line(),
+                    "return outside method");
+        } else if (methodContext.methodReturnType() == Type.CONSTRUCTOR) {
             if (expr != null) {
                 // Can't return a value from a constructor
-                JAST.compilationUnit.reportSemanticError(line(),
+                JAST.compilationUnit().reportSemanticError(line(),
                         "cannot return a value from a constructor");
             }
         } else {
@@ -64,7 +64,7 @@ class JReturnStatement extends JStatement {
             if (expr != null) {
                 if (returnType == Type.VOID) {
                     // Can't return a value from void method
-                    JAST.compilationUnit.reportSemanticError(line(),
+                    JAST.compilationUnit().reportSemanticError(line(),
                             "cannot return a value from a void method");
                 } else {
                     // There's a (non-void) return expression.
@@ -75,7 +75,7 @@ class JReturnStatement extends JStatement {
             } else {
                 // The method better have void as return type
                 if (returnType != Type.VOID) {
-                    JAST.compilationUnit.reportSemanticError(line(),
+                    JAST.compilationUnit().reportSemanticError(line(),
                             "missing return value");
                 }
             }
@@ -32,7 +32,7 @@ class JThrowStatement extends JStatement {
         Type typ = expression.type();
 
         if (!Type.THROWABLE.isJavaAssignableFrom(typ)) {
-            JAST.compilationUnit.reportSemanticError(line, "Throw type must be of type Throwable: \"%s\"", typ.toString());
+            JAST.compilationUnit().reportSemanticError(line, "Throw type must be of type Throwable: \"%s\"", typ.toString());
         }
 
         Type[] types = context.methodContext().methodThrowTypes().toArray(new Type[0]);
@@ -29,7 +29,7 @@ class JTryCatchStatement extends JStatement {
         super(line);
         this.body_try = body_try;
         this.catches = catches;
-        this.body_finally = new JFinallyBlock(body_finally);
+        this.body_finally = body_finally == null ? null : new JFinallyBlock(body_finally);
     }
 
 
@@ -271,7 +271,7 @@ class JPostDecrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line, "Operand to expr-- must have an LValue.");
+            JAST.compilationUnit().reportSemanticError(line, "Operand to expr-- must have an LValue.");
             type = Type.ANY;
         } else {
             arg = arg.analyze(context);
@@ -349,7 +349,7 @@ class JPostIncrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line, "Operand to expr++ must have an LValue.");
+            JAST.compilationUnit().reportSemanticError(line, "Operand to expr++ must have an LValue.");
             type = Type.ANY;
         } else {
             arg = arg.analyze(context);
@@ -426,7 +426,7 @@ class JPreIncrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line,"Operand to ++expr must have an LValue.");
+            JAST.compilationUnit().reportSemanticError(line,"Operand to ++expr must have an LValue.");
             type = Type.ANY;
         } else {
             arg = arg.analyze(context);
@@ -486,7 +486,7 @@ class JPreDecrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Operand to --expr must have an LValue.");
             type = Type.ANY;
         } else {
@@ -0,0 +1,67 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+/**
+ * The AST node for a "wild" statement. A wild statement is a placeholder
+ * statement, standing for a statement having a syntax error; the parser skips
+ * the rest of that statement, and goes on with the next one.
+ * <p>
+ * The statement left out may have declared a local variable, so the
+ * statements following a wild statement in a block are not analyzed: those
+ * preceding it are. It may have been a return statement too.
+ *
+ * @see JBlock
+ */
+
+class JWildStatement extends JStatement {
+
+    /**
+     * Constructs an AST node for a "wild" statement given its line number.
+     *
+     * @param line
+     *            line in which the "wild" statement occurs in the source file.
+     */
+
+    public JWildStatement(int line) {
+        super(line);
+    }
+
+    /**
+     * Nothing to analyze; but as the statement may have been a return
+     * statement, the enclosing method is not reported for missing one.
+     *
+     * @param context
+     *            context in which names are resolved.
+     * @return the analyzed (and possibly rewritten) AST subtree.
+     */
+
+    public JAST analyze(Context context) {
+        MethodContext methodContext = context.methodContext();
+        if (methodContext != null) {
+            methodContext.confirmMethodHasReturn();
+        }
+        return this;
+    }
+
+    /**
+     * No code generation: there is none for a unit having syntax errors.
+     *
+     * @param output
+     *            the code emitter (basically an abstraction for producing the
+     *            .class file).
+     */
+
+    public void codegen(CLEmitter output) {
+        // Nothing to do
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void writeToStdOut(PrettyPrinter p) {
+        p.printf("<JWildStatement line=\"%d\"/>\n", line());
+    }
+
+}
@@ -0,0 +1,296 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+
+/**
+ * The front end generated by JavaCC from j--.jj: {@link JavaCCParser} and
+ * its token manager. Each thread keeps one parser, which it readies for each
+ * source (with ReInit) rather than building another; and the token manager
+ * reads the characters of the source in memory, through a
+ * {@link CharReaderStream}, rather than through a SimpleCharStream buffering
+ * them from a Reader.
+ * <p>
+ * This class, like the generated ones, is only compiled by the compileJavaCC
+ * target; {@link Main} loads it by name when -frontend javacc is given.
+ */
+
+class JavaCCFrontEnd implements FrontEnd {
+
+    /** The parser of each thread; null until it parses. */
+    private ThreadLocal<JavaCCParser> parsers = new ThreadLocal<JavaCCParser>();
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public boolean tokenize(CharReader input) {
+        JavaCCParserTokenManager scanner = new JavaCCParserTokenManager(
+                new CharReaderStream(input));
+        boolean errorHasOccurred = false;
+        Token token;
+        do {
+            token = scanner.getNextToken();
+            if (token.kind == JavaCCParserConstants.ERROR) {
+                Session.err().printf("%s:%d: Unidentified input token: '%s'\n",
+                        input.fileName(), token.beginLine, token.image);
+                errorHasOccurred = true;
+            } else {
+                Session.out().printf("%d\t : %s = %s\n", token.beginLine,
+                        JavaCCParserConstants.tokenImage[token.kind],
+                        token.image);
+            }
+        } while (token.kind != JavaCCParserConstants.EOF);
+        return errorHasOccurred;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public JCompilationUnit parse(CharReader input,
+            ArrayList<Diagnostic> diagnostics) {
+        CharReaderStream stream = new CharReaderStream(input);
+        JavaCCParser parser = parsers.get();
+        if (parser == null) {
+            parser = new JavaCCParser(stream);
+            parsers.set(parser);
+        } else {
+            parser.ReInit(stream);
+        }
+        parser.reset(input.fileName(), diagnostics);
+        try {
+            return parser.compilationUnit();
+        } catch (ParseException e) {
+            diagnostics.add(new Diagnostic(null, 0, e.getMessage()));
+            return null;
+        } finally {
+            stream.Done();
+        }
+    }
+
+    /**
+     * A {@link CharStream} over the characters of a source held in a
+     * {@link CharReader}: as they are all in memory, reading one is an array
+     * access, backing up is moving an index, and the image of a token is a
+     * string built on a range of them. The line of the character last read
+     * is kept up to date as it moves; lines and columns start at 1, and a tab
+     * is one column (as with the tab size of 1 of a SimpleCharStream).
+     */
+
+    private static class CharReaderStream implements CharStream {
+
+        /** The characters; null once done. */
+        private char[] chars;
+
+        /** Number of characters. */
+        private int length;
+
+        /** Index of the character last read; -1 if none. */
+        private int pos;
+
+        /** Index of the first character of the token. */
+        private int tokenBegin;
+
+        /** Line and column of the first character of the token. */
+        private int beginLine, beginColumn;
+
+        /**
+         * Line of the character last read, and index of the first character
+         * of that line.
+         */
+        private int line, lineStart;
+
+        /** The source. */
+        private CharReader input;
+
+        /**
+         * Constructs a CharReaderStream.
+         *
+         * @param input
+         *            the source.
+         */
+
+        public CharReaderStream(CharReader input) {
+            this.input = input;
+            chars = input.chars();
+            length = input.length();
+            pos = -1;
+            line = 1;
+            lineStart = 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public char BeginToken() throws IOException {
+            tokenBegin = -1;
+            char c = readChar();
+            tokenBegin = pos;
+            beginLine = line;
+            beginColumn = pos - lineStart + 1;
+            return c;
+        }
+
+        /**
+         * {@inheritDoc} At the end of the input, an IOException is thrown;
+         * a token begun there begins on the last character, or on line 0
+         * if there are none (as with a SimpleCharStream).
+         */
+
+        public char readChar() throws IOException {
+            if (pos + 1 >= length) {
+                if (tokenBegin == -1) {
+                    tokenBegin = pos;
+                    beginLine = pos < 0 ? 0 : line;
+                    beginColumn = pos - lineStart + 1;
+                }
+                throw new IOException("End of input");
+            }
+            char c = chars[++pos];
+            if (pos > 0 && chars[pos - 1] == '\n') {
+                line++;
+                lineStart = pos;
+            }
+            return c;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public void backup(int amount) {
+            pos -= amount;
+            if (pos < lineStart) {
+                line = input.line(Math.max(pos, 0));
+                lineStart = Math.max(pos, 0);
+                while (lineStart > 0 && chars[lineStart - 1] != '\n') {
+                    lineStart--;
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public int getBeginLine() {
+            return beginLine;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public int getBeginColumn() {
+            return beginColumn;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public int getEndLine() {
+            return line;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public int getEndColumn() {
+            return pos - lineStart + 1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        @Deprecated
+        public int getLine() {
+            return getEndLine();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        @Deprecated
+        public int getColumn() {
+            return getEndColumn();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public String GetImage() {
+            return new String(chars, tokenBegin, pos - tokenBegin + 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+
+        public char[] GetSuffix(int len) {
+            char[] suffix = new char[len];
+            System.arraycopy(chars, pos - len + 1, suffix, 0, len);
+            return suffix;
+        }
+
+        /**
+         * {@inheritDoc} The source is let go of.
+         */
+
+        public void Done() {
+            chars = null;
+            input = null;
+        }
+
+        /**
+         * Does nothing: a tab is one column.
+         *
+         * @param i
+         *            the tab size.
+         */
+
+        public void setTabSize(int i) {
+        }
+
+        /**
+         * Returns the tab size, 1.
+         *
+         * @return 1.
+         */
+
+        public int getTabSize() {
+            return 1;
+        }
+
+        /**
+         * Returns {@code true}: lines and columns are always tracked.
+         *
+         * @return true.
+         */
+
+        public boolean getTrackLineColumn() {
+            return true;
+        }
+
+        /**
+         * Does nothing: lines and columns are always tracked.
+         *
+         * @param trackLineColumn
+         *            whether to track them.
+         */
+
+        public void setTrackLineColumn(boolean trackLineColumn) {
+        }
+
+    }
+
+}
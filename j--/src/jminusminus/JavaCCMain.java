@@ -2,16 +2,18 @@
 
 package jminusminus;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-
 /**
  * Driver class for j-- compiler using JavaCC front-end. This is the main entry
- * point for the compiler. The compiler proceeds as follows:
+ * point for the compiler; it is {@link Main} with {@code -frontend javacc},
+ * so that the sources are scanned and parsed by the JavaCC front end (see
+ * {@link FrontEnd}), and the rest of the compilation is shared. The compiler
+ * proceeds as follows:
  * <ol>
- *   <li>It reads arguments that affects its behavior.</li>
+ *   <li>It reads arguments that affects its behavior. Any number of source
+ *       files may be given, either directly or listed in {@code @file}
+ *       argument files, and they are all compiled in a single session.</li>
  * 
- *   <li>It builds a scanner.</li>
+ *   <li>It builds a scanner for each source file.</li>
  * 
  *   <li>It builds a parser (using the scanner) and parses the input for 
  *       producing an abstact syntax tree (AST).</li>
@@ -35,9 +37,6 @@ import java.io.FileNotFoundException;
 
 public class JavaCCMain {
 
-    /** Whether an error occurred during compilation. */
-    private static boolean errorHasOccurred;
-
     /**
      * Entry point.
      *
@@ -46,134 +45,11 @@ public class JavaCCMain {
      */
 
     public static void main(String args[]) {
-        String caller = "java jminusminus.JavaCCMain";
-        String sourceFile = "";
-        String debugOption = "";
-        String outputDir = ".";
-        boolean spimOutput = false;
-        String registerAllocation = "";
-        errorHasOccurred = false;
-        for (int i = 0; i < args.length; i++) {
-            if (args[i].equals("javaccj--")) {
-                caller = "javaccj--";
-            } else if (args[i].endsWith(".java")) {
-                sourceFile = args[i];
-            } else if (args[i].equals("-t") || args[i].equals("-p")
-                    || args[i].equals("-pa") || args[i].equals("-a")) {
-                debugOption = args[i];
-            } else if (args[i].endsWith("-d") && (i + 1) < args.length) {
-                outputDir = args[++i];
-            } else if (args[i].endsWith("-s") && (i + 1) < args.length) {
-                spimOutput = true;
-                registerAllocation = args[++i];
-                if (!registerAllocation.equals("naive") &&
-                    !registerAllocation.equals("linear") &&
-                    !registerAllocation.equals("graph")
-                    || registerAllocation.equals("")) {
-                    printUsage(caller);
-                    return;
-                }
-            } else if (args[i].endsWith("-r") && (i + 1) < args.length) {
-                NPhysicalRegister.MAX_COUNT = Math.min(18, Integer
-                        .parseInt(args[++i]));
-                NPhysicalRegister.MAX_COUNT = Math.max(1,
-                        NPhysicalRegister.MAX_COUNT);
-            } else {
-                printUsage(caller);
-                return;
-            }
-        }
-        if (sourceFile.equals("")) {
-            printUsage(caller);
-            return;
-        }
-
-        JavaCCParserTokenManager javaCCScanner = null;
-        try {
-            javaCCScanner = new JavaCCParserTokenManager(new SimpleCharStream(
-                    new FileInputStream(sourceFile), 1, 1));
-        } catch (FileNotFoundException e) {
-            System.err.println("Error: file " + sourceFile + " not found.");
-        }
-
-        if (debugOption.equals("-t")) {
-            // Just tokenize input and print the tokens to STDOUT
-            Token token;
-            do {
-                token = javaCCScanner.getNextToken();
-                if (token.kind == JavaCCParserConstants.ERROR) {
-                    System.err.printf(
-                            "%s:%d: Unidentified input token: '%s'\n",
-                            sourceFile, token.beginLine, token.image);
-                    errorHasOccurred |= true;
-                } else {
-                    System.out.printf("%d\t : %s = %s\n", token.beginLine,
-                            JavaCCParserConstants.tokenImage[token.kind],
-                            token.image);
-                }
-            } while (token.kind != JavaCCParserConstants.EOF);
-            return;
-        }
-
-        // Parse input
-        JCompilationUnit ast = null;
-        JavaCCParser javaCCParser = new JavaCCParser(javaCCScanner);
-        javaCCParser.fileName(sourceFile);
-        try {
-            ast = javaCCParser.compilationUnit();
-            errorHasOccurred |= javaCCParser.errorHasOccurred();
-        } catch (ParseException e) {
-            System.err.println(e.getMessage());
-        }
-        if (debugOption.equals("-p")) {
-            ast.writeToStdOut(new PrettyPrinter());
-            return;
-        }
-        if (errorHasOccurred) {
-            return;
-        }
-
-        // Do pre-analysis
-        ast.preAnalyze();
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
-        if (debugOption.equals("-pa")) {
-            ast.writeToStdOut(new PrettyPrinter());
-            return;
-        }
-        if (errorHasOccurred) {
-            return;
-        }
-
-        // Do analysis
-        ast.analyze(null);
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
-        if (debugOption.equals("-a")) {
-            ast.writeToStdOut(new PrettyPrinter());
-            return;
-        }
-        if (errorHasOccurred) {
-            return;
-        }
-
-        // Generate JVM code
-        CLEmitter clEmitter = new CLEmitter(!spimOutput);
-        clEmitter.destinationDir(outputDir);
-        ast.codegen(clEmitter);
-        errorHasOccurred |= clEmitter.errorHasOccurred();
-        if (errorHasOccurred) {
-            return;
-        }
-
-        // If SPIM output was asked for, convert the in-memory
-        // JVM instructions to SPIM using the specified register
-        // allocation scheme.
-        if (spimOutput) {
-            NEmitter nEmitter = new NEmitter(sourceFile, ast.clFiles(),
-                    registerAllocation);
-            nEmitter.destinationDir(outputDir);
-            nEmitter.write();
-            errorHasOccurred |= nEmitter.errorHasOccurred();
-        }
+        String[] mainArgs = new String[args.length + 2];
+        mainArgs[0] = "-frontend";
+        mainArgs[1] = "javacc";
+        System.arraycopy(args, 0, mainArgs, 2, args.length);
+        Main.main(mainArgs);
     }
 
     /**
@@ -183,31 +59,7 @@ public class JavaCCMain {
      */
 
     public static boolean errorHasOccurred() {
-        return errorHasOccurred;
-    }
-
-    /**
-     * Prints command usage to STDOUT.
-     * 
-     * @param caller
-     *            denotes how this class is invoked.
-     */
-
-    private static void printUsage(String caller) {
-        String usage = "Usage: "
-                + caller
-                + " <options> <source file>\n"
-                + "Where possible options include:\n"
-                + "  -t  Only tokenize input and print tokens to STDOUT\n"
-                + "  -p  Only parse input and print AST to STDOUT\n"
-                + "  -pa Only parse and pre-analyze input and print "
-                + "AST to STDOUT\n"
-                + "  -a  Only parse, pre-analyze, and analyze input "
-                + "and print AST to STDOUT\n"
-                + "  -s  <naive|linear|graph> Generate SPIM code\n"
-                + "  -r  <num> Max. physical registers (1-18) available for allocation; default = 8\n"
-                + "  -d  <dir> Specify where to place output files; default = .";
-        System.out.println(usage);
+        return Main.errorHasOccurred();
     }
 
 }
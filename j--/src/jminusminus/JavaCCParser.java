@@ -0,0 +1,4819 @@
+/* JavaCCParser.java */
+/* Generated By:JavaCC: Do not edit this line. JavaCCParser.java */
+package jminusminus;
+
+import java.util.ArrayList;
+
+/**
+ * Parser generated by JavaCC. It parses a j-- compilation unit 
+ * (program file), taking tokens from the scanner (also generated by 
+ * JavaCC), and produces an abstract syntax tree (AST) for it.
+ */
+
+class JavaCCParser implements JavaCCParserConstants {
+    /** Whether a parser error has been found. */
+    private boolean errorHasOccurred;
+
+    /** Name of the file that is parsed. */
+    private String fileName;
+
+    /** Where the errors found are added; null if they are reported. */
+    private ArrayList<Diagnostic> diagnostics;
+
+    /**
+     * Number of the productions being parsed that synchronize at a
+     * statement or member boundary (blockStatement and memberDecl), in
+     * which a syntax error is passed up to the innermost one.
+     */
+    private int boundaries;
+
+    /**
+     * Pull out the ambiguous part of a name and return it. 
+     * 
+     * @param name with an ambiguos part (possibly).
+     *
+     * @return ambiguous part or null.
+     */
+
+    private AmbiguousName ambiguousPart(TypeName name) {
+        String qualifiedName = name.toString();
+        int lastDotIndex = qualifiedName.lastIndexOf('.');
+        return lastDotIndex == -1
+            ? null // It was a simple name
+            : new AmbiguousName(name.line(),
+                                qualifiedName.substring(0, lastDotIndex));
+    }
+
+    /**
+     * Report a syntax error.
+     * 
+     * @param message message identifying the error.
+     * @param args    related values.
+     */
+
+    private void reportParserError(String message, Object... args) {
+        errorHasOccurred = true;
+        if (diagnostics != null) {
+            diagnostics.add(new Diagnostic(fileName, token.beginLine,
+                                           String.format(message, args)));
+        } else {
+            Session.report(fileName, token.beginLine, message, args);
+        }
+    }
+
+    /**
+     * Recover from the parser error that occurred by skipping to
+     * any of the specified tokens.
+     *
+     * Within a statement or a member, the error is rather passed up to
+     * the innermost blockStatement or memberDecl, which recovers by
+     * skipping to the statement or member boundary (panic mode). Elsewhere
+     * the error recovery mechanism is rather simple-minded and is
+     * based on skipping all the tokens until a SEMI or an EOF is
+     * encountered.
+     *
+     * @param skipTo array of tokens that we could skip to.
+     * @param e      exception that is raised by JavaCC in the event 
+     *               of a parser error.
+     * @throws ParseException if the error is passed up.
+     */
+
+    private void recoverFromError(int[] skipTo, ParseException e)
+        throws ParseException {
+        if (boundaries > 0) {
+            throw e;
+        }
+        reportExpected(e);
+
+        // Recover
+        boolean loop = true;
+        do {
+            token = getNextToken();
+            for (int i = 0; i < skipTo.length; i++) {
+                if (token.kind == skipTo[i]) {
+                    loop = false;
+                    break;
+                }
+            }
+        } while(loop);
+    }
+
+    /**
+     * Recover from the parser error that occurred in the statement 
+     * following the specified token: unless the statement got to its end, 
+     * skip to the SEMI ending it (scanned), or to an RCURLY or a token 
+     * starting another statement (not scanned).
+     *
+     * @param start the token preceding the statement.
+     * @param e     exception that is raised by JavaCC in the event 
+     *              of a parser error.
+     */
+
+    private void skipToStatement(Token start, ParseException e) {
+        reportExpected(e);
+        if (token == start || token.kind != SEMI && token.kind != RCURLY) {
+            if (token == start) {
+                getNextToken();
+            }
+            while (true) {
+                int kind = getToken(1).kind;
+                if (kind == RCURLY || kind == EOF || kind == LCURLY
+                    || kind == IF || kind == FOR || kind == WHILE
+                    || kind == DO || kind == TRY || kind == RETURN
+                    || kind == THROW || kind == BREAK || kind == CONTINUE
+                    || kind == BOOLEAN || kind == CHAR || kind == INT
+                    || kind == DOUBLE) {
+                    break;
+                }
+                getNextToken();
+                if (kind == SEMI) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recover from the parser error that occurred in the member following
+     * the specified token: unless the member got to its end, skip to the 
+     * SEMI ending it, or to the RCURLY closing its body (both scanned), or 
+     * to the RCURLY closing the class body (not scanned).
+     *
+     * @param start the token preceding the member.
+     * @param e     exception that is raised by JavaCC in the event 
+     *              of a parser error.
+     */
+
+    private void skipToMember(Token start, ParseException e) {
+        reportExpected(e);
+        int depth = 0;
+        for (Token t = start; t != token; t = t.next) {
+            if (t.next.kind == LCURLY) {
+                depth++;
+            } else if (t.next.kind == RCURLY) {
+                depth--;
+            }
+        }
+        if (token == start || depth > 0
+            || token.kind != SEMI && token.kind != RCURLY) {
+            while (true) {
+                int kind = getToken(1).kind;
+                if (kind == EOF || depth == 0 && kind == RCURLY) {
+                    break;
+                }
+                getNextToken();
+                if (kind == LCURLY) {
+                    depth++;
+                } else if (kind == RCURLY && --depth == 0
+                           || kind == SEMI && depth == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Report the parser error that occurred, with the tokens that were
+     * expected.
+     *
+     * @param e exception that is raised by JavaCC in the event 
+     *          of a parser error.
+     */
+
+    private void reportExpected(ParseException e) {
+        // Get the possible expected tokens
+        StringBuffer expected = new StringBuffer();
+        for (int i = 0; i < e.expectedTokenSequences.length; i++) {
+            for (int j = 0; j < e.expectedTokenSequences[i].length; j++) {
+                expected.append("\n");
+                expected.append("    ");
+                expected.append(tokenImage[e.expectedTokenSequences[i][j]]);
+                expected.append("...");
+            }
+        }
+
+        // Print error message
+        if (e.expectedTokenSequences.length == 1) {
+            reportParserError("\"%s\" found where %s sought",
+                              getToken(1), expected);
+        } else {
+            reportParserError("\"%s\" found where one of %s sought",
+                              getToken(1), expected);
+        }
+    }
+
+    /**
+     * Sets the name of the file that is being parsed.
+     *
+     * @param fileName name of the file.
+     */
+
+    public void fileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Readies this parser, given new input with ReInit, for parsing the
+     * specified file: the errors found in it are added to the specified
+     * list rather than reported, unless it is null.
+     *
+     * @param fileName    name of the file.
+     * @param diagnostics where the errors found are added; null to 
+     *                    report them.
+     */
+
+    public void reset(String fileName, ArrayList<Diagnostic> diagnostics) {
+        this.fileName = fileName;
+        this.diagnostics = diagnostics;
+        errorHasOccurred = false;
+        boundaries = 0;
+    }
+
+    /**
+     * Has a parser error occurred up to now?
+     *
+     * @return true or false.
+     */
+
+    public boolean errorHasOccurred() {
+        return errorHasOccurred;
+    }
+
+  final public JCompilationUnit compilationUnit() throws ParseException {int line = 0;
+    TypeName packageName = null; // Default
+    TypeName anImport = null;
+    ArrayList<TypeName> imports = new ArrayList<TypeName>();
+    JAST aTypeDeclaration = null;
+    ArrayList<JAST> typeDeclarations = new ArrayList<JAST>();
+    try {
+      switch (jj_nt.kind) {
+      case PACKAGE:{
+        jj_consume_token(PACKAGE);
+line = token.beginLine;
+        packageName = qualifiedIdentifier();
+        jj_consume_token(SEMI);
+        break;
+        }
+      default:
+        jj_la1[0] = jj_gen;
+        ;
+      }
+      label_1:
+      while (true) {
+        switch (jj_nt.kind) {
+        case IMPORT:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[1] = jj_gen;
+          break label_1;
+        }
+        jj_consume_token(IMPORT);
+line = line == 0 ? token.beginLine : line;
+        anImport = qualifiedIdentifier();
+imports.add(anImport);
+        jj_consume_token(SEMI);
+      }
+      label_2:
+      while (true) {
+        switch (jj_nt.kind) {
+        case ABSTRACT:
+        case CLASS:
+        case FINAL:
+        case INTERFACE:
+        case NATIVE:
+        case PRIVATE:
+        case PROTECTED:
+        case PUBLIC:
+        case STATIC:
+        case STRICTFP:
+        case SYNCHRONIZED:
+        case TRANSIENT:
+        case VOLATILE:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[2] = jj_gen;
+          break label_2;
+        }
+        aTypeDeclaration = typeDeclaration();
+if (aTypeDeclaration != null) {
+                    line = line == 0 ? aTypeDeclaration.line() : line;
+                    typeDeclarations.add(aTypeDeclaration);
+                }
+      }
+      jj_consume_token(0);
+line = line == 0 ? token.beginLine : line;
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+JCompilationUnit unit = new JCompilationUnit(fileName, line,
+                                    packageName, imports, typeDeclarations);
+        unit.partial(errorHasOccurred);
+        {if ("" != null) return unit;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private TypeName qualifiedIdentifier() throws ParseException {int line = 0;
+    String qualifiedIdentifier = "";
+    try {
+      jj_consume_token(IDENTIFIER);
+line = token.beginLine;
+            qualifiedIdentifier = token.image;
+      label_3:
+      while (true) {
+        if (jj_2_1(2147483647)) {
+          ;
+        } else {
+          break label_3;
+        }
+        jj_consume_token(DOT);
+        jj_consume_token(IDENTIFIER);
+qualifiedIdentifier += "." + token.image;
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new TypeName(line, qualifiedIdentifier);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JAST typeDeclaration() throws ParseException {ArrayList<String> mods = null;
+    JAST declaration = null;
+    try {
+      mods = modifiers();
+      switch (jj_nt.kind) {
+      case CLASS:{
+        declaration = classDeclaration(mods);
+        break;
+        }
+      case INTERFACE:{
+        declaration = interfaceDeclaration(mods);
+        break;
+        }
+      default:
+        jj_la1[3] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return declaration;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private ArrayList<String> modifiers() throws ParseException {ArrayList<String> mods      = new ArrayList<>();
+    boolean scannedPUBLIC       = false;
+    boolean scannedPROTECTED    = false;
+    boolean scannedPRIVATE      = false;
+    boolean scannedSTATIC       = false;
+    boolean scannedABSTRACT     = false;
+    boolean scannedFINAL        = false;
+    boolean scannedVOLATILE     = false;
+    boolean scannedTRANSIENT    = false;
+    boolean scannedSYNCHRONIZED = false;
+    boolean scannedNATIVE       = false;
+    boolean scannedSTRICTFP     = false;
+    try {
+      label_4:
+      while (true) {
+        switch (jj_nt.kind) {
+        case ABSTRACT:
+        case FINAL:
+        case NATIVE:
+        case PRIVATE:
+        case PROTECTED:
+        case PUBLIC:
+        case STATIC:
+        case STRICTFP:
+        case SYNCHRONIZED:
+        case TRANSIENT:
+        case VOLATILE:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[4] = jj_gen;
+          break label_4;
+        }
+        switch (jj_nt.kind) {
+        case PUBLIC:{
+          jj_consume_token(PUBLIC);
+mods.add("public");
+                if (scannedPUBLIC) {
+                    reportParserError("Repeated modifier: public");
+                }
+                if (scannedPROTECTED || scannedPRIVATE) {
+                    reportParserError("Access conflict in modifiers");
+                }
+                scannedPUBLIC = true;
+          break;
+          }
+        case PROTECTED:{
+          jj_consume_token(PROTECTED);
+mods.add("protected");
+                if (scannedPROTECTED) {
+                    reportParserError("Repeated modifier: protected");
+                }
+                if (scannedPUBLIC || scannedPRIVATE) {
+                    reportParserError("Access conflict in modifiers");
+                }
+                scannedPROTECTED = true;
+          break;
+          }
+        case PRIVATE:{
+          jj_consume_token(PRIVATE);
+mods.add("private");
+                if (scannedPRIVATE) {
+                    reportParserError("Repeated modifier: private");
+                }
+                if (scannedPUBLIC || scannedPROTECTED) {
+                    reportParserError("Access conflict in modifiers");
+                }
+                scannedPRIVATE = true;
+          break;
+          }
+        case STATIC:{
+          jj_consume_token(STATIC);
+mods.add("static");
+                if (scannedSTATIC) {
+                    reportParserError("Repeated modifier: static");
+                }
+                scannedSTATIC = true;
+          break;
+          }
+        case ABSTRACT:{
+          jj_consume_token(ABSTRACT);
+mods.add("abstract");
+                if (scannedABSTRACT) {
+                    reportParserError("Repeated modifier: abstract");
+                }
+                scannedABSTRACT = true;
+          break;
+          }
+        case FINAL:{
+          jj_consume_token(FINAL);
+mods.add("final");
+                if (scannedFINAL) {
+                    reportParserError("Repeated modifier: final");
+                }
+                scannedFINAL = true;
+          break;
+          }
+        case VOLATILE:{
+          jj_consume_token(VOLATILE);
+mods.add("volatile");
+                if (scannedVOLATILE) {
+                    reportParserError("Repeated modifier: volatile");
+                }
+                scannedVOLATILE = true;
+          break;
+          }
+        case SYNCHRONIZED:{
+          jj_consume_token(SYNCHRONIZED);
+mods.add("synchronized");
+                if (scannedSYNCHRONIZED) {
+                    reportParserError("Repeated modifier: synchronized");
+                }
+                scannedSYNCHRONIZED = true;
+          break;
+          }
+        case NATIVE:{
+          jj_consume_token(NATIVE);
+mods.add("native");
+                if (scannedNATIVE) {
+                    reportParserError("Repeated modifier: native");
+                }
+                scannedNATIVE = true;
+          break;
+          }
+        case STRICTFP:{
+          jj_consume_token(STRICTFP);
+mods.add("strictfp");
+                if (scannedSTRICTFP) {
+                    reportParserError("Repeated modifier: strictfp");
+                }
+                scannedSTRICTFP = true;
+          break;
+          }
+        case TRANSIENT:{
+          jj_consume_token(TRANSIENT);
+mods.add("transient");
+                if (scannedTRANSIENT) {
+                    reportParserError("Repeated modifier: transient");
+                }
+                scannedTRANSIENT = true;
+          break;
+          }
+        default:
+          jj_la1[5] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return mods;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JInterfaceDeclaration interfaceDeclaration(ArrayList<String> mods) throws ParseException {int line = 0;
+    String name = "";
+    TypeName anInterface = null;
+    ArrayList<TypeName> extendedInterfaces = new ArrayList<>();
+    ArrayList<JMember> interfaceBody = null;
+    try {
+      jj_consume_token(INTERFACE);
+line = token.beginLine;
+      jj_consume_token(IDENTIFIER);
+name = token.image;
+      switch (jj_nt.kind) {
+      case EXTENDS:{
+        jj_consume_token(EXTENDS);
+        anInterface = qualifiedIdentifier();
+extendedInterfaces.add(anInterface);
+        label_5:
+        while (true) {
+          switch (jj_nt.kind) {
+          case COMMA:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[6] = jj_gen;
+            break label_5;
+          }
+          jj_consume_token(COMMA);
+          anInterface = qualifiedIdentifier();
+extendedInterfaces.add(anInterface);
+        }
+        break;
+        }
+      default:
+        jj_la1[7] = jj_gen;
+        ;
+      }
+      interfaceBody = interfaceBody();
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JInterfaceDeclaration(line, mods, name, extendedInterfaces, interfaceBody);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private ArrayList<JMember> interfaceBody() throws ParseException {ArrayList<String> mods = null;
+    JMember aMember        = null;
+    ArrayList<JMember> members = new ArrayList<>();
+    try {
+      jj_consume_token(LCURLY);
+      label_6:
+      while (true) {
+        switch (jj_nt.kind) {
+        case ABSTRACT:
+        case BOOLEAN:
+        case BYTE:
+        case CHAR:
+        case CLASS:
+        case DOUBLE:
+        case FINAL:
+        case FLOAT:
+        case INT:
+        case INTERFACE:
+        case LONG:
+        case NATIVE:
+        case PRIVATE:
+        case PROTECTED:
+        case PUBLIC:
+        case SHORT:
+        case STATIC:
+        case STRICTFP:
+        case SYNCHRONIZED:
+        case TRANSIENT:
+        case VOID:
+        case VOLATILE:
+        case IDENTIFIER:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[8] = jj_gen;
+          break label_6;
+        }
+        mods = modifiers();
+        aMember = interfaceMemberDecl(mods);
+if (aMember != null) {
+                    members.add(aMember);
+                }
+      }
+      jj_consume_token(RCURLY);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return members;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JClassDeclaration classDeclaration(ArrayList<String> mods) throws ParseException {int line = 0;
+    String name = "";
+    Type superClass = Type.OBJECT;
+    TypeName anInterface = null;
+    ArrayList<TypeName> implemented = new ArrayList<>();
+    ArrayList<JMember> classBody = null;
+    try {
+      jj_consume_token(CLASS);
+line = token.beginLine;
+      jj_consume_token(IDENTIFIER);
+name = token.image;
+      switch (jj_nt.kind) {
+      case EXTENDS:{
+        jj_consume_token(EXTENDS);
+        superClass = qualifiedIdentifier();
+        break;
+        }
+      default:
+        jj_la1[9] = jj_gen;
+        ;
+      }
+      switch (jj_nt.kind) {
+      case IMPLEMENTS:{
+        jj_consume_token(IMPLEMENTS);
+        anInterface = qualifiedIdentifier();
+implemented.add(anInterface);
+        label_7:
+        while (true) {
+          switch (jj_nt.kind) {
+          case COMMA:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[10] = jj_gen;
+            break label_7;
+          }
+          jj_consume_token(COMMA);
+          anInterface = qualifiedIdentifier();
+implemented.add(anInterface);
+        }
+        break;
+        }
+      default:
+        jj_la1[11] = jj_gen;
+        ;
+      }
+      classBody = classBody();
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JClassDeclaration(line, mods, name, superClass, implemented, classBody);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private ArrayList<JMember> classBody() throws ParseException {ArrayList<String> mods = null;
+    JMember aMember        = null;
+    JBlock aBlock        = null;
+    ArrayList<JMember> members = new ArrayList<>();
+    try {
+      jj_consume_token(LCURLY);
+      label_8:
+      while (true) {
+        switch (jj_nt.kind) {
+        case ABSTRACT:
+        case BOOLEAN:
+        case BYTE:
+        case CHAR:
+        case CLASS:
+        case DOUBLE:
+        case FINAL:
+        case FLOAT:
+        case INT:
+        case INTERFACE:
+        case LONG:
+        case NATIVE:
+        case PRIVATE:
+        case PROTECTED:
+        case PUBLIC:
+        case SHORT:
+        case STATIC:
+        case STRICTFP:
+        case SYNCHRONIZED:
+        case TRANSIENT:
+        case VOID:
+        case VOLATILE:
+        case LCURLY:
+        case IDENTIFIER:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[12] = jj_gen;
+          break label_8;
+        }
+        if (jj_2_2(2147483647)) {
+          jj_consume_token(STATIC);
+          aBlock = block();
+members.add(new JStaticBlock(aBlock.line(), aBlock.statements()));
+        } else {
+          switch (jj_nt.kind) {
+          case LCURLY:{
+            aBlock = block();
+members.add(new JInitBlock(aBlock.line(), aBlock.statements()));
+            break;
+            }
+          case ABSTRACT:
+          case BOOLEAN:
+          case BYTE:
+          case CHAR:
+          case CLASS:
+          case DOUBLE:
+          case FINAL:
+          case FLOAT:
+          case INT:
+          case INTERFACE:
+          case LONG:
+          case NATIVE:
+          case PRIVATE:
+          case PROTECTED:
+          case PUBLIC:
+          case SHORT:
+          case STATIC:
+          case STRICTFP:
+          case SYNCHRONIZED:
+          case TRANSIENT:
+          case VOID:
+          case VOLATILE:
+          case IDENTIFIER:{
+            mods = modifiers();
+            aMember = memberDecl(mods);
+if (aMember != null) {
+                        members.add(aMember);
+                    }
+            break;
+            }
+          default:
+            jj_la1[13] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+        }
+      }
+      jj_consume_token(RCURLY);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return members;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JMember interfaceMemberDecl(ArrayList<String> mods) throws ParseException {int line = 0;
+    Type type = null;
+    String name = "";
+    ArrayList<JFormalParameter> params = null;
+    ArrayList<JVariableDeclarator> variableDeclarators = null;
+    JMember memberDecl = null;
+    TypeName thrown;
+    ArrayList<TypeName> thrownList = new ArrayList<>();
+    Token start = token;
+boundaries++;
+    try {
+      if (jj_2_3(2147483647)) {
+        switch (jj_nt.kind) {
+        case VOID:{
+          jj_consume_token(VOID);
+type = Type.VOID;
+          break;
+          }
+        case BOOLEAN:
+        case BYTE:
+        case CHAR:
+        case DOUBLE:
+        case FLOAT:
+        case INT:
+        case LONG:
+        case SHORT:
+        case IDENTIFIER:{
+          type = type();
+          break;
+          }
+        default:
+          jj_la1[14] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+line = token.beginLine;
+        jj_consume_token(IDENTIFIER);
+name = token.image;
+        params = formalParameters();
+        switch (jj_nt.kind) {
+        case THROWS:{
+          jj_consume_token(THROWS);
+          thrown = qualifiedIdentifier();
+thrownList.add(thrown);
+          label_9:
+          while (true) {
+            switch (jj_nt.kind) {
+            case COMMA:{
+              ;
+              break;
+              }
+            default:
+              jj_la1[15] = jj_gen;
+              break label_9;
+            }
+            jj_consume_token(COMMA);
+            thrown = qualifiedIdentifier();
+thrownList.add(thrown);
+          }
+          break;
+          }
+        default:
+          jj_la1[16] = jj_gen;
+          ;
+        }
+        jj_consume_token(SEMI);
+memberDecl = new JMethodDeclaration(line, mods, name, type, params, thrownList, null);
+      } else {
+        switch (jj_nt.kind) {
+        case BOOLEAN:
+        case BYTE:
+        case CHAR:
+        case DOUBLE:
+        case FLOAT:
+        case INT:
+        case LONG:
+        case SHORT:
+        case IDENTIFIER:{
+          type = type();
+line = token.beginLine;
+          variableDeclarators = variableDeclarators(type);
+          jj_consume_token(SEMI);
+memberDecl = new JFieldDeclaration(line, mods, variableDeclarators);
+          break;
+          }
+        case CLASS:{
+          memberDecl = classDeclaration(mods);
+          break;
+          }
+        case INTERFACE:{
+          memberDecl = interfaceDeclaration(mods);
+          break;
+          }
+        default:
+          jj_la1[17] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+// Leave the member out
+        skipToMember(start, e);
+        memberDecl = null;
+    } finally {
+boundaries--;
+    }
+{if ("" != null) return memberDecl;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JMember memberDecl(ArrayList<String> mods) throws ParseException {int line = 0;
+    Type type = null;
+    String name = "";
+    ArrayList<JFormalParameter> params = null;
+    JBlock body = null;
+    ArrayList<JVariableDeclarator> variableDeclarators = null;
+    JMember memberDecl = null;
+    TypeName thrown = null;
+    ArrayList<TypeName> thrownList = new ArrayList<>();
+    Token start = token;
+boundaries++;
+    try {
+      if (jj_2_4(2147483647)) {
+        jj_consume_token(IDENTIFIER);
+line = token.beginLine;
+                name = token.image;
+        params = formalParameters();
+        switch (jj_nt.kind) {
+        case THROWS:{
+          jj_consume_token(THROWS);
+          thrown = qualifiedIdentifier();
+thrownList.add(thrown);
+          label_10:
+          while (true) {
+            switch (jj_nt.kind) {
+            case COMMA:{
+              ;
+              break;
+              }
+            default:
+              jj_la1[18] = jj_gen;
+              break label_10;
+            }
+            jj_consume_token(COMMA);
+            thrown = qualifiedIdentifier();
+thrownList.add(thrown);
+          }
+          break;
+          }
+        default:
+          jj_la1[19] = jj_gen;
+          ;
+        }
+        body = block();
+memberDecl = new JConstructorDeclaration(line, mods, name, params, thrownList, body);
+      } else if (jj_2_5(2147483647)) {
+        switch (jj_nt.kind) {
+        case VOID:{
+          jj_consume_token(VOID);
+type = Type.VOID;
+          break;
+          }
+        case BOOLEAN:
+        case BYTE:
+        case CHAR:
+        case DOUBLE:
+        case FLOAT:
+        case INT:
+        case LONG:
+        case SHORT:
+        case IDENTIFIER:{
+          type = type();
+          break;
+          }
+        default:
+          jj_la1[20] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+line = token.beginLine;
+        jj_consume_token(IDENTIFIER);
+name = token.image;
+        params = formalParameters();
+        switch (jj_nt.kind) {
+        case THROWS:{
+          jj_consume_token(THROWS);
+          thrown = qualifiedIdentifier();
+thrownList.add(thrown);
+          label_11:
+          while (true) {
+            switch (jj_nt.kind) {
+            case COMMA:{
+              ;
+              break;
+              }
+            default:
+              jj_la1[21] = jj_gen;
+              break label_11;
+            }
+            jj_consume_token(COMMA);
+            thrown = qualifiedIdentifier();
+thrownList.add(thrown);
+          }
+          break;
+          }
+        default:
+          jj_la1[22] = jj_gen;
+          ;
+        }
+        switch (jj_nt.kind) {
+        case LCURLY:{
+          body = block();
+          break;
+          }
+        case SEMI:{
+          jj_consume_token(SEMI);
+          break;
+          }
+        default:
+          jj_la1[23] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+memberDecl = new JMethodDeclaration(line, mods, name, type, params, thrownList, body);
+      } else {
+        switch (jj_nt.kind) {
+        case BOOLEAN:
+        case BYTE:
+        case CHAR:
+        case DOUBLE:
+        case FLOAT:
+        case INT:
+        case LONG:
+        case SHORT:
+        case IDENTIFIER:{
+          type = type();
+line = token.beginLine;
+          variableDeclarators = variableDeclarators(type);
+          jj_consume_token(SEMI);
+memberDecl = new JFieldDeclaration(line, mods, variableDeclarators);
+          break;
+          }
+        case CLASS:{
+          memberDecl = classDeclaration(mods);
+          break;
+          }
+        case INTERFACE:{
+          memberDecl = interfaceDeclaration(mods);
+          break;
+          }
+        default:
+          jj_la1[24] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+// Leave the member out
+        skipToMember(start, e);
+        memberDecl = null;
+    } finally {
+boundaries--;
+    }
+{if ("" != null) return memberDecl;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JBlock block() throws ParseException {int line = 0;
+    JStatement aStatement = null;
+    ArrayList<JStatement> statements = new ArrayList<JStatement>();
+    try {
+      jj_consume_token(LCURLY);
+line = token.beginLine;
+      label_12:
+      while (true) {
+        switch (jj_nt.kind) {
+        case BOOLEAN:
+        case BREAK:
+        case BYTE:
+        case CHAR:
+        case CONTINUE:
+        case DO:
+        case DOUBLE:
+        case FLOAT:
+        case FOR:
+        case FALSE:
+        case IF:
+        case INT:
+        case LONG:
+        case NEW:
+        case NULL:
+        case RETURN:
+        case SHORT:
+        case SUPER:
+        case THIS:
+        case THROW:
+        case TRUE:
+        case TRY:
+        case WHILE:
+        case LNOT:
+        case TILDE:
+        case PLUS:
+        case INC:
+        case MINUS:
+        case DEC:
+        case LPAREN:
+        case LCURLY:
+        case SEMI:
+        case IDENTIFIER:
+        case INT_LITERAL:
+        case CHAR_LITERAL:
+        case STRING_LITERAL:
+        case DOUBLE_LITERAL:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[25] = jj_gen;
+          break label_12;
+        }
+        aStatement = blockStatement();
+statements.add(aStatement);
+      }
+      jj_consume_token(RCURLY);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JBlock(line, statements);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JStatement blockStatement() throws ParseException {JStatement statement = null;
+    Token start = token;
+    int line = getToken(1).beginLine;
+boundaries++;
+    try {
+      if (jj_2_6(2147483647)) {
+        statement = localVariableDeclarationStatement();
+      } else {
+        switch (jj_nt.kind) {
+        case BREAK:
+        case CONTINUE:
+        case DO:
+        case FOR:
+        case FALSE:
+        case IF:
+        case NEW:
+        case NULL:
+        case RETURN:
+        case SUPER:
+        case THIS:
+        case THROW:
+        case TRUE:
+        case TRY:
+        case WHILE:
+        case LNOT:
+        case TILDE:
+        case PLUS:
+        case INC:
+        case MINUS:
+        case DEC:
+        case LPAREN:
+        case LCURLY:
+        case SEMI:
+        case IDENTIFIER:
+        case INT_LITERAL:
+        case CHAR_LITERAL:
+        case STRING_LITERAL:
+        case DOUBLE_LITERAL:{
+          statement = statement();
+          break;
+          }
+        default:
+          jj_la1[26] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+statement = new JWildStatement(line);
+        skipToStatement(start, e);
+    } finally {
+boundaries--;
+    }
+{if ("" != null) return statement;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JStatement statement() throws ParseException {int line                            = 0;
+    int subline                         = 0;
+    JStatement statement                = null;
+    JExpression test                    = null;
+    JStatement consequent               = null;
+    JStatement alternate                = null;
+    JStatement body                     = null;
+    JExpression expr                    = null;
+    JForInit aForInit                   = null;
+    JStatement aForUpdate               = null;
+    ArrayList<JStatement> forUpdates    = new ArrayList<>();
+    JFormalParameter formal             = null;
+    ArrayList<JCatchClause> catches     = new ArrayList<>();
+    boolean hasCatch                    = false;
+    JBlock try_body                     = null;
+    JBlock catch_body                   = null;
+    JBlock finally_body                 = null;
+    try {
+      switch (jj_nt.kind) {
+      case LCURLY:{
+        statement = block();
+        break;
+        }
+      case BREAK:{
+        jj_consume_token(BREAK);
+line = token.beginLine;
+        jj_consume_token(SEMI);
+statement = new JEmptyStatement(line);
+        break;
+        }
+      case CONTINUE:{
+        jj_consume_token(CONTINUE);
+line = token.beginLine;
+        jj_consume_token(SEMI);
+statement = new JEmptyStatement(line);
+        break;
+        }
+      case THROW:{
+        jj_consume_token(THROW);
+line = token.beginLine;
+        expr = expression();
+        jj_consume_token(SEMI);
+statement = new JThrowStatement(line, expr);
+        break;
+        }
+      case IF:{
+        jj_consume_token(IF);
+line = token.beginLine;
+        test = parExpression();
+        consequent = statement();
+        if (getToken(1).kind == ELSE) {
+          jj_consume_token(ELSE);
+          alternate = statement();
+        } else {
+          ;
+        }
+statement = new JIfStatement(line, test, consequent, alternate);
+        break;
+        }
+      default:
+        jj_la1[34] = jj_gen;
+        if (jj_2_7(2147483647)) {
+          jj_consume_token(FOR);
+line = token.beginLine;
+          jj_consume_token(LPAREN);
+          formal = formalParameter();
+          jj_consume_token(COLON);
+          expr = expression();
+          jj_consume_token(RPAREN);
+          body = statement();
+statement = new JForeachStatement(line, formal, expr, body);
+        } else {
+          switch (jj_nt.kind) {
+          case FOR:{
+            jj_consume_token(FOR);
+line = token.beginLine;
+            jj_consume_token(LPAREN);
+            switch (jj_nt.kind) {
+            case BOOLEAN:
+            case BYTE:
+            case CHAR:
+            case DOUBLE:
+            case FINAL:
+            case FLOAT:
+            case FALSE:
+            case INT:
+            case LONG:
+            case NEW:
+            case NULL:
+            case SHORT:
+            case SUPER:
+            case THIS:
+            case TRUE:
+            case LNOT:
+            case TILDE:
+            case PLUS:
+            case INC:
+            case MINUS:
+            case DEC:
+            case LPAREN:
+            case IDENTIFIER:
+            case INT_LITERAL:
+            case CHAR_LITERAL:
+            case STRING_LITERAL:
+            case DOUBLE_LITERAL:{
+              aForInit = forInit();
+              break;
+              }
+            default:
+              jj_la1[27] = jj_gen;
+              ;
+            }
+            jj_consume_token(SEMI);
+            switch (jj_nt.kind) {
+            case FALSE:
+            case NEW:
+            case NULL:
+            case SUPER:
+            case THIS:
+            case TRUE:
+            case LNOT:
+            case TILDE:
+            case PLUS:
+            case INC:
+            case MINUS:
+            case DEC:
+            case LPAREN:
+            case IDENTIFIER:
+            case INT_LITERAL:
+            case CHAR_LITERAL:
+            case STRING_LITERAL:
+            case DOUBLE_LITERAL:{
+              expr = expression();
+              break;
+              }
+            default:
+              jj_la1[28] = jj_gen;
+              ;
+            }
+            jj_consume_token(SEMI);
+            switch (jj_nt.kind) {
+            case FALSE:
+            case NEW:
+            case NULL:
+            case SUPER:
+            case THIS:
+            case TRUE:
+            case LNOT:
+            case TILDE:
+            case PLUS:
+            case INC:
+            case MINUS:
+            case DEC:
+            case LPAREN:
+            case IDENTIFIER:
+            case INT_LITERAL:
+            case CHAR_LITERAL:
+            case STRING_LITERAL:
+            case DOUBLE_LITERAL:{
+              aForUpdate = statementExpression();
+forUpdates.add(aForUpdate);
+              label_13:
+              while (true) {
+                switch (jj_nt.kind) {
+                case COMMA:{
+                  ;
+                  break;
+                  }
+                default:
+                  jj_la1[29] = jj_gen;
+                  break label_13;
+                }
+                jj_consume_token(COMMA);
+                aForUpdate = statementExpression();
+forUpdates.add(aForUpdate);
+              }
+              break;
+              }
+            default:
+              jj_la1[30] = jj_gen;
+              ;
+            }
+            jj_consume_token(RPAREN);
+            body = statement();
+statement = new JForStatement(line, aForInit, expr, forUpdates, body);
+            break;
+            }
+          case WHILE:{
+            jj_consume_token(WHILE);
+line = token.beginLine;
+            test = parExpression();
+            body = statement();
+statement = new JWhileStatement(line, test, body);
+            break;
+            }
+          case DO:{
+            jj_consume_token(DO);
+line = token.beginLine;
+            body = statement();
+            jj_consume_token(WHILE);
+            test = parExpression();
+            jj_consume_token(SEMI);
+statement = new JDoWhileStatement(line, test, body);
+            break;
+            }
+          case TRY:{
+            jj_consume_token(TRY);
+line = token.beginLine;
+            try_body = block();
+            label_14:
+            while (true) {
+              switch (jj_nt.kind) {
+              case CATCH:{
+                ;
+                break;
+                }
+              default:
+                jj_la1[31] = jj_gen;
+                break label_14;
+              }
+              jj_consume_token(CATCH);
+subline = token.beginLine;
+              jj_consume_token(LPAREN);
+              formal = formalParameter();
+              jj_consume_token(RPAREN);
+              catch_body = block();
+catches.add(new JCatchClause(subline, formal, catch_body)); hasCatch = true;
+            }
+            switch (jj_nt.kind) {
+            case FINALLY:{
+              jj_consume_token(FINALLY);
+              finally_body = block();
+hasCatch = true;
+              break;
+              }
+            default:
+              jj_la1[32] = jj_gen;
+              ;
+            }
+if (!hasCatch) reportParserError("try block needs a catch clause or a finally block");
+            statement = new JTryCatchStatement(line, try_body, catches, finally_body);
+            break;
+            }
+          case RETURN:{
+            jj_consume_token(RETURN);
+line = token.beginLine;
+            switch (jj_nt.kind) {
+            case FALSE:
+            case NEW:
+            case NULL:
+            case SUPER:
+            case THIS:
+            case TRUE:
+            case LNOT:
+            case TILDE:
+            case PLUS:
+            case INC:
+            case MINUS:
+            case DEC:
+            case LPAREN:
+            case IDENTIFIER:
+            case INT_LITERAL:
+            case CHAR_LITERAL:
+            case STRING_LITERAL:
+            case DOUBLE_LITERAL:{
+              expr = expression();
+              break;
+              }
+            default:
+              jj_la1[33] = jj_gen;
+              ;
+            }
+            jj_consume_token(SEMI);
+statement = new JReturnStatement(line, expr);
+            break;
+            }
+          case SEMI:{
+            jj_consume_token(SEMI);
+line = token.beginLine; statement = new JEmptyStatement( line );
+            break;
+            }
+          case FALSE:
+          case NEW:
+          case NULL:
+          case SUPER:
+          case THIS:
+          case TRUE:
+          case LNOT:
+          case TILDE:
+          case PLUS:
+          case INC:
+          case MINUS:
+          case DEC:
+          case LPAREN:
+          case IDENTIFIER:
+          case INT_LITERAL:
+          case CHAR_LITERAL:
+          case STRING_LITERAL:
+          case DOUBLE_LITERAL:{
+            // Must be a statementExpression
+                    statement = statementExpression();
+            jj_consume_token(SEMI);
+            break;
+            }
+          default:
+            jj_la1[35] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return statement;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JForInit forInit() throws ParseException {JStatement statement = null;
+    JVariableDeclarator declarator = null;
+    ArrayList<JVariableDeclarator> variableDeclarators = new ArrayList<>();
+    ArrayList<JStatement> statements = new ArrayList<>();
+    boolean isFinal = false;
+    Type typ = null;
+    try {
+      if (jj_2_8(2147483647)) {
+        switch (jj_nt.kind) {
+        case FINAL:{
+          jj_consume_token(FINAL);
+isFinal = true;
+          break;
+          }
+        default:
+          jj_la1[36] = jj_gen;
+          ;
+        }
+        // TODO: IGNORED FOR NOW
+                    typ = type();
+        declarator = variableDeclarator(typ);
+variableDeclarators.add(declarator);
+        label_15:
+        while (true) {
+          switch (jj_nt.kind) {
+          case COMMA:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[37] = jj_gen;
+            break label_15;
+          }
+          jj_consume_token(COMMA);
+          declarator = variableDeclarator(typ);
+variableDeclarators.add(declarator);
+        }
+{if ("" != null) return new JForInit(variableDeclarators, null);}
+      } else {
+        switch (jj_nt.kind) {
+        case FALSE:
+        case NEW:
+        case NULL:
+        case SUPER:
+        case THIS:
+        case TRUE:
+        case LNOT:
+        case TILDE:
+        case PLUS:
+        case INC:
+        case MINUS:
+        case DEC:
+        case LPAREN:
+        case IDENTIFIER:
+        case INT_LITERAL:
+        case CHAR_LITERAL:
+        case STRING_LITERAL:
+        case DOUBLE_LITERAL:{
+          statement = statementExpression();
+statements.add(statement);
+          label_16:
+          while (true) {
+            switch (jj_nt.kind) {
+            case COMMA:{
+              ;
+              break;
+              }
+            default:
+              jj_la1[38] = jj_gen;
+              break label_16;
+            }
+            jj_consume_token(COMMA);
+            statement = statementExpression();
+statements.add(statement);
+          }
+{if ("" != null) return new JForInit(null, statements);}
+          break;
+          }
+        default:
+          jj_la1[39] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+    throw new Error("Missing return statement in function");
+}
+
+  final private ArrayList<JFormalParameter> formalParameters() throws ParseException {ArrayList<JFormalParameter> parameters = new ArrayList<JFormalParameter>();
+    JFormalParameter aParameter = null;
+    try {
+      jj_consume_token(LPAREN);
+      switch (jj_nt.kind) {
+      case BOOLEAN:
+      case BYTE:
+      case CHAR:
+      case DOUBLE:
+      case FLOAT:
+      case INT:
+      case LONG:
+      case SHORT:
+      case IDENTIFIER:{
+        aParameter = formalParameter();
+parameters.add(aParameter);
+        label_17:
+        while (true) {
+          switch (jj_nt.kind) {
+          case COMMA:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[40] = jj_gen;
+            break label_17;
+          }
+          jj_consume_token(COMMA);
+          aParameter = formalParameter();
+parameters.add(aParameter);
+        }
+        break;
+        }
+      default:
+        jj_la1[41] = jj_gen;
+        ;
+      }
+      jj_consume_token(RPAREN);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return parameters;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JFormalParameter formalParameter() throws ParseException {int line    = 0;
+    Type type   = null;
+    String name = "";
+    try {
+      type = type();
+line = token.beginLine;
+      jj_consume_token(IDENTIFIER);
+name = token.image;
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JFormalParameter(line, name, type);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression parExpression() throws ParseException {JExpression expr = null;
+    try {
+      jj_consume_token(LPAREN);
+      expr = expression();
+      jj_consume_token(RPAREN);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JVariableDeclaration localVariableDeclarationStatement() throws ParseException {int line = 0;
+    Type type = null;
+    ArrayList<JVariableDeclarator> vdecls = null;
+    ArrayList<String> mods = new ArrayList<String>();
+    try {
+      type = type();
+line = token.beginLine;
+      vdecls = variableDeclarators(type);
+      jj_consume_token(SEMI);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JVariableDeclaration(line, mods, vdecls);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private ArrayList<JVariableDeclarator> variableDeclarators(Type type) throws ParseException {JVariableDeclarator aVariableDeclarator = null;
+    ArrayList<JVariableDeclarator> variableDeclarators =
+        new ArrayList<JVariableDeclarator>();
+    try {
+      aVariableDeclarator = variableDeclarator(type);
+variableDeclarators.add(aVariableDeclarator);
+      label_18:
+      while (true) {
+        switch (jj_nt.kind) {
+        case COMMA:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[42] = jj_gen;
+          break label_18;
+        }
+        jj_consume_token(COMMA);
+        aVariableDeclarator = variableDeclarator(type);
+variableDeclarators.add(aVariableDeclarator);
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return variableDeclarators;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JVariableDeclarator variableDeclarator(Type type) throws ParseException {int line = 0;
+    JExpression initial = null;
+    String name = "";
+    try {
+      jj_consume_token(IDENTIFIER);
+line = token.beginLine; name = token.image;
+      switch (jj_nt.kind) {
+      case ASSIGN:{
+        jj_consume_token(ASSIGN);
+        initial = variableInitializer(type);
+        break;
+        }
+      default:
+        jj_la1[43] = jj_gen;
+        ;
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JVariableDeclarator(line, name, type, initial);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression variableInitializer(Type expected) throws ParseException {JExpression initializer = null;
+    try {
+      switch (jj_nt.kind) {
+      case LCURLY:{
+        initializer = arrayInitializer(expected);
+        break;
+        }
+      case FALSE:
+      case NEW:
+      case NULL:
+      case SUPER:
+      case THIS:
+      case TRUE:
+      case LNOT:
+      case TILDE:
+      case PLUS:
+      case INC:
+      case MINUS:
+      case DEC:
+      case LPAREN:
+      case IDENTIFIER:
+      case INT_LITERAL:
+      case CHAR_LITERAL:
+      case STRING_LITERAL:
+      case DOUBLE_LITERAL:{
+        initializer = expression();
+        break;
+        }
+      default:
+        jj_la1[44] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return initializer;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JArrayInitializer arrayInitializer(Type expected) throws ParseException {int line = 0;
+    ArrayList<JExpression> initials = new ArrayList<JExpression>();
+    JExpression anInitializer = null;
+    try {
+      jj_consume_token(LCURLY);
+line = token.beginLine;
+      switch (jj_nt.kind) {
+      case FALSE:
+      case NEW:
+      case NULL:
+      case SUPER:
+      case THIS:
+      case TRUE:
+      case LNOT:
+      case TILDE:
+      case PLUS:
+      case INC:
+      case MINUS:
+      case DEC:
+      case LPAREN:
+      case LCURLY:
+      case IDENTIFIER:
+      case INT_LITERAL:
+      case CHAR_LITERAL:
+      case STRING_LITERAL:
+      case DOUBLE_LITERAL:{
+        anInitializer = variableInitializer(expected.componentType());
+initials.add(anInitializer);
+        label_19:
+        while (true) {
+          switch (jj_nt.kind) {
+          case COMMA:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[45] = jj_gen;
+            break label_19;
+          }
+          jj_consume_token(COMMA);
+          anInitializer = variableInitializer(expected.componentType());
+initials.add(anInitializer);
+        }
+        break;
+        }
+      default:
+        jj_la1[46] = jj_gen;
+        ;
+      }
+      jj_consume_token(RCURLY);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JArrayInitializer(line, expected, initials);}
+    throw new Error("Missing return statement in function");
+}
+
+  final private ArrayList<JExpression> arguments() throws ParseException {ArrayList<JExpression> args = new ArrayList<JExpression>();
+    JExpression anExpression = null;
+    try {
+      jj_consume_token(LPAREN);
+      switch (jj_nt.kind) {
+      case FALSE:
+      case NEW:
+      case NULL:
+      case SUPER:
+      case THIS:
+      case TRUE:
+      case LNOT:
+      case TILDE:
+      case PLUS:
+      case INC:
+      case MINUS:
+      case DEC:
+      case LPAREN:
+      case IDENTIFIER:
+      case INT_LITERAL:
+      case CHAR_LITERAL:
+      case STRING_LITERAL:
+      case DOUBLE_LITERAL:{
+        anExpression = expression();
+args.add(anExpression);
+        label_20:
+        while (true) {
+          switch (jj_nt.kind) {
+          case COMMA:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[47] = jj_gen;
+            break label_20;
+          }
+          jj_consume_token(COMMA);
+          anExpression = expression();
+args.add(anExpression);
+        }
+        break;
+        }
+      default:
+        jj_la1[48] = jj_gen;
+        ;
+      }
+      jj_consume_token(RPAREN);
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return args;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private Type type() throws ParseException {Type type = null;
+    try {
+      if (jj_2_9(2147483647)) {
+        type = referenceType();
+      } else {
+        switch (jj_nt.kind) {
+        case BOOLEAN:
+        case BYTE:
+        case CHAR:
+        case DOUBLE:
+        case FLOAT:
+        case INT:
+        case LONG:
+        case SHORT:{
+          type = basicType();
+          break;
+          }
+        default:
+          jj_la1[49] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return type;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private Type basicType() throws ParseException {Type type = Type.ANY;
+    try {
+      switch (jj_nt.kind) {
+      case BOOLEAN:{
+        jj_consume_token(BOOLEAN);
+type = Type.BOOLEAN;
+        break;
+        }
+      case CHAR:{
+        jj_consume_token(CHAR);
+type = Type.CHAR;
+        break;
+        }
+      case INT:{
+        jj_consume_token(INT);
+type = Type.INT;
+        break;
+        }
+      case LONG:{
+        jj_consume_token(LONG);
+type = Type.INT;
+        break;
+        }
+      case SHORT:{
+        jj_consume_token(SHORT);
+type = Type.INT;
+        break;
+        }
+      case BYTE:{
+        jj_consume_token(BYTE);
+type = Type.INT;
+        break;
+        }
+      case DOUBLE:{
+        jj_consume_token(DOUBLE);
+type = Type.DOUBLE;
+        break;
+        }
+      case FLOAT:{
+        jj_consume_token(FLOAT);
+type = Type.DOUBLE;
+        break;
+        }
+      default:
+        jj_la1[50] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return type;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private Type referenceType() throws ParseException {Type type = Type.ANY;
+    try {
+      switch (jj_nt.kind) {
+      case BOOLEAN:
+      case BYTE:
+      case CHAR:
+      case DOUBLE:
+      case FLOAT:
+      case INT:
+      case LONG:
+      case SHORT:{
+        type = basicType();
+        jj_consume_token(LBRACK);
+        jj_consume_token(RBRACK);
+type = new ArrayTypeName(type);
+        label_21:
+        while (true) {
+          switch (jj_nt.kind) {
+          case LBRACK:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[51] = jj_gen;
+            break label_21;
+          }
+          jj_consume_token(LBRACK);
+          jj_consume_token(RBRACK);
+type = new ArrayTypeName(type);
+        }
+        break;
+        }
+      case IDENTIFIER:{
+        type = qualifiedIdentifier();
+        label_22:
+        while (true) {
+          switch (jj_nt.kind) {
+          case LBRACK:{
+            ;
+            break;
+            }
+          default:
+            jj_la1[52] = jj_gen;
+            break label_22;
+          }
+          jj_consume_token(LBRACK);
+          jj_consume_token(RBRACK);
+type = new ArrayTypeName(type);
+        }
+        break;
+        }
+      default:
+        jj_la1[53] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return type;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JStatement statementExpression() throws ParseException {int line = 0;
+    JExpression expr = null;
+    try {
+      expr = expression();
+line = expr.line();
+            if (expr instanceof JAssignment
+             || expr instanceof JPreIncrementOp
+             || expr instanceof JPreDecrementOp
+             || expr instanceof JPostDecrementOp
+             || expr instanceof JPostIncrementOp
+             || expr instanceof JMessageExpression
+             || expr instanceof JSuperConstruction
+             || expr instanceof JThisConstruction
+             || expr instanceof JNewOp
+             || expr instanceof JNewArrayOp) {
+                // So as not to save on stack
+                expr.isStatementExpression = true;
+            } else {
+                reportParserError("Invalid statement expression; " +
+                                  "it does not have a side-effect");
+            }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JStatementExpression( line, expr );}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression expression() throws ParseException {JExpression expr = null;
+    try {
+      expr = assignmentExpression();
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression assignmentExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = conditionalExpression();
+line = lhs.line();
+      switch (jj_nt.kind) {
+      case ASSIGN:
+      case DIV_ASSIGN:
+      case PLUS_ASSIGN:
+      case MINUS_ASSIGN:
+      case STAR_ASSIGN:
+      case MOD_ASSIGN:
+      case SHIFTR_ASSIGN:
+      case USHIFTR_ASSIGN:
+      case SHIFTL_ASSIGN:
+      case XOR_ASSIGN:
+      case BIT_OR_ASSIGN:
+      case BIT_AND_ASSIGN:{
+        switch (jj_nt.kind) {
+        case ASSIGN:{
+          jj_consume_token(ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JAssign(line, lhs, rhs);
+          break;
+          }
+        case PLUS_ASSIGN:{
+          jj_consume_token(PLUS_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JPlusAssign(line, lhs, rhs);
+          break;
+          }
+        case MINUS_ASSIGN:{
+          jj_consume_token(MINUS_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JMinusAssign(line, lhs, rhs);
+          break;
+          }
+        case STAR_ASSIGN:{
+          jj_consume_token(STAR_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JStarAssign(line, lhs, rhs);
+          break;
+          }
+        case DIV_ASSIGN:{
+          jj_consume_token(DIV_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JDivAssign(line, lhs, rhs);
+          break;
+          }
+        case MOD_ASSIGN:{
+          jj_consume_token(MOD_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JModAssign(line, lhs, rhs);
+          break;
+          }
+        case SHIFTR_ASSIGN:{
+          jj_consume_token(SHIFTR_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JShiftRAssign(line, lhs, rhs);
+          break;
+          }
+        case USHIFTR_ASSIGN:{
+          jj_consume_token(USHIFTR_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JUshiftRAssign(line, lhs, rhs);
+          break;
+          }
+        case SHIFTL_ASSIGN:{
+          jj_consume_token(SHIFTL_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JShiftLAssign(line, lhs, rhs);
+          break;
+          }
+        case XOR_ASSIGN:{
+          jj_consume_token(XOR_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JXorAssign(line, lhs, rhs);
+          break;
+          }
+        case BIT_AND_ASSIGN:{
+          jj_consume_token(BIT_AND_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JBitAndAssign(line, lhs, rhs);
+          break;
+          }
+        case BIT_OR_ASSIGN:{
+          jj_consume_token(BIT_OR_ASSIGN);
+          rhs = assignmentExpression();
+lhs = new JBitOrAssign(line, lhs, rhs);
+          break;
+          }
+        default:
+          jj_la1[54] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+        break;
+        }
+      default:
+        jj_la1[55] = jj_gen;
+        ;
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression conditionalExpression() throws ParseException {int line = 0;
+    JExpression ret = null;
+    JExpression condition = null, trueBranch = null, falseBranch = null;
+    try {
+      condition = conditionalOrExpression();
+line = condition.line();
+      switch (jj_nt.kind) {
+      case TERNARY:{
+        jj_consume_token(TERNARY);
+        trueBranch = assignmentExpression();
+        jj_consume_token(COLON);
+        falseBranch = conditionalExpression();
+{if ("" != null) return new JConditionalExpression(line, condition, trueBranch, falseBranch);}
+        break;
+        }
+      default:
+        jj_la1[56] = jj_gen;
+        ;
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return condition;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression conditionalOrExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = conditionalAndExpression();
+line = lhs.line();
+      label_23:
+      while (true) {
+        switch (jj_nt.kind) {
+        case LOR:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[57] = jj_gen;
+          break label_23;
+        }
+        jj_consume_token(LOR);
+        rhs = conditionalAndExpression();
+lhs = new JLogicalOrOp(line, lhs, rhs);
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression conditionalAndExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = inclusiveOrExpression();
+line = lhs.line();
+      label_24:
+      while (true) {
+        switch (jj_nt.kind) {
+        case LAND:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[58] = jj_gen;
+          break label_24;
+        }
+        jj_consume_token(LAND);
+        rhs = inclusiveOrExpression();
+lhs = new JLogicalAndOp(line, lhs, rhs);
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression inclusiveOrExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = exclusiveOrExpression();
+line = lhs.line();
+      label_25:
+      while (true) {
+        switch (jj_nt.kind) {
+        case BIT_OR:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[59] = jj_gen;
+          break label_25;
+        }
+        jj_consume_token(BIT_OR);
+        rhs = exclusiveOrExpression();
+lhs = new JBitOrOp(line, lhs, rhs);
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression exclusiveOrExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = andExpression();
+line = lhs.line();
+      label_26:
+      while (true) {
+        switch (jj_nt.kind) {
+        case XOR:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[60] = jj_gen;
+          break label_26;
+        }
+        jj_consume_token(XOR);
+        rhs = andExpression();
+lhs = new JXorOp(line, lhs, rhs);
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression andExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = equalityExpression();
+line = lhs.line();
+      label_27:
+      while (true) {
+        switch (jj_nt.kind) {
+        case BIT_AND:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[61] = jj_gen;
+          break label_27;
+        }
+        jj_consume_token(BIT_AND);
+        rhs = equalityExpression();
+lhs = new JBitAndOp(line, lhs, rhs);
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression equalityExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = relationalExpression();
+line = lhs.line();
+      label_28:
+      while (true) {
+        switch (jj_nt.kind) {
+        case EQ:
+        case NEQ:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[62] = jj_gen;
+          break label_28;
+        }
+        switch (jj_nt.kind) {
+        case EQ:{
+          jj_consume_token(EQ);
+          rhs = relationalExpression();
+lhs = new JEqualOp(line, lhs, rhs);
+          break;
+          }
+        case NEQ:{
+          jj_consume_token(NEQ);
+          rhs = relationalExpression();
+lhs = new JNotEqualOp(line, lhs, rhs);
+          break;
+          }
+        default:
+          jj_la1[63] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression relationalExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    Type type = null;
+    try {
+      lhs = shiftExpression();
+line = lhs.line();
+      switch (jj_nt.kind) {
+      case INSTANCEOF:
+      case GE:
+      case GT:
+      case LE:
+      case LT:{
+        switch (jj_nt.kind) {
+        case GT:{
+          jj_consume_token(GT);
+          rhs = shiftExpression();
+lhs = new JGreaterThanOp(line, lhs, rhs);
+          break;
+          }
+        case LT:{
+          jj_consume_token(LT);
+          rhs = shiftExpression();
+lhs = new JLessThanOp(line, lhs, rhs);
+          break;
+          }
+        case LE:{
+          jj_consume_token(LE);
+          rhs = shiftExpression();
+lhs = new JLessEqualOp(line, lhs, rhs);
+          break;
+          }
+        case GE:{
+          jj_consume_token(GE);
+          rhs = shiftExpression();
+lhs = new JGreaterEqualOp(line, lhs, rhs);
+          break;
+          }
+        case INSTANCEOF:{
+          jj_consume_token(INSTANCEOF);
+          type = referenceType();
+lhs = new JInstanceOfOp(line, lhs, type);
+          break;
+          }
+        default:
+          jj_la1[64] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+        break;
+        }
+      default:
+        jj_la1[65] = jj_gen;
+        ;
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression shiftExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = additiveExpression();
+line = lhs.line();
+      label_29:
+      while (true) {
+        switch (jj_nt.kind) {
+        case SHIFTR:
+        case USHIFTR:
+        case SHIFTL:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[66] = jj_gen;
+          break label_29;
+        }
+        switch (jj_nt.kind) {
+        case SHIFTL:{
+          jj_consume_token(SHIFTL);
+          rhs = additiveExpression();
+lhs = new JShiftLeftOp(line, lhs, rhs);
+          break;
+          }
+        case SHIFTR:{
+          jj_consume_token(SHIFTR);
+          rhs = additiveExpression();
+lhs = new JShiftRightOp(line, lhs, rhs);
+          break;
+          }
+        case USHIFTR:{
+          jj_consume_token(USHIFTR);
+          rhs = additiveExpression();
+lhs = new JUnsignedShiftRightOp(line, lhs, rhs);
+          break;
+          }
+        default:
+          jj_la1[67] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression additiveExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = multiplicativeExpression();
+line = lhs.line();
+      label_30:
+      while (true) {
+        switch (jj_nt.kind) {
+        case PLUS:
+        case MINUS:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[68] = jj_gen;
+          break label_30;
+        }
+        switch (jj_nt.kind) {
+        case PLUS:{
+          jj_consume_token(PLUS);
+          rhs = multiplicativeExpression();
+lhs = new JPlusOp(line, lhs, rhs);
+          break;
+          }
+        case MINUS:{
+          jj_consume_token(MINUS);
+          rhs = multiplicativeExpression();
+lhs = new JSubtractOp(line, lhs, rhs);
+          break;
+          }
+        default:
+          jj_la1[69] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression multiplicativeExpression() throws ParseException {int line = 0;
+    JExpression lhs = null, rhs = null;
+    try {
+      lhs = unaryExpression();
+line = lhs.line();
+      label_31:
+      while (true) {
+        switch (jj_nt.kind) {
+        case DIV:
+        case STAR:
+        case MOD:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[70] = jj_gen;
+          break label_31;
+        }
+        switch (jj_nt.kind) {
+        case STAR:{
+          jj_consume_token(STAR);
+          rhs = unaryExpression();
+lhs = new JMultiplyOp(line, lhs, rhs);
+          break;
+          }
+        case DIV:{
+          jj_consume_token(DIV);
+          rhs = unaryExpression();
+lhs = new JDivideOp(line, lhs, rhs);
+          break;
+          }
+        case MOD:{
+          jj_consume_token(MOD);
+          rhs = unaryExpression();
+lhs = new JModOp(line, lhs, rhs);
+          break;
+          }
+        default:
+          jj_la1[71] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return lhs;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression unaryExpression() throws ParseException {int line = 0;
+    JExpression expr = null, unaryExpr = null;
+    try {
+      switch (jj_nt.kind) {
+      case INC:{
+        jj_consume_token(INC);
+line = token.beginLine;
+        unaryExpr = unaryExpression();
+expr = new JPreIncrementOp(line, unaryExpr);
+        break;
+        }
+      case DEC:{
+        jj_consume_token(DEC);
+line = token.beginLine;
+        unaryExpr = unaryExpression();
+expr = new JPreDecrementOp(line, unaryExpr);
+        break;
+        }
+      case MINUS:{
+        jj_consume_token(MINUS);
+line = token.beginLine;
+        unaryExpr = unaryExpression();
+expr = new JNegateOp(line, unaryExpr);
+        break;
+        }
+      case PLUS:{
+        jj_consume_token(PLUS);
+line = token.beginLine;
+        unaryExpr = unaryExpression();
+expr = new JUnaryPlusOp(line, unaryExpr);
+        break;
+        }
+      case FALSE:
+      case NEW:
+      case NULL:
+      case SUPER:
+      case THIS:
+      case TRUE:
+      case LNOT:
+      case TILDE:
+      case LPAREN:
+      case IDENTIFIER:
+      case INT_LITERAL:
+      case CHAR_LITERAL:
+      case STRING_LITERAL:
+      case DOUBLE_LITERAL:{
+        expr = simpleUnaryExpression();
+        break;
+        }
+      default:
+        jj_la1[72] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression simpleUnaryExpression() throws ParseException {int line = 0;
+    Type type = null;
+    JExpression expr = null, unaryExpr = null, simpleUnaryExpr = null;
+    try {
+      switch (jj_nt.kind) {
+      case LNOT:{
+        jj_consume_token(LNOT);
+line = token.beginLine;
+        unaryExpr = unaryExpression();
+expr = new JLogicalNotOp(line, unaryExpr);
+        break;
+        }
+      case TILDE:{
+        jj_consume_token(TILDE);
+line = token.beginLine;
+        unaryExpr = unaryExpression();
+expr = new JTildeOp(line, unaryExpr);
+        break;
+        }
+      default:
+        jj_la1[73] = jj_gen;
+        if (jj_2_10(2147483647)) {
+          jj_consume_token(LPAREN);
+line = token.beginLine;
+          type = basicType();
+          jj_consume_token(RPAREN);
+          unaryExpr = unaryExpression();
+expr = new JCastOp(line, type, unaryExpr);
+        } else if (jj_2_11(2147483647)) {
+          jj_consume_token(LPAREN);
+line = token.beginLine;
+          type = referenceType();
+          jj_consume_token(RPAREN);
+          simpleUnaryExpr = simpleUnaryExpression();
+expr = new JCastOp(line, type, simpleUnaryExpr);
+        } else {
+          switch (jj_nt.kind) {
+          case FALSE:
+          case NEW:
+          case NULL:
+          case SUPER:
+          case THIS:
+          case TRUE:
+          case LPAREN:
+          case IDENTIFIER:
+          case INT_LITERAL:
+          case CHAR_LITERAL:
+          case STRING_LITERAL:
+          case DOUBLE_LITERAL:{
+            expr = postfixExpression();
+            break;
+            }
+          default:
+            jj_la1[74] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr ;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression postfixExpression() throws ParseException {int line = 0;
+    JExpression primaryExpr = null;
+    try {
+      primaryExpr = primary();
+line = primaryExpr.line();
+      label_32:
+      while (true) {
+        switch (jj_nt.kind) {
+        case LBRACK:
+        case DOT:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[75] = jj_gen;
+          break label_32;
+        }
+        primaryExpr = selector(primaryExpr);
+      }
+      label_33:
+      while (true) {
+        switch (jj_nt.kind) {
+        case INC:
+        case DEC:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[76] = jj_gen;
+          break label_33;
+        }
+        switch (jj_nt.kind) {
+        case DEC:{
+          jj_consume_token(DEC);
+primaryExpr = new JPostDecrementOp(line, primaryExpr);
+          break;
+          }
+        case INC:{
+          jj_consume_token(INC);
+primaryExpr = new JPostIncrementOp(line, primaryExpr);
+          break;
+          }
+        default:
+          jj_la1[77] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return primaryExpr;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression selector(JExpression target) throws ParseException {int line = 0;
+    ArrayList<JExpression> args = null;
+    TypeName id = null;
+    JExpression expr = null;
+    try {
+      switch (jj_nt.kind) {
+      case DOT:{
+        jj_consume_token(DOT);
+line = token.beginLine;
+        id = qualifiedIdentifier();
+expr = new JFieldSelection(line, ambiguousPart(id), target, id.simpleName());
+        switch (jj_nt.kind) {
+        case LPAREN:{
+          args = arguments();
+expr = new JMessageExpression(line, target, ambiguousPart(id), id.simpleName(), args);
+          break;
+          }
+        default:
+          jj_la1[78] = jj_gen;
+          ;
+        }
+        break;
+        }
+      case LBRACK:{
+        jj_consume_token(LBRACK);
+line = token.beginLine; expr = new JArrayExpression(line, target, expression());
+        jj_consume_token(RBRACK);
+        break;
+        }
+      default:
+        jj_la1[79] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression primary() throws ParseException {int line = 0;
+    JExpression expr = null;
+    String ident = "";
+    JExpression newTarget = null;
+    ArrayList<JExpression> args = null;
+    TypeName id = null;
+    try {
+      switch (jj_nt.kind) {
+      case LPAREN:{
+        expr = parExpression();
+        break;
+        }
+      case THIS:{
+        jj_consume_token(THIS);
+line = token.beginLine; expr = new JThis(line);
+        switch (jj_nt.kind) {
+        case LPAREN:{
+          args = arguments();
+expr = new JThisConstruction(line, args);
+          break;
+          }
+        default:
+          jj_la1[80] = jj_gen;
+          ;
+        }
+        break;
+        }
+      case SUPER:{
+        jj_consume_token(SUPER);
+line = token.beginLine;
+        switch (jj_nt.kind) {
+        case LPAREN:{
+          args = arguments();
+expr = new JSuperConstruction(line, args);
+          break;
+          }
+        case DOT:{
+          jj_consume_token(DOT);
+          jj_consume_token(IDENTIFIER);
+newTarget = new JSuper(line); ident = token.image;
+          if (getToken(1).kind == LPAREN) {
+            args = arguments();
+expr = new JMessageExpression(line, newTarget, null, ident, args);
+          } else {
+expr = new JFieldSelection(line, newTarget, ident);
+          }
+          break;
+          }
+        default:
+          jj_la1[81] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+        break;
+        }
+      case FALSE:
+      case NULL:
+      case TRUE:
+      case INT_LITERAL:
+      case CHAR_LITERAL:
+      case STRING_LITERAL:
+      case DOUBLE_LITERAL:{
+        expr = literal();
+        break;
+        }
+      case NEW:{
+        jj_consume_token(NEW);
+        expr = creator();
+        break;
+        }
+      case IDENTIFIER:{
+        // Language is ambiguous here. JavaCC warns about not being
+                // able to choose between qualifiedIdentifier and selector.
+                // Semantic analysis will sort it out.
+                id = qualifiedIdentifier();
+line = id.line();
+            if (ambiguousPart(id) == null) {
+                expr = new JVariable(line, id.simpleName());
+            } else {
+                expr = new JFieldSelection(line, ambiguousPart(id),
+                                            null, id.simpleName());
+            }
+        switch (jj_nt.kind) {
+        case LPAREN:{
+          args = arguments();
+expr = new JMessageExpression(line, null,
+                                            ambiguousPart(id),
+                                            id.simpleName(), args);
+          break;
+          }
+        default:
+          jj_la1[82] = jj_gen;
+          ;
+        }
+        break;
+        }
+      default:
+        jj_la1[83] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression creator() throws ParseException {int line = 0;
+    Type type = null;
+    ArrayList<JExpression> args = null;
+    ArrayList<JExpression> dims = null;
+    JArrayInitializer init =  null;
+    JExpression expr = null;
+    Type expected = null;
+    try {
+      switch (jj_nt.kind) {
+      case BOOLEAN:
+      case BYTE:
+      case CHAR:
+      case DOUBLE:
+      case FLOAT:
+      case INT:
+      case LONG:
+      case SHORT:{
+        type = basicType();
+        break;
+        }
+      case IDENTIFIER:{
+        type = qualifiedIdentifier();
+        break;
+        }
+      default:
+        jj_la1[84] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+line = token.beginLine;
+          expected = type;
+      switch (jj_nt.kind) {
+      case LPAREN:{
+        args = arguments();
+expr = new JNewOp(line, type, args);
+        break;
+        }
+      default:
+        jj_la1[86] = jj_gen;
+        if (getToken(1).kind == LBRACK
+                                && getToken(2).kind != RBRACK) {
+          expr = newArrayDeclarator(type);
+        } else {
+          switch (jj_nt.kind) {
+          case LBRACK:{
+            jj_consume_token(LBRACK);
+            jj_consume_token(RBRACK);
+expected = new ArrayTypeName(expected);
+            label_34:
+            while (true) {
+              if (getToken(1).kind == LBRACK
+                                          && getToken(2).kind == RBRACK) {
+                ;
+              } else {
+                break label_34;
+              }
+              jj_consume_token(LBRACK);
+              jj_consume_token(RBRACK);
+expected = new ArrayTypeName(expected);
+            }
+            switch (jj_nt.kind) {
+            case LCURLY:{
+              expr = arrayInitializer(expected);
+              break;
+              }
+            default:
+              jj_la1[85] = jj_gen;
+              ;
+            }
+            break;
+            }
+          default:
+            jj_la1[87] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+        }
+      }
+    } catch (ParseException e) {
+expr = new JWildExpression(token.beginLine);
+        recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr;}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JNewArrayOp newArrayDeclarator(Type type) throws ParseException {int line = 0;
+    ArrayList<JExpression> dimensions = new ArrayList<JExpression>();
+    JExpression expr = null;
+    try {
+      jj_consume_token(LBRACK);
+line = token.beginLine;
+      expr = expression();
+dimensions.add(expr);
+          type = new ArrayTypeName(type);
+      jj_consume_token(RBRACK);
+      label_35:
+      while (true) {
+        if (getToken(1).kind == LBRACK
+                                && getToken(2).kind != RBRACK) {
+          ;
+        } else {
+          break label_35;
+        }
+        jj_consume_token(LBRACK);
+        expr = expression();
+dimensions.add(expr);
+              type = new ArrayTypeName(type);
+        jj_consume_token(RBRACK);
+      }
+      label_36:
+      while (true) {
+        if (getToken(1).kind == LBRACK
+                                && getToken(2).kind == RBRACK) {
+          ;
+        } else {
+          break label_36;
+        }
+        jj_consume_token(LBRACK);
+        jj_consume_token(RBRACK);
+type = new ArrayTypeName(type);
+      }
+    } catch (ParseException e) {
+recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return new JNewArrayOp( line, type, dimensions );}
+    throw new Error("Missing return statement in function");
+}
+
+  final private JExpression literal() throws ParseException {JExpression expr = null;
+    try {
+      switch (jj_nt.kind) {
+      case INT_LITERAL:{
+        jj_consume_token(INT_LITERAL);
+expr = new JLiteralInt(token.beginLine, token.image);
+        break;
+        }
+      case CHAR_LITERAL:{
+        jj_consume_token(CHAR_LITERAL);
+expr = new JLiteralChar(token.beginLine, token.image);
+        break;
+        }
+      case STRING_LITERAL:{
+        jj_consume_token(STRING_LITERAL);
+expr =
+              new JLiteralString(token.beginLine, token.image);
+        break;
+        }
+      case DOUBLE_LITERAL:{
+        jj_consume_token(DOUBLE_LITERAL);
+expr =
+              new JLiteralDouble(token.beginLine, token.image);
+        break;
+        }
+      case TRUE:{
+        jj_consume_token(TRUE);
+expr = new JLiteralTrue(token.beginLine);
+        break;
+        }
+      case FALSE:{
+        jj_consume_token(FALSE);
+expr = new JLiteralFalse(token.beginLine);
+        break;
+        }
+      case NULL:{
+        jj_consume_token(NULL);
+expr = new JLiteralNull(token.beginLine);
+        break;
+        }
+      default:
+        jj_la1[88] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    } catch (ParseException e) {
+expr = new JWildExpression(token.beginLine);
+        recoverFromError(new int[] { SEMI, EOF }, e);
+    }
+{if ("" != null) return expr;}
+    throw new Error("Missing return statement in function");
+}
+
+  private boolean jj_2_1(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_1()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(0, xla); }
+  }
+
+  private boolean jj_2_2(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_2()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(1, xla); }
+  }
+
+  private boolean jj_2_3(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_3()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(2, xla); }
+  }
+
+  private boolean jj_2_4(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_4()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(3, xla); }
+  }
+
+  private boolean jj_2_5(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_5()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(4, xla); }
+  }
+
+  private boolean jj_2_6(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_6()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(5, xla); }
+  }
+
+  private boolean jj_2_7(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_7()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(6, xla); }
+  }
+
+  private boolean jj_2_8(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_8()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(7, xla); }
+  }
+
+  private boolean jj_2_9(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_9()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(8, xla); }
+  }
+
+  private boolean jj_2_10(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_10()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(9, xla); }
+  }
+
+  private boolean jj_2_11(int xla)
+ {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_11()); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(10, xla); }
+  }
+
+  private boolean jj_3R_conditionalAndExpression_1901_13_89()
+ {
+    if (jj_scan_token(LAND)) return true;
+    if (jj_3R_inclusiveOrExpression_1928_5_88()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_arrayInitializer_1523_5_65()
+ {
+    if (jj_scan_token(LCURLY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_arrayInitializer_1526_13_67()) jj_scanpos = xsp;
+    if (jj_scan_token(RCURLY)) return true;
+    return false;
+  }
+
+  private boolean jj_3_10()
+ {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_basicType_1614_5_43()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_simpleUnaryExpression_2282_9_130()
+ {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_referenceType_1645_5_44()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_simpleUnaryExpression_2266_5_126()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_conditionalAndExpression_1898_5_86()
+ {
+    if (jj_3R_inclusiveOrExpression_1928_5_88()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_conditionalAndExpression_1901_13_89()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_simpleUnaryExpression_2275_9_129()
+ {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_basicType_1614_5_43()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_simpleUnaryExpression_2271_9_128()
+ {
+    if (jj_scan_token(TILDE)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_simpleUnaryExpression_2267_9_127()
+ {
+    if (jj_scan_token(LNOT)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_simpleUnaryExpression_2266_5_126()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_simpleUnaryExpression_2267_9_127()) {
+    jj_scanpos = xsp;
+    if (jj_3R_simpleUnaryExpression_2271_9_128()) {
+    jj_scanpos = xsp;
+    if (jj_3R_simpleUnaryExpression_2275_9_129()) {
+    jj_scanpos = xsp;
+    if (jj_3R_simpleUnaryExpression_2282_9_130()) {
+    jj_scanpos = xsp;
+    if (jj_3R_simpleUnaryExpression_2289_9_131()) return true;
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_variableInitializer_1494_9_63()
+ {
+    if (jj_3R_expression_1722_5_66()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_variableInitializer_1493_9_62()
+ {
+    if (jj_3R_arrayInitializer_1523_5_65()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_conditionalOrExpression_1871_13_87()
+ {
+    if (jj_scan_token(LOR)) return true;
+    if (jj_3R_conditionalAndExpression_1898_5_86()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_variableInitializer_1492_5_58()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_variableInitializer_1493_9_62()) {
+    jj_scanpos = xsp;
+    if (jj_3R_variableInitializer_1494_9_63()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_conditionalOrExpression_1868_5_72()
+ {
+    if (jj_3R_conditionalAndExpression_1898_5_86()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_conditionalOrExpression_1871_13_87()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_6()
+ {
+    if (jj_3R_type_1589_5_39()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_variableDeclarator_1466_13_47()
+ {
+    if (jj_scan_token(ASSIGN)) return true;
+    if (jj_3R_variableInitializer_1492_5_58()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_unaryExpression_2235_9_122()
+ {
+    if (jj_3R_simpleUnaryExpression_2266_5_126()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_unaryExpression_2231_9_121()
+ {
+    if (jj_scan_token(PLUS)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_unaryExpression_2227_9_120()
+ {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_conditionalExpression_1839_13_73()
+ {
+    if (jj_scan_token(TERNARY)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_conditionalExpression_1836_5_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_variableDeclarator_1463_5_41()
+ {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_variableDeclarator_1466_13_47()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_unaryExpression_2223_9_119()
+ {
+    if (jj_scan_token(DEC)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_unaryExpression_2219_9_118()
+ {
+    if (jj_scan_token(INC)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_conditionalExpression_1836_5_70()
+ {
+    if (jj_3R_conditionalOrExpression_1868_5_72()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_conditionalExpression_1839_13_73()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_unaryExpression_2218_5_114()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_unaryExpression_2219_9_118()) {
+    jj_scanpos = xsp;
+    if (jj_3R_unaryExpression_2223_9_119()) {
+    jj_scanpos = xsp;
+    if (jj_3R_unaryExpression_2227_9_120()) {
+    jj_scanpos = xsp;
+    if (jj_3R_unaryExpression_2231_9_121()) {
+    jj_scanpos = xsp;
+    if (jj_3R_unaryExpression_2235_9_122()) return true;
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_literal_2593_9_163()
+ {
+    if (jj_scan_token(NULL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_literal_2590_9_162()
+ {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_literal_2587_9_161()
+ {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_literal_2583_9_160()
+ {
+    if (jj_scan_token(DOUBLE_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_literal_2579_9_159()
+ {
+    if (jj_scan_token(STRING_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1808_13_85()
+ {
+    if (jj_scan_token(BIT_OR_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_literal_2576_9_158()
+ {
+    if (jj_scan_token(CHAR_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1804_13_84()
+ {
+    if (jj_scan_token(BIT_AND_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_multiplicativeExpression_2186_13_125()
+ {
+    if (jj_scan_token(MOD)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_literal_2573_9_157()
+ {
+    if (jj_scan_token(INT_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1800_13_83()
+ {
+    if (jj_scan_token(XOR_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_multiplicativeExpression_2181_13_124()
+ {
+    if (jj_scan_token(DIV)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_literal_2572_5_149()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_literal_2573_9_157()) {
+    jj_scanpos = xsp;
+    if (jj_3R_literal_2576_9_158()) {
+    jj_scanpos = xsp;
+    if (jj_3R_literal_2579_9_159()) {
+    jj_scanpos = xsp;
+    if (jj_3R_literal_2583_9_160()) {
+    jj_scanpos = xsp;
+    if (jj_3R_literal_2587_9_161()) {
+    jj_scanpos = xsp;
+    if (jj_3R_literal_2590_9_162()) {
+    jj_scanpos = xsp;
+    if (jj_3R_literal_2593_9_163()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1796_13_82()
+ {
+    if (jj_scan_token(SHIFTL_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_multiplicativeExpression_2176_13_115()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_multiplicativeExpression_2176_13_123()) {
+    jj_scanpos = xsp;
+    if (jj_3R_multiplicativeExpression_2181_13_124()) {
+    jj_scanpos = xsp;
+    if (jj_3R_multiplicativeExpression_2186_13_125()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_multiplicativeExpression_2176_13_123()
+ {
+    if (jj_scan_token(STAR)) return true;
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1792_13_81()
+ {
+    if (jj_scan_token(USHIFTR_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1788_13_80()
+ {
+    if (jj_scan_token(SHIFTR_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1784_13_79()
+ {
+    if (jj_scan_token(MOD_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_multiplicativeExpression_2173_5_109()
+ {
+    if (jj_3R_unaryExpression_2218_5_114()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_multiplicativeExpression_2176_13_115()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_newArrayDeclarator_2546_13_176()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1780_13_78()
+ {
+    if (jj_scan_token(DIV_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1776_13_77()
+ {
+    if (jj_scan_token(STAR_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1772_13_76()
+ {
+    if (jj_scan_token(MINUS_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_newArrayDeclarator_2537_13_175()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_3R_expression_1722_5_66()) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1768_13_75()
+ {
+    if (jj_scan_token(PLUS_ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_null_982_29_38()
+ {
+    if (jj_3R_type_1589_5_39()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1764_13_74()
+ {
+    if (jj_scan_token(ASSIGN)) return true;
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1764_13_71()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_assignmentExpression_1764_13_74()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1768_13_75()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1772_13_76()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1776_13_77()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1780_13_78()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1784_13_79()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1788_13_80()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1792_13_81()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1796_13_82()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1800_13_83()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1804_13_84()) {
+    jj_scanpos = xsp;
+    if (jj_3R_assignmentExpression_1808_13_85()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_additiveExpression_2146_13_117()
+ {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_multiplicativeExpression_2173_5_109()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_additiveExpression_2142_13_110()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_additiveExpression_2142_13_116()) {
+    jj_scanpos = xsp;
+    if (jj_3R_additiveExpression_2146_13_117()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_additiveExpression_2142_13_116()
+ {
+    if (jj_scan_token(PLUS)) return true;
+    if (jj_3R_multiplicativeExpression_2173_5_109()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_newArrayDeclarator_2530_5_171()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_3R_expression_1722_5_66()) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_newArrayDeclarator_2537_13_175()) { jj_scanpos = xsp; break; }
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_newArrayDeclarator_2546_13_176()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_5()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(58)) {
+    jj_scanpos = xsp;
+    if (jj_3R_null_982_29_38()) return true;
+    }
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_assignmentExpression_1761_5_68()
+ {
+    if (jj_3R_conditionalExpression_1836_5_70()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_assignmentExpression_1764_13_71()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_additiveExpression_2139_5_102()
+ {
+    if (jj_3R_multiplicativeExpression_2173_5_109()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_additiveExpression_2142_13_110()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_parExpression_1372_5_145()
+ {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_expression_1722_5_66()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_creator_2498_16_173()
+ {
+    if (jj_3R_arrayInitializer_1523_5_65()) return true;
+    return false;
+  }
+
+  private boolean jj_3_4()
+ {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_creator_2492_17_172()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_shiftExpression_2111_13_113()
+ {
+    if (jj_scan_token(USHIFTR)) return true;
+    if (jj_3R_additiveExpression_2139_5_102()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_shiftExpression_2107_13_112()
+ {
+    if (jj_scan_token(SHIFTR)) return true;
+    if (jj_3R_additiveExpression_2139_5_102()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_creator_2490_13_168()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_creator_2492_17_172()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_creator_2498_16_173()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_formalParameter_1348_5_40()
+ {
+    if (jj_3R_type_1589_5_39()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_creator_2487_13_167()
+ {
+    if (jj_3R_newArrayDeclarator_2530_5_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_shiftExpression_2103_13_103()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_shiftExpression_2103_13_111()) {
+    jj_scanpos = xsp;
+    if (jj_3R_shiftExpression_2107_13_112()) {
+    jj_scanpos = xsp;
+    if (jj_3R_shiftExpression_2111_13_113()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_shiftExpression_2103_13_111()
+ {
+    if (jj_scan_token(SHIFTL)) return true;
+    if (jj_3R_additiveExpression_2139_5_102()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_creator_2484_13_166()
+ {
+    if (jj_3R_arguments_1557_5_154()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_expression_1722_5_66()
+ {
+    if (jj_3R_assignmentExpression_1761_5_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_creator_2480_10_165()
+ {
+    if (jj_3R_qualifiedIdentifier_492_5_60()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_creator_2479_10_164()
+ {
+    if (jj_3R_basicType_1614_5_43()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_shiftExpression_2100_5_98()
+ {
+    if (jj_3R_additiveExpression_2139_5_102()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_shiftExpression_2103_13_103()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_creator_2478_5_150()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_creator_2479_10_164()) {
+    jj_scanpos = xsp;
+    if (jj_3R_creator_2480_10_165()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_creator_2484_13_166()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == LBRACK
+                        && getToken(2).kind != RBRACK;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_creator_2487_13_167()) {
+    jj_scanpos = xsp;
+    if (jj_3R_creator_2490_13_168()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_relationalExpression_2073_13_108()
+ {
+    if (jj_scan_token(INSTANCEOF)) return true;
+    if (jj_3R_referenceType_1645_5_44()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_relationalExpression_2069_13_107()
+ {
+    if (jj_scan_token(GE)) return true;
+    if (jj_3R_shiftExpression_2100_5_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_relationalExpression_2065_13_106()
+ {
+    if (jj_scan_token(LE)) return true;
+    if (jj_3R_shiftExpression_2100_5_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_relationalExpression_2061_13_105()
+ {
+    if (jj_scan_token(LT)) return true;
+    if (jj_3R_shiftExpression_2100_5_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_primary_2441_13_151()
+ {
+    if (jj_3R_arguments_1557_5_154()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_relationalExpression_2057_13_99()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_relationalExpression_2057_13_104()) {
+    jj_scanpos = xsp;
+    if (jj_3R_relationalExpression_2061_13_105()) {
+    jj_scanpos = xsp;
+    if (jj_3R_relationalExpression_2065_13_106()) {
+    jj_scanpos = xsp;
+    if (jj_3R_relationalExpression_2069_13_107()) {
+    jj_scanpos = xsp;
+    if (jj_3R_relationalExpression_2073_13_108()) return true;
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_relationalExpression_2057_13_104()
+ {
+    if (jj_scan_token(GT)) return true;
+    if (jj_3R_shiftExpression_2100_5_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3_8()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(25)) jj_scanpos = xsp;
+    if (jj_3R_type_1589_5_39()) return true;
+    if (jj_3R_variableDeclarator_1463_5_41()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_relationalExpression_2054_5_96()
+ {
+    if (jj_3R_shiftExpression_2100_5_98()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_relationalExpression_2057_13_99()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_primary_2430_9_141()
+ {
+    if (jj_3R_qualifiedIdentifier_492_5_60()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_primary_2441_13_151()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_null_877_29_37()
+ {
+    if (jj_3R_type_1589_5_39()) return true;
+    return false;
+  }
+
+  private boolean jj_3_1()
+ {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_primary_2420_17_156()
+ {
+    return false;
+  }
+
+  private boolean jj_3R_primary_2425_9_140()
+ {
+    if (jj_scan_token(NEW)) return true;
+    if (jj_3R_creator_2478_5_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_referenceType_1654_13_61()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_primary_2423_9_139()
+ {
+    if (jj_3R_literal_2572_5_149()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_primary_2415_17_155()
+ {
+    if (jj_3R_arguments_1557_5_154()) return true;
+    return false;
+  }
+
+  private boolean jj_3_3()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(58)) {
+    jj_scanpos = xsp;
+    if (jj_3R_null_877_29_37()) return true;
+    }
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_referenceType_1649_13_59()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_qualifiedIdentifier_499_13_64()
+ {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_referenceType_1652_9_57()
+ {
+    if (jj_3R_qualifiedIdentifier_492_5_60()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_referenceType_1654_13_61()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_primary_2412_13_148()
+ {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == LPAREN;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_primary_2415_17_155()) {
+    jj_scanpos = xsp;
+    if (jj_3R_primary_2420_17_156()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_primary_2409_13_147()
+ {
+    if (jj_3R_arguments_1557_5_154()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_referenceType_1646_9_56()
+ {
+    if (jj_3R_basicType_1614_5_43()) return true;
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_referenceType_1649_13_59()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_equalityExpression_2025_13_101()
+ {
+    if (jj_scan_token(NEQ)) return true;
+    if (jj_3R_relationalExpression_2054_5_96()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_equalityExpression_2021_13_97()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_equalityExpression_2021_13_100()) {
+    jj_scanpos = xsp;
+    if (jj_3R_equalityExpression_2025_13_101()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_equalityExpression_2021_13_100()
+ {
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_relationalExpression_2054_5_96()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_referenceType_1645_5_44()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_referenceType_1646_9_56()) {
+    jj_scanpos = xsp;
+    if (jj_3R_referenceType_1652_9_57()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_primary_2407_9_138()
+ {
+    if (jj_scan_token(SUPER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_primary_2409_13_147()) {
+    jj_scanpos = xsp;
+    if (jj_3R_primary_2412_13_148()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_primary_2403_13_146()
+ {
+    if (jj_3R_arguments_1557_5_154()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_qualifiedIdentifier_492_5_60()
+ {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_qualifiedIdentifier_499_13_64()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_primary_2401_9_137()
+ {
+    if (jj_scan_token(THIS)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_primary_2403_13_146()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_primary_2399_9_136()
+ {
+    if (jj_3R_parExpression_1372_5_145()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_equalityExpression_2018_5_94()
+ {
+    if (jj_3R_relationalExpression_2054_5_96()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_equalityExpression_2021_13_97()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_primary_2398_5_133()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_primary_2399_9_136()) {
+    jj_scanpos = xsp;
+    if (jj_3R_primary_2401_9_137()) {
+    jj_scanpos = xsp;
+    if (jj_3R_primary_2407_9_138()) {
+    jj_scanpos = xsp;
+    if (jj_3R_primary_2423_9_139()) {
+    jj_scanpos = xsp;
+    if (jj_3R_primary_2425_9_140()) {
+    jj_scanpos = xsp;
+    if (jj_3R_primary_2430_9_141()) return true;
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1622_9_55()
+ {
+    if (jj_scan_token(FLOAT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1621_9_54()
+ {
+    if (jj_scan_token(DOUBLE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1620_9_53()
+ {
+    if (jj_scan_token(BYTE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1619_9_52()
+ {
+    if (jj_scan_token(SHORT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1618_9_51()
+ {
+    if (jj_scan_token(LONG)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1617_9_50()
+ {
+    if (jj_scan_token(INT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1616_9_49()
+ {
+    if (jj_scan_token(CHAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_null_1590_34_42()
+ {
+    if (jj_3R_basicType_1614_5_43()) return true;
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1615_9_48()
+ {
+    if (jj_scan_token(BOOLEAN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_andExpression_1991_13_95()
+ {
+    if (jj_scan_token(BIT_AND)) return true;
+    if (jj_3R_equalityExpression_2018_5_94()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_basicType_1614_5_43()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_basicType_1615_9_48()) {
+    jj_scanpos = xsp;
+    if (jj_3R_basicType_1616_9_49()) {
+    jj_scanpos = xsp;
+    if (jj_3R_basicType_1617_9_50()) {
+    jj_scanpos = xsp;
+    if (jj_3R_basicType_1618_9_51()) {
+    jj_scanpos = xsp;
+    if (jj_3R_basicType_1619_9_52()) {
+    jj_scanpos = xsp;
+    if (jj_3R_basicType_1620_9_53()) {
+    jj_scanpos = xsp;
+    if (jj_3R_basicType_1621_9_54()) {
+    jj_scanpos = xsp;
+    if (jj_3R_basicType_1622_9_55()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_andExpression_1988_5_92()
+ {
+    if (jj_3R_equalityExpression_2018_5_94()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_andExpression_1991_13_95()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_2()
+ {
+    if (jj_scan_token(STATIC)) return true;
+    if (jj_scan_token(LCURLY)) return true;
+    return false;
+  }
+
+  private boolean jj_3_9()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(107)) {
+    jj_scanpos = xsp;
+    if (jj_3R_null_1590_34_42()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_selector_2362_9_153()
+ {
+    if (jj_scan_token(LBRACK)) return true;
+    if (jj_scan_token(RBRACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_selector_2356_13_169()
+ {
+    if (jj_3R_arguments_1557_5_154()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_type_1592_9_46()
+ {
+    if (jj_3R_basicType_1614_5_43()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_type_1590_9_45()
+ {
+    if (jj_3R_referenceType_1645_5_44()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_selector_2352_9_152()
+ {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_qualifiedIdentifier_492_5_60()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_selector_2356_13_169()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_type_1589_5_39()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_type_1590_9_45()) {
+    jj_scanpos = xsp;
+    if (jj_3R_type_1592_9_46()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_exclusiveOrExpression_1961_13_93()
+ {
+    if (jj_scan_token(XOR)) return true;
+    if (jj_3R_andExpression_1988_5_92()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_selector_2351_5_142()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_selector_2352_9_152()) {
+    jj_scanpos = xsp;
+    if (jj_3R_selector_2362_9_153()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_exclusiveOrExpression_1958_5_90()
+ {
+    if (jj_3R_andExpression_1988_5_92()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_exclusiveOrExpression_1961_13_93()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_arguments_1562_17_174()
+ {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_expression_1722_5_66()) return true;
+    return false;
+  }
+
+  private boolean jj_3_7()
+ {
+    if (jj_scan_token(FOR)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_formalParameter_1348_5_40()) return true;
+    if (jj_scan_token(COLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_arguments_1560_13_170()
+ {
+    if (jj_3R_expression_1722_5_66()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_arguments_1562_17_174()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_postfixExpression_2321_13_144()
+ {
+    if (jj_scan_token(INC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_postfixExpression_2318_13_135()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_postfixExpression_2318_13_143()) {
+    jj_scanpos = xsp;
+    if (jj_3R_postfixExpression_2321_13_144()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_postfixExpression_2318_13_143()
+ {
+    if (jj_scan_token(DEC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_arguments_1557_5_154()
+ {
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_arguments_1560_13_170()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_postfixExpression_2315_13_134()
+ {
+    if (jj_3R_selector_2351_5_142()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_inclusiveOrExpression_1931_13_91()
+ {
+    if (jj_scan_token(BIT_OR)) return true;
+    if (jj_3R_exclusiveOrExpression_1958_5_90()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_postfixExpression_2312_5_132()
+ {
+    if (jj_3R_primary_2398_5_133()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_postfixExpression_2315_13_134()) { jj_scanpos = xsp; break; }
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_postfixExpression_2318_13_135()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_inclusiveOrExpression_1928_5_88()
+ {
+    if (jj_3R_exclusiveOrExpression_1958_5_90()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_inclusiveOrExpression_1931_13_91()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_arrayInitializer_1529_17_69()
+ {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_variableInitializer_1492_5_58()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_arrayInitializer_1526_13_67()
+ {
+    if (jj_3R_variableInitializer_1492_5_58()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_arrayInitializer_1529_17_69()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_11()
+ {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_referenceType_1645_5_44()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_simpleUnaryExpression_2289_9_131()
+ {
+    if (jj_3R_postfixExpression_2312_5_132()) return true;
+    return false;
+  }
+
+  /** Generated Token Manager. */
+  public JavaCCParserTokenManager token_source;
+  /** Current token. */
+  public Token token;
+  /** Next token. */
+  public Token jj_nt;
+  private Token jj_scanpos, jj_lastpos;
+  private int jj_la;
+  /** Whether we are looking ahead. */
+  private boolean jj_lookingAhead = false;
+  private boolean jj_semLA;
+  private int jj_gen;
+  final private int[] jj_la1 = new int[89];
+  static private int[] jj_la1_0;
+  static private int[] jj_la1_1;
+  static private int[] jj_la1_2;
+  static private int[] jj_la1_3;
+  static {
+	   jj_la1_init_0();
+	   jj_la1_init_1();
+	   jj_la1_init_2();
+	   jj_la1_init_3();
+	}
+	private static void jj_la1_init_0() {
+	   jj_la1_0 = new int[] {0x0,0x0,0x2020400,0x20000,0x2000400,0x2000400,0x0,0x1000000,0xa432c00,0x1000000,0x0,0x0,0xa432c00,0xa432c00,0x8412800,0x0,0x0,0x8432800,0x0,0x0,0x8412800,0x0,0x0,0x0,0x8432800,0xb8693800,0xb0281000,0x2a412800,0x20000000,0x0,0x20000000,0x8000,0x4000000,0x20000000,0x80081000,0x30200000,0x2000000,0x0,0x0,0x20000000,0x0,0x8412800,0x0,0x0,0x20000000,0x0,0x20000000,0x0,0x20000000,0x8412800,0x8412800,0x0,0x0,0x8412800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x8412800,0x0,0x0,0x0,0x20000000,};
+	}
+	private static void jj_la1_init_1() {
+	   jj_la1_1 = new int[] {0x200,0x2,0x8899c50,0x10,0x8899c40,0x8899c40,0x0,0x0,0xc89dc78,0x0,0x0,0x1,0xc89dc78,0xc89dc78,0x4004028,0x0,0x400000,0x4038,0x0,0x400000,0x4004028,0x0,0x400000,0x0,0x4038,0x133261a8,0x13322180,0x11241a8,0x1120180,0x0,0x1120180,0x0,0x0,0x1120180,0x200000,0x13122180,0x0,0x0,0x0,0x1120180,0x0,0x4028,0x0,0x40000000,0x1120180,0x0,0x1120180,0x0,0x1120180,0x4028,0x4028,0x0,0x0,0x4028,0x40000000,0x40000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x4,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x1120180,0x0,0x1120180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1120180,0x4028,0x0,0x0,0x0,0x1000100,};
+	}
+	private static void jj_la1_init_2() {
+	   jj_la1_2 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5a3,0x5a3,0x5a3,0x5a3,0x0,0x5a3,0x0,0x0,0x5a3,0x0,0x5a3,0x0,0x0,0x0,0x5a3,0x0,0x0,0x0,0x0,0x5a3,0x0,0x5a3,0x0,0x5a3,0x0,0x0,0x0,0x0,0x0,0x94455250,0x94455250,0x0,0x20000000,0x0,0x8000000,0x2000000,0x40000000,0x4,0x4,0x1980000,0x1980000,0x228000,0x228000,0x120,0x120,0x2808,0x2808,0x5a3,0x3,0x0,0x0,0x480,0x480,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+	}
+	private static void jj_la1_init_3() {
+	   jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x800,0x0,0x200,0x0,0x808,0x808,0x800,0x200,0x0,0x800,0x200,0x0,0x800,0x200,0x0,0x88,0x800,0x7888a,0x7888a,0x78802,0x78802,0x200,0x78802,0x0,0x0,0x78802,0x8,0x78882,0x0,0x200,0x200,0x78802,0x200,0x800,0x200,0x0,0x7880a,0x200,0x7880a,0x200,0x78802,0x0,0x0,0x20,0x20,0x800,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x78802,0x0,0x78802,0x420,0x0,0x0,0x2,0x420,0x2,0x402,0x2,0x78802,0x800,0x8,0x2,0x20,0x78000,};
+	}
+  final private JJCalls[] jj_2_rtns = new JJCalls[11];
+  private boolean jj_rescan = false;
+  private int jj_gc = 0;
+
+  /** Constructor with user supplied CharStream. */
+  public JavaCCParser(CharStream stream) {
+	 token_source = new JavaCCParserTokenManager(stream);
+	 token = new Token();
+	 token.next = jj_nt = token_source.getNextToken();
+	 jj_gen = 0;
+	 for (int i = 0; i < 89; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
+  }
+
+  /** Reinitialise. */
+  public void ReInit(CharStream stream) {
+	 token_source.ReInit(stream);
+	 token = new Token();
+	 token.next = jj_nt = token_source.getNextToken();
+	 jj_lookingAhead = false;
+	 jj_gen = 0;
+	 for (int i = 0; i < 89; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
+  }
+
+  /** Constructor with generated Token Manager. */
+  public JavaCCParser(JavaCCParserTokenManager tm) {
+	 token_source = tm;
+	 token = new Token();
+	 token.next = jj_nt = token_source.getNextToken();
+	 jj_gen = 0;
+	 for (int i = 0; i < 89; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
+  }
+
+  /** Reinitialise. */
+  public void ReInit(JavaCCParserTokenManager tm) {
+	 token_source = tm;
+	 token = new Token();
+	 token.next = jj_nt = token_source.getNextToken();
+	 jj_gen = 0;
+	 for (int i = 0; i < 89; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
+  }
+
+  private Token jj_consume_token(int kind) throws ParseException {
+	 Token oldToken = token;
+	 if ((token = jj_nt).next != null) jj_nt = jj_nt.next;
+	 else jj_nt = jj_nt.next = token_source.getNextToken();
+	 if (token.kind == kind) {
+	   jj_gen++;
+	   if (++jj_gc > 100) {
+		 jj_gc = 0;
+		 for (int i = 0; i < jj_2_rtns.length; i++) {
+		   JJCalls c = jj_2_rtns[i];
+		   while (c != null) {
+			 if (c.gen < jj_gen) c.first = null;
+			 c = c.next;
+		   }
+		 }
+	   }
+	   return token;
+	 }
+	 jj_nt = token;
+	 token = oldToken;
+	 jj_kind = kind;
+	 throw generateParseException();
+  }
+
+  @SuppressWarnings("serial")
+  static private final class LookaheadSuccess extends java.lang.Error {
+    @Override
+    public Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+  static private final LookaheadSuccess jj_ls = new LookaheadSuccess();
+  private boolean jj_scan_token(int kind) {
+	 if (jj_scanpos == jj_lastpos) {
+	   jj_la--;
+	   if (jj_scanpos.next == null) {
+		 jj_lastpos = jj_scanpos = jj_scanpos.next = token_source.getNextToken();
+	   } else {
+		 jj_lastpos = jj_scanpos = jj_scanpos.next;
+	   }
+	 } else {
+	   jj_scanpos = jj_scanpos.next;
+	 }
+	 if (jj_rescan) {
+	   int i = 0; Token tok = token;
+	   while (tok != null && tok != jj_scanpos) { i++; tok = tok.next; }
+	   if (tok != null) jj_add_error_token(kind, i);
+	 }
+	 if (jj_scanpos.kind != kind) return true;
+	 if (jj_la == 0 && jj_scanpos == jj_lastpos) throw jj_ls;
+	 return false;
+  }
+
+
+/** Get the next Token. */
+  final public Token getNextToken() {
+	 if ((token = jj_nt).next != null) jj_nt = jj_nt.next;
+	 else jj_nt = jj_nt.next = token_source.getNextToken();
+	 jj_gen++;
+	 return token;
+  }
+
+/** Get the specific Token. */
+  final public Token getToken(int index) {
+	 Token t = jj_lookingAhead ? jj_scanpos : token;
+	 for (int i = 0; i < index; i++) {
+	   if (t.next != null) t = t.next;
+	   else t = t.next = token_source.getNextToken();
+	 }
+	 return t;
+  }
+
+  private java.util.List<int[]> jj_expentries = new java.util.ArrayList<int[]>();
+  private int[] jj_expentry;
+  private int jj_kind = -1;
+  private int[] jj_lasttokens = new int[100];
+  private int jj_endpos;
+
+  private void jj_add_error_token(int kind, int pos) {
+	 if (pos >= 100) {
+		return;
+	 }
+
+	 if (pos == jj_endpos + 1) {
+	   jj_lasttokens[jj_endpos++] = kind;
+	 } else if (jj_endpos != 0) {
+	   jj_expentry = new int[jj_endpos];
+
+	   for (int i = 0; i < jj_endpos; i++) {
+		 jj_expentry[i] = jj_lasttokens[i];
+	   }
+
+	   for (int[] oldentry : jj_expentries) {
+		 if (oldentry.length == jj_expentry.length) {
+		   boolean isMatched = true;
+
+		   for (int i = 0; i < jj_expentry.length; i++) {
+			 if (oldentry[i] != jj_expentry[i]) {
+			   isMatched = false;
+			   break;
+			 }
+
+		   }
+		   if (isMatched) {
+			 jj_expentries.add(jj_expentry);
+			 break;
+		   }
+		 }
+	   }
+
+	   if (pos != 0) {
+		 jj_lasttokens[(jj_endpos = pos) - 1] = kind;
+	   }
+	 }
+  }
+
+  /** Generate ParseException. */
+  public ParseException generateParseException() {
+	 jj_expentries.clear();
+	 boolean[] la1tokens = new boolean[117];
+	 if (jj_kind >= 0) {
+	   la1tokens[jj_kind] = true;
+	   jj_kind = -1;
+	 }
+	 for (int i = 0; i < 89; i++) {
+	   if (jj_la1[i] == jj_gen) {
+		 for (int j = 0; j < 32; j++) {
+		   if ((jj_la1_0[i] & (1<<j)) != 0) {
+			 la1tokens[j] = true;
+		   }
+		   if ((jj_la1_1[i] & (1<<j)) != 0) {
+			 la1tokens[32+j] = true;
+		   }
+		   if ((jj_la1_2[i] & (1<<j)) != 0) {
+			 la1tokens[64+j] = true;
+		   }
+		   if ((jj_la1_3[i] & (1<<j)) != 0) {
+			 la1tokens[96+j] = true;
+		   }
+		 }
+	   }
+	 }
+	 for (int i = 0; i < 117; i++) {
+	   if (la1tokens[i]) {
+		 jj_expentry = new int[1];
+		 jj_expentry[0] = i;
+		 jj_expentries.add(jj_expentry);
+	   }
+	 }
+	 jj_endpos = 0;
+	 jj_rescan_token();
+	 jj_add_error_token(0, 0);
+	 int[][] exptokseq = new int[jj_expentries.size()][];
+	 for (int i = 0; i < jj_expentries.size(); i++) {
+	   exptokseq[i] = jj_expentries.get(i);
+	 }
+	 return new ParseException(token, exptokseq, tokenImage);
+  }
+
+  private boolean trace_enabled;
+
+/** Trace enabled. */
+  final public boolean trace_enabled() {
+	 return trace_enabled;
+  }
+
+  /** Enable tracing. */
+  final public void enable_tracing() {
+  }
+
+  /** Disable tracing. */
+  final public void disable_tracing() {
+  }
+
+  private void jj_rescan_token() {
+	 jj_rescan = true;
+	 for (int i = 0; i < 11; i++) {
+	   try {
+		 JJCalls p = jj_2_rtns[i];
+
+		 do {
+		   if (p.gen > jj_gen) {
+			 jj_la = p.arg; jj_lastpos = jj_scanpos = p.first;
+			 switch (i) {
+			   case 0: jj_3_1(); break;
+			   case 1: jj_3_2(); break;
+			   case 2: jj_3_3(); break;
+			   case 3: jj_3_4(); break;
+			   case 4: jj_3_5(); break;
+			   case 5: jj_3_6(); break;
+			   case 6: jj_3_7(); break;
+			   case 7: jj_3_8(); break;
+			   case 8: jj_3_9(); break;
+			   case 9: jj_3_10(); break;
+			   case 10: jj_3_11(); break;
+			 }
+		   }
+		   p = p.next;
+		 } while (p != null);
+
+		 } catch(LookaheadSuccess ls) { }
+	 }
+	 jj_rescan = false;
+  }
+
+  private void jj_save(int index, int xla) {
+	 JJCalls p = jj_2_rtns[index];
+	 while (p.gen > jj_gen) {
+	   if (p.next == null) { p = p.next = new JJCalls(); break; }
+	   p = p.next;
+	 }
+
+	 p.gen = jj_gen + xla - jj_la; 
+	 p.first = token;
+	 p.arg = xla;
+  }
+
+  static final class JJCalls {
+	 int gen;
+	 Token first;
+	 int arg;
+	 JJCalls next;
+  }
+
+}
@@ -0,0 +1,358 @@
+/* Generated By:JavaCC: Do not edit this line. JavaCCParserConstants.java */
+package jminusminus;
+
+
+/**
+ * Token literal values and constants.
+ * Generated by org.javacc.parser.OtherFilesGen#start()
+ */
+public interface JavaCCParserConstants {
+
+  /** End of File. */
+  int EOF = 0;
+  /** RegularExpression Id. */
+  int SINGLE_LINE_COMMENT = 6;
+  /** RegularExpression Id. */
+  int MULTI_LINE_COMMENT = 7;
+  /** RegularExpression Id. */
+  int ABSTRACT = 10;
+  /** RegularExpression Id. */
+  int BOOLEAN = 11;
+  /** RegularExpression Id. */
+  int BREAK = 12;
+  /** RegularExpression Id. */
+  int BYTE = 13;
+  /** RegularExpression Id. */
+  int CASE = 14;
+  /** RegularExpression Id. */
+  int CATCH = 15;
+  /** RegularExpression Id. */
+  int CHAR = 16;
+  /** RegularExpression Id. */
+  int CLASS = 17;
+  /** RegularExpression Id. */
+  int CONST = 18;
+  /** RegularExpression Id. */
+  int CONTINUE = 19;
+  /** RegularExpression Id. */
+  int DEFAULT_KW = 20;
+  /** RegularExpression Id. */
+  int DO = 21;
+  /** RegularExpression Id. */
+  int DOUBLE = 22;
+  /** RegularExpression Id. */
+  int ELSE = 23;
+  /** RegularExpression Id. */
+  int EXTENDS = 24;
+  /** RegularExpression Id. */
+  int FINAL = 25;
+  /** RegularExpression Id. */
+  int FINALLY = 26;
+  /** RegularExpression Id. */
+  int FLOAT = 27;
+  /** RegularExpression Id. */
+  int FOR = 28;
+  /** RegularExpression Id. */
+  int FALSE = 29;
+  /** RegularExpression Id. */
+  int GOTO = 30;
+  /** RegularExpression Id. */
+  int IF = 31;
+  /** RegularExpression Id. */
+  int IMPLEMENTS = 32;
+  /** RegularExpression Id. */
+  int IMPORT = 33;
+  /** RegularExpression Id. */
+  int INSTANCEOF = 34;
+  /** RegularExpression Id. */
+  int INT = 35;
+  /** RegularExpression Id. */
+  int INTERFACE = 36;
+  /** RegularExpression Id. */
+  int LONG = 37;
+  /** RegularExpression Id. */
+  int NATIVE = 38;
+  /** RegularExpression Id. */
+  int NEW = 39;
+  /** RegularExpression Id. */
+  int NULL = 40;
+  /** RegularExpression Id. */
+  int PACKAGE = 41;
+  /** RegularExpression Id. */
+  int PRIVATE = 42;
+  /** RegularExpression Id. */
+  int PROTECTED = 43;
+  /** RegularExpression Id. */
+  int PUBLIC = 44;
+  /** RegularExpression Id. */
+  int RETURN = 45;
+  /** RegularExpression Id. */
+  int SHORT = 46;
+  /** RegularExpression Id. */
+  int STATIC = 47;
+  /** RegularExpression Id. */
+  int STRICTFP = 48;
+  /** RegularExpression Id. */
+  int SUPER = 49;
+  /** RegularExpression Id. */
+  int SWITCH = 50;
+  /** RegularExpression Id. */
+  int SYNCHRONIZED = 51;
+  /** RegularExpression Id. */
+  int THIS = 52;
+  /** RegularExpression Id. */
+  int THROW = 53;
+  /** RegularExpression Id. */
+  int THROWS = 54;
+  /** RegularExpression Id. */
+  int TRANSIENT = 55;
+  /** RegularExpression Id. */
+  int TRUE = 56;
+  /** RegularExpression Id. */
+  int TRY = 57;
+  /** RegularExpression Id. */
+  int VOID = 58;
+  /** RegularExpression Id. */
+  int VOLATILE = 59;
+  /** RegularExpression Id. */
+  int WHILE = 60;
+  /** RegularExpression Id. */
+  int TERNARY = 61;
+  /** RegularExpression Id. */
+  int ASSIGN = 62;
+  /** RegularExpression Id. */
+  int EQ = 63;
+  /** RegularExpression Id. */
+  int LNOT = 64;
+  /** RegularExpression Id. */
+  int TILDE = 65;
+  /** RegularExpression Id. */
+  int NEQ = 66;
+  /** RegularExpression Id. */
+  int DIV = 67;
+  /** RegularExpression Id. */
+  int DIV_ASSIGN = 68;
+  /** RegularExpression Id. */
+  int PLUS = 69;
+  /** RegularExpression Id. */
+  int PLUS_ASSIGN = 70;
+  /** RegularExpression Id. */
+  int INC = 71;
+  /** RegularExpression Id. */
+  int MINUS = 72;
+  /** RegularExpression Id. */
+  int MINUS_ASSIGN = 73;
+  /** RegularExpression Id. */
+  int DEC = 74;
+  /** RegularExpression Id. */
+  int STAR = 75;
+  /** RegularExpression Id. */
+  int STAR_ASSIGN = 76;
+  /** RegularExpression Id. */
+  int MOD = 77;
+  /** RegularExpression Id. */
+  int MOD_ASSIGN = 78;
+  /** RegularExpression Id. */
+  int SHIFTR = 79;
+  /** RegularExpression Id. */
+  int SHIFTR_ASSIGN = 80;
+  /** RegularExpression Id. */
+  int USHIFTR = 81;
+  /** RegularExpression Id. */
+  int USHIFTR_ASSIGN = 82;
+  /** RegularExpression Id. */
+  int GE = 83;
+  /** RegularExpression Id. */
+  int GT = 84;
+  /** RegularExpression Id. */
+  int SHIFTL = 85;
+  /** RegularExpression Id. */
+  int SHIFTL_ASSIGN = 86;
+  /** RegularExpression Id. */
+  int LE = 87;
+  /** RegularExpression Id. */
+  int LT = 88;
+  /** RegularExpression Id. */
+  int XOR = 89;
+  /** RegularExpression Id. */
+  int XOR_ASSIGN = 90;
+  /** RegularExpression Id. */
+  int BIT_OR = 91;
+  /** RegularExpression Id. */
+  int BIT_OR_ASSIGN = 92;
+  /** RegularExpression Id. */
+  int LOR = 93;
+  /** RegularExpression Id. */
+  int BIT_AND = 94;
+  /** RegularExpression Id. */
+  int BIT_AND_ASSIGN = 95;
+  /** RegularExpression Id. */
+  int LAND = 96;
+  /** RegularExpression Id. */
+  int LPAREN = 97;
+  /** RegularExpression Id. */
+  int RPAREN = 98;
+  /** RegularExpression Id. */
+  int LCURLY = 99;
+  /** RegularExpression Id. */
+  int RCURLY = 100;
+  /** RegularExpression Id. */
+  int LBRACK = 101;
+  /** RegularExpression Id. */
+  int RBRACK = 102;
+  /** RegularExpression Id. */
+  int SEMI = 103;
+  /** RegularExpression Id. */
+  int COLON = 104;
+  /** RegularExpression Id. */
+  int COMMA = 105;
+  /** RegularExpression Id. */
+  int DOT = 106;
+  /** RegularExpression Id. */
+  int IDENTIFIER = 107;
+  /** RegularExpression Id. */
+  int LETTER = 108;
+  /** RegularExpression Id. */
+  int DIGIT = 109;
+  /** RegularExpression Id. */
+  int NON_ZERO_DIGIT = 110;
+  /** RegularExpression Id. */
+  int INT_LITERAL = 111;
+  /** RegularExpression Id. */
+  int CHAR_LITERAL = 112;
+  /** RegularExpression Id. */
+  int STRING_LITERAL = 113;
+  /** RegularExpression Id. */
+  int DOUBLE_LITERAL = 114;
+  /** RegularExpression Id. */
+  int ESC = 115;
+  /** RegularExpression Id. */
+  int ERROR = 116;
+
+  /** Lexical state. */
+  int DEFAULT = 0;
+  /** Lexical state. */
+  int ML_COMMENT_STATE = 1;
+
+  /** Literal token values. */
+  String[] tokenImage = {
+    "<EOF>",
+    "\" \"",
+    "\"\\t\"",
+    "\"\\n\"",
+    "\"\\r\"",
+    "\"\\f\"",
+    "<SINGLE_LINE_COMMENT>",
+    "\"/*\"",
+    "\"*/\"",
+    "<token of kind 9>",
+    "\"abstract\"",
+    "\"boolean\"",
+    "\"break\"",
+    "\"byte\"",
+    "\"case\"",
+    "\"catch\"",
+    "\"char\"",
+    "\"class\"",
+    "\"const\"",
+    "\"continue\"",
+    "\"default\"",
+    "\"do\"",
+    "\"double\"",
+    "\"else\"",
+    "\"extends\"",
+    "\"final\"",
+    "\"finally\"",
+    "\"float\"",
+    "\"for\"",
+    "\"false\"",
+    "\"goto\"",
+    "\"if\"",
+    "\"implements\"",
+    "\"import\"",
+    "\"instanceof\"",
+    "\"int\"",
+    "\"interface\"",
+    "\"long\"",
+    "\"native\"",
+    "\"new\"",
+    "\"null\"",
+    "\"package\"",
+    "\"private\"",
+    "\"protected\"",
+    "\"public\"",
+    "\"return\"",
+    "\"short\"",
+    "\"static\"",
+    "\"strictfp\"",
+    "\"super\"",
+    "\"switch\"",
+    "\"synchronized\"",
+    "\"this\"",
+    "\"throw\"",
+    "\"throws\"",
+    "\"transient\"",
+    "\"true\"",
+    "\"try\"",
+    "\"void\"",
+    "\"volatile\"",
+    "\"while\"",
+    "\"?\"",
+    "\"=\"",
+    "\"==\"",
+    "\"!\"",
+    "\"~\"",
+    "\"!=\"",
+    "\"/\"",
+    "\"/=\"",
+    "\"+\"",
+    "\"+=\"",
+    "\"++\"",
+    "\"-\"",
+    "\"-=\"",
+    "\"--\"",
+    "\"*\"",
+    "\"*=\"",
+    "\"%\"",
+    "\"%=\"",
+    "\">>\"",
+    "\">>=\"",
+    "\">>>\"",
+    "\">>>=\"",
+    "\">=\"",
+    "\">\"",
+    "\"<<\"",
+    "\"<<=\"",
+    "\"<=\"",
+    "\"<\"",
+    "\"^\"",
+    "\"^=\"",
+    "\"|\"",
+    "\"|=\"",
+    "\"||\"",
+    "\"&\"",
+    "\"&=\"",
+    "\"&&\"",
+    "\"(\"",
+    "\")\"",
+    "\"{\"",
+    "\"}\"",
+    "\"[\"",
+    "\"]\"",
+    "\";\"",
+    "\":\"",
+    "\",\"",
+    "\".\"",
+    "<IDENTIFIER>",
+    "<LETTER>",
+    "<DIGIT>",
+    "<NON_ZERO_DIGIT>",
+    "<INT_LITERAL>",
+    "<CHAR_LITERAL>",
+    "<STRING_LITERAL>",
+    "<DOUBLE_LITERAL>",
+    "<ESC>",
+    "<ERROR>",
+  };
+
+}
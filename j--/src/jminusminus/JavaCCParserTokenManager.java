@@ -0,0 +1,1413 @@
+/* JavaCCParserTokenManager.java */
+/* Generated By:JavaCC: Do not edit this line. JavaCCParserTokenManager.java */
+package jminusminus;
+import java.util.ArrayList;
+
+/** Token Manager. */
+@SuppressWarnings ("unused")
+public class JavaCCParserTokenManager implements JavaCCParserConstants {
+
+  /** Debug output. */
+  public  java.io.PrintStream debugStream = System.out;
+  /** Set debug output. */
+  public  void setDebugStream(java.io.PrintStream ds) { debugStream = ds; }
+private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1){
+   switch (pos)
+   {
+      case 0:
+         if ((active1 & 0x40000000000L) != 0L)
+            return 22;
+         if ((active0 & 0x80L) != 0L || (active1 & 0x18L) != 0L)
+            return 0;
+         if ((active0 & 0x1ffffffffffffc00L) != 0L)
+         {
+            jjmatchedKind = 107;
+            return 7;
+         }
+         return -1;
+      case 1:
+         if ((active0 & 0x80600000L) != 0L)
+            return 7;
+         if ((active0 & 0x1fffffff7f9ffc00L) != 0L)
+         {
+            if (jjmatchedPos != 1)
+            {
+               jjmatchedKind = 107;
+               jjmatchedPos = 1;
+            }
+            return 7;
+         }
+         return -1;
+      case 2:
+         if ((active0 & 0x1dffff676fdffc00L) != 0L)
+         {
+            if (jjmatchedPos != 2)
+            {
+               jjmatchedKind = 107;
+               jjmatchedPos = 2;
+            }
+            return 7;
+         }
+         if ((active0 & 0x200009810000000L) != 0L)
+            return 7;
+         return -1;
+      case 3:
+         if ((active0 & 0x18effe572f5e9c00L) != 0L)
+         {
+            jjmatchedKind = 107;
+            jjmatchedPos = 3;
+            return 7;
+         }
+         if ((active0 & 0x510012040816000L) != 0L)
+            return 7;
+         return -1;
+      case 4:
+         if ((active0 & 0x88dbe5701580c00L) != 0L)
+         {
+            if (jjmatchedPos != 4)
+            {
+               jjmatchedKind = 107;
+               jjmatchedPos = 4;
+            }
+            return 7;
+         }
+         if ((active0 & 0x106240002e069000L) != 0L)
+            return 7;
+         return -1;
+      case 5:
+         if ((active0 & 0x8890e1505180c00L) != 0L)
+         {
+            jjmatchedKind = 107;
+            jjmatchedPos = 5;
+            return 7;
+         }
+         if ((active0 & 0x44b04200400000L) != 0L)
+            return 7;
+         return -1;
+      case 6:
+         if ((active0 & 0x889081500080400L) != 0L)
+         {
+            jjmatchedKind = 107;
+            jjmatchedPos = 6;
+            return 7;
+         }
+         if ((active0 & 0x60005100800L) != 0L)
+            return 7;
+         return -1;
+      case 7:
+         if ((active0 & 0x88081500000000L) != 0L)
+         {
+            jjmatchedKind = 107;
+            jjmatchedPos = 7;
+            return 7;
+         }
+         if ((active0 & 0x801000000080400L) != 0L)
+            return 7;
+         return -1;
+      case 8:
+         if ((active0 & 0x8000500000000L) != 0L)
+         {
+            jjmatchedKind = 107;
+            jjmatchedPos = 8;
+            return 7;
+         }
+         if ((active0 & 0x80081000000000L) != 0L)
+            return 7;
+         return -1;
+      case 9:
+         if ((active0 & 0x8000000000000L) != 0L)
+         {
+            jjmatchedKind = 107;
+            jjmatchedPos = 9;
+            return 7;
+         }
+         if ((active0 & 0x500000000L) != 0L)
+            return 7;
+         return -1;
+      case 10:
+         if ((active0 & 0x8000000000000L) != 0L)
+         {
+            jjmatchedKind = 107;
+            jjmatchedPos = 10;
+            return 7;
+         }
+         return -1;
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_0(int pos, long active0, long active1){
+   return jjMoveNfa_0(jjStopStringLiteralDfa_0(pos, active0, active1), pos + 1);
+}
+private int jjStopAtPos(int pos, int kind)
+{
+   jjmatchedKind = kind;
+   jjmatchedPos = pos;
+   return pos + 1;
+}
+private int jjMoveStringLiteralDfa0_0(){
+   switch(curChar)
+   {
+      case 33:
+         jjmatchedKind = 64;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x4L);
+      case 37:
+         jjmatchedKind = 77;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x4000L);
+      case 38:
+         jjmatchedKind = 94;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x180000000L);
+      case 40:
+         return jjStopAtPos(0, 97);
+      case 41:
+         return jjStopAtPos(0, 98);
+      case 42:
+         jjmatchedKind = 75;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x1000L);
+      case 43:
+         jjmatchedKind = 69;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0xc0L);
+      case 44:
+         return jjStopAtPos(0, 105);
+      case 45:
+         jjmatchedKind = 72;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x600L);
+      case 46:
+         return jjStartNfaWithStates_0(0, 106, 22);
+      case 47:
+         jjmatchedKind = 67;
+         return jjMoveStringLiteralDfa1_0(0x80L, 0x10L);
+      case 58:
+         return jjStopAtPos(0, 104);
+      case 59:
+         return jjStopAtPos(0, 103);
+      case 60:
+         jjmatchedKind = 88;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0xe00000L);
+      case 61:
+         jjmatchedKind = 62;
+         return jjMoveStringLiteralDfa1_0(0x8000000000000000L, 0x0L);
+      case 62:
+         jjmatchedKind = 84;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0xf8000L);
+      case 63:
+         return jjStopAtPos(0, 61);
+      case 91:
+         return jjStopAtPos(0, 101);
+      case 93:
+         return jjStopAtPos(0, 102);
+      case 94:
+         jjmatchedKind = 89;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x4000000L);
+      case 97:
+         return jjMoveStringLiteralDfa1_0(0x400L, 0x0L);
+      case 98:
+         return jjMoveStringLiteralDfa1_0(0x3800L, 0x0L);
+      case 99:
+         return jjMoveStringLiteralDfa1_0(0xfc000L, 0x0L);
+      case 100:
+         return jjMoveStringLiteralDfa1_0(0x700000L, 0x0L);
+      case 101:
+         return jjMoveStringLiteralDfa1_0(0x1800000L, 0x0L);
+      case 102:
+         return jjMoveStringLiteralDfa1_0(0x3e000000L, 0x0L);
+      case 103:
+         return jjMoveStringLiteralDfa1_0(0x40000000L, 0x0L);
+      case 105:
+         return jjMoveStringLiteralDfa1_0(0x1f80000000L, 0x0L);
+      case 108:
+         return jjMoveStringLiteralDfa1_0(0x2000000000L, 0x0L);
+      case 110:
+         return jjMoveStringLiteralDfa1_0(0x1c000000000L, 0x0L);
+      case 112:
+         return jjMoveStringLiteralDfa1_0(0x1e0000000000L, 0x0L);
+      case 114:
+         return jjMoveStringLiteralDfa1_0(0x200000000000L, 0x0L);
+      case 115:
+         return jjMoveStringLiteralDfa1_0(0xfc00000000000L, 0x0L);
+      case 116:
+         return jjMoveStringLiteralDfa1_0(0x3f0000000000000L, 0x0L);
+      case 118:
+         return jjMoveStringLiteralDfa1_0(0xc00000000000000L, 0x0L);
+      case 119:
+         return jjMoveStringLiteralDfa1_0(0x1000000000000000L, 0x0L);
+      case 123:
+         return jjStopAtPos(0, 99);
+      case 124:
+         jjmatchedKind = 91;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x30000000L);
+      case 125:
+         return jjStopAtPos(0, 100);
+      case 126:
+         return jjStopAtPos(0, 65);
+      default :
+         return jjMoveNfa_0(5, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_0(long active0, long active1){
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(0, active0, active1);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 38:
+         if ((active1 & 0x100000000L) != 0L)
+            return jjStopAtPos(1, 96);
+         break;
+      case 42:
+         if ((active0 & 0x80L) != 0L)
+            return jjStopAtPos(1, 7);
+         break;
+      case 43:
+         if ((active1 & 0x80L) != 0L)
+            return jjStopAtPos(1, 71);
+         break;
+      case 45:
+         if ((active1 & 0x400L) != 0L)
+            return jjStopAtPos(1, 74);
+         break;
+      case 60:
+         if ((active1 & 0x200000L) != 0L)
+         {
+            jjmatchedKind = 85;
+            jjmatchedPos = 1;
+         }
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x400000L);
+      case 61:
+         if ((active0 & 0x8000000000000000L) != 0L)
+            return jjStopAtPos(1, 63);
+         else if ((active1 & 0x4L) != 0L)
+            return jjStopAtPos(1, 66);
+         else if ((active1 & 0x10L) != 0L)
+            return jjStopAtPos(1, 68);
+         else if ((active1 & 0x40L) != 0L)
+            return jjStopAtPos(1, 70);
+         else if ((active1 & 0x200L) != 0L)
+            return jjStopAtPos(1, 73);
+         else if ((active1 & 0x1000L) != 0L)
+            return jjStopAtPos(1, 76);
+         else if ((active1 & 0x4000L) != 0L)
+            return jjStopAtPos(1, 78);
+         else if ((active1 & 0x80000L) != 0L)
+            return jjStopAtPos(1, 83);
+         else if ((active1 & 0x800000L) != 0L)
+            return jjStopAtPos(1, 87);
+         else if ((active1 & 0x4000000L) != 0L)
+            return jjStopAtPos(1, 90);
+         else if ((active1 & 0x10000000L) != 0L)
+            return jjStopAtPos(1, 92);
+         else if ((active1 & 0x80000000L) != 0L)
+            return jjStopAtPos(1, 95);
+         break;
+      case 62:
+         if ((active1 & 0x8000L) != 0L)
+         {
+            jjmatchedKind = 79;
+            jjmatchedPos = 1;
+         }
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x70000L);
+      case 97:
+         return jjMoveStringLiteralDfa2_0(active0, 0x2402000c000L, active1, 0L);
+      case 98:
+         return jjMoveStringLiteralDfa2_0(active0, 0x400L, active1, 0L);
+      case 101:
+         return jjMoveStringLiteralDfa2_0(active0, 0x208000100000L, active1, 0L);
+      case 102:
+         if ((active0 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(1, 31, 7);
+         break;
+      case 104:
+         return jjMoveStringLiteralDfa2_0(active0, 0x1070400000010000L, active1, 0L);
+      case 105:
+         return jjMoveStringLiteralDfa2_0(active0, 0x6000000L, active1, 0L);
+      case 108:
+         return jjMoveStringLiteralDfa2_0(active0, 0x8820000L, active1, 0L);
+      case 109:
+         return jjMoveStringLiteralDfa2_0(active0, 0x300000000L, active1, 0L);
+      case 110:
+         return jjMoveStringLiteralDfa2_0(active0, 0x1c00000000L, active1, 0L);
+      case 111:
+         if ((active0 & 0x200000L) != 0L)
+         {
+            jjmatchedKind = 21;
+            jjmatchedPos = 1;
+         }
+         return jjMoveStringLiteralDfa2_0(active0, 0xc000020504c0800L, active1, 0L);
+      case 114:
+         return jjMoveStringLiteralDfa2_0(active0, 0x3800c0000001000L, active1, 0L);
+      case 116:
+         return jjMoveStringLiteralDfa2_0(active0, 0x1800000000000L, active1, 0L);
+      case 117:
+         return jjMoveStringLiteralDfa2_0(active0, 0x2110000000000L, active1, 0L);
+      case 119:
+         return jjMoveStringLiteralDfa2_0(active0, 0x4000000000000L, active1, 0L);
+      case 120:
+         return jjMoveStringLiteralDfa2_0(active0, 0x1000000L, active1, 0L);
+      case 121:
+         return jjMoveStringLiteralDfa2_0(active0, 0x8000000002000L, active1, 0L);
+      case 124:
+         if ((active1 & 0x20000000L) != 0L)
+            return jjStopAtPos(1, 93);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(0, active0, active1);
+}
+private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long active1){
+   if (((active0 &= old0) | (active1 &= old1)) == 0L)
+      return jjStartNfa_0(0, old0, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(1, active0, active1);
+      return 2;
+   }
+   switch(curChar)
+   {
+      case 61:
+         if ((active1 & 0x10000L) != 0L)
+            return jjStopAtPos(2, 80);
+         else if ((active1 & 0x400000L) != 0L)
+            return jjStopAtPos(2, 86);
+         break;
+      case 62:
+         if ((active1 & 0x20000L) != 0L)
+         {
+            jjmatchedKind = 81;
+            jjmatchedPos = 2;
+         }
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x40000L);
+      case 97:
+         return jjMoveStringLiteralDfa3_0(active0, 0x80800000030000L, active1, 0L);
+      case 98:
+         return jjMoveStringLiteralDfa3_0(active0, 0x100000000000L, active1, 0L);
+      case 99:
+         return jjMoveStringLiteralDfa3_0(active0, 0x20000000000L, active1, 0L);
+      case 101:
+         return jjMoveStringLiteralDfa3_0(active0, 0x1000L, active1, 0L);
+      case 102:
+         return jjMoveStringLiteralDfa3_0(active0, 0x100000L, active1, 0L);
+      case 105:
+         return jjMoveStringLiteralDfa3_0(active0, 0x1414040000000000L, active1, 0L);
+      case 108:
+         return jjMoveStringLiteralDfa3_0(active0, 0x800010020000000L, active1, 0L);
+      case 110:
+         return jjMoveStringLiteralDfa3_0(active0, 0x80020060c0000L, active1, 0L);
+      case 111:
+         return jjMoveStringLiteralDfa3_0(active0, 0x480008000800L, active1, 0L);
+      case 112:
+         return jjMoveStringLiteralDfa3_0(active0, 0x2000300000000L, active1, 0L);
+      case 114:
+         if ((active0 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 28, 7);
+         return jjMoveStringLiteralDfa3_0(active0, 0x61000000000000L, active1, 0L);
+      case 115:
+         return jjMoveStringLiteralDfa3_0(active0, 0x400804400L, active1, 0L);
+      case 116:
+         if ((active0 & 0x800000000L) != 0L)
+         {
+            jjmatchedKind = 35;
+            jjmatchedPos = 2;
+         }
+         return jjMoveStringLiteralDfa3_0(active0, 0x20504100a000L, active1, 0L);
+      case 117:
+         return jjMoveStringLiteralDfa3_0(active0, 0x100000000400000L, active1, 0L);
+      case 119:
+         if ((active0 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 39, 7);
+         break;
+      case 121:
+         if ((active0 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 57, 7);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(1, active0, active1);
+}
+private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long active1){
+   if (((active0 &= old0) | (active1 &= old1)) == 0L)
+      return jjStartNfa_0(1, old0, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(2, active0, active1);
+      return 3;
+   }
+   switch(curChar)
+   {
+      case 61:
+         if ((active1 & 0x40000L) != 0L)
+            return jjStopAtPos(3, 82);
+         break;
+      case 97:
+         return jjMoveStringLiteralDfa4_0(active0, 0x80000000e101000L, active1, 0L);
+      case 98:
+         return jjMoveStringLiteralDfa4_0(active0, 0x400000L, active1, 0L);
+      case 99:
+         return jjMoveStringLiteralDfa4_0(active0, 0x8000000008000L, active1, 0L);
+      case 100:
+         if ((active0 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 58, 7);
+         break;
+      case 101:
+         if ((active0 & 0x2000L) != 0L)
+            return jjStartNfaWithStates_0(3, 13, 7);
+         else if ((active0 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(3, 14, 7);
+         else if ((active0 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(3, 23, 7);
+         else if ((active0 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 56, 7);
+         return jjMoveStringLiteralDfa4_0(active0, 0x2001001000000L, active1, 0L);
+      case 103:
+         if ((active0 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 37, 7);
+         break;
+      case 105:
+         return jjMoveStringLiteralDfa4_0(active0, 0x1004000000000L, active1, 0L);
+      case 107:
+         return jjMoveStringLiteralDfa4_0(active0, 0x20000000000L, active1, 0L);
+      case 108:
+         if ((active0 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 40, 7);
+         return jjMoveStringLiteralDfa4_0(active0, 0x1000100100000800L, active1, 0L);
+      case 110:
+         return jjMoveStringLiteralDfa4_0(active0, 0x80000000000000L, active1, 0L);
+      case 111:
+         if ((active0 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 30, 7);
+         return jjMoveStringLiteralDfa4_0(active0, 0x60000200000000L, active1, 0L);
+      case 114:
+         if ((active0 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(3, 16, 7);
+         return jjMoveStringLiteralDfa4_0(active0, 0x400000000000L, active1, 0L);
+      case 115:
+         if ((active0 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 52, 7);
+         return jjMoveStringLiteralDfa4_0(active0, 0x20060000L, active1, 0L);
+      case 116:
+         return jjMoveStringLiteralDfa4_0(active0, 0x4880400080400L, active1, 0L);
+      case 117:
+         return jjMoveStringLiteralDfa4_0(active0, 0x200000000000L, active1, 0L);
+      case 118:
+         return jjMoveStringLiteralDfa4_0(active0, 0x40000000000L, active1, 0L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(2, active0, active1);
+}
+private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long active1){
+   if (((active0 &= old0) | (active1 &= old1)) == 0L)
+      return jjStartNfa_0(2, old0, old1);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(3, active0, 0L);
+      return 4;
+   }
+   switch(curChar)
+   {
+      case 97:
+         return jjMoveStringLiteralDfa5_0(active0, 0x60400000000L);
+      case 99:
+         return jjMoveStringLiteralDfa5_0(active0, 0x5000000000000L);
+      case 101:
+         if ((active0 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 29, 7);
+         else if ((active0 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 60, 7);
+         return jjMoveStringLiteralDfa5_0(active0, 0x80100000800L);
+      case 104:
+         if ((active0 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(4, 15, 7);
+         return jjMoveStringLiteralDfa5_0(active0, 0x8000000000000L);
+      case 105:
+         return jjMoveStringLiteralDfa5_0(active0, 0x900000080000L);
+      case 107:
+         if ((active0 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(4, 12, 7);
+         break;
+      case 108:
+         if ((active0 & 0x2000000L) != 0L)
+         {
+            jjmatchedKind = 25;
+            jjmatchedPos = 4;
+         }
+         return jjMoveStringLiteralDfa5_0(active0, 0x4400000L);
+      case 110:
+         return jjMoveStringLiteralDfa5_0(active0, 0x1000000L);
+      case 114:
+         if ((active0 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 49, 7);
+         return jjMoveStringLiteralDfa5_0(active0, 0x201200000400L);
+      case 115:
+         if ((active0 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(4, 17, 7);
+         return jjMoveStringLiteralDfa5_0(active0, 0x80000000000000L);
+      case 116:
+         if ((active0 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(4, 18, 7);
+         else if ((active0 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 27, 7);
+         else if ((active0 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 46, 7);
+         return jjMoveStringLiteralDfa5_0(active0, 0x800000000000000L);
+      case 117:
+         return jjMoveStringLiteralDfa5_0(active0, 0x100000L);
+      case 118:
+         return jjMoveStringLiteralDfa5_0(active0, 0x4000000000L);
+      case 119:
+         if ((active0 & 0x20000000000000L) != 0L)
+         {
+            jjmatchedKind = 53;
+            jjmatchedPos = 4;
+         }
+         return jjMoveStringLiteralDfa5_0(active0, 0x40000000000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(3, active0, 0L);
+}
+private int jjMoveStringLiteralDfa5_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(3, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(4, active0, 0L);
+      return 5;
+   }
+   switch(curChar)
+   {
+      case 97:
+         return jjMoveStringLiteralDfa6_0(active0, 0xc00L);
+      case 99:
+         if ((active0 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 44, 7);
+         else if ((active0 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 47, 7);
+         return jjMoveStringLiteralDfa6_0(active0, 0x80000000000L);
+      case 100:
+         return jjMoveStringLiteralDfa6_0(active0, 0x1000000L);
+      case 101:
+         if ((active0 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(5, 22, 7);
+         else if ((active0 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 38, 7);
+         break;
+      case 102:
+         return jjMoveStringLiteralDfa6_0(active0, 0x1000000000L);
+      case 103:
+         return jjMoveStringLiteralDfa6_0(active0, 0x20000000000L);
+      case 104:
+         if ((active0 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 50, 7);
+         break;
+      case 105:
+         return jjMoveStringLiteralDfa6_0(active0, 0x880000000000000L);
+      case 108:
+         return jjMoveStringLiteralDfa6_0(active0, 0x4100000L);
+      case 109:
+         return jjMoveStringLiteralDfa6_0(active0, 0x100000000L);
+      case 110:
+         if ((active0 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 45, 7);
+         return jjMoveStringLiteralDfa6_0(active0, 0x400080000L);
+      case 114:
+         return jjMoveStringLiteralDfa6_0(active0, 0x8000000000000L);
+      case 115:
+         if ((active0 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 54, 7);
+         break;
+      case 116:
+         if ((active0 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 33, 7);
+         return jjMoveStringLiteralDfa6_0(active0, 0x1040000000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(4, active0, 0L);
+}
+private int jjMoveStringLiteralDfa6_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(4, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(5, active0, 0L);
+      return 6;
+   }
+   switch(curChar)
+   {
+      case 97:
+         return jjMoveStringLiteralDfa7_0(active0, 0x1000000000L);
+      case 99:
+         return jjMoveStringLiteralDfa7_0(active0, 0x400000400L);
+      case 101:
+         if ((active0 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 41, 7);
+         else if ((active0 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 42, 7);
+         return jjMoveStringLiteralDfa7_0(active0, 0x80000100000000L);
+      case 102:
+         return jjMoveStringLiteralDfa7_0(active0, 0x1000000000000L);
+      case 108:
+         return jjMoveStringLiteralDfa7_0(active0, 0x800000000000000L);
+      case 110:
+         if ((active0 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(6, 11, 7);
+         break;
+      case 111:
+         return jjMoveStringLiteralDfa7_0(active0, 0x8000000000000L);
+      case 115:
+         if ((active0 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 24, 7);
+         break;
+      case 116:
+         if ((active0 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(6, 20, 7);
+         return jjMoveStringLiteralDfa7_0(active0, 0x80000000000L);
+      case 117:
+         return jjMoveStringLiteralDfa7_0(active0, 0x80000L);
+      case 121:
+         if ((active0 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 26, 7);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(5, active0, 0L);
+}
+private int jjMoveStringLiteralDfa7_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(5, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(6, active0, 0L);
+      return 7;
+   }
+   switch(curChar)
+   {
+      case 99:
+         return jjMoveStringLiteralDfa8_0(active0, 0x1000000000L);
+      case 101:
+         if ((active0 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(7, 19, 7);
+         else if ((active0 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 59, 7);
+         return jjMoveStringLiteralDfa8_0(active0, 0x80400000000L);
+      case 110:
+         return jjMoveStringLiteralDfa8_0(active0, 0x88000100000000L);
+      case 112:
+         if ((active0 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 48, 7);
+         break;
+      case 116:
+         if ((active0 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(7, 10, 7);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(6, active0, 0L);
+}
+private int jjMoveStringLiteralDfa8_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(6, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(7, active0, 0L);
+      return 8;
+   }
+   switch(curChar)
+   {
+      case 100:
+         if ((active0 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 43, 7);
+         break;
+      case 101:
+         if ((active0 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 36, 7);
+         break;
+      case 105:
+         return jjMoveStringLiteralDfa9_0(active0, 0x8000000000000L);
+      case 111:
+         return jjMoveStringLiteralDfa9_0(active0, 0x400000000L);
+      case 116:
+         if ((active0 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 55, 7);
+         return jjMoveStringLiteralDfa9_0(active0, 0x100000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(7, active0, 0L);
+}
+private int jjMoveStringLiteralDfa9_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(7, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(8, active0, 0L);
+      return 9;
+   }
+   switch(curChar)
+   {
+      case 102:
+         if ((active0 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 34, 7);
+         break;
+      case 115:
+         if ((active0 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 32, 7);
+         break;
+      case 122:
+         return jjMoveStringLiteralDfa10_0(active0, 0x8000000000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(8, active0, 0L);
+}
+private int jjMoveStringLiteralDfa10_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(8, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(9, active0, 0L);
+      return 10;
+   }
+   switch(curChar)
+   {
+      case 101:
+         return jjMoveStringLiteralDfa11_0(active0, 0x8000000000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(9, active0, 0L);
+}
+private int jjMoveStringLiteralDfa11_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(9, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(10, active0, 0L);
+      return 11;
+   }
+   switch(curChar)
+   {
+      case 100:
+         if ((active0 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 51, 7);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(10, active0, 0L);
+}
+private int jjStartNfaWithStates_0(int pos, int kind, int state)
+{
+   jjmatchedKind = kind;
+   jjmatchedPos = pos;
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) { return pos + 1; }
+   return jjMoveNfa_0(state, pos + 1);
+}
+static final long[] jjbitVec0 = {
+   0x0L, 0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+private int jjMoveNfa_0(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 32;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 5:
+                  if ((0x3ff000000000000L & l) != 0L)
+                  {
+                     if (kind > 114)
+                        kind = 114;
+                     { jjCheckNAddStates(0, 5); }
+                  }
+                  else if (curChar == 46)
+                     { jjCheckNAdd(22); }
+                  else if (curChar == 34)
+                     { jjCheckNAddStates(6, 8); }
+                  else if (curChar == 39)
+                     { jjAddStates(9, 10); }
+                  else if (curChar == 36)
+                  {
+                     if (kind > 107)
+                        kind = 107;
+                     { jjCheckNAdd(7); }
+                  }
+                  else if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 0;
+                  if ((0x3fe000000000000L & l) != 0L)
+                  {
+                     if (kind > 111)
+                        kind = 111;
+                     { jjCheckNAdd(10); }
+                  }
+                  else if (curChar == 48)
+                  {
+                     if (kind > 111)
+                        kind = 111;
+                  }
+                  break;
+               case 0:
+                  if (curChar == 47)
+                     { jjCheckNAddStates(11, 13); }
+                  break;
+               case 1:
+                  if ((0xffffffffffffdbffL & l) != 0L)
+                     { jjCheckNAddStates(11, 13); }
+                  break;
+               case 2:
+                  if ((0x2400L & l) != 0L && kind > 6)
+                     kind = 6;
+                  break;
+               case 3:
+                  if (curChar == 10 && kind > 6)
+                     kind = 6;
+                  break;
+               case 4:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 6:
+                  if (curChar != 36)
+                     break;
+                  if (kind > 107)
+                     kind = 107;
+                  { jjCheckNAdd(7); }
+                  break;
+               case 7:
+                  if ((0x3ff001000000000L & l) == 0L)
+                     break;
+                  if (kind > 107)
+                     kind = 107;
+                  { jjCheckNAdd(7); }
+                  break;
+               case 8:
+                  if (curChar == 48 && kind > 111)
+                     kind = 111;
+                  break;
+               case 9:
+                  if ((0x3fe000000000000L & l) == 0L)
+                     break;
+                  if (kind > 111)
+                     kind = 111;
+                  { jjCheckNAdd(10); }
+                  break;
+               case 10:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 111)
+                     kind = 111;
+                  { jjCheckNAdd(10); }
+                  break;
+               case 11:
+                  if (curChar == 39)
+                     { jjAddStates(9, 10); }
+                  break;
+               case 13:
+                  if ((0x8400000000L & l) != 0L)
+                     { jjCheckNAdd(14); }
+                  break;
+               case 14:
+                  if (curChar == 39 && kind > 112)
+                     kind = 112;
+                  break;
+               case 15:
+                  if ((0xffffff7fffffdbffL & l) != 0L)
+                     { jjCheckNAdd(14); }
+                  break;
+               case 16:
+                  if (curChar == 34)
+                     { jjCheckNAddStates(6, 8); }
+                  break;
+               case 18:
+                  if ((0x8400000000L & l) != 0L)
+                     { jjCheckNAddStates(6, 8); }
+                  break;
+               case 19:
+                  if ((0xfffffffbffffdbffL & l) != 0L)
+                     { jjCheckNAddStates(6, 8); }
+                  break;
+               case 20:
+                  if (curChar == 34 && kind > 113)
+                     kind = 113;
+                  break;
+               case 21:
+                  if (curChar == 46)
+                     { jjCheckNAdd(22); }
+                  break;
+               case 22:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 114)
+                     kind = 114;
+                  { jjCheckNAddStates(14, 16); }
+                  break;
+               case 24:
+                  if ((0x280000000000L & l) != 0L)
+                     { jjCheckNAdd(25); }
+                  break;
+               case 25:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 114)
+                     kind = 114;
+                  { jjCheckNAddTwoStates(25, 26); }
+                  break;
+               case 27:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 114)
+                     kind = 114;
+                  { jjCheckNAddStates(0, 5); }
+                  break;
+               case 28:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(28, 21); }
+                  break;
+               case 29:
+                  if (curChar != 46)
+                     break;
+                  if (kind > 114)
+                     kind = 114;
+                  { jjCheckNAddStates(17, 19); }
+                  break;
+               case 30:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 114)
+                     kind = 114;
+                  { jjCheckNAddStates(17, 19); }
+                  break;
+               case 31:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 114)
+                     kind = 114;
+                  { jjCheckNAddStates(20, 24); }
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 5:
+               case 7:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 107)
+                     kind = 107;
+                  { jjCheckNAdd(7); }
+                  break;
+               case 1:
+                  { jjAddStates(11, 13); }
+                  break;
+               case 12:
+                  if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 13;
+                  break;
+               case 13:
+                  if ((0x14404410000000L & l) != 0L)
+                     { jjCheckNAdd(14); }
+                  break;
+               case 15:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     { jjCheckNAdd(14); }
+                  break;
+               case 17:
+                  if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 18;
+                  break;
+               case 18:
+                  if ((0x14404410000000L & l) != 0L)
+                     { jjCheckNAddStates(6, 8); }
+                  break;
+               case 19:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     { jjCheckNAddStates(6, 8); }
+                  break;
+               case 23:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjAddStates(25, 26); }
+                  break;
+               case 26:
+                  if ((0x5000000050L & l) != 0L && kind > 114)
+                     kind = 114;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 1:
+                  if ((jjbitVec0[i2] & l2) != 0L)
+                     { jjAddStates(11, 13); }
+                  break;
+               case 15:
+                  if ((jjbitVec0[i2] & l2) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  break;
+               case 19:
+                  if ((jjbitVec0[i2] & l2) != 0L)
+                     { jjAddStates(6, 8); }
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 32 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private int jjMoveStringLiteralDfa0_1(){
+   switch(curChar)
+   {
+      case 42:
+         return jjMoveStringLiteralDfa1_1(0x100L);
+      default :
+         return 1;
+   }
+}
+private int jjMoveStringLiteralDfa1_1(long active0){
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 47:
+         if ((active0 & 0x100L) != 0L)
+            return jjStopAtPos(1, 8);
+         break;
+      default :
+         return 2;
+   }
+   return 2;
+}
+
+/** Token literal values. */
+public static final String[] jjstrLiteralImages = {
+"", null, null, null, null, null, null, null, null, null, 
+"\141\142\163\164\162\141\143\164", "\142\157\157\154\145\141\156", "\142\162\145\141\153", "\142\171\164\145", 
+"\143\141\163\145", "\143\141\164\143\150", "\143\150\141\162", "\143\154\141\163\163", 
+"\143\157\156\163\164", "\143\157\156\164\151\156\165\145", "\144\145\146\141\165\154\164", 
+"\144\157", "\144\157\165\142\154\145", "\145\154\163\145", 
+"\145\170\164\145\156\144\163", "\146\151\156\141\154", "\146\151\156\141\154\154\171", 
+"\146\154\157\141\164", "\146\157\162", "\146\141\154\163\145", "\147\157\164\157", "\151\146", 
+"\151\155\160\154\145\155\145\156\164\163", "\151\155\160\157\162\164", "\151\156\163\164\141\156\143\145\157\146", 
+"\151\156\164", "\151\156\164\145\162\146\141\143\145", "\154\157\156\147", 
+"\156\141\164\151\166\145", "\156\145\167", "\156\165\154\154", "\160\141\143\153\141\147\145", 
+"\160\162\151\166\141\164\145", "\160\162\157\164\145\143\164\145\144", "\160\165\142\154\151\143", 
+"\162\145\164\165\162\156", "\163\150\157\162\164", "\163\164\141\164\151\143", 
+"\163\164\162\151\143\164\146\160", "\163\165\160\145\162", "\163\167\151\164\143\150", 
+"\163\171\156\143\150\162\157\156\151\172\145\144", "\164\150\151\163", "\164\150\162\157\167", "\164\150\162\157\167\163", 
+"\164\162\141\156\163\151\145\156\164", "\164\162\165\145", "\164\162\171", "\166\157\151\144", 
+"\166\157\154\141\164\151\154\145", "\167\150\151\154\145", "\77", "\75", "\75\75", "\41", "\176", "\41\75", 
+"\57", "\57\75", "\53", "\53\75", "\53\53", "\55", "\55\75", "\55\55", "\52", 
+"\52\75", "\45", "\45\75", "\76\76", "\76\76\75", "\76\76\76", "\76\76\76\75", "\76\75", 
+"\76", "\74\74", "\74\74\75", "\74\75", "\74", "\136", "\136\75", "\174", "\174\75", 
+"\174\174", "\46", "\46\75", "\46\46", "\50", "\51", "\173", "\175", "\133", "\135", 
+"\73", "\72", "\54", "\56", null, null, null, null, null, null, null, null, null, 
+null, };
+protected Token jjFillToken()
+{
+   final Token t;
+   final String curTokenImage;
+   final int beginLine;
+   final int endLine;
+   final int beginColumn;
+   final int endColumn;
+   String im = jjstrLiteralImages[jjmatchedKind];
+   curTokenImage = (im == null) ? input_stream.GetImage() : im;
+   beginLine = input_stream.getBeginLine();
+   beginColumn = input_stream.getBeginColumn();
+   endLine = input_stream.getEndLine();
+   endColumn = input_stream.getEndColumn();
+   t = Token.newToken(jjmatchedKind, curTokenImage);
+
+   t.beginLine = beginLine;
+   t.endLine = endLine;
+   t.beginColumn = beginColumn;
+   t.endColumn = endColumn;
+
+   return t;
+}
+static final int[] jjnextStates = {
+   28, 21, 29, 23, 26, 31, 17, 19, 20, 12, 15, 1, 2, 4, 22, 23, 
+   26, 30, 23, 26, 29, 30, 23, 26, 31, 24, 25, 
+};
+
+int curLexState = 0;
+int defaultLexState = 0;
+int jjnewStateCnt;
+int jjround;
+int jjmatchedPos;
+int jjmatchedKind;
+
+/** Get the next Token. */
+public Token getNextToken() 
+{
+  Token matchedToken;
+  int curPos = 0;
+
+  EOFLoop :
+  for (;;)
+  {
+   try
+   {
+      curChar = input_stream.BeginToken();
+   }
+   catch(Exception e)
+   {
+      jjmatchedKind = 0;
+      jjmatchedPos = -1;
+      matchedToken = jjFillToken();
+      return matchedToken;
+   }
+
+   switch(curLexState)
+   {
+     case 0:
+       try { input_stream.backup(0);
+          while (curChar <= 32 && (0x100003600L & (1L << curChar)) != 0L)
+             curChar = input_stream.BeginToken();
+       }
+       catch (java.io.IOException e1) { continue EOFLoop; }
+       jjmatchedKind = 0x7fffffff;
+       jjmatchedPos = 0;
+       curPos = jjMoveStringLiteralDfa0_0();
+       if (jjmatchedPos == 0 && jjmatchedKind > 116)
+       {
+          jjmatchedKind = 116;
+       }
+       break;
+     case 1:
+       jjmatchedKind = 0x7fffffff;
+       jjmatchedPos = 0;
+       curPos = jjMoveStringLiteralDfa0_1();
+       if (jjmatchedPos == 0 && jjmatchedKind > 9)
+       {
+          jjmatchedKind = 9;
+       }
+       break;
+   }
+     if (jjmatchedKind != 0x7fffffff)
+     {
+        if (jjmatchedPos + 1 < curPos)
+           input_stream.backup(curPos - jjmatchedPos - 1);
+        if ((jjtoToken[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L)
+        {
+           matchedToken = jjFillToken();
+       if (jjnewLexState[jjmatchedKind] != -1)
+         curLexState = jjnewLexState[jjmatchedKind];
+           return matchedToken;
+        }
+        else
+        {
+         if (jjnewLexState[jjmatchedKind] != -1)
+           curLexState = jjnewLexState[jjmatchedKind];
+           continue EOFLoop;
+        }
+     }
+     int error_line = input_stream.getEndLine();
+     int error_column = input_stream.getEndColumn();
+     String error_after = null;
+     boolean EOFSeen = false;
+     try { input_stream.readChar(); input_stream.backup(1); }
+     catch (java.io.IOException e1) {
+        EOFSeen = true;
+        error_after = curPos <= 1 ? "" : input_stream.GetImage();
+        if (curChar == '\n' || curChar == '\r') {
+           error_line++;
+           error_column = 0;
+        }
+        else
+           error_column++;
+     }
+     if (!EOFSeen) {
+        input_stream.backup(1);
+        error_after = curPos <= 1 ? "" : input_stream.GetImage();
+     }
+     throw new TokenMgrError(EOFSeen, curLexState, error_line, error_column, error_after, curChar, TokenMgrError.LEXICAL_ERROR);
+  }
+}
+
+void SkipLexicalActions(Token matchedToken)
+{
+   switch(jjmatchedKind)
+   {
+      default :
+         break;
+   }
+}
+void MoreLexicalActions()
+{
+   jjimageLen += (lengthOfMatch = jjmatchedPos + 1);
+   switch(jjmatchedKind)
+   {
+      default :
+         break;
+   }
+}
+void TokenLexicalActions(Token matchedToken)
+{
+   switch(jjmatchedKind)
+   {
+      default :
+         break;
+   }
+}
+private void jjCheckNAdd(int state)
+{
+   if (jjrounds[state] != jjround)
+   {
+      jjstateSet[jjnewStateCnt++] = state;
+      jjrounds[state] = jjround;
+   }
+}
+private void jjAddStates(int start, int end)
+{
+   do {
+      jjstateSet[jjnewStateCnt++] = jjnextStates[start];
+   } while (start++ != end);
+}
+private void jjCheckNAddTwoStates(int state1, int state2)
+{
+   jjCheckNAdd(state1);
+   jjCheckNAdd(state2);
+}
+
+private void jjCheckNAddStates(int start, int end)
+{
+   do {
+      jjCheckNAdd(jjnextStates[start]);
+   } while (start++ != end);
+}
+
+    /** Constructor. */
+    public JavaCCParserTokenManager(CharStream stream){
+
+
+    input_stream = stream;
+  }
+
+  /** Constructor. */
+  public JavaCCParserTokenManager (CharStream stream, int lexState){
+    ReInit(stream);
+    SwitchTo(lexState);
+  }
+
+  /** Reinitialise parser. */
+  
+  public void ReInit(CharStream stream)
+  {
+
+
+    jjmatchedPos =
+    jjnewStateCnt =
+    0;
+    curLexState = defaultLexState;
+    input_stream = stream;
+    ReInitRounds();
+  }
+
+  private void ReInitRounds()
+  {
+    int i;
+    jjround = 0x80000001;
+    for (i = 32; i-- > 0;)
+      jjrounds[i] = 0x80000000;
+  }
+
+  /** Reinitialise parser. */
+  public void ReInit(CharStream stream, int lexState)
+  
+  {
+    ReInit(stream);
+    SwitchTo(lexState);
+  }
+
+  /** Switch to specified lex state. */
+  public void SwitchTo(int lexState)
+  {
+    if (lexState >= 2 || lexState < 0)
+      throw new TokenMgrError("Error: Ignoring invalid lexical state : " + lexState + ". State unchanged.", TokenMgrError.INVALID_LEXICAL_STATE);
+    else
+      curLexState = lexState;
+  }
+
+
+/** Lexer state names. */
+public static final String[] lexStateNames = {
+   "DEFAULT",
+   "ML_COMMENT_STATE",
+};
+
+/** Lex State array. */
+public static final int[] jjnewLexState = {
+   -1, -1, -1, -1, -1, -1, -1, 1, 0, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+};
+static final long[] jjtoToken = {
+   0xfffffffffffffc01L, 0x178fffffffffffL, 
+};
+static final long[] jjtoSkip = {
+   0x3feL, 0x0L, 
+};
+static final long[] jjtoSpecial = {
+   0x0L, 0x0L, 
+};
+static final long[] jjtoMore = {
+   0x0L, 0x0L, 
+};
+    protected CharStream  input_stream;
+
+    private final int[] jjrounds = new int[32];
+    private final int[] jjstateSet = new int[2 * 32];
+    private final StringBuilder jjimage = new StringBuilder();
+    private StringBuilder image = jjimage;
+    private int jjimageLen;
+    private int lengthOfMatch;
+    protected int curChar;
+}
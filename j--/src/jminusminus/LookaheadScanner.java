@@ -3,37 +3,47 @@
 package jminusminus;
 
 import java.io.FileNotFoundException;
-import java.util.Stack;
-import java.util.Vector;
+import java.util.Arrays;
 
 /**
  * A lexical analyzer for j-- that interfaces with the hand-written parser
  * ({@link Parser}). It provides a backtracking mechanism, and makes use of the
  * underlying hand-written {@link Scanner}.
+ * <p>
+ * The tokens scanned are kept in the {@link TokenStream} of the scanner, and
+ * the current token is just an index into it: looking ahead scans tokens as
+ * needed, and returning to a recorded position merely resets the index, which
+ * is popped off a stack of ints. So (nested) lookahead costs O(1) per token,
+ * and allocates nothing once the stack is deep enough. The parser reads the
+ * kind, line and image of the current (and previous) token from here, so no
+ * object is built per token.
  */
 
 class LookaheadScanner {
 
-    /** The underlying hand-written scanner. */
+    /**
+     * The underlying hand-written scanner; null if the tokens are all scanned
+     * already.
+     */
     private Scanner scanner;
 
-    /** Backtracking queue. */
-    private Vector<TokenInfo> backtrackingQueue;
+    /** Source file name. */
+    private String fileName;
 
-    /** Token queue. */
-    private Vector<TokenInfo> nextQueue;
+    /** The tokens scanned. */
+    private TokenStream tokens;
 
-    /** Stack of token queues for nested lookahead. */
-    private Stack<Vector<TokenInfo>> queueStack;
+    /** Index of the current token; -1 before the first one is scanned. */
+    private int position;
 
-    /** Whether we are looking ahead. */
-    public boolean isLookingAhead;
+    /** Stack of recorded positions for nested lookahead. */
+    private int[] positions;
 
-    /** Previous token. */
-    private TokenInfo previousToken;
+    /** Number of recorded positions on the stack. */
+    private int depth;
 
-    /** Current token. */
-    private TokenInfo token;
+    /** Whether we are looking ahead. */
+    public boolean isLookingAhead;
 
     /**
      * Constructs a LookaheadScanner from a file name.
@@ -45,60 +55,178 @@ class LookaheadScanner {
      */
 
     public LookaheadScanner(String fileName) throws FileNotFoundException {
-        scanner = new Scanner(fileName);
-        backtrackingQueue = new Vector<TokenInfo>();
-        nextQueue = new Vector<TokenInfo>();
-        queueStack = new Stack<Vector<TokenInfo>>();
+        this(new Scanner(fileName));
+    }
+
+    /**
+     * Constructs a LookaheadScanner reading the specified source from memory.
+     * 
+     * @param fileName
+     *            the name of the file the source is reported as.
+     * @param source
+     *            the source.
+     */
+
+    public LookaheadScanner(String fileName, CharSequence source) {
+        this(new Scanner(fileName, source));
+    }
+
+    /**
+     * Constructs a LookaheadScanner over the specified scanner.
+     * 
+     * @param scanner
+     *            the underlying scanner.
+     */
+
+    LookaheadScanner(Scanner scanner) {
+        this.scanner = scanner;
+        fileName = scanner.fileName();
+        tokens = scanner.tokens();
+        position = -1;
+        positions = new int[8];
+        depth = 0;
+        isLookingAhead = false;
+    }
+
+    /**
+     * Constructs a LookaheadScanner over tokens all scanned already (up to an
+     * EOF), the first token in the input being at the specified index. This
+     * is how {@link IncrementalParser} parses a part of a source again.
+     * 
+     * @param fileName
+     *            the name of the file the source is reported as.
+     * @param tokens
+     *            the tokens.
+     * @param first
+     *            index of the first token.
+     */
+
+    LookaheadScanner(String fileName, TokenStream tokens, int first) {
+        this.fileName = fileName;
+        this.tokens = tokens;
+        position = first - 1;
+        positions = new int[8];
+        depth = 0;
         isLookingAhead = false;
     }
 
     /**
-     * Scans to the next token in the input.
+     * Scans to the next token in the input; stays on the EOF ending them, if
+     * the tokens are all scanned.
      */
 
     public void next() {
-        previousToken = token;
-        if (backtrackingQueue.size() == 0) {
-            token = scanner.getNextToken();
-        } else {
-            token = backtrackingQueue.remove(0);
+        if (scanner == null) {
+            if (position < tokens.size() - 1) {
+                position++;
+            }
+            return;
         }
-        if (isLookingAhead) {
-            nextQueue.add(token);
+        position++;
+        if (position == tokens.size()) {
+            scanner.scan();
+            Stats.count(Stats.Counter.TOKENS, 1);
         }
     }
 
     /**
      * Records the current position in the input, so that we can start looking
-     * ahead in the input (and later return to this position). We'll queue up
-     * the current and subsequent tokens until {@code returnToPosition} is 
-     * invoked. These recordPosition's can be nested.
+     * ahead in the input (and later return to this position). These
+     * recordPosition's can be nested.
      */
 
     public void recordPosition() {
         isLookingAhead = true;
-        queueStack.push(nextQueue);
-        nextQueue = new Vector<TokenInfo>();
-        nextQueue.add(previousToken);
-        nextQueue.add(token);
+        if (depth == positions.length) {
+            positions = Arrays.copyOf(positions, 2 * depth);
+        }
+        positions[depth++] = position;
     }
 
     /**
      * Returns to the previously recorded position in the input stream of tokens.
-     * If this is a nested lookahead, then return to the previous token queue.
+     * If this is a nested lookahead, then return to the previous recorded
+     * position.
      */
 
     public void returnToPosition() {
-        while (backtrackingQueue.size() > 0) {
-            nextQueue.add(backtrackingQueue.remove(0));
-        }
-        backtrackingQueue = nextQueue;
-        nextQueue = queueStack.pop();
-        isLookingAhead = !(queueStack.empty());
+        position = positions[--depth];
+        isLookingAhead = depth > 0;
+    }
+
+    /**
+     * Returns the position in the input: the index of the current token in the
+     * tokens scanned.
+     * 
+     * @return the position.
+     */
+
+    public int position() {
+        return position;
+    }
 
-        // Restore previous and current tokens
-        previousToken = backtrackingQueue.remove(0);
-        token = backtrackingQueue.remove(0);
+    /**
+     * Moves to the specified position in the input, which must be that of a
+     * token scanned already (while looking ahead, for example).
+     * 
+     * @param position
+     *            the position.
+     */
+
+    public void seek(int position) {
+        this.position = position;
+    }
+
+    /**
+     * Returns the kind of the current token.
+     * 
+     * @return the kind.
+     */
+
+    public TokenKind kind() {
+        return tokens.kind(position);
+    }
+
+    /**
+     * Returns the line of the current token.
+     * 
+     * @return the line.
+     */
+
+    public int line() {
+        return tokens.line(position);
+    }
+
+    /**
+     * Returns the image of the current token.
+     * 
+     * @return the image.
+     */
+
+    public String image() {
+        return tokens.image(position);
+    }
+
+    /**
+     * Returns the image of the previous token. We use this in the parser to
+     * get at a token's semantic info (for example an identifier's name), after
+     * we've scanned it.
+     * 
+     * @return the image.
+     */
+
+    public String previousImage() {
+        return tokens.image(position - 1);
+    }
+
+    /**
+     * Returns the kind of the previous token.
+     * 
+     * @return the kind.
+     */
+
+    public TokenKind previousKind() {
+        return tokens.kind(position - 1);
     }
 
     /**
@@ -108,19 +236,17 @@ class LookaheadScanner {
      */
 
     public TokenInfo token() {
-        return token;
+        return tokens.token(position);
     }
 
     /**
-     * Returns the previously scanned token. We use this in the parser to get 
-     * at a token's semantic info (for example an identifier's name), after 
-     * we've scanned it.
+     * Returns the previously scanned token.
      * 
      * @return the previous token.
      */
 
     public TokenInfo previousToken() {
-        return previousToken;
+        return position > 0 ? tokens.token(position - 1) : null;
     }
 
     /**
@@ -130,7 +256,7 @@ class LookaheadScanner {
      */
 
     public boolean errorHasOccured() {
-        return scanner.errorHasOccurred();
+        return scanner != null && scanner.errorHasOccurred();
     }
 
     /**
@@ -140,7 +266,7 @@ class LookaheadScanner {
      */
 
     public String fileName() {
-        return scanner.fileName();
+        return fileName;
     }
 
 }
@@ -2,25 +2,53 @@
 
 package jminusminus;
 
+import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
 
-import static jminusminus.TokenKind.EOF;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.StringTokenizer;
 
 /**
  * Driver class for j-- compiler using hand-written front-end. This is the main
  * entry point for the compiler. The compiler proceeds as follows:
  * <ol>
- *   <li>It reads arguments that affects its behavior.</li>
+ *   <li>It reads arguments that affects its behavior. Any number of source
+ *       files may be given, either directly or listed in {@code @file}
+ *       argument files, and they are all compiled in a single session. The
+ *       compilation may also be handed to a resident compiler, a
+ *       {@link Daemon}. With {@code -i}, only the source files that changed
+ *       since the last compilation, and those depending on them, are compiled
+ *       (see {@link IncrementalIndex}).</li>
  * 
- *   <li>It builds a scanner.</li>
+ *   <li>It builds a scanner for each source file. With {@code -j <n>}, up to
+ *       n source files are scanned, parsed, analyzed, and code generated in
+ *       parallel (see {@link Session}); the files are read and parsed in a
+ *       pipeline (see {@link ParsePipeline}). The output is the same.</li>
  * 
  *   <li>It builds a parser (using the scanner) and parses the input for
- *       producing an abstact syntax tree (AST).</li>
+ *       producing an abstact syntax tree (AST). The parser recovers from a
+ *       syntax error at the next statement or member, so that all of the
+ *       syntax errors are reported; the (partial) AST is still analyzed, for
+ *       the semantic errors in the rest of it, but no code is generated.</li>
  * 
  *   <li>It sends the {@code preAnalyze} message to that AST, which recursively
  *       descends the tree so far as the member headers for declaring types and
- *       members in the symbol table (represented as a string of contexts).</li>
+ *       members in the symbol table (represented as a string of contexts).
+ *       The library classes referred to are read from their class files, on
+ *       the class path given with {@code -classpath} (see
+ *       {@link CLSymbolTable}), rather than loaded.</li>
  * 
  *   <li>It sends the {@code analyze} message to that AST for declaring local 
  *       variables, and checking and assigning types to expressions. Analysis 
@@ -31,8 +59,14 @@ import static jminusminus.TokenKind.EOF;
  *   <li>Finally, it sends a {@code codegen} message to the AST for generating 
  *       code. Again, {@code codegen} recursively descends the tree, down to its
  *       leaves, generating JVM code for producing a .class or .s (SPIM) file 
- *       for each defined type (class).</li>
+ *       for each defined type (class). With {@code -jar <file>}, the classes
+ *       are written to a jar file instead (see {@link CLJarSink}).</li>
  * </ol>
+ * With {@code -run <file> [args]}, the source files are instead compiled in
+ * memory (see {@link JMinusMinusCompiler}), and the main method of the class
+ * declared by the file is run, in this JVM, with the arguments that follow
+ * it. Only that one file may follow {@code -run}: any other source files the
+ * program needs are given before it.
  */
 
 public class Main {
@@ -48,21 +82,99 @@ public class Main {
      */
 
     public static void main(String args[]) {
+        errorHasOccurred = false;
+        if (daemon(args)) {
+            return;
+        }
+        compile(args, false);
+    }
+
+    /**
+     * Runs the compiler on the arguments of a request sent to the daemon, as
+     * {@link #main(String[])} does, except that the daemon options are
+     * refused, since a request may not make the daemon serve, send or stop;
+     * and so is -run, since the program would run in the daemon's JVM.
+     *
+     * @param args
+     *            the arguments of the request.
+     */
+
+    static void request(String[] args) {
+        errorHasOccurred = false;
+        compile(args, true);
+    }
+
+    /**
+     * Runs the compiler on the specified arguments, the daemon options aside.
+     *
+     * @param args
+     *            the command-line arguments.
+     * @param isRequest
+     *            whether they are those of a request sent to the daemon.
+     */
+
+    private static void compile(String[] args, boolean isRequest) {
         String caller = "java jminusminus.Main";
-        String sourceFile = "";
+        ArrayList<String> sourceFiles = new ArrayList<String>();
         String debugOption = "";
         String outputDir = ".";
         boolean spimOutput = false;
         String registerAllocation = "";
-        errorHasOccurred = false;
+        int parallelism = 1;
+        boolean incremental = false;
+        String statsFormat = null;
+        String jarFile = null;
+        boolean stored = false;
+        String runFile = null;
+        String[] programArgs = null;
+        String frontEndName = "handwritten";
+        String classPath = null;
+        String system = null;
+        try {
+            args = expandArgFiles(args);
+        } catch (IOException e) {
+            Session.err().println("Error: " + e.getMessage());
+            errorHasOccurred = true;
+            return;
+        }
         for (int i = 0; i < args.length; i++) {
-            if (args[i].equals("j--")) {
-                caller = "j--";
+            if (isRequest && isDaemonOption(args[i])) {
+                Session.err().println("Error: " + args[i]
+                        + " cannot be sent to the daemon.");
+                errorHasOccurred = true;
+                return;
+            } else if (args[i].equals("j--") || args[i].equals("javaccj--")) {
+                caller = args[i];
+            } else if (args[i].equals("-frontend") && (i + 1) < args.length) {
+                frontEndName = args[++i];
+            } else if ((args[i].equals("-classpath") || args[i].equals("-cp"))
+                    && (i + 1) < args.length) {
+                classPath = args[++i];
+            } else if (args[i].equals("-system") && (i + 1) < args.length) {
+                system = args[++i];
+            } else if (isRequest && args[i].equals("-run")) {
+                // The program would run in the daemon's JVM, printing to
+                // its streams, and could exit it
+                Session.err().println("Error: -run cannot be sent to the "
+                        + "daemon; run the program without --client.");
+                errorHasOccurred = true;
+                return;
+            } else if (args[i].equals("-run") && (i + 1) < args.length) {
+                // The arguments after the file are the program's, even
+                // those naming source files
+                runFile = args[++i];
+                sourceFiles.add(0, runFile);
+                programArgs = Arrays.copyOfRange(args, i + 1, args.length);
+                break;
             } else if (args[i].endsWith(".java")) {
-                sourceFile = args[i];
+                sourceFiles.add(args[i]);
             } else if (args[i].equals("-t") || args[i].equals("-p")
                     || args[i].equals("-pa") || args[i].equals("-a")) {
                 debugOption = args[i];
+            } else if (args[i].equals("-jar") && (i + 1) < args.length) {
+                jarFile = args[++i];
+            } else if (args[i].equals("-0")) {
+                stored = true;
             } else if (args[i].endsWith("-d") && (i + 1) < args.length) {
                 outputDir = args[++i];
             } else if (args[i].endsWith("-s") && (i + 1) < args.length) {
@@ -80,90 +192,674 @@ public class Main {
                         .parseInt(args[++i]));
                 NPhysicalRegister.MAX_COUNT = Math.max(1,
                         NPhysicalRegister.MAX_COUNT);
+            } else if (args[i].equals("-j") && (i + 1) < args.length) {
+                parallelism = parallelism(args[++i]);
+                if (parallelism < 1) {
+                    printUsage(caller);
+                    return;
+                }
+            } else if (args[i].equals("-i")) {
+                incremental = true;
+            } else if (args[i].equals("-Xstats")) {
+                statsFormat = "text";
+            } else if (args[i].equals("-Xstats=json")) {
+                statsFormat = "json";
             } else {
                 printUsage(caller);
                 return;
             }
         }
-        if (sourceFile.equals("")) {
+        if (sourceFiles.isEmpty()
+                || jarFile != null && (spimOutput || incremental)
+                || runFile != null && !frontEndName.equals("handwritten")
+                || runFile != null && (classPath != null || system != null)) {
             printUsage(caller);
             return;
         }
-
-        LookaheadScanner scanner = null;
-        try {
-            scanner = new LookaheadScanner(sourceFile);
-        } catch (FileNotFoundException e) {
-            System.err.println("Error: file " + sourceFile + " not found.");
+        FrontEnd frontEnd = frontEnd(frontEndName);
+        if (frontEnd == null) {
+            if (frontEndName.equals("javacc")) {
+                Session.err().println("Error: the JavaCC front end is not "
+                        + "compiled in (see the compileJavaCC target).");
+                errorHasOccurred = true;
+            } else {
+                printUsage(caller);
+            }
+            return;
+        }
+        if (runFile != null) {
+            errorHasOccurred = !run(runFile, sourceFiles, programArgs);
             return;
         }
 
         if (debugOption.equals("-t")) {
             // Just tokenize input and print the tokens to STDOUT
-            TokenInfo token;
-            do {
-                scanner.next();
-                token = scanner.token();
-                System.out.printf("%d\t : %s = %s\n", token.line(), token
-                        .tokenRep(), token.image());
-            } while (token.kind() != EOF);
-            errorHasOccurred |= scanner.errorHasOccured();
+            for (String sourceFile : sourceFiles) {
+                CharReader input = null;
+                try {
+                    input = new CharReader(sourceFile);
+                } catch (FileNotFoundException e) {
+                    Session.err().println("Error: file " + sourceFile
+                            + " not found.");
+                    errorHasOccurred = true;
+                    continue;
+                }
+                errorHasOccurred |= frontEnd.tokenize(input);
+            }
             return;
         }
 
-        // Parse input
-        Parser parser = new Parser(scanner);
-        JCompilationUnit ast = parser.compilationUnit();
-        errorHasOccurred |= parser.errorHasOccurred();
+        Stats stats = statsFormat == null ? null : new Stats();
+        CLSymbolTable classSymbols = CLSymbolTable.forPath(classPath, system);
+        if (incremental && debugOption.equals("")) {
+            errorHasOccurred = !compileIncrementally(frontEnd, classSymbols,
+                    sourceFiles, parallelism, outputDir, spimOutput,
+                    registerAllocation, stats);
+        } else {
+            Session session = new Session(parallelism);
+            session.classSymbols(classSymbols);
+            session.stats(stats);
+            session.enter();
+            CLJarSink jar = null;
+            try {
+                // Scan and parse all of the source files
+                ArrayList<JCompilationUnit> asts = parse(session, frontEnd,
+                        sourceFiles, debugOption);
+
+                // Units having syntax errors are analyzed too, for the
+                // semantic errors in the rest of them; unless a file could
+                // not be read
+                if (!debugOption.equals("-p")
+                        && asts.size() == sourceFiles.size()) {
+                    if (jarFile != null && debugOption.equals("")) {
+                        jar = new CLJarSink(Session.file(jarFile), stored);
+                    }
+                    errorHasOccurred |= !compile(session, asts, debugOption,
+                            outputDir, spimOutput, registerAllocation, jar);
+                }
+            } catch (IOException e) {
+                Session.err().println("Error: " + e.getMessage());
+                errorHasOccurred = true;
+            } finally {
+                session.exit();
+                if (jar != null) {
+                    close(jar, jarFile);
+                }
+            }
+        }
+        if (stats != null && statsFormat.equals("json")) {
+            stats.printJson(Session.err());
+        } else if (stats != null) {
+            stats.print(Session.err());
+        }
+    }
+
+    /**
+     * Scans and parses the specified source files in the specified session,
+     * which is the current one, with the specified front end, through a
+     * {@link ParsePipeline}, printing their ASTs if the debug option is -p.
+     * 
+     * @param session
+     *            the compilation session.
+     * @param frontEnd
+     *            the front end.
+     * @param sourceFiles
+     *            the source files.
+     * @param debugOption
+     *            -p, -pa, -a, or the empty string.
+     * @return the compilation units parsed, in the order of the source files.
+     */
+
+    private static ArrayList<JCompilationUnit> parse(Session session,
+            FrontEnd frontEnd, ArrayList<String> sourceFiles,
+            String debugOption) {
+        ArrayList<JCompilationUnit> asts = new ArrayList<JCompilationUnit>();
+        ParsePipeline pipeline = new ParsePipeline(session, frontEnd,
+                sourceFiles);
+        try {
+            while (pipeline.hasNext()) {
+                JCompilationUnit unit = pipeline.next();
+                if (unit != null) {
+                    asts.add(unit);
+                }
+            }
+        } finally {
+            pipeline.close();
+        }
+        errorHasOccurred |= pipeline.errorHasOccurred();
         if (debugOption.equals("-p")) {
-            ast.writeToStdOut(new PrettyPrinter());
-            return;
+            for (JCompilationUnit ast : asts) {
+                ast.writeToStdOut(new PrettyPrinter());
+            }
         }
-        if (errorHasOccurred) {
-            return;
+        return asts;
+    }
+
+    /**
+     * Compiles those of the specified source files that are out of date with
+     * respect to the {@link IncrementalIndex} in the output directory, and
+     * updates the index. The out-of-date files are compiled in a session of
+     * their own, to which the types of the other files are declared; if their
+     * pre-analysis shows that they changed types that other files refer to,
+     * those files are out of date too, and the session is started over.
+     * 
+     * @param frontEnd
+     *            the front end.
+     * @param classSymbols
+     *            the library classes the source files may refer to.
+     * @param sourceFiles
+     *            the source files.
+     * @param parallelism
+     *            maximum number of units compiled in parallel.
+     * @param outputDir
+     *            where to place output files.
+     * @param spimOutput
+     *            whether to generate SPIM code.
+     * @param registerAllocation
+     *            register allocation scheme for SPIM code.
+     * @param stats
+     *            where to gather statistics; {@code null} for nowhere.
+     * @return {@code true} if no error has occurred and {@code false}
+     *         otherwise.
+     */
+
+    private static boolean compileIncrementally(FrontEnd frontEnd,
+            CLSymbolTable classSymbols, ArrayList<String> sourceFiles,
+            int parallelism, String outputDir, boolean spimOutput,
+            String registerAllocation, Stats stats) {
+        IncrementalIndex index = new IncrementalIndex(outputDir, spimOutput);
+        ArrayList<String> outOfDate = index.outOfDate(sourceFiles);
+        while (!outOfDate.isEmpty()) {
+            Session session = new Session(parallelism);
+            session.classSymbols(classSymbols);
+            session.stats(stats);
+            session.enter();
+            try {
+                index.declareCompiledTypes(sourceFiles, outOfDate);
+                ArrayList<JCompilationUnit> asts = parse(session, frontEnd,
+                        outOfDate, "");
+                if (asts.size() < outOfDate.size() || !preAnalyze(asts, "")) {
+                    return false;
+                }
+                ArrayList<String> dependents = index.outOfDate(sourceFiles,
+                        outOfDate, asts);
+                if (dependents != outOfDate) {
+                    outOfDate = dependents;
+                    continue;
+                }
+                if (!generate(session, asts, "", outputDir, spimOutput,
+                        registerAllocation, null)) {
+                    return false;
+                }
+                index.update(asts);
+                return true;
+            } catch (IOException e) {
+                Session.err().println("Error: " + e.getMessage());
+                return false;
+            } finally {
+                session.exit();
+            }
         }
+        return true;
+    }
 
-        // Do pre-analysis
-        ast.preAnalyze();
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
-        if (debugOption.equals("-pa")) {
-            ast.writeToStdOut(new PrettyPrinter());
-            return;
+    /**
+     * Handles the daemon options: --daemon[=socket] makes this a resident
+     * compiler listening on the socket; --client[=socket] sends the rest of the
+     * arguments to the daemon listening on the socket, exiting with the
+     * daemon's exit status when run from the j-- script; and --stop[=socket]
+     * stops the daemon. Only one of them may be given; the arguments of the
+     * program run with -run are not looked at.
+     * 
+     * @param args
+     *            the command-line arguments.
+     * @return {@code true} if a daemon option was handled and {@code false}
+     *         otherwise.
+     */
+
+    private static boolean daemon(String[] args) {
+        String mode = null;
+        String socket = Daemon.defaultSocket();
+        boolean fromScript = false;
+        ArrayList<String> rest = new ArrayList<String>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (isDaemonOption(arg)) {
+                if (mode != null) {
+                    Session.err().println("Error: only one of --daemon, "
+                            + "--client and --stop may be given.");
+                    errorHasOccurred = true;
+                    return true;
+                }
+                int equals = arg.indexOf('=');
+                mode = equals == -1 ? arg : arg.substring(0, equals);
+                if (equals != -1) {
+                    socket = arg.substring(equals + 1);
+                }
+            } else {
+                fromScript |= arg.equals("j--");
+                rest.add(arg);
+                if (arg.equals("-run")) {
+                    // The rest are the program's file and arguments
+                    rest.addAll(Arrays.asList(args).subList(i + 1,
+                            args.length));
+                    break;
+                }
+            }
         }
-        if (errorHasOccurred) {
-            return;
+        if (mode == null) {
+            return false;
+        }
+        try {
+            if (mode.equals("--daemon")) {
+                Daemon.serve(socket);
+            } else if (mode.equals("--stop")) {
+                Daemon.stop(socket);
+            } else {
+                int status = Daemon.request(socket, rest
+                        .toArray(new String[rest.size()]));
+                errorHasOccurred = status != 0;
+                if (fromScript) {
+                    System.exit(status);
+                }
+            }
+        } catch (IOException e) {
+            Session.err().println("Error: " + e.getMessage());
+            errorHasOccurred = true;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the specified argument is one of the daemon options
+     * (--daemon, --client and --stop, with or without a socket); false
+     * otherwise.
+     *
+     * @param arg
+     *            the argument.
+     * @return true or false.
+     */
+
+    private static boolean isDaemonOption(String arg) {
+        String option = arg.indexOf('=') == -1 ? arg : arg.substring(0, arg
+                .indexOf('='));
+        return option.equals("--daemon") || option.equals("--client")
+                || option.equals("--stop");
+    }
+
+    /**
+     * Compiles the specified (parsed) compilation units in the specified
+     * session, which is the current one. Pre-analysis, analysis, and code
+     * generation are run across the units, in parallel if the session allows
+     * it, and the ASTs asked for by the debug option are printed in the order
+     * of the units. This is shared by the hand-written and JavaCC front-ends.
+     * No code is generated if a unit is partial (has syntax errors).
+     * 
+     * @param session
+     *            the compilation session.
+     * @param asts
+     *            the compilation units.
+     * @param debugOption
+     *            -pa, -a, or the empty string.
+     * @param outputDir
+     *            where to place output files.
+     * @param spimOutput
+     *            whether to generate SPIM code.
+     * @param registerAllocation
+     *            register allocation scheme for SPIM code.
+     * @param sink
+     *            where to write the classes; {@code null} for the output
+     *            directory.
+     * @return {@code true} if no error has occurred and {@code false}
+     *         otherwise.
+     */
+
+    static boolean compile(Session session,
+            ArrayList<JCompilationUnit> asts, String debugOption,
+            String outputDir, boolean spimOutput, String registerAllocation,
+            CLSink sink) {
+        if (!preAnalyze(asts, debugOption)) {
+            return false;
+        }
+        return debugOption.equals("-pa")
+                || generate(session, asts, debugOption, outputDir, spimOutput,
+                        registerAllocation, sink);
+    }
+
+    /**
+     * Pre-analyzes the specified (parsed) compilation units, in the current
+     * session, printing their ASTs if the debug option is -pa.
+     * 
+     * @param asts
+     *            the compilation units.
+     * @param debugOption
+     *            -pa, -a, or the empty string.
+     * @return {@code true} if no error has occurred and {@code false}
+     *         otherwise.
+     */
+
+    private static boolean preAnalyze(ArrayList<JCompilationUnit> asts,
+            String debugOption) {
+        boolean errorHasOccurred = false;
+
+        // Do pre-analysis; all of the units are pre-analyzed together,
+        // so that types declared in one are visible in the others
+        JCompilationUnit.preAnalyze(asts);
+        for (JCompilationUnit ast : asts) {
+            errorHasOccurred |= ast.errorHasOccurred();
+            if (debugOption.equals("-pa")) {
+                ast.writeToStdOut(new PrettyPrinter());
+            }
         }
+        return !errorHasOccurred;
+    }
+
+    /**
+     * Analyzes the specified (pre-analyzed) compilation units in the specified
+     * session, which is the current one, and generates code for them, printing
+     * their ASTs if the debug option is -a.
+     * 
+     * @param session
+     *            the compilation session.
+     * @param asts
+     *            the compilation units.
+     * @param debugOption
+     *            -a, or the empty string.
+     * @param outputDir
+     *            where to place output files.
+     * @param spimOutput
+     *            whether to generate SPIM code.
+     * @param registerAllocation
+     *            register allocation scheme for SPIM code.
+     * @param sink
+     *            where to write the classes, in the order of the units;
+     *            {@code null} for the output directory.
+     * @return {@code true} if no error has occurred and {@code false}
+     *         otherwise.
+     */
+
+    private static boolean generate(Session session,
+            final ArrayList<JCompilationUnit> asts, String debugOption,
+            final String outputDir, final boolean spimOutput,
+            final String registerAllocation, CLSink sink) {
+        boolean errorHasOccurred = false;
+        final boolean[] errors = new boolean[asts.size()];
 
         // Do analysis
-        ast.analyze(null);
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
-        if (debugOption.equals("-a")) {
-            ast.writeToStdOut(new PrettyPrinter());
-            return;
+        session.forEach(asts.size(), new Session.Task() {
+            public void run(int i) {
+                Stats.start(asts.get(i).fileName(), Stats.Phase.ANALYZE);
+                try {
+                    asts.get(i).analyze(null);
+                } finally {
+                    Stats.stop();
+                }
+            }
+        });
+        for (JCompilationUnit ast : asts) {
+            errorHasOccurred |= ast.errorHasOccurred() || ast.isPartial();
+            if (debugOption.equals("-a")) {
+                ast.writeToStdOut(new PrettyPrinter());
+            }
         }
-        if (errorHasOccurred) {
-            return;
+        if (debugOption.equals("-a") || errorHasOccurred) {
+            return !errorHasOccurred;
         }
 
-        // Generate JVM code
-        CLEmitter clEmitter = new CLEmitter(!spimOutput);
-        clEmitter.destinationDir(outputDir);
-        ast.codegen(clEmitter);
-        errorHasOccurred |= clEmitter.errorHasOccurred();
+        // Generate JVM code; one emitter per unit. The class files are
+        // written as they come, but the classes for a sink are kept until
+        // all of the units are done, so that they go in the order of the
+        // units
+        final CLSink directory = sink == null && !spimOutput ? 
+            new CLDirectorySink(outputDir) : null;
+        final CLMemorySink[] classes = new CLMemorySink[asts.size()];
+        final boolean toSink = sink != null;
+        session.forEach(asts.size(), new Session.Task() {
+            public void run(int i) {
+                Stats.start(asts.get(i).fileName(), Stats.Phase.CODEGEN);
+                try {
+                    CLEmitter clEmitter;
+                    if (toSink) {
+                        classes[i] = new CLMemorySink();
+                        clEmitter = new CLEmitter(classes[i]);
+                    } else if (directory != null) {
+                        clEmitter = new CLEmitter(directory);
+                    } else {
+                        clEmitter = new CLEmitter(false);
+                    }
+                    asts.get(i).codegen(clEmitter);
+                    errors[i] = clEmitter.errorHasOccurred();
+                } finally {
+                    Stats.stop();
+                }
+            }
+        });
+        for (boolean error : errors) {
+            errorHasOccurred |= error;
+        }
         if (errorHasOccurred) {
-            return;
+            return false;
+        }
+        if (sink != null) {
+            try {
+                for (CLMemorySink unitClasses : classes) {
+                    unitClasses.writeTo(sink);
+                }
+            } catch (IOException e) {
+                Session.err().println("Error: " + e.getMessage());
+                return false;
+            }
         }
 
         // If SPIM output was asked for, convert the in-memory
         // JVM instructions to SPIM using the specified register
         // allocation scheme.
         if (spimOutput) {
-            NEmitter nEmitter = new NEmitter(sourceFile, ast.clFiles(),
-                    registerAllocation);
-            nEmitter.destinationDir(outputDir);
-            nEmitter.write();
-            errorHasOccurred |= nEmitter.errorHasOccurred();
+            session.forEach(asts.size(), new Session.Task() {
+                public void run(int i) {
+                    JCompilationUnit ast = asts.get(i);
+                    Stats.start(ast.fileName(), Stats.Phase.SPIM);
+                    try {
+                        NEmitter nEmitter = new NEmitter(ast.fileName(),
+                                ast.clFiles(), registerAllocation);
+                        nEmitter.destinationDir(outputDir);
+                        nEmitter.write();
+                        errors[i] = nEmitter.errorHasOccurred();
+                    } finally {
+                        Stats.stop();
+                    }
+                }
+            });
+            for (boolean error : errors) {
+                errorHasOccurred |= error;
+            }
+        }
+        return !errorHasOccurred;
+    }
+
+    /**
+     * Compiles the specified source files in memory, defines the classes in a
+     * fresh class loader, and invokes the main method of the class declared
+     * by the specified file: the one named after the file, or else the first
+     * one. Whatever the program prints goes to STDOUT and STDERR; an
+     * exception thrown by it is printed to STDERR.
+     * 
+     * @param runFile
+     *            the source file declaring the main class.
+     * @param sourceFiles
+     *            the source files, runFile first.
+     * @param programArgs
+     *            the arguments to main.
+     * @return {@code true} if the program compiled and ran to completion, and
+     *         {@code false} otherwise.
+     */
+
+    private static boolean run(String runFile, ArrayList<String> sourceFiles,
+            String[] programArgs) {
+        LinkedHashMap<String, CharSequence> sources = 
+            new LinkedHashMap<String, CharSequence>();
+        for (String sourceFile : sourceFiles) {
+            try {
+                sources.put(sourceFile, new String(Files.readAllBytes(Session
+                        .file(sourceFile).toPath()), CharReader.ENCODING));
+            } catch (IOException e) {
+                Session.err().println("Error: file " + sourceFile
+                        + " not found.");
+                return false;
+            }
+        }
+        JMinusMinusCompiler.Result result = JMinusMinusCompiler
+                .compile(sources);
+        for (Diagnostic diagnostic : result.diagnostics()) {
+            Session.err().println(diagnostic);
+        }
+        if (!result.succeeded() || result.classes().isEmpty()) {
+            return false;
+        }
+
+        // Define all of the classes in one loader, and find the main class
+        ByteClassLoader loader = new ByteClassLoader();
+        String mainClass = null;
+        String simpleName = new File(runFile).getName().replace(".java", "");
+        for (String name : result.classes().keySet()) {
+            loader.setClassBytes(name, result.classes().get(name));
+            if (mainClass == null
+                    && (name.equals(simpleName) || name.endsWith("."
+                            + simpleName))) {
+                mainClass = name;
+            }
+        }
+        if (mainClass == null) {
+            mainClass = result.classes().keySet().iterator().next();
+        }
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            Method main = loader.loadClass(mainClass, true).getMethod("main",
+                    String[].class);
+            main.invoke(null, (Object) programArgs);
+            return true;
+        } catch (NoSuchMethodException e) {
+            Session.err().println("Error: class " + mainClass
+                    + " has no main method.");
+        } catch (InvocationTargetException e) {
+            e.getCause().printStackTrace(Session.err());
+        } catch (Exception e) {
+            Session.err().println("Error: cannot run class " + mainClass
+                    + ": " + e);
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+        return false;
+    }
+
+    /**
+     * Closes the specified jar sink, deleting the jar file if an error has
+     * occurred, so that no partial jar is left behind.
+     * 
+     * @param jar
+     *            the jar sink.
+     * @param jarFile
+     *            name of the jar file.
+     */
+
+    private static void close(CLJarSink jar, String jarFile) {
+        try {
+            jar.close();
+        } catch (IOException e) {
+            Session.err().println("Error: " + e.getMessage());
+            errorHasOccurred = true;
+        }
+        if (errorHasOccurred) {
+            Session.file(jarFile).delete();
+        }
+    }
+
+    /**
+     * Returns the front end having the specified name (the argument of
+     * -frontend): the hand-written one, or the one generated by JavaCC, which
+     * is loaded by name as it is only compiled by the compileJavaCC target.
+     * 
+     * @param name
+     *            handwritten or javacc.
+     * @return the front end; null if there is none by that name, or if the
+     *         JavaCC one is not compiled in.
+     */
+
+    static FrontEnd frontEnd(String name) {
+        if (name.equals("handwritten")) {
+            return new HandwrittenFrontEnd();
+        }
+        if (!name.equals("javacc")) {
+            return null;
+        }
+        try {
+            return (FrontEnd) Class.forName("jminusminus.JavaCCFrontEnd")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of units to compile in parallel given as the argument
+     * of -j, or 0 if it is not a positive number.
+     * 
+     * @param arg
+     *            the argument of -j.
+     * @return the number of units to compile in parallel.
+     */
+
+    static int parallelism(String arg) {
+        try {
+            return Math.max(0, Integer.parseInt(arg));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Replaces each {@code @file} argument with the arguments read from that
+     * file, which is encoded in UTF-8. Arguments in the file are separated by
+     * white space, and may span any number of lines.
+     * 
+     * @param args
+     *            the command-line arguments.
+     * @return the expanded arguments.
+     * @exception IOException
+     *                if an argument file cannot be read.
+     */
+
+    static String[] expandArgFiles(String[] args) throws IOException {
+        ArrayList<String> expanded = new ArrayList<String>();
+        for (String arg : args) {
+            if (!arg.startsWith("@") || arg.length() == 1) {
+                expanded.add(arg);
+                continue;
+            }
+            String argFile = arg.substring(1);
+            BufferedReader in = null;
+            try {
+                in = new BufferedReader(new InputStreamReader(
+                        new FileInputStream(Session.file(argFile)),
+                        StandardCharsets.UTF_8));
+                String line;
+                while ((line = in.readLine()) != null) {
+                    StringTokenizer tokens = new StringTokenizer(line);
+                    while (tokens.hasMoreTokens()) {
+                        expanded.add(tokens.nextToken());
+                    }
+                }
+            } catch (FileNotFoundException e) {
+                throw new IOException("file " + argFile + " not found.");
+            } finally {
+                if (in != null) {
+                    in.close();
+                }
+            }
         }
+        return expanded.toArray(new String[expanded.size()]);
     }
 
     /**
@@ -186,7 +882,7 @@ public class Main {
     private static void printUsage(String caller) {
         String usage = "Usage: "
                 + caller
-                + " <options> <source file>\n"
+                + " <options> <source files>\n"
                 + "Where possible options include:\n"
                 + "  -t  Only tokenize input and print tokens to STDOUT\n"
                 + "  -p  Only parse input and print AST to STDOUT\n"
@@ -196,8 +892,37 @@ public class Main {
                 + "and print AST to STDOUT\n"
                 + "  -s  <naive|linear|graph> Generate SPIM code\n"
                 + "  -r  <num> Max. physical registers (1-18) available for allocation; default = 8\n"
-                + "  -d  <dir> Specify where to place output files; default = .";
-        System.out.println(usage);
+                + "  -d  <dir> Specify where to place output files; default = .\n"
+                + "  -classpath <path> Find the library classes referred to "
+                + "on path; default =\n      the class path of the compiler\n"
+                + "  -system <java home> Compile against the system classes of "
+                + "another Java\n      installation\n"
+                + "  -frontend <handwritten|javacc> Scan and parse with the "
+                + "hand-written front end,\n      or with the one generated by "
+                + "JavaCC; default = handwritten\n"
+                + "  -jar <file> Write the classes to a jar file rather than "
+                + "to the output\n      directory\n"
+                + "  -0  Store the entries of the jar file uncompressed\n"
+                + "  -j  <num> Compile up to num source files in parallel; "
+                + "default = 1\n"
+                + "  -i  Only compile the source files changed since the "
+                + "last compilation\n      into the output directory, and "
+                + "those depending on them\n"
+                + "  -run <file> [args] Compile in memory, and run the main "
+                + "class of file\n      with args; all that follows file are "
+                + "args, so any other source\n      files go before -run; "
+                + "not with --client\n"
+                + "  -Xstats[=json] Print the time and memory spent in each "
+                + "phase, and counts,\n      per source file, to STDERR\n"
+                + "  @<file> Read options and source files from file\n"
+                + "  --daemon[=<socket>] Run as a resident compiler, "
+                + "listening on socket\n"
+                + "  --client[=<socket>] Compile using the resident compiler "
+                + "listening on socket\n"
+                + "  --stop[=<socket>] Stop the resident compiler listening "
+                + "on socket\n"
+                + "  The socket defaults to " + Daemon.defaultSocket();
+        Session.out().println(usage);
     }
 
 }
@@ -5,11 +5,43 @@ package jminusminus;
 /**
  * A wrapper for members (eg Fields, Methods, Constructors) in the Java API.
  * Members are used in message expressions, field selections, and new object
- * construction operations.
+ * construction operations. A member is found either through reflection, in a
+ * class loaded by the compiler, or in the headers of a library class read
+ * from its class file (a {@link CLSymbol}).
  */
 
 abstract class Member {
 
+    /**
+     * The class declaring this member, if it was read from its class file;
+     * null if the member was found through reflection.
+     */
+    private CLSymbol symbol;
+
+    /** The header of this member, if it was read from a class file. */
+    private CLSymbol.MemberHeader header;
+
+    /**
+     * Constructs a Member found through reflection.
+     */
+
+    protected Member() {
+    }
+
+    /**
+     * Constructs a Member read from the class file of the specified class.
+     * 
+     * @param symbol
+     *            the class declaring the member.
+     * @param header
+     *            the header of the member.
+     */
+
+    protected Member(CLSymbol symbol, CLSymbol.MemberHeader header) {
+        this.symbol = symbol;
+        this.header = header;
+    }
+
     /**
      * Returns the member's (simple) name.
      * 
@@ -17,7 +49,7 @@ abstract class Member {
      */
 
     public String name() {
-        return member().getName();
+        return symbol == null ? member().getName() : header.name;
     }
 
     /**
@@ -27,7 +59,8 @@ abstract class Member {
      */
 
     public Type declaringType() {
-        return Type.typeFor(member().getDeclaringClass());
+        return symbol == null ? Type.typeFor(member().getDeclaringClass())
+                : symbol.type();
     }
 
     /**
@@ -37,7 +70,7 @@ abstract class Member {
      */
 
     public boolean isStatic() {
-        return java.lang.reflect.Modifier.isStatic(member().getModifiers());
+        return java.lang.reflect.Modifier.isStatic(modifiers());
     }
 
     /**
@@ -47,7 +80,7 @@ abstract class Member {
      */
 
     public boolean isPublic() {
-        return java.lang.reflect.Modifier.isPublic(member().getModifiers());
+        return java.lang.reflect.Modifier.isPublic(modifiers());
     }
 
     /**
@@ -57,7 +90,7 @@ abstract class Member {
      */
 
     public boolean isProtected() {
-        return java.lang.reflect.Modifier.isProtected(member().getModifiers());
+        return java.lang.reflect.Modifier.isProtected(modifiers());
     }
 
     /**
@@ -67,7 +100,7 @@ abstract class Member {
      */
 
     public boolean isPrivate() {
-        return java.lang.reflect.Modifier.isPrivate(member().getModifiers());
+        return java.lang.reflect.Modifier.isPrivate(modifiers());
     }
 
     /**
@@ -77,7 +110,7 @@ abstract class Member {
      */
 
     public boolean isAbstract() {
-        return java.lang.reflect.Modifier.isAbstract(member().getModifiers());
+        return java.lang.reflect.Modifier.isAbstract(modifiers());
     }
 
     /**
@@ -90,13 +123,62 @@ abstract class Member {
      */
 
     public boolean isFinal() {
-        return java.lang.reflect.Modifier.isFinal(member().getModifiers());
+        return java.lang.reflect.Modifier.isFinal(modifiers());
+    }
+
+    /**
+     * Returns the member's modifiers, as encoded by
+     * {@link java.lang.reflect.Modifier} (which encodes them as the access
+     * flags of a class file do).
+     * 
+     * @return the modifiers.
+     */
+
+    private int modifiers() {
+        return symbol == null ? member().getModifiers() : header.accessFlags;
+    }
+
+    /**
+     * Returns the JVM descriptor of this member, if it was read from a class
+     * file.
+     * 
+     * @return the descriptor, or {@code null} if the member was found through
+     *         reflection.
+     */
+
+    protected String descriptor() {
+        return symbol == null ? null : header.descriptor;
+    }
+
+    /**
+     * Returns the type having the specified descriptor, as seen from the
+     * class file declaring this member.
+     * 
+     * @param descriptor
+     *            the descriptor.
+     * @return the type.
+     */
+
+    protected Type typeFor(String descriptor) {
+        return symbol.table().typeFor(descriptor);
+    }
+
+    /**
+     * Returns the types of the parameters of this member, if it is a method or
+     * constructor read from a class file.
+     * 
+     * @return the parameter types.
+     */
+
+    protected Type[] parameterTypes() {
+        return symbol.table().parameterTypes(header.descriptor);
     }
 
     /**
      * Returns the member's internal representation.
      * 
-     * @return the internal representation.
+     * @return the internal representation, or {@code null} if the member was
+     *         read from a class file.
      */
 
     protected abstract java.lang.reflect.Member member();
@@ -124,6 +206,19 @@ class Method extends Member {
         this.method = method;
     }
 
+    /**
+     * Constructs a Method read from the class file of the specified class.
+     * 
+     * @param symbol
+     *            the class declaring the method.
+     * @param header
+     *            the header of the method.
+     */
+
+    public Method(CLSymbol symbol, CLSymbol.MemberHeader header) {
+        super(symbol, header);
+    }
+
     /**
      * Returns the JVM descriptor for this method.
      * 
@@ -131,6 +226,9 @@ class Method extends Member {
      */
 
     public String toDescriptor() {
+        if (method == null) {
+            return descriptor();
+        }
         String descriptor = "(";
         for (Class paramType : method.getParameterTypes()) {
             descriptor += Type.typeFor(paramType).toDescriptor();
@@ -147,6 +245,12 @@ class Method extends Member {
 
     public String toString() {
         String str = name() + "(";
+        if (method == null) {
+            for (Type paramType : parameterTypes()) {
+                str += paramType.toString();
+            }
+            return str + ")";
+        }
         for (Class paramType : method.getParameterTypes()) {
             str += Type.typeFor(paramType).toString();
         }
@@ -161,6 +265,9 @@ class Method extends Member {
      */
 
     public Type returnType() {
+        if (method == null) {
+            return typeFor(descriptor().substring(descriptor().indexOf(')') + 1));
+        }
         return Type.typeFor(method.getReturnType());
     }
 
@@ -173,8 +280,23 @@ class Method extends Member {
      */
 
     public boolean equals(Method that) {
-        return Type.argTypesMatch(this.method.getParameterTypes(), that.method
-                .getParameterTypes());
+        if (this.method != null && that.method != null) {
+            return Type.argTypesMatch(this.method.getParameterTypes(),
+                    that.method.getParameterTypes());
+        }
+        return this.parameterDescriptors().equals(that.parameterDescriptors());
+    }
+
+    /**
+     * Returns the descriptors of the parameters of this method, as they are
+     * in its descriptor: for example, (ILjava/lang/String;).
+     * 
+     * @return the parameter descriptors.
+     */
+
+    private String parameterDescriptors() {
+        String descriptor = toDescriptor();
+        return descriptor.substring(0, descriptor.indexOf(')') + 1);
     }
 
     /**
@@ -209,6 +331,19 @@ class Field extends Member {
         this.field = field;
     }
 
+    /**
+     * Constructs a Field read from the class file of the specified class.
+     * 
+     * @param symbol
+     *            the class declaring the field.
+     * @param header
+     *            the header of the field.
+     */
+
+    public Field(CLSymbol symbol, CLSymbol.MemberHeader header) {
+        super(symbol, header);
+    }
+
     /**
      * Returns the field's type.
      * 
@@ -216,7 +351,8 @@ class Field extends Member {
      */
 
     public Type type() {
-        return Type.typeFor(field.getType());
+        return field == null ? typeFor(descriptor()) : Type.typeFor(field
+                .getType());
     }
 
     /**
@@ -249,6 +385,20 @@ class Constructor extends Member {
         this.constructor = constructor;
     }
 
+    /**
+     * Constructs a Constructor read from the class file of the specified
+     * class.
+     * 
+     * @param symbol
+     *            the class declaring the constructor.
+     * @param header
+     *            the header of the constructor.
+     */
+
+    public Constructor(CLSymbol symbol, CLSymbol.MemberHeader header) {
+        super(symbol, header);
+    }
+
     /**
      * Returns the JVM descriptor for this constructor.
      * 
@@ -256,6 +406,9 @@ class Constructor extends Member {
      */
 
     public String toDescriptor() {
+        if (constructor == null) {
+            return descriptor();
+        }
         String descriptor = "(";
         for (Class paramType : constructor.getParameterTypes()) {
             descriptor += Type.typeFor(paramType).toDescriptor();
@@ -271,7 +424,8 @@ class Constructor extends Member {
      */
 
     public Type declaringType() {
-        return Type.typeFor(constructor.getDeclaringClass());
+        return constructor == null ? super.declaringType() : Type
+                .typeFor(constructor.getDeclaringClass());
     }
 
     /**
@@ -0,0 +1,200 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.ArrayList;
+
+/**
+ * The span of a member of a class or interface body in the tokens of a
+ * source: the indices of its first token and of the token following it, as
+ * recorded by the {@link Parser} for an {@link IncrementalParser}; and in the
+ * syntax errors found in the source, the indices of the first one found in it
+ * (or in the members nested in it) and of the one following the last. Along
+ * with the member parsed (null for a lone SEMI, or a member left out for a
+ * syntax error), the members of the body it was added to, and the span of the
+ * member enclosing it.
+ * <p>
+ * A span is opened where the member starts, and closed where it ends.
+ */
+
+class MemberSpan {
+
+    /** The members of the body. */
+    private ArrayList<JMember> members;
+
+    /** The span of the member enclosing this one; null if none does. */
+    private MemberSpan parent;
+
+    /** The member; null if none was added to the body. */
+    private JMember member;
+
+    /** Index of the first token of the member. */
+    private int first;
+
+    /** Index of the token following the member. */
+    private int end;
+
+    /**
+     * Indices of the first syntax error found in the member, and of the one
+     * following the last.
+     */
+    private int firstError, endError;
+
+    /** Whether the body is that of an interface. */
+    private boolean isInterface;
+
+    /**
+     * Opens a MemberSpan.
+     *
+     * @param members
+     *            the members of the body.
+     * @param isInterface
+     *            whether the body is that of an interface.
+     * @param parent
+     *            the span of the member enclosing this one; null if none
+     *            does.
+     * @param first
+     *            index of the first token of the member.
+     * @param firstError
+     *            index of the first syntax error to be found in the member.
+     */
+
+    public MemberSpan(ArrayList<JMember> members, boolean isInterface,
+            MemberSpan parent, int first, int firstError) {
+        this.members = members;
+        this.isInterface = isInterface;
+        this.parent = parent;
+        this.first = first;
+        this.firstError = firstError;
+    }
+
+    /**
+     * Closes this span.
+     *
+     * @param member
+     *            the member; null if none was added to the body.
+     * @param end
+     *            index of the token following the member.
+     * @param endError
+     *            index of the syntax error following the last one found in
+     *            the member.
+     */
+
+    public void close(JMember member, int end, int endError) {
+        this.member = member;
+        this.end = end;
+        this.endError = endError;
+    }
+
+    /**
+     * Returns the members of the body.
+     *
+     * @return the members.
+     */
+
+    public ArrayList<JMember> members() {
+        return members;
+    }
+
+    /**
+     * Returns the span of the member enclosing this one.
+     *
+     * @return the span; null if no member encloses this one.
+     */
+
+    public MemberSpan parent() {
+        return parent;
+    }
+
+    /**
+     * Returns the member.
+     *
+     * @return the member; null if none was added to the body.
+     */
+
+    public JMember member() {
+        return member;
+    }
+
+    /**
+     * Returns the index of the first token of the member.
+     *
+     * @return the index.
+     */
+
+    public int first() {
+        return first;
+    }
+
+    /**
+     * Returns the index of the token following the member.
+     *
+     * @return the index.
+     */
+
+    public int end() {
+        return end;
+    }
+
+    /**
+     * Returns the index of the first syntax error found in the member.
+     *
+     * @return the index.
+     */
+
+    public int firstError() {
+        return firstError;
+    }
+
+    /**
+     * Returns the index of the syntax error following the last one found in
+     * the member.
+     *
+     * @return the index.
+     */
+
+    public int endError() {
+        return endError;
+    }
+
+    /**
+     * Is the body that of an interface?
+     *
+     * @return true or false.
+     */
+
+    public boolean isInterface() {
+        return isInterface;
+    }
+
+    /**
+     * Moves the span, after tokens preceding it (or in it) were added or
+     * removed.
+     *
+     * @param firstDelta
+     *            change to the index of its first token.
+     * @param endDelta
+     *            change to the index of the token following it.
+     */
+
+    public void shift(int firstDelta, int endDelta) {
+        first += firstDelta;
+        end += endDelta;
+    }
+
+    /**
+     * Moves the span in the syntax errors, after errors preceding it (or in
+     * it) were added or removed.
+     *
+     * @param firstDelta
+     *            change to the index of its first error.
+     * @param endDelta
+     *            change to the index of the error following its last one.
+     */
+
+    public void shiftErrors(int firstDelta, int endDelta) {
+        firstError += firstDelta;
+        endError += endDelta;
+    }
+
+}
@@ -49,8 +49,7 @@ public class NEmitter {
      */
 
     private void reportEmitterError(String message, Object... args) {
-        System.err.printf(message, args);
-        System.err.println();
+        Session.report(null, 0, message, args);
         errorHasOccurred = true;
     }
 
@@ -199,6 +198,7 @@ public class NEmitter {
                 // Save the cfg for the method in a map keyed in by
                 // the CLMethodInfo object for the method.
                 methods.put(m, cfg);
+                Stats.count(Stats.Counter.CFG_BLOCKS, cfg.basicBlocks.size());
 
                 // Perform register allocation.
                 NRegisterAllocator regAllocator;
@@ -210,6 +210,7 @@ public class NEmitter {
                     regAllocator = new NGraphRegisterAllocator(cfg);
                 }
                 regAllocator.allocation();
+                Stats.count(Stats.Counter.INTERVALS, cfg.intervals.size());
 
                 // Write the intervals in cfg to STDOUT.
                 cfg.writeIntervalsToStdOut(p);
@@ -263,9 +264,10 @@ public class NEmitter {
 
     public void write() {
         String file = "";
+        int labelSuffix = 0;
         try {
             file = destDir + File.separator + sourceFile.replace(".java", ".s");
-            PrintWriter out = new PrintWriter(file);
+            PrintWriter out = new PrintWriter(Session.file(file));
 
             // Header.
             out.printf("# %s\n", file);
@@ -301,6 +303,7 @@ public class NEmitter {
 
                     // Setup stack frame for this method
                     pushStackFrame(cfg, out);
+                    cfg.labelSuffix = labelSuffix;
 
                     for (NBasicBlock block : cfg.basicBlocks) {
                         out.printf("%s.%d:\n", cfg.labelPrefix, block.id);
@@ -312,6 +315,7 @@ public class NEmitter {
 
                     // Pop the stack frame for this method.
                     popStackFrame(cfg, out);
+                    labelSuffix = cfg.labelSuffix;
 
                     // Data segment for this cfg storing string
                     // literals.
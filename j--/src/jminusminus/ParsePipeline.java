@@ -0,0 +1,333 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans and parses the source files of a session, with a {@link FrontEnd}, in
+ * a pipeline of three stages: a reader thread reads the files, in order, into
+ * a bounded queue; as many parser workers as the session compiles units in
+ * parallel take the files from that queue, and scan and parse them; and the
+ * units parsed are handed, through another bounded queue, to the thread
+ * calling {@link #next()}, in the order of the files whatever the order they
+ * were parsed in. So reading overlaps parsing, and neither the reader nor the
+ * workers get more than a few files ahead of the stage following them.
+ * <p>
+ * The errors of a file are collected as it is parsed rather than reported,
+ * and {@link #next()} reports them along with its unit; so they are printed
+ * file after file, in the order of the files, as in a sequential compilation.
+ * In a sequential session, {@link #next()} reads and parses the next file
+ * itself.
+ */
+
+class ParsePipeline {
+
+    /** How long a stage waits on a queue before it checks for a close. */
+    private static final long WAIT = 10;
+
+    /**
+     * A source file on its way through the pipeline.
+     */
+
+    private static class Source {
+
+        /** Index of the file. */
+        int index;
+
+        /** The characters of the file; null once it is parsed. */
+        CharReader input;
+
+        /** Whether the file could not be read. */
+        boolean isUnreadable;
+
+        /** The unit parsed; null if the file could not be read or parsed. */
+        JCompilationUnit unit;
+
+        /** The errors found in the file, in the order they were found. */
+        ArrayList<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+
+        /** Whether a syntax error has occurred. */
+        boolean errorHasOccurred;
+
+        /** What the parser threw; null if nothing. */
+        Throwable failure;
+
+    }
+
+    /** Marks the end of the files, in the queue of the files read. */
+    private static final Source END = new Source();
+
+    /** The compilation session. */
+    private Session session;
+
+    /** The front end. */
+    private FrontEnd frontEnd;
+
+    /** Names of the source files. */
+    private String[] files;
+
+    /** The source files, resolved against the directory of the session. */
+    private File[] paths;
+
+    /** Files read, waiting to be parsed; null if sequential. */
+    private BlockingQueue<Source> read;
+
+    /** Files parsed, waiting to be taken; null if sequential. */
+    private BlockingQueue<Source> parsed;
+
+    /** Files parsed ahead of the next one, indexed by file. */
+    private Source[] ahead;
+
+    /** Index of the next file taken. */
+    private int next;
+
+    /** Whether the pipeline is closed. */
+    private volatile boolean isClosed;
+
+    /** Whether an error has occurred in the files taken so far. */
+    private boolean errorHasOccurred;
+
+    /**
+     * Constructs a ParsePipeline for the specified source files in the
+     * specified session, which is the current one, and starts its reader and
+     * its workers if the session is parallel.
+     *
+     * @param session
+     *            the compilation session.
+     * @param frontEnd
+     *            the front end.
+     * @param sourceFiles
+     *            the source files.
+     */
+
+    public ParsePipeline(Session session, FrontEnd frontEnd,
+            ArrayList<String> sourceFiles) {
+        this.session = session;
+        this.frontEnd = frontEnd;
+        files = sourceFiles.toArray(new String[0]);
+        paths = new File[files.length];
+        for (int i = 0; i < files.length; i++) {
+            paths[i] = Session.file(files[i]);
+        }
+        ahead = new Source[files.length];
+        if (session.parallelism() > 1 && files.length > 1) {
+            start(Math.min(session.parallelism(), files.length));
+        }
+    }
+
+    /**
+     * Are there files left to take?
+     *
+     * @return true or false.
+     */
+
+    public boolean hasNext() {
+        return next < files.length;
+    }
+
+    /**
+     * Takes the next file, once parsed, and reports its errors.
+     *
+     * @return the unit parsed; null if the file could not be read or parsed.
+     */
+
+    public JCompilationUnit next() {
+        Source source = ahead[next];
+        if (read == null) {
+            source = parse(read(next));
+        }
+        while (source == null) {
+            Source s = take(parsed);
+            if (s == END) {
+                throw new IllegalStateException("Pipeline closed");
+            }
+            ahead[s.index] = s;
+            source = ahead[next];
+        }
+        ahead[next++] = null;
+        if (source.failure != null) {
+            close();
+            if (source.failure instanceof Error) {
+                throw (Error) source.failure;
+            }
+            throw (RuntimeException) source.failure;
+        }
+        if (source.isUnreadable) {
+            Session.err().println("Error: file " + files[source.index]
+                    + " not found.");
+        }
+        for (Diagnostic diagnostic : source.diagnostics) {
+            Session.report(diagnostic);
+        }
+        errorHasOccurred |= source.errorHasOccurred;
+        return source.unit;
+    }
+
+    /**
+     * Has an error occurred in the files taken so far: could one not be read,
+     * or has one a syntax error?
+     *
+     * @return true or false.
+     */
+
+    public boolean errorHasOccurred() {
+        return errorHasOccurred;
+    }
+
+    /**
+     * Closes the pipeline: its reader and its workers stop at the next file.
+     */
+
+    public void close() {
+        isClosed = true;
+    }
+
+    /**
+     * Starts the reader and the specified number of workers.
+     *
+     * @param workers
+     *            number of workers.
+     */
+
+    private void start(final int workers) {
+        read = new ArrayBlockingQueue<Source>(2 * workers);
+        parsed = new ArrayBlockingQueue<Source>(2 * workers);
+        Thread reader = new Thread(new Runnable() {
+            public void run() {
+                session.enter();
+                try {
+                    for (int i = 0; i < files.length; i++) {
+                        if (!put(read, read(i))) {
+                            break;
+                        }
+                    }
+                } finally {
+                    for (int i = 0; i < workers; i++) {
+                        put(read, END);
+                    }
+                }
+            }
+        }, "j-- reader");
+        reader.setDaemon(true);
+        reader.start();
+        for (int i = 0; i < workers; i++) {
+            session.execute(new Runnable() {
+                public void run() {
+                    for (Source s = take(read); s != END; s = take(read)) {
+                        if (!put(parsed, parse(s))) {
+                            break;
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Reads the specified file.
+     *
+     * @param i
+     *            index of the file.
+     * @return the file read.
+     */
+
+    private Source read(int i) {
+        Source source = new Source();
+        source.index = i;
+        Stats.start(files[i], Stats.Phase.PARSE);
+        try {
+            source.input = new CharReader(files[i], paths[i]);
+        } catch (FileNotFoundException e) {
+            source.isUnreadable = true;
+            source.errorHasOccurred = true;
+        } finally {
+            Stats.stop();
+        }
+        return source;
+    }
+
+    /**
+     * Scans and parses the specified file, collecting its errors.
+     *
+     * @param source
+     *            the file read.
+     * @return the file parsed.
+     */
+
+    private Source parse(Source source) {
+        if (source.input == null) {
+            return source;
+        }
+        Stats.start(files[source.index], Stats.Phase.PARSE);
+        try {
+            source.unit = frontEnd.parse(source.input, source.diagnostics);
+            source.errorHasOccurred = source.unit == null
+                    || source.unit.isPartial();
+        } catch (RuntimeException e) {
+            source.failure = e;
+        } catch (Error e) {
+            source.failure = e;
+        } finally {
+            Stats.stop();
+            source.input = null;
+        }
+        return source;
+    }
+
+    /**
+     * Puts the specified file in the specified queue, waiting for room if
+     * need be, unless the pipeline is closed.
+     *
+     * @param queue
+     *            the queue.
+     * @param source
+     *            the file.
+     * @return true if the file was put; false if the pipeline is closed.
+     */
+
+    private boolean put(BlockingQueue<Source> queue, Source source) {
+        try {
+            while (!isClosed) {
+                if (queue.offer(source, WAIT, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+        }
+        return false;
+    }
+
+    /**
+     * Takes a file from the specified queue, waiting for one if need be,
+     * unless the pipeline is closed.
+     *
+     * @param queue
+     *            the queue.
+     * @return the file; END if the pipeline is closed.
+     */
+
+    private Source take(BlockingQueue<Source> queue) {
+        try {
+            while (!isClosed) {
+                Source source = queue.poll(WAIT, TimeUnit.MILLISECONDS);
+                if (source != null) {
+                    return source;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+        }
+        return END;
+    }
+
+}
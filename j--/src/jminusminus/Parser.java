@@ -35,6 +35,35 @@ public class Parser {
      */
     private boolean isRecovered;
 
+    /**
+     * Number of syntax errors reported, and number of them that the
+     * synchronization at a statement or member boundary has dealt with.
+     */
+    private int errorCount, errorsSynchronized;
+
+    /**
+     * The reference type last parsed while looking ahead (for a cast), so
+     * that the parse proper can take it rather than parse it again.
+     */
+    private Type lookaheadType;
+
+    /** Positions of the first token of lookaheadType and of the next one. */
+    private int lookaheadTypeStart, lookaheadTypeEnd;
+
+    /**
+     * Where the syntax errors found are added; null if they are reported.
+     */
+    private ArrayList<Diagnostic> diagnostics;
+
+    /**
+     * Where the spans of the members parsed are added, in the order the
+     * members start; null if they are not recorded.
+     */
+    private ArrayList<MemberSpan> spans;
+
+    /** The span of the member being parsed; null if none is. */
+    private MemberSpan span;
+
     /**
      * Constructs a parser from the given lexical analyzer.
      *
@@ -42,9 +71,31 @@ public class Parser {
      */
 
     public Parser(LookaheadScanner scanner) {
+        this(scanner, null, null);
+    }
+
+    /**
+     * Constructs a parser from the given lexical analyzer, which adds the
+     * syntax errors it finds to the specified list rather than report them,
+     * and records the span of each member it parses in the other specified
+     * one, unless they are null. Spans are only recorded when errors are
+     * added to a list.
+     *
+     * @param scanner     the lexical analyzer with which tokens are scanned.
+     * @param diagnostics where the errors found are added; null to report
+     *                    them.
+     * @param spans       where the spans of the members are added; null if
+     *                    they are not recorded.
+     */
+
+    Parser(LookaheadScanner scanner, ArrayList<Diagnostic> diagnostics,
+           ArrayList<MemberSpan> spans) {
         this.scanner = scanner;
+        this.diagnostics = diagnostics;
+        this.spans = spans;
         isInError = false;
         isRecovered = true;
+        lookaheadTypeStart = -1;
         scanner.next(); // Prime the pump
     }
 
@@ -70,7 +121,7 @@ public class Parser {
      */
 
     private boolean see(TokenKind sought) {
-        return (sought == scanner.token().kind());
+        return (sought == scanner.kind());
     }
 
     /**
@@ -100,22 +151,27 @@ public class Parser {
      * one we're looking for (or EOF) and then return to a "isRecovered" state.
      * This gives us a kind of poor man's syntactic error recovery. The strategy
      * is due to David Turner and Ron Morrison.
+     * <p>
+     * The scan stops short of an RCURLY though, which closes the enclosing
+     * block or body: from there, the statement or member in error is
+     * left to the synchronization at its boundary (see block() and
+     * classBody()).
      *
      * @param sought the token we're looking for.
      */
 
     private void mustBe(TokenKind sought) {
-        if (scanner.token().kind() == sought) {
+        if (scanner.kind() == sought) {
             scanner.next();
             isRecovered = true;
         } else if (isRecovered) {
             isRecovered = false;
-            reportParserError("%s found where %s sought", scanner.token()
-                    .image(), sought.image());
+            reportParserError("%s found where %s sought", scanner.image(),
+                    sought.image());
         } else {
             // Do not report the (possibly spurious) error,
             // but rather attempt to recover by forcing a match.
-            while (!see(sought) && !see(EOF)) {
+            while (!see(sought) && !see(EOF) && !see(RCURLY)) {
                 scanner.next();
             }
             if (see(sought)) {
@@ -151,10 +207,81 @@ public class Parser {
     private void reportParserError(String message, Object... args) {
         isInError = true;
         isRecovered = false;
-        System.err
-                .printf("%s:%d: ", scanner.fileName(), scanner.token().line());
-        System.err.printf(message, args);
-        System.err.println();
+        errorCount++;
+        if (diagnostics != null) {
+            diagnostics.add(new Diagnostic(scanner.fileName(), scanner.line(),
+                    String.format(message, args)));
+        } else {
+            Session.report(scanner.fileName(), scanner.line(), message,
+                    args);
+        }
+    }
+
+    /**
+     * Has a syntax error been reported since there were the specified number
+     * of them, that no synchronization has dealt with yet?
+     *
+     * @param errors the number of errors reported before.
+     * @return true or false.
+     */
+
+    private boolean errorSince(int errors) {
+        return errorCount > Math.max(errors, errorsSynchronized);
+    }
+
+    /**
+     * Synchronize at a statement boundary, after a syntax error in the
+     * statement starting at the specified position: unless the statement got
+     * to its end, skip to the SEMI ending it (scanned), or to an RCURLY or a
+     * token starting another statement (not scanned). This is panic-mode
+     * recovery.
+     *
+     * @param start position of the first token of the statement.
+     */
+
+    private void skipToStatement(int start) {
+        if (scanner.position() == start || scanner.previousKind() != SEMI
+                && scanner.previousKind() != RCURLY) {
+            if (scanner.position() == start) {
+                scanner.next();
+            }
+            while (!see(RCURLY) && !see(EOF) && !seeStatementStart()) {
+                if (have(SEMI)) {
+                    break;
+                }
+                scanner.next();
+            }
+        }
+        errorsSynchronized = errorCount;
+        isRecovered = true;
+    }
+
+    /**
+     * Synchronize at a member boundary, after a syntax error in the member
+     * starting at the specified position: unless the member got to its end,
+     * skip to the SEMI ending it, or to the RCURLY closing its body (both
+     * scanned), or to the RCURLY closing the class body (not scanned).
+     *
+     * @param start position of the first token of the member.
+     */
+
+    private void skipToMember(int start) {
+        if (scanner.position() == start || scanner.previousKind() != SEMI
+                && scanner.previousKind() != RCURLY) {
+            int depth = 0;
+            while (!see(EOF) && !(depth == 0 && see(RCURLY))) {
+                TokenKind kind = scanner.kind();
+                scanner.next();
+                if (kind == LCURLY) {
+                    depth++;
+                } else if (kind == RCURLY && --depth == 0 || kind == SEMI
+                        && depth == 0) {
+                    break;
+                }
+            }
+        }
+        errorsSynchronized = errorCount;
+        isRecovered = true;
     }
 
     // ////////////////////////////////////////////////
@@ -306,6 +433,20 @@ public class Parser {
         return (see(BOOLEAN) || see(CHAR) || see(INT)) || see(DOUBLE) || see(FLOAT) || see(LONG) || see(FLOAT) || see(BYTE) || see(SHORT);
     }
 
+    /**
+     * Are we looking at a token that can only start a statement (or a local
+     * variable declaration)? The synchronization at a statement boundary
+     * stops there.
+     *
+     * @return true or false.
+     */
+
+    private boolean seeStatementStart() {
+        return see(LCURLY) || see(IF) || see(FOR) || see(WHILE) || see(DO)
+                || see(TRY) || see(RETURN) || see(THROW) || see(BREAK)
+                || see(CONTINUE) || seeBasicType();
+    }
+
     /**
      * Are we looking at a reference type? ie.
      *
@@ -396,6 +537,10 @@ public class Parser {
         int depth = 1;
 
         while (!have(SEMI)) {
+            if (see(EOF)) {
+                scanner.returnToPosition();
+                return false;
+            }
             boolean consumed = false;
             if (have(LPAREN)) {
                 depth++;
@@ -462,7 +607,7 @@ public class Parser {
      */
 
     public JCompilationUnit compilationUnit() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         TypeName packageName = null; // Default
         if (have(PACKAGE)) {
             packageName = qualifiedIdentifier();
@@ -481,9 +626,11 @@ public class Parser {
             }
         }
         mustBe(EOF);
-        return new JCompilationUnit(scanner.fileName(),
+        JCompilationUnit unit = new JCompilationUnit(scanner.fileName(),
                 line, packageName,
                 imports, typeDeclarations);
+        unit.partial(isInError);
+        return unit;
     }
 
     /**
@@ -497,12 +644,12 @@ public class Parser {
      */
 
     private TypeName qualifiedIdentifier() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(IDENTIFIER);
-        String qualifiedIdentifier = scanner.previousToken().image();
+        String qualifiedIdentifier = scanner.previousImage();
         while (have(DOT)) {
             mustBe(IDENTIFIER);
-            qualifiedIdentifier += "." + scanner.previousToken().image();
+            qualifiedIdentifier += "." + scanner.previousImage();
         }
         return new TypeName(line, qualifiedIdentifier);
     }
@@ -532,8 +679,8 @@ public class Parser {
                 return null;
             } else {
                 // This should not happen but in case it does
-                reportParserError("Expected either CLASS or INTERFACE received: " + scanner.token().kind());
-                have(scanner.token().kind());
+                reportParserError("Expected either CLASS or INTERFACE received: %s", scanner.kind());
+                have(scanner.kind());
                 return null;
             }
         }
@@ -766,10 +913,10 @@ public class Parser {
      */
 
     private JClassDeclaration classDeclaration(ArrayList<String> mods) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(CLASS);
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
         Type superClass;
         ArrayList<TypeName> implementations = new ArrayList<>();
 
@@ -804,10 +951,10 @@ public class Parser {
      * @return an AST for a interfaceDeclaration
      */
     private JInterfaceDeclaration interfaceDeclaration(ArrayList<String> mods) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(INTERFACE);
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
         ArrayList<TypeName> superClasses = new ArrayList<>(); // in an interface it can be more than one
 
         if (have(EXTENDS)) {
@@ -831,6 +978,10 @@ public class Parser {
      *                   modifiers memberDecl
      *                 RCURLY
      * </pre>
+     * <p>
+     * A member having a syntax error (other than in the statements of its
+     * body, which block() deals with) is left out, and the parse goes on with
+     * the next member.
      *
      * @return list of members in the class body.
      */
@@ -839,23 +990,95 @@ public class Parser {
         ArrayList<JMember> members = new ArrayList<JMember>();
         mustBe(LCURLY);
         while (!see(RCURLY) && !see(EOF)) {
-            if (have(SEMI)) {
-                // Random lone semi should be ignored
-            } else if (seeStaticInitBlock()) {
-                have(STATIC);
-                JBlock block = block();
-                members.add(new JStaticBlock(block.line, block.statements()));
-            } else if (see(LCURLY)) {
-                JBlock block = block();
-                members.add(new JInitBlock(block.line, block.statements()));
-            } else {
-                members.add(memberDecl(modifiers()));
-            }
+            member(members, false);
         }
         mustBe(RCURLY);
         return members;
     }
 
+    /**
+     * Parse a member of a class body (see classBody()).
+     *
+     * <pre>
+     *   classMember ::= SEMI
+     *                 | static block
+     *                 | block
+     *                 | modifiers memberDecl
+     * </pre>
+     *
+     * @return an AST for the member; null for a lone SEMI, or a member left
+     *         out for a syntax error.
+     */
+
+    private JMember classMember() {
+        if (have(SEMI)) {
+            // Random lone semi should be ignored
+            return null;
+        } else if (seeStaticInitBlock()) {
+            have(STATIC);
+            JBlock block = block();
+            return new JStaticBlock(block.line, block.statements());
+        } else if (see(LCURLY)) {
+            JBlock block = block();
+            return new JInitBlock(block.line, block.statements());
+        } else {
+            int start = scanner.position();
+            int errors = errorCount;
+            JMember member = memberDecl(modifiers());
+            if (errorSince(errors)) {
+                // Leave the member out
+                skipToMember(start);
+                return null;
+            }
+            return member;
+        }
+    }
+
+    /**
+     * Parse a member of a class or interface body, adding it to the
+     * specified members; and record its span, if spans are recorded.
+     *
+     * @param members     the members parsed so far.
+     * @param isInterface whether the body is that of an interface.
+     */
+
+    private void member(ArrayList<JMember> members, boolean isInterface) {
+        if (spans == null) {
+            JMember member = isInterface ? interfaceMember() : classMember();
+            if (member != null) {
+                members.add(member);
+            }
+            return;
+        }
+        MemberSpan span = new MemberSpan(members, isInterface, this.span,
+                scanner.position(), diagnostics.size());
+        spans.add(span);
+        JMember member = member(span);
+        if (member != null) {
+            members.add(member);
+        }
+    }
+
+    /**
+     * Parse a member of the body of the specified span (opened at the current
+     * token), recording the spans of the members nested in it, and close the
+     * span.
+     *
+     * @param span the span.
+     * @return an AST for the member; null for a lone SEMI, or a member left
+     *         out for a syntax error.
+     */
+
+    JMember member(MemberSpan span) {
+        MemberSpan outer = this.span;
+        this.span = span;
+        JMember member = span.isInterface() ? interfaceMember()
+                : classMember();
+        this.span = outer;
+        span.close(member, scanner.position(), diagnostics.size());
+        return member;
+    }
+
     /**
      * Parse an interfaceBody
      *
@@ -872,18 +1095,41 @@ public class Parser {
 
         mustBe(LCURLY);
         while (!see(RCURLY) && !see(EOF)) {
-            if (have(SEMI)) {
-                // Random lone semi should be ignored
-
-            } else {
-                members.add(interfaceMemberDecl(modifiers()));
-            }
+            member(members, true);
         }
         mustBe(RCURLY);
 
         return members;
     }
 
+    /**
+     * Parse a member of an interface body (see interfaceBody()).
+     *
+     * <pre>
+     *   interfaceMember ::= SEMI
+     *                     | modifiers interfaceMemberDecl
+     * </pre>
+     *
+     * @return an AST for the member; null for a lone SEMI, or a member left
+     *         out for a syntax error.
+     */
+
+    private JMember interfaceMember() {
+        if (have(SEMI)) {
+            // Random lone semi should be ignored
+            return null;
+        }
+        int start = scanner.position();
+        int errors = errorCount;
+        JMember member = interfaceMemberDecl(modifiers());
+        if (errorSince(errors)) {
+            // Leave the member out
+            skipToMember(start);
+            return null;
+        }
+        return member;
+    }
+
     /**
      * Parse a member declaration.
      *
@@ -904,24 +1150,24 @@ public class Parser {
      */
 
     private JMember memberDecl(ArrayList<String> mods) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JMember memberDecl = null;
 
         // Needs to check for inner classes and interfaces
         if (see(CLASS)) {
             ArrayList<String> subMods = new ArrayList<>();
-            subMods.add(scanner.previousToken().toString());
+            subMods.add(scanner.previousImage());
             memberDecl = classDeclaration(subMods);
 
         } else if (see(INTERFACE)) {
             ArrayList<String> subMods = new ArrayList<>();
-            subMods.add(scanner.previousToken().toString());
+            subMods.add(scanner.previousImage());
             memberDecl = interfaceDeclaration(subMods);
 
         } else if (seeIdentLParen()) {
             // A constructor
             mustBe(IDENTIFIER);
-            String name = scanner.previousToken().image();
+            String name = scanner.previousImage();
             ArrayList<JFormalParameter> params = formalParameters();
             ArrayList<TypeName> exceptions = new ArrayList<>();
 
@@ -943,7 +1189,7 @@ public class Parser {
                 // void method
                 type = Type.VOID;
                 mustBe(IDENTIFIER);
-                String name = scanner.previousToken().image();
+                String name = scanner.previousImage();
                 ArrayList<JFormalParameter> params = formalParameters();
                 ArrayList<TypeName> exceptions = new ArrayList<>();
 
@@ -965,7 +1211,7 @@ public class Parser {
                 if (seeIdentLParen()) {
                     // Non void method
                     mustBe(IDENTIFIER);
-                    String name = scanner.previousToken().image();
+                    String name = scanner.previousImage();
                     ArrayList<JFormalParameter> params = formalParameters();
                     ArrayList<TypeName> exceptions = new ArrayList<>(); // holds all qualifiedIdentifiers
 
@@ -1009,19 +1255,19 @@ public class Parser {
      * @see memberDecl
      */
     private JMember interfaceMemberDecl(ArrayList<String> mods) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JMember memberDecl = null;
         Type type = null;
 
         // Needs to check for inner classes and interfaces
         if (see(CLASS)) {
             ArrayList<String> subMods = new ArrayList<>();
-            subMods.add(scanner.previousToken().toString());
+            subMods.add(scanner.previousImage());
             memberDecl = classDeclaration(subMods);
 
         } else if (see(INTERFACE)) {
             ArrayList<String> subMods = new ArrayList<>();
-            subMods.add(scanner.previousToken().toString());
+            subMods.add(scanner.previousImage());
             memberDecl = interfaceDeclaration(subMods);
         }
 
@@ -1029,7 +1275,7 @@ public class Parser {
         else if (have(VOID)) {
             type = Type.VOID;
             mustBe(IDENTIFIER);
-            String name = scanner.previousToken().image();
+            String name = scanner.previousImage();
             ArrayList<JFormalParameter> params = formalParameters(); // formalParameters { [ ] }
             ArrayList<TypeName> exceptions = new ArrayList<>(); // holds all qualifiedIdentifiers
 
@@ -1054,7 +1300,7 @@ public class Parser {
             // Check if it is a method declaration or a variable declaration
             if (seeIdentLParen()) {
                 mustBe(IDENTIFIER);
-                String name = scanner.previousToken().image();
+                String name = scanner.previousImage();
                 ArrayList<JFormalParameter> params = formalParameters(); // formalParameters { [ ] }
                 ArrayList<TypeName> exceptions = new ArrayList<>(); // holds all qualifiedIdentifiers
 
@@ -1088,16 +1334,27 @@ public class Parser {
      * <pre>
      *   block ::= LCURLY {blockStatement} RCURLY
      * </pre>
+     * <p>
+     * A statement having a syntax error is replaced by a wild statement, and
+     * the parse goes on with the next statement.
      *
      * @return an AST for a block.
      */
 
     private JBlock block() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         ArrayList<JStatement> statements = new ArrayList<JStatement>();
         mustBe(LCURLY);
         while (!see(RCURLY) && !see(EOF)) {
-            statements.add(blockStatement());
+            int start = scanner.position();
+            int statementLine = scanner.line();
+            int errors = errorCount;
+            JStatement statement = blockStatement();
+            if (errorSince(errors)) {
+                statement = new JWildStatement(statementLine);
+                skipToStatement(start);
+            }
+            statements.add(statement);
         }
         mustBe(RCURLY);
         return new JBlock(line, statements);
@@ -1145,7 +1402,7 @@ public class Parser {
      * @return an AST for a statement.
      */
     private JStatement statement() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (have(BREAK)) {
             // TODO: JBreakStatement
             return new JEmptyStatement(line);
@@ -1211,7 +1468,7 @@ public class Parser {
             JBlock body_finally = null;
 
             while (have(CATCH)) {
-                int catchLine = scanner.token().line();
+                int catchLine = scanner.line();
                 mustBe(LPAREN); // Make sure to consume the parentheses
                 param = formalParameter();
                 mustBe(RPAREN);
@@ -1286,7 +1543,7 @@ public class Parser {
      */
 
     private JFormalParameter formalParameter() {
-        int line = scanner.token().line();
+        int line = scanner.line();
 
         if (have(FINAL)) {
             // optional TODO: implement optional final
@@ -1295,7 +1552,7 @@ public class Parser {
 
         Type type = type();
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
         return new JFormalParameter(line, name, type);
     }
 
@@ -1385,7 +1642,7 @@ public class Parser {
      * @return an AST for a variableDeclaration.
      */
     private JVariableDeclaration localVariableDeclarationStatement() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         ArrayList<String> mods = new ArrayList<String>();
         ArrayList<JVariableDeclarator> vdecls = variableDeclarators(type());
         mustBe(SEMI);
@@ -1423,9 +1680,9 @@ public class Parser {
      * @return an AST for a variableDeclarator.
      */
     private JVariableDeclarator variableDeclarator(Type type) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
         JExpression initial = have(ASSIGN) ? variableInitializer(type) : null;
         return new JVariableDeclarator(line, name, type, initial);
     }
@@ -1462,17 +1719,15 @@ public class Parser {
      * @return an AST for an arrayInitializer.
      */
     private JArrayInitializer arrayInitializer(Type type) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         ArrayList<JExpression> initials = new ArrayList<JExpression>();
         mustBe(LCURLY);
         if (have(RCURLY)) {
             return new JArrayInitializer(line, type, initials);
         }
         initials.add(variableInitializer(type.componentType()));
-        while (have(COMMA)) {
-            initials.add(see(RCURLY) ? null
-                    : variableInitializer(type
-                    .componentType()));
+        while (have(COMMA) && !see(RCURLY)) {
+            initials.add(variableInitializer(type.componentType()));
         }
         mustBe(RCURLY);
         return new JArrayInitializer(line, type, initials);
@@ -1547,8 +1802,7 @@ public class Parser {
         } else if (have(FLOAT)) {
             return Type.DOUBLE;
         } else {
-            reportParserError("Type sought where %s found", scanner.token()
-                    .image());
+            reportParserError("Type sought where %s found", scanner.image());
             return Type.ANY;
         }
     }
@@ -1565,6 +1819,12 @@ public class Parser {
      */
 
     private Type referenceType() {
+        int start = scanner.position();
+        if (start == lookaheadTypeStart) {
+            lookaheadTypeStart = -1;
+            scanner.seek(lookaheadTypeEnd);
+            return lookaheadType;
+        }
         Type type = null;
         if (!see(IDENTIFIER)) {
             type = basicType();
@@ -1579,6 +1839,11 @@ public class Parser {
             mustBe(RBRACK);
             type = new ArrayTypeName(type);
         }
+        if (scanner.isLookingAhead && !isInError) {
+            lookaheadType = type;
+            lookaheadTypeStart = start;
+            lookaheadTypeEnd = scanner.position();
+        }
         return type;
     }
 
@@ -1594,7 +1859,7 @@ public class Parser {
      */
 
     private JStatement statementExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression expr = expression();
         if (expr instanceof JAssignment
                 || expr instanceof JPreIncrementOp
@@ -1645,7 +1910,7 @@ public class Parser {
      */
 
     private JExpression assignmentExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = conditionalExpression();
         if (have(ASSIGN)) {
             return new JAssign(line, lhs, assignmentExpression());
@@ -1687,7 +1952,7 @@ public class Parser {
      * @return an AST for a conditionalExpression.
      */
     private JExpression conditionalExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = conditionalOrExpression();
         if (have(TERNARY)) {
             JExpression thenBranch = assignmentExpression();
@@ -1710,7 +1975,7 @@ public class Parser {
      */
 
     private JExpression conditionalOrExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = conditionalAndExpression();
         while (more) {
@@ -1735,7 +2000,7 @@ public class Parser {
      */
 
     private JExpression conditionalAndExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = inclusiveOrExpression();
         while (more) {
@@ -1757,7 +2022,7 @@ public class Parser {
      * exclusiveOrExpression
      */
     private JExpression inclusiveOrExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = exclusiveOrExpression();
         while (more) {
@@ -1780,7 +2045,7 @@ public class Parser {
      * andExpression
      */
     private JExpression exclusiveOrExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = andExpression();
         while (more) {
@@ -1803,7 +2068,7 @@ public class Parser {
      * equalityExpression
      */
     private JExpression andExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = equalityExpression();
         while (more) {
@@ -1829,7 +2094,7 @@ public class Parser {
      */
 
     private JExpression equalityExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = relationalExpression();
         while (more) {
@@ -1855,7 +2120,7 @@ public class Parser {
      * @return an AST for a relationalExpression.
      */
     private JExpression relationalExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = shiftExpression();
 
         if (seeRelational()) {
@@ -1891,7 +2156,7 @@ public class Parser {
      * additiveExpression
      */
     private JExpression shiftExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = additiveExpression();
 
@@ -1925,7 +2190,7 @@ public class Parser {
      */
 
     private JExpression additiveExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = multiplicativeExpression();
         while (more) {
@@ -1952,7 +2217,7 @@ public class Parser {
      */
 
     private JExpression multiplicativeExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = unaryExpression();
         while (more) {
@@ -1983,7 +2248,7 @@ public class Parser {
      */
 
     private JExpression unaryExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
 
         if (have(INC)) {
             return new JPreIncrementOp(line, unaryExpression()); // INC unaryExpression (++num)
@@ -2022,7 +2287,7 @@ public class Parser {
      */
 
     private JExpression simpleUnaryExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (have(LNOT)) {
             return new JLogicalNotOp(line, unaryExpression());
         } else if (seeCast()) {
@@ -2053,7 +2318,7 @@ public class Parser {
      */
 
     private JExpression postfixExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression primaryExpr = primary();
         while (see(DOT) || see(LBRACK)) {
             primaryExpr = selector(primaryExpr);
@@ -2081,11 +2346,11 @@ public class Parser {
      */
 
     private JExpression selector(JExpression target) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (have(DOT)) {
             // Target . selector
             mustBe(IDENTIFIER);
-            String name = scanner.previousToken().image();
+            String name = scanner.previousImage();
             if (see(LPAREN)) {
                 ArrayList<JExpression> args = arguments();
                 return new JMessageExpression(line, target, name, args);
@@ -2118,7 +2383,7 @@ public class Parser {
      */
 
     private JExpression primary() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (see(LPAREN)) {
             return parExpression();
         } else if (have(THIS)) {
@@ -2132,7 +2397,7 @@ public class Parser {
                 return new JSuperConstruction(line, arguments());
             } else {
                 mustBe(IDENTIFIER);
-                String name = scanner.previousToken().image();
+                String name = scanner.previousImage();
                 JExpression newTarget = new JSuper(line);
                 if (see(LPAREN)) {
                     return new JMessageExpression(line, newTarget, null, name, arguments());
@@ -2176,7 +2441,7 @@ public class Parser {
      */
 
     private JExpression creator() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         Type type = seeBasicType() ? basicType() : qualifiedIdentifier();
         if (see(LPAREN)) {
             ArrayList<JExpression> args = arguments();
@@ -2192,8 +2457,7 @@ public class Parser {
             } else
                 return newArrayDeclarator(line, type);
         } else {
-            reportParserError("( or [ sought where %s found", scanner.token()
-                    .image());
+            reportParserError("( or [ sought where %s found", scanner.image());
             return new JWildExpression(line);
         }
     }
@@ -2248,16 +2512,16 @@ public class Parser {
      * @return an AST for a literal.
      */
     private JExpression literal() {
-        int line = scanner.token().line();
+        int line = scanner.line();
 
         if (have(INT_LITERAL)) {
-            return new JLiteralInt(line, scanner.previousToken().image());
+            return new JLiteralInt(line, scanner.previousImage());
         } else if (have(DOUBLE_LITERAL)) {
-            return new JLiteralDouble(line, scanner.previousToken().image());
+            return new JLiteralDouble(line, scanner.previousImage());
         } else if (have(CHAR_LITERAL)) {
-            return new JLiteralChar(line, scanner.previousToken().image());
+            return new JLiteralChar(line, scanner.previousImage());
         } else if (have(STRING_LITERAL)) {
-            return new JLiteralString(line, scanner.previousToken().image());
+            return new JLiteralString(line, scanner.previousImage());
         } else if (have(TRUE)) {
             return new JLiteralTrue(line);
         } else if (have(FALSE)) {
@@ -2265,8 +2529,7 @@ public class Parser {
         } else if (have(NULL)) {
             return new JLiteralNull(line);
         } else {
-            reportParserError("Literal sought where '%s' found!", scanner.token()
-                    .image());
+            reportParserError("Literal sought where '%s' found!", scanner.image());
             return new JWildExpression(line);
         }
     }
@@ -2277,7 +2540,7 @@ public class Parser {
     // private void trace( String message )
     // {
     // System.err.println( "["
-    // + scanner.token().line()
+    // + scanner.line()
     // + ": "
     // + message
     // + ", looking at a: "
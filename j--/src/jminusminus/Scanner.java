@@ -4,12 +4,17 @@
 
 package jminusminus;
 
+import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.LineNumberReader;
 
-import java.util.Hashtable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import javax.lang.model.element.Element;
 
@@ -34,11 +39,61 @@ class Scanner {
     public final static char EOFCH = CharReader.EOFCH;
 
     /** Keywords in j--. */
-    private Hashtable<String, TokenKind> reserved;
+    private final static TokenKind[] RESERVED = {
+        ABSTRACT, BOOLEAN, BREAK, BYTE, CASE, CATCH, CHAR, CLASS, CONST,
+        CONTINUE, DEFAULT, DO, DOUBLE, ELSE, EXTENDS, FINAL, FINALLY, FLOAT,
+        FOR, FALSE, GOTO, IF, IMPLEMENTS, IMPORT, INSTANCEOF, INT, INTERFACE,
+        LONG, NATIVE, NEW, NULL, PACKAGE, PRIVATE, PROTECTED, PUBLIC, RETURN,
+        SHORT, STATIC, STRICTFP, SUPER, SWITCH, SYNCHRONIZED, THIS, THROW,
+        THROWS, TRANSIENT, TRY, TRUE, VOID, VOLATILE, WHILE };
+
+    /**
+     * Size of the keyword table (a power of 2), and the shift bringing a
+     * 32-bit hash down to an index of it.
+     */
+    private final static int KEYWORD_TABLE_SIZE = 256, KEYWORD_SHIFT = 24;
+
+    /**
+     * Multiplier of the perfect hash of keywords: the smallest (odd) one
+     * sending the hashes of the images of the keywords to distinct indices of
+     * the keyword table.
+     */
+    private final static int KEYWORD_MULTIPLIER;
+
+    /** Keywords, by the perfect hash of their images; null elsewhere. */
+    private final static TokenKind[] KEYWORDS;
+
+    static {
+        int multiplier = 1;
+        TokenKind[] keywords;
+        search: while (true) {
+            keywords = new TokenKind[KEYWORD_TABLE_SIZE];
+            for (TokenKind kind : RESERVED) {
+                int i = kind.image().hashCode() * multiplier >>> KEYWORD_SHIFT;
+                if (keywords[i] != null) {
+                    multiplier += 2;
+                    continue search;
+                }
+                keywords[i] = kind;
+            }
+            break;
+        }
+        KEYWORD_MULTIPLIER = multiplier;
+        KEYWORDS = keywords;
+    }
 
     /** Source characters. */
     private CharReader input;
 
+    /** The characters of the source, walked by index. */
+    private char[] chars;
+
+    /** Number of characters of the source. */
+    private int limit;
+
+    /** Index of ch in chars; limit at the end of file. */
+    private int pos;
+
     /** Next unscanned character. */
     private char ch;
 
@@ -51,6 +106,24 @@ class Scanner {
     /** Line number of current token. */
     private int line;
 
+    /** Offset of the first character of the current token. */
+    private int start;
+
+    /** The tokens scanned. */
+    private TokenStream tokens;
+
+    /**
+     * Where identifiers and literals are interned; in front of the table of
+     * the session.
+     */
+    private SymbolTable symbols;
+
+    /** The image of the current literal, built as it is scanned. */
+    private StringBuilder buffer;
+
+    /** Where the errors found are added; null if they are reported. */
+    private ArrayList<Diagnostic> diagnostics;
+
     /**
      * Constructs a Scanner object.
      * 
@@ -61,63 +134,63 @@ class Scanner {
      */
 
     public Scanner(String fileName) throws FileNotFoundException {
-        this.input = new CharReader(fileName);
-        this.fileName = fileName;
+        this(new CharReader(fileName));
+    }
+
+    /**
+     * Constructs a Scanner object reading the specified source from memory.
+     * 
+     * @param fileName
+     *                 the name of the file the source is reported as.
+     * @param source
+     *                 the source.
+     */
+
+    public Scanner(String fileName, CharSequence source) {
+        this(new CharReader(fileName, source));
+    }
+
+    /**
+     * Constructs a Scanner object reading from the specified CharReader.
+     * 
+     * @param input
+     *                 the source characters.
+     */
+
+    Scanner(CharReader input) {
+        this(input, 0, null);
+    }
+
+    /**
+     * Constructs a Scanner object reading from the specified CharReader, from
+     * the specified offset on: that of the first character following a token
+     * (or 0), so that the scan is in step with one from the start of the
+     * source. The lexical errors found are added to the specified list rather
+     * than reported, unless it is null.
+     * 
+     * @param input
+     *                    the source characters.
+     * @param offset
+     *                    the offset.
+     * @param diagnostics
+     *                    where the errors found are added; null to report
+     *                    them.
+     */
+
+    Scanner(CharReader input, int offset, ArrayList<Diagnostic> diagnostics) {
+        this.input = input;
+        this.fileName = input.fileName();
+        this.diagnostics = diagnostics;
+        chars = input.chars();
+        limit = input.length();
+        pos = offset - 1;
         isInError = false;
+        symbols = new SymbolTable(Session.current().symbols());
+        // A scan from an offset is most often of a few tokens
+        tokens = offset == 0 ? new TokenStream(chars, symbols)
+                : new TokenStream(chars, symbols, 16);
+        buffer = new StringBuilder();
 
-        // Keywords in j--
-        reserved = new Hashtable<String, TokenKind>();
-        reserved.put(ABSTRACT.image(), ABSTRACT);
-        reserved.put(BOOLEAN.image(), BOOLEAN);
-        reserved.put(BREAK.image(), BREAK);
-        reserved.put(BYTE.image(), BYTE);
-        reserved.put(CASE.image(), CASE);
-        reserved.put(CATCH.image(), CATCH);
-        reserved.put(CHAR.image(), CHAR);
-        reserved.put(CLASS.image(), CLASS);
-        reserved.put(CONST.image(), CONST);
-        reserved.put(CONTINUE.image(), CONTINUE);
-        reserved.put(DEFAULT.image(), DEFAULT);
-        reserved.put(DO.image(), DO);
-        reserved.put(DOUBLE.image(), DOUBLE);
-        reserved.put(ELSE.image(), ELSE);
-        reserved.put(EXTENDS.image(), EXTENDS);
-        reserved.put(FINAL.image(), FINAL);
-        reserved.put(FINALLY.image(), FINALLY);
-        reserved.put(FLOAT.image(), FLOAT);
-        reserved.put(FOR.image(), FOR);
-        reserved.put(FALSE.image(), FALSE);
-        reserved.put(GOTO.image(), GOTO);
-        reserved.put(IF.image(), IF);
-        reserved.put(IMPLEMENTS.image(), IMPLEMENTS);
-        reserved.put(IMPORT.image(), IMPORT);
-        reserved.put(INSTANCEOF.image(), INSTANCEOF);
-        reserved.put(INT.image(), INT);
-        reserved.put(INTERFACE.image(), INTERFACE);
-        reserved.put(LONG.image(), LONG);
-        reserved.put(NATIVE.image(), NATIVE);
-        reserved.put(NEW.image(), NEW);
-        reserved.put(NULL.image(), NULL);
-        reserved.put(PACKAGE.image(), PACKAGE);
-        reserved.put(PRIVATE.image(), PRIVATE);
-        reserved.put(PROTECTED.image(), PROTECTED);
-        reserved.put(PUBLIC.image(), PUBLIC);
-        reserved.put(RETURN.image(), RETURN);
-        reserved.put(SHORT.image(), SHORT);
-        reserved.put(STATIC.image(), STATIC);
-        reserved.put(STRICTFP.image(), STRICTFP);
-        reserved.put(SUPER.image(), SUPER);
-        reserved.put(SWITCH.image(), SWITCH);
-        reserved.put(SYNCHRONIZED.image(), SYNCHRONIZED);
-        reserved.put(THIS.image(), THIS);
-        reserved.put(THROW.image(), THROW);
-        reserved.put(THROWS.image(), THROWS);
-        reserved.put(TRANSIENT.image(), TRANSIENT);
-        reserved.put(TRY.image(), TRY);
-        reserved.put(TRUE.image(), TRUE);
-        reserved.put(VOID.image(), VOID);
-        reserved.put(VOLATILE.image(), VOLATILE);
-        reserved.put(WHILE.image(), WHILE);
 
         // Prime the pump.
         nextCh();
@@ -130,13 +203,35 @@ class Scanner {
      */
 
     public TokenInfo getNextToken() {
-        StringBuffer buffer;
+        return tokens.token(scan());
+    }
+
+    /**
+     * Returns the tokens scanned so far.
+     * 
+     * @return the tokens.
+     */
+
+    public TokenStream tokens() {
+        return tokens;
+    }
+
+    /**
+     * Scans the next token from input, and appends it to the tokens, without
+     * building a TokenInfo for it.
+     * 
+     * @return the index of the token in the tokens.
+     */
+
+    public int scan() {
         boolean moreWhiteSpace = true;
         while (moreWhiteSpace) {
             while (isWhitespace(ch)) {
                 nextCh();
             }
             if (ch == '/') {
+                start = pos;
+                line = input.line(pos);
                 nextCh();
                 if (ch == '/') {
                     // CharReader maps all new lines to '\n'
@@ -168,176 +263,177 @@ class Scanner {
                     }
                 } else if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(DIV_ASSIGN, line); // Token: '/='
+                    return token(DIV_ASSIGN); // Token: '/='
                 } else {
-                    return new TokenInfo(DIV, line); // Token: '/'
+                    return token(DIV); // Token: '/'
                 }
             } else {
                 moreWhiteSpace = false;
             }
         }
-        line = input.line();
+        start = pos;
+        line = input.line(pos);
         switch (ch) {
             case '(':
                 nextCh();
-                return new TokenInfo(LPAREN, line); // Token: '('
+                return token(LPAREN); // Token: '('
             case ')':
                 nextCh();
-                return new TokenInfo(RPAREN, line); // Token: ')'
+                return token(RPAREN); // Token: ')'
             case '{':
                 nextCh();
-                return new TokenInfo(LCURLY, line); // Token: '{'
+                return token(LCURLY); // Token: '{'
             case '}':
                 nextCh();
-                return new TokenInfo(RCURLY, line); // Token: '}'
+                return token(RCURLY); // Token: '}'
             case '[':
                 nextCh();
-                return new TokenInfo(LBRACK, line); // Token: '['
+                return token(LBRACK); // Token: '['
             case ']':
                 nextCh();
-                return new TokenInfo(RBRACK, line); // Token: ']'
+                return token(RBRACK); // Token: ']'
             case ';':
                 nextCh();
-                return new TokenInfo(SEMI, line); // Token: ';'
+                return token(SEMI); // Token: ';'
             case ':':
                 nextCh();
-                return new TokenInfo(COLON, line); // Token: ':'
+                return token(COLON); // Token: ':'
             case '~':
                 nextCh();
-                return new TokenInfo(TILDE, line); // Token: '~'
+                return token(TILDE); // Token: '~'
             case ',':
                 nextCh();
-                return new TokenInfo(COMMA, line); // Token: ','
+                return token(COMMA); // Token: ','
             case '=':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(EQ, line); // Token: '=='
+                    return token(EQ); // Token: '=='
                 } else {
-                    return new TokenInfo(ASSIGN, line); // Token: '='
+                    return token(ASSIGN); // Token: '='
                 }
             case '!':
                 nextCh();
                 if(ch == '='){
                     nextCh();
-                    return new TokenInfo(NEQ, line); // Token: '!='
+                    return token(NEQ); // Token: '!='
                 } else {
-                    return new TokenInfo(LNOT, line); // Token: '!'
+                    return token(LNOT); // Token: '!'
                 }
             case '?':
                 nextCh();
-                return new TokenInfo(TERNARY, line); // Token: '?'
+                return token(TERNARY); // Token: '?'
             case '*':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(STAR_ASSIGN, line); // Token: '*='
+                    return token(STAR_ASSIGN); // Token: '*='
                 } else {
-                    return new TokenInfo(STAR, line); // Token: '*'
+                    return token(STAR); // Token: '*'
                 }
             case '%':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(MOD_ASSIGN, line); // Token: '%='
+                    return token(MOD_ASSIGN); // Token: '%='
                 } else {
-                    return new TokenInfo(MOD, line); // Token: '%'
+                    return token(MOD); // Token: '%'
                 }
             case '+':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(PLUS_ASSIGN, line); // Token: '+='
+                    return token(PLUS_ASSIGN); // Token: '+='
                 } else if (ch == '+') {
                     nextCh();
-                    return new TokenInfo(INC, line); // Token: '++'
+                    return token(INC); // Token: '++'
                 } else {
-                    return new TokenInfo(PLUS, line); // Token: '+'
+                    return token(PLUS); // Token: '+'
                 }
             case '-':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(MINUS_ASSIGN, line); // Token: '-='
+                    return token(MINUS_ASSIGN); // Token: '-='
                 } else if (ch == '-') {
                     nextCh();
-                    return new TokenInfo(DEC, line); // Token: '--'
+                    return token(DEC); // Token: '--'
                 } else {
-                    return new TokenInfo(MINUS, line); // Token: '-='
+                    return token(MINUS); // Token: '-='
                 }
             case '&':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(AND_ASSIGN, line); // Token: '&='
+                    return token(AND_ASSIGN); // Token: '&='
                 } else if (ch == '&') {
                     nextCh();
-                    return new TokenInfo(LAND, line); // Token: '&&'
+                    return token(LAND); // Token: '&&'
                 } else {
-                    return new TokenInfo(AND, line); // Token: '&'
+                    return token(AND); // Token: '&'
                 }
             case '^':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(XOR_ASSIGN, line); // Token: '^='
+                    return token(XOR_ASSIGN); // Token: '^='
                 } else {
-                    return new TokenInfo(XOR, line); // Token: '^'
+                    return token(XOR); // Token: '^'
                 }
             case '|':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(OR_ASSIGN, line); // Token: '|='
+                    return token(OR_ASSIGN); // Token: '|='
                 } else if (ch == '|') {
                     nextCh();
-                    return new TokenInfo(LOR, line); // Token: '||'
+                    return token(LOR); // Token: '||'
                 } else {
-                    return new TokenInfo(OR, line); // Token: '|'
+                    return token(OR); // Token: '|'
                 }
             case '>':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(GE, line); // Token: '>='
+                    return token(GE); // Token: '>='
                 } else if (ch == '>') {
                     nextCh();
                     if (ch == '>') {
                         nextCh();
                         if (ch == '=') {
                             nextCh();
-                            return new TokenInfo(USHIFTR_ASSIGN, line); // Token: '>>>='
+                            return token(USHIFTR_ASSIGN); // Token: '>>>='
                         } else {
-                            return new TokenInfo(USHIFTR, line); // Token: '>>>'
+                            return token(USHIFTR); // Token: '>>>'
                         }
                     } else if (ch == '=') {
                         nextCh();
-                        return new TokenInfo(SHIFTR_ASSIGN, line); // Token: '>>='
+                        return token(SHIFTR_ASSIGN); // Token: '>>='
                     } else {
                         nextCh();
-                        return new TokenInfo(SHIFTR, line); // Token: '>>'
+                        return token(SHIFTR); // Token: '>>'
                     }
                 } else {
-                    return new TokenInfo(GT, line); // Token: '>'
+                    return token(GT); // Token: '>'
                 }
             case '<':
                 nextCh();
                 if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(LE, line); // Token: '<='
+                    return token(LE); // Token: '<='
                 } else if (ch == '<') {
                     nextCh();
                     if (ch == '=') {
                         nextCh();
-                        return new TokenInfo(SHIFTL_ASSIGN, line); // Token: '<<='
+                        return token(SHIFTL_ASSIGN); // Token: '<<='
                     } else {
-                        return new TokenInfo(SHIFTL, line); // Token: '<<'
+                        return token(SHIFTL); // Token: '<<'
                     }
                 } else {
-                    return new TokenInfo(LT, line); // Token: '<'
+                    return token(LT); // Token: '<'
                 }
             case '\'':
-                buffer = new StringBuffer();
+                buffer.setLength(0);
                 buffer.append('\'');
                 nextCh();
                 if (ch == '\\') {
@@ -350,19 +446,21 @@ class Scanner {
                 if (ch == '\'') {
                     buffer.append('\'');
                     nextCh();
-                    return new TokenInfo(CHAR_LITERAL, buffer.toString(), line);
+                    return literal(CHAR_LITERAL);
                 } else {
                     // Expected a ' ; report error and try to
                     // recover.
-                    reportScannerError(ch
-                            + " found by scanner where closing ' was expected.");
-                    while (ch != '\'' && ch != ';' && ch != '\n') {
+                    reportScannerError(
+                            "%c found by scanner where closing ' was expected.",
+                            ch);
+                    while (ch != '\'' && ch != ';' && ch != '\n'
+                            && ch != EOFCH) {
                         nextCh();
                     }
-                    return new TokenInfo(CHAR_LITERAL, buffer.toString(), line);
+                    return literal(CHAR_LITERAL);
                 }
             case '"':
-                buffer = new StringBuffer();
+                buffer.setLength(0);
                 buffer.append("\"");
                 nextCh();
                 while (ch != '"' && ch != '\n' && ch != EOFCH) {
@@ -383,9 +481,9 @@ class Scanner {
                     nextCh();
                     buffer.append("\"");
                 }
-                return new TokenInfo(STRING_LITERAL, buffer.toString(), line); // Token: 'string'
+                return literal(STRING_LITERAL); // Token: 'string'
             case EOFCH:
-                return new TokenInfo(EOF, line); // Token: 'End of File'
+                return token(EOF); // Token: 'End of File'
             case '.':
             case '0':
                 /**
@@ -408,7 +506,7 @@ class Scanner {
                  * double: 0 . [0-9] [d || D]
                  */
 
-                buffer = new StringBuffer();
+                buffer.setLength(0);
                 boolean hasDecimal = false;
 
                 // if there's leading DOT & next one is digit - parse numbers
@@ -417,7 +515,7 @@ class Scanner {
                     buffer.append('.');
                     nextCh();
                     if (!isDigit(ch)) {
-                        return new TokenInfo(DOT, line);
+                        return token(DOT);
                     }
                     hasDecimal = true;
                 } else {
@@ -429,11 +527,11 @@ class Scanner {
                 if (ch == '.') {
                     buffer.append(ch);
                     nextCh();
-                    return checkDecimalPoint(buffer);
+                    return checkDecimalPoint();
                 } else if (ch == 'e' || ch == 'E'){
                     buffer.append('e');
                     nextCh();
-                    return checkEuler(buffer);
+                    return checkEuler();
                 }
 
                 // check for number systems
@@ -479,9 +577,9 @@ class Scanner {
                     hasDecimal = true;
                 }
                 if(hasDecimal) {
-                    return new TokenInfo(DOUBLE_LITERAL, buffer.toString(), line); // Token: 'DOUBLE_LITERAL'
+                    return literal(DOUBLE_LITERAL); // Token: 'DOUBLE_LITERAL'
                 } else {
-                    return new TokenInfo(INT_LITERAL, buffer.toString(), line); // Token: 'INT_LITERAL'
+                    return literal(INT_LITERAL); // Token: 'INT_LITERAL'
                 }
 
             case '1':
@@ -493,7 +591,7 @@ class Scanner {
             case '7':
             case '8':
             case '9':
-                buffer = new StringBuffer();
+                buffer.setLength(0);
                 while (isDigit(ch)) {
                     buffer.append(ch);
                     nextCh();
@@ -513,11 +611,11 @@ class Scanner {
                     hasDecimal = true;
                     buffer.append(ch);
                     nextCh();
-                    return checkDecimalPoint(buffer);
+                    return checkDecimalPoint();
                 } else if (ch == 'e' || ch == 'E') {
                     buffer.append('e');
                     nextCh();
-                    return checkEuler(buffer);
+                    return checkEuler();
                 }
 
                 // check for literal type declarations
@@ -526,32 +624,96 @@ class Scanner {
                     hasDecimal = true;
                 }
                 if(hasDecimal) {
-                    return new TokenInfo(DOUBLE_LITERAL, buffer.toString(), line); // Token: 'DOUBLE_LITERAL'
+                    return literal(DOUBLE_LITERAL); // Token: 'DOUBLE_LITERAL'
                 } else {
-                    return new TokenInfo(INT_LITERAL, buffer.toString(), line); // Token: 'INT_LITERAL'
+                    return literal(INT_LITERAL); // Token: 'INT_LITERAL'
                 }
 
             default:
                 if (isIdentifierStart(ch)) {
-                    buffer = new StringBuffer();
+                    int hash = 0;
                     while (isIdentifierPart(ch)) {
-                        buffer.append(ch);
+                        hash = 31 * hash + ch;
                         nextCh();
                     }
-                    String identifier = buffer.toString();
-                    if (reserved.containsKey(identifier)) {
-                        return new TokenInfo(reserved.get(identifier), line);
+                    TokenKind kind = keyword(hash, start, pos - start);
+                    if (kind != null) {
+                        return token(kind);
                     } else {
-                        return new TokenInfo(IDENTIFIER, identifier, line);
+                        return tokens.add(IDENTIFIER, start, pos, line,
+                                symbols.intern(chars, start, pos - start,
+                                        hash));
                     }
                 } else {
                     reportScannerError("Unidentified input token: '%c'", ch);
                     nextCh();
-                    return getNextToken();
+                    return scan();
                 }
         }
     }
 
+    /**
+     * Returns the keyword having the specified characters of the source, or
+     * null if they are not a keyword. Works on the characters directly: one
+     * probe of the keyword table, at the perfect hash of the characters.
+     * 
+     * @param hash
+     *             the hash of the characters, as computed by
+     *             {@code String.hashCode}.
+     * @param offset
+     *             index of the first character.
+     * @param count
+     *             number of characters.
+     * @return the keyword or null.
+     */
+
+    private TokenKind keyword(int hash, int offset, int count) {
+        TokenKind kind = KEYWORDS[hash * KEYWORD_MULTIPLIER >>> KEYWORD_SHIFT];
+        if (kind == null || kind.image().length() != count) {
+            return null;
+        }
+        String image = kind.image();
+        for (int i = 0; i < count; i++) {
+            if (image.charAt(i) != chars[offset + i]) {
+                return null;
+            }
+        }
+        return kind;
+    }
+
+    /**
+     * Appends a token of the specified kind, ending at the current character,
+     * to the tokens.
+     * 
+     * @param kind
+     *             kind of the token.
+     * @return the index of the token.
+     */
+
+    private int token(TokenKind kind) {
+        return tokens.add(kind, start, pos, line, null);
+    }
+
+    /**
+     * Appends a literal of the specified kind, ending at the current character
+     * and having the image in the buffer, to the tokens. The image is only
+     * kept when it differs from the text of the literal, which is most often
+     * not the case.
+     * 
+     * @param kind
+     *             kind of the literal.
+     * @return the index of the token.
+     */
+
+    private int literal(TokenKind kind) {
+        boolean same = buffer.length() == pos - start;
+        for (int i = 0; same && i < buffer.length(); i++) {
+            same = buffer.charAt(i) == chars[start + i];
+        }
+        return tokens.add(kind, start, pos, line, same ? null : symbols
+                .intern(buffer.toString()));
+    }
+
     /**
      * Scans and returns an escaped character.
      * 
@@ -592,17 +754,15 @@ class Scanner {
     }
 
     /**
-     * Advances ch to the next character from input, and updates the line
-     * number.
+     * Advances ch to the next character from input. The line number is only
+     * looked up, in the line table of the input, at the start of a token.
      */
 
     private void nextCh() {
-        line = input.line();
-        try {
-            ch = input.nextChar();
-        } catch (Exception e) {
-            reportScannerError("Unable to read characters from input");
+        if (pos < limit) {
+            pos++;
         }
+        ch = pos < limit ? chars[pos] : EOFCH;
     }
 
     /**
@@ -618,9 +778,15 @@ class Scanner {
 
     private void reportScannerError(String message, Object... args) {
         isInError = true;
-        System.err.printf("%s:%d: ", fileName, line);
-        System.err.printf(message, args);
-        System.err.println();
+        // At the end of file, the error is on the line of the last character
+        // read, rather than on the line after the last one
+        int line = input.line(pos == limit && pos > 0 ? pos - 1 : pos);
+        if (diagnostics != null) {
+            diagnostics.add(new Diagnostic(fileName, line, String.format(
+                    message, args)));
+        } else {
+            Session.report(fileName, line, message, args);
+        }
     }
 
     /**
@@ -724,7 +890,7 @@ class Scanner {
         return fileName;
     }
 
-    private TokenInfo checkDecimalPoint(StringBuffer buffer) {
+    private int checkDecimalPoint() {
         // '0.' can be [0-9]
         while (isDigit(ch)) {
             buffer.append(ch);
@@ -740,7 +906,7 @@ class Scanner {
          * euler declaration [e || E]
          */
         if (ch == 'e' || ch == 'E') {
-            return checkEuler(buffer);
+            return checkEuler();
         }
 
         // The default is double
@@ -748,10 +914,10 @@ class Scanner {
             nextCh();
         }
         
-        return new TokenInfo(DOUBLE_LITERAL, buffer.toString(), line); // Token: 'DOUBLE_LITERAL'
+        return literal(DOUBLE_LITERAL); // Token: 'DOUBLE_LITERAL'
     }
 
-    private TokenInfo checkEuler(StringBuffer buffer) {
+    private int checkEuler() {
         /**
          * An exponent of base 10 is declared by:
          * 'e' || 'E' followed by
@@ -777,14 +943,17 @@ class Scanner {
             nextCh();
         }
 
-        return new TokenInfo(DOUBLE_LITERAL, buffer.toString(), line); // Token: 'DOUBLE_LITERAL'
+        return literal(DOUBLE_LITERAL); // Token: 'DOUBLE_LITERAL'
     }
 }
 
 /**
- * A buffered character reader. Abstracts out differences between platforms,
- * mapping all new lines to '\n'. Also, keeps track of line numbers where the
- * first line is numbered 1.
+ * The characters of a source file, read (and decoded, with an explicit
+ * encoding) in one go into an array which the {@link Scanner} walks by index.
+ * Abstracts out differences between platforms, mapping all new lines ("\r\n"
+ * and "\r") to '\n'. Also, records where each line starts, so that the line
+ * of any character can be found without counting lines as the characters are
+ * scanned; the first line is numbered 1.
  */
 
 class CharReader {
@@ -792,68 +961,292 @@ class CharReader {
     /** A representation of the end of file as a character. */
     public final static char EOFCH = (char) -1;
 
-    /** The underlying reader records line numbers. */
-    private LineNumberReader lineNumberReader;
+    /** The encoding of source files. */
+    public final static Charset ENCODING = Charset.forName("UTF-8");
+
+    /** The characters, new lines mapped to '\n'. */
+    private char[] chars;
+
+    /** Number of characters. */
+    private int length;
+
+    /** Index of the first character of each line. */
+    private int[] lineStarts;
+
+    /** Number of lines. */
+    private int lines;
 
     /** Name of the file that is being read. */
     private String fileName;
 
     /**
-     * Constructs a CharReader from a file name.
+     * Constructs a CharReader from a file name, reading the file in the
+     * default encoding.
      * 
      * @param fileName
      *                 the name of the input file.
      * @exception FileNotFoundException
-     *                                  if the file is not found.
+     *                                  if the file is not found, or cannot be
+     *                                  read.
      */
 
     public CharReader(String fileName) throws FileNotFoundException {
-        lineNumberReader = new LineNumberReader(new FileReader(fileName));
+        this(fileName, ENCODING);
+    }
+
+    /**
+     * Constructs a CharReader from a file name, reading the file in the
+     * specified encoding.
+     * 
+     * @param fileName
+     *                 the name of the input file.
+     * @param encoding
+     *                 the encoding of the file.
+     * @exception FileNotFoundException
+     *                                  if the file is not found, or cannot be
+     *                                  read.
+     */
+
+    public CharReader(String fileName, Charset encoding)
+            throws FileNotFoundException {
+        this(fileName, read(Session.file(fileName), encoding));
+    }
+
+    /**
+     * Constructs a CharReader from the specified file (resolved already),
+     * reading it in the default encoding.
+     * 
+     * @param fileName
+     *                 the name the file is reported as.
+     * @param file
+     *                 the file.
+     * @exception FileNotFoundException
+     *                                  if the file is not found, or cannot be
+     *                                  read.
+     */
+
+    CharReader(String fileName, File file) throws FileNotFoundException {
+        this(fileName, read(file, ENCODING));
+    }
+
+    /**
+     * Constructs a CharReader from characters held in memory.
+     * 
+     * @param fileName
+     *                 the name the input is reported as.
+     * @param source
+     *                 the input.
+     */
+
+    public CharReader(String fileName, CharSequence source) {
         this.fileName = fileName;
+        chars = new char[source.length()];
+        lineStarts = new int[16];
+        lines = 1;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\r') {
+                if (i + 1 < source.length() && source.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                c = '\n';
+            }
+            chars[length++] = c;
+            if (c == '\n') {
+                if (lines == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, 2 * lines);
+                }
+                lineStarts[lines++] = length;
+            }
+        }
+        if (length > 0 && chars[length - 1] != '\n') {
+            // The end of file ends the last line
+            if (lines == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, lines + 1);
+            }
+            lineStarts[lines++] = length;
+        }
     }
 
     /**
-     * Scans the next character.
+     * Returns the contents of the specified file, decoded with the specified
+     * encoding.
      * 
-     * @return the character scanned.
-     * @exception IOException
-     *                        if an I/O error occurs.
+     * @param file
+     *                 the file.
+     * @param encoding
+     *                 the encoding.
+     * @return the characters of the file.
+     * @exception FileNotFoundException
+     *                                  if the file is not found, or cannot be
+     *                                  read.
      */
 
-    public char nextChar() throws IOException {
-        return (char) lineNumberReader.read();
+    private static CharBuffer read(File file, Charset encoding)
+            throws FileNotFoundException {
+        try {
+            return encoding.decode(ByteBuffer.wrap(Files.readAllBytes(file
+                    .toPath())));
+        } catch (IOException e) {
+            throw new FileNotFoundException(file + " (" + e + ")");
+        }
     }
 
     /**
-     * Returns the current line number in the source file, starting at 1.
+     * Returns the characters, new lines mapped to '\n'; only the first
+     * {@link #length()} of them are.
      * 
-     * @return the current line number.
+     * @return the characters.
      */
 
-    public int line() {
-        // LineNumberReader counts lines from 0.
-        return lineNumberReader.getLineNumber() + 1;
+    public char[] chars() {
+        return chars;
     }
 
     /**
-     * Returns the file name.
+     * Returns the number of characters.
      * 
-     * @return the file name.
+     * @return the number of characters.
      */
 
-    public String fileName() {
-        return fileName;
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of the line the character at the specified index is
+     * on, starting at 1. The end of file (at index {@link #length()}) is on the
+     * line after the last one.
+     * 
+     * @param index
+     *              index of the character.
+     * @return the line number.
+     */
+
+    public int line(int index) {
+        int low = 0;
+        int high = lines - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lineStarts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low + 1;
+    }
+
+    /**
+     * Replaces the specified range of the characters with the specified text
+     * (its new lines mapped to '\n'), and updates the line table to match; the
+     * characters following the range are moved, and the lines starting after
+     * it renumbered. The change to the number of lines is returned (that of
+     * the end of file included).
+     *
+     * @param offset
+     *                 index of the first character replaced.
+     * @param removed
+     *                 number of characters replaced.
+     * @param inserted
+     *                 the text replacing them.
+     * @return the number of lines added (removed, if negative).
+     */
+
+    public int edit(int offset, int removed, CharSequence inserted) {
+        // Map the new lines of the text
+        char[] text = new char[inserted.length()];
+        int count = 0;
+        for (int i = 0; i < inserted.length(); i++) {
+            char c = inserted.charAt(i);
+            if (c == '\r') {
+                if (i + 1 < inserted.length() && inserted.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                c = '\n';
+            }
+            text[count++] = c;
+        }
+        int delta = count - removed;
+        int oldLines = lines;
+        if (length > 0 && chars[length - 1] != '\n') {
+            // Drop the end of file entry
+            lines--;
+        }
+
+        // Splice the characters
+        if (length + delta > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(length + delta,
+                    2 * chars.length));
+        }
+        System.arraycopy(chars, offset + removed, chars, offset + count,
+                length - offset - removed);
+        System.arraycopy(text, 0, chars, offset, count);
+
+        // Splice the line table: the lines starting in (offset, offset +
+        // removed] are replaced by those the text starts
+        int first = lines(offset);
+        int last = lines(offset + removed);
+        int added = 0;
+        for (int i = 0; i < count; i++) {
+            if (text[i] == '\n') {
+                added++;
+            }
+        }
+        int lineDelta = added - (last - first);
+        if (lines + lineDelta + 1 > lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, Math.max(lines + lineDelta
+                    + 1, 2 * lineStarts.length));
+        }
+        System.arraycopy(lineStarts, last, lineStarts, last + lineDelta, lines
+                - last);
+        for (int i = last + lineDelta; i < lines + lineDelta; i++) {
+            lineStarts[i] += delta;
+        }
+        for (int i = 0, j = first; i < count; i++) {
+            if (text[i] == '\n') {
+                lineStarts[j++] = offset + i + 1;
+            }
+        }
+        lines += lineDelta;
+        length += delta;
+        if (length > 0 && chars[length - 1] != '\n') {
+            lineStarts[lines++] = length;
+        }
+        return lines - oldLines;
+    }
+
+    /**
+     * Returns the number of lines starting at or before the specified index
+     * (the first line aside).
+     *
+     * @param index
+     *              the index.
+     * @return the number of lines.
+     */
+
+    private int lines(int index) {
+        int low = 1;
+        int high = lines;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lineStarts[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
-     * Closes the file.
+     * Returns the file name.
      * 
-     * @exception IOException
-     *                        if an I/O error occurs.
+     * @return the file name.
      */
 
-    public void close() throws IOException {
-        lineNumberReader.close();
+    public String fileName() {
+        return fileName;
     }
 
 }
@@ -0,0 +1,318 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+/**
+ * The symbol table behind the {@link Context}s of a compilation unit: one
+ * map, from each name to the stack of its bindings (innermost first), for all
+ * of the unit's contexts, in place of a map per context searched context by
+ * context. A name is thus looked up with one probe, however deeply the
+ * context it is looked up from is nested.
+ * <p>
+ * The table holds the bindings of the open contexts: a path of contexts from
+ * the compilation unit context down, each of which is given a mark in a trail
+ * of the bindings made; leaving a context unlinks the bindings made since its
+ * mark. As the contexts stay on the AST after they are analyzed, one may be
+ * looked up from (or declared in) when it is no longer open; the table is
+ * then brought to it, leaving the open contexts that are not among its
+ * surrounding ones, and opening (with the bindings recorded in each) the
+ * ones that are not open yet. During analysis, which visits the contexts in
+ * the order they are nested, this amounts to pushing a context when it is
+ * constructed, and popping it when its surrounding one is used again.
+ * <p>
+ * The map is open-addressed, and doubles when half full. As names often
+ * differ in their last characters only (i, j, v1, v2, ...), their hashes,
+ * which are then close to one another, are scrambled before probing, so they
+ * do not fill runs of adjacent slots. The names are interned in the session's
+ * {@link SymbolTable}, so a name looked up is mostly found by identity. A
+ * name, once in the map, stays there, bound or not.
+ */
+
+class ScopeTable {
+
+    /**
+     * The binding of a name to its definition in a context.
+     */
+
+    static class Binding {
+
+        /** The name. */
+        String name;
+
+        /** Its definition. */
+        IDefn definition;
+
+        /** Depth of the context the name is declared in. */
+        int depth;
+
+        /** The binding this one shadows, while open; null if none. */
+        Binding shadowed;
+
+        /**
+         * Constructs a Binding.
+         *
+         * @param name
+         *            the name.
+         * @param definition
+         *            its definition.
+         * @param depth
+         *            depth of the context the name is declared in.
+         */
+
+        Binding(String name, IDefn definition, int depth) {
+            this.name = name;
+            this.definition = definition;
+            this.depth = depth;
+        }
+
+    }
+
+    /** The names; null where a slot is free. */
+    private String[] names;
+
+    /** The innermost open binding of each name; null if none. */
+    private Binding[] bindings;
+
+    /** Number of names. */
+    private int size;
+
+    /** 32 less the log (base 2) of the number of slots. */
+    private int shift;
+
+    /** The open contexts, the compilation unit context first. */
+    private Context[] contexts;
+
+    /** Mark in the trail of each open context. */
+    private int[] marks;
+
+    /** Number of open contexts. */
+    private int open;
+
+    /** The bindings of the open contexts, in the order they were made. */
+    private Binding[] trail;
+
+    /** Number of bindings in the trail. */
+    private int made;
+
+    /**
+     * Constructs an empty ScopeTable.
+     */
+
+    public ScopeTable() {
+        names = new String[64];
+        bindings = new Binding[64];
+        size = 0;
+        shift = 32 - 6;
+        contexts = new Context[16];
+        marks = new int[16];
+        open = 0;
+        trail = new Binding[64];
+        made = 0;
+    }
+
+    /**
+     * Returns the definition of the specified name in the specified context
+     * or one of its surrounding contexts, the innermost one.
+     *
+     * @param context
+     *            the context.
+     * @param name
+     *            the name.
+     * @return the definition; null, if not found.
+     */
+
+    public IDefn lookup(Context context, String name) {
+        if (!isOpen(context)) {
+            enter(context);
+        }
+        int i = slot(name);
+        Binding binding = names[i] == null ? null : bindings[i];
+        while (binding != null && binding.depth > context.depth) {
+            binding = binding.shadowed;
+        }
+        return binding == null ? null : binding.definition;
+    }
+
+    /**
+     * Binds the specified name to the specified definition in the specified
+     * context, and returns the binding, unless the name is declared in the
+     * context already.
+     *
+     * @param context
+     *            the context.
+     * @param name
+     *            the name.
+     * @param definition
+     *            its definition.
+     * @return the binding; null, if the name is declared in the context
+     *         already.
+     */
+
+    public Binding declare(Context context, String name, IDefn definition) {
+        enter(context);
+        int i = slot(name);
+        if (names[i] != null && bindings[i] != null
+                && bindings[i].depth == context.depth) {
+            return null;
+        }
+        Binding binding = new Binding(name, definition, context.depth);
+        link(binding);
+        return binding;
+    }
+
+    /**
+     * Makes the specified context the innermost open one: leaves the open
+     * contexts not surrounding it, and opens it (and its surrounding
+     * contexts), if it is not open.
+     *
+     * @param context
+     *            the context.
+     */
+
+    public void enter(Context context) {
+        if (isOpen(context)) {
+            leave(context.depth + 1);
+            return;
+        }
+        if (context.surroundingContext == null) {
+            leave(0);
+        } else {
+            enter(context.surroundingContext);
+        }
+        if (open == contexts.length) {
+            Context[] oldContexts = contexts;
+            contexts = new Context[2 * open];
+            System.arraycopy(oldContexts, 0, contexts, 0, open);
+            int[] oldMarks = marks;
+            marks = new int[2 * open];
+            System.arraycopy(oldMarks, 0, marks, 0, open);
+        }
+        contexts[open] = context;
+        marks[open] = made;
+        open++;
+        if (context.bindings != null) {
+            for (Binding binding : context.bindings) {
+                link(binding);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the specified context is open; false otherwise.
+     *
+     * @param context
+     *            the context.
+     * @return true or false.
+     */
+
+    private boolean isOpen(Context context) {
+        return context.depth < open && contexts[context.depth] == context;
+    }
+
+    /**
+     * Leaves the open contexts from the specified depth in, unlinking their
+     * bindings.
+     *
+     * @param depth
+     *            the depth.
+     */
+
+    private void leave(int depth) {
+        while (open > depth) {
+            open--;
+            while (made > marks[open]) {
+                Binding binding = trail[--made];
+                trail[made] = null;
+                bindings[slot(binding.name)] = binding.shadowed;
+                binding.shadowed = null;
+            }
+            contexts[open] = null;
+        }
+    }
+
+    /**
+     * Makes the specified binding the innermost one of its name, recording it
+     * in the trail.
+     *
+     * @param binding
+     *            the binding.
+     */
+
+    private void link(Binding binding) {
+        int i = slot(binding.name);
+        if (names[i] == null) {
+            names[i] = binding.name;
+            bindings[i] = binding;
+            if (++size * 2 > names.length) {
+                grow();
+            }
+        } else {
+            binding.shadowed = bindings[i];
+            bindings[i] = binding;
+        }
+        if (made == trail.length) {
+            Binding[] old = trail;
+            trail = new Binding[2 * made];
+            System.arraycopy(old, 0, trail, 0, made);
+        }
+        trail[made++] = binding;
+    }
+
+    /**
+     * Returns the slot of the specified name: the one it is in, or the free
+     * one it would go in.
+     *
+     * @param name
+     *            the name.
+     * @return the slot.
+     */
+
+    private int slot(String name) {
+        int mask = names.length - 1;
+        int i = index(name);
+        for (String s = names[i]; s != null; s = names[i]) {
+            if (s == name || s.equals(name)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the slot the specified name hashes to: the top bits of its hash
+     * multiplied by (2 to the 32) divided by the golden ratio.
+     *
+     * @param name
+     *            the name.
+     * @return the slot.
+     */
+
+    private int index(String name) {
+        return (name.hashCode() * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Doubles the map, rehashing the names.
+     */
+
+    private void grow() {
+        String[] oldNames = names;
+        Binding[] oldBindings = bindings;
+        names = new String[2 * oldNames.length];
+        bindings = new Binding[names.length];
+        shift--;
+        int mask = names.length - 1;
+        for (int j = 0; j < oldNames.length; j++) {
+            if (oldNames[j] != null) {
+                int i = index(oldNames[j]);
+                while (names[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                names[i] = oldNames[j];
+                bindings[i] = oldBindings[j];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,509 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A compilation session: the state shared by the compilation units that are
+ * compiled together. A session owns the table of the types declared by its
+ * units (over that of the library classes), and the (fork-join) pool of
+ * threads on which its units are compiled.
+ * <p>
+ * Each thread working on a session knows it as its current session, so that
+ * two sessions may run side by side in one JVM without seeing each other's
+ * classes and types. A thread that has not entered a session is given a fresh,
+ * sequential one on first use.
+ * <p>
+ * The units of a session are independent of each other in all phases except
+ * the pre-analysis of their types (a type can only be pre-analyzed once its
+ * super class has been), so the driver runs each of the other phases across
+ * the units with {@link #forEach(int, Task)}. Whatever a task prints to
+ * {@link #out()} and {@link #err()} is buffered and printed, when all the
+ * tasks are done, in the order of the units; so the output of a parallel
+ * compilation is the same as that of a sequential one.
+ */
+
+class Session {
+
+    /** The session entered by each thread. */
+    private static ThreadLocal<Session> current = new ThreadLocal<Session>();
+
+    /** Where each thread prints its output; STDOUT if not set. */
+    private static ThreadLocal<PrintStream> out = 
+        new ThreadLocal<PrintStream>();
+
+    /** Where each thread prints its diagnostics; STDERR if not set. */
+    private static ThreadLocal<PrintStream> err = 
+        new ThreadLocal<PrintStream>();
+
+    /**
+     * Directory against which each thread resolves relative file names; the
+     * working directory if not set.
+     */
+    private static ThreadLocal<File> directory = new ThreadLocal<File>();
+
+    /** Maximum number of units compiled in parallel. */
+    private int parallelism;
+
+    /** Pool of threads compiling the units; null if sequential. */
+    private ForkJoinPool pool;
+
+    /** Types compiled by an earlier session. */
+    private ArrayList<Type> compiledTypes;
+
+    /** The images of identifiers and literals scanned in this session. */
+    private SymbolTable symbols;
+
+    /**
+     * The types declared in this session, over the library classes the units
+     * may refer to; null until asked for, if not given.
+     */
+    private CLSymbolTable classSymbols;
+
+    /** Statistics gathered by this session; null if none are. */
+    private Stats stats;
+
+    /** Errors reported in this session; null if they are not kept. */
+    private ArrayList<Diagnostic> diagnostics;
+
+    /**
+     * A task to run for each of a number of units.
+     */
+
+    interface Task {
+
+        /**
+         * Runs the task for the specified unit.
+         *
+         * @param i
+         *            index of the unit.
+         */
+
+        public void run(int i);
+
+    }
+
+    /**
+     * Constructs a session compiling up to the specified number of units in
+     * parallel.
+     *
+     * @param parallelism
+     *            maximum number of units compiled in parallel; 1 for a
+     *            sequential session.
+     */
+
+    public Session(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        if (this.parallelism > 1) {
+            pool = new ForkJoinPool(this.parallelism);
+        }
+        compiledTypes = new ArrayList<Type>();
+        symbols = new SymbolTable();
+    }
+
+    /**
+     * Returns the session entered by the current thread, entering a new
+     * sequential session if there is none.
+     *
+     * @return the current session.
+     */
+
+    public static Session current() {
+        Session session = current.get();
+        if (session == null) {
+            session = new Session(1);
+            current.set(session);
+        }
+        return session;
+    }
+
+    /**
+     * Returns the stream to which the current thread prints its output.
+     *
+     * @return the output stream.
+     */
+
+    public static PrintStream out() {
+        PrintStream stream = out.get();
+        return stream == null ? System.out : stream;
+    }
+
+    /**
+     * Returns the stream to which the current thread prints its diagnostics.
+     *
+     * @return the diagnostics stream.
+     */
+
+    public static PrintStream err() {
+        PrintStream stream = err.get();
+        return stream == null ? System.err : stream;
+    }
+
+    /**
+     * Sets the streams to which the current thread prints its output and its
+     * diagnostics; {@code null} for STDOUT and STDERR.
+     *
+     * @param output
+     *            the output stream.
+     * @param diagnostics
+     *            the diagnostics stream.
+     */
+
+    public static void streams(PrintStream output, PrintStream diagnostics) {
+        out.set(output);
+        err.set(diagnostics);
+    }
+
+    /**
+     * Sets the directory against which the current thread resolves relative
+     * file names; {@code null} for the working directory.
+     *
+     * @param dir
+     *            the directory.
+     */
+
+    public static void directory(File dir) {
+        directory.set(dir);
+    }
+
+    /**
+     * Returns the file having the specified name, resolved against the
+     * directory of the current thread. All of the files read and written by the
+     * compiler are named through this method.
+     *
+     * @param name
+     *            name of the file.
+     * @return the file.
+     */
+
+    public static File file(String name) {
+        File file = new File(name);
+        File dir = directory.get();
+        return dir == null || file.isAbsolute() ? file : new File(dir, name);
+    }
+
+    /**
+     * Makes this the current session of the current thread.
+     */
+
+    public void enter() {
+        current.set(this);
+    }
+
+    /**
+     * Leaves this session, releasing its threads, the current thread's hold
+     * on its compilation units, and the zip and jar files its classes were
+     * read from.
+     */
+
+    public void exit() {
+        if (current.get() == this) {
+            current.remove();
+        }
+        JAST.compilationUnit(null);
+        if (pool != null) {
+            pool.shutdown();
+        }
+        synchronized (this) {
+            if (classSymbols != null) {
+                classSymbols.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of units compiled in parallel.
+     *
+     * @return the parallelism of this session.
+     */
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Makes this session gather statistics in the specified Stats;
+     * {@code null} for none.
+     *
+     * @param stats
+     *            the statistics.
+     */
+
+    public void stats(Stats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Returns the statistics gathered by this session, or {@code null} if none
+     * are.
+     *
+     * @return the statistics.
+     */
+
+    public Stats stats() {
+        return stats;
+    }
+
+    /**
+     * Makes this session keep the errors reported in it, besides printing
+     * them.
+     */
+
+    public synchronized void keepDiagnostics() {
+        if (diagnostics == null) {
+            diagnostics = new ArrayList<Diagnostic>();
+        }
+    }
+
+    /**
+     * Returns the errors reported in this session, in the order they were
+     * reported, or {@code null} if they are not kept.
+     * 
+     * @return the errors.
+     */
+
+    public synchronized ArrayList<Diagnostic> diagnostics() {
+        return diagnostics == null ? null : new ArrayList<Diagnostic>(
+                diagnostics);
+    }
+
+    /**
+     * Reports an error in the current session: prints it to {@link #err()}
+     * (prefixed with the source file and line, if there is a file), and keeps
+     * it if the session keeps its errors.
+     * 
+     * @param file
+     *            name of the source file; null if none.
+     * @param line
+     *            line in the source file.
+     * @param message
+     *            message identifying the error.
+     * @param args
+     *            related values.
+     */
+
+    public static void report(String file, int line, String message,
+            Object... args) {
+        report(new Diagnostic(file, file == null ? 0 : line, String.format(
+                message, args)));
+    }
+
+    /**
+     * Reports the specified error (collected earlier) in the current session:
+     * prints it to {@link #err()}, and keeps it if the session keeps its
+     * errors.
+     * 
+     * @param diagnostic
+     *            the error.
+     */
+
+    public static void report(Diagnostic diagnostic) {
+        err().println(diagnostic);
+        Session session = current();
+        synchronized (session) {
+            if (session.diagnostics != null) {
+                session.diagnostics.add(diagnostic);
+            }
+        }
+    }
+
+    /**
+     * Adds a type compiled by an earlier session, given its headers (as
+     * recorded by pre-analysis), to this session. Compiled types are declared
+     * to the units of this session like the types declared by the units
+     * themselves, so that the units declaring them need not be compiled
+     * again.
+     *
+     * @param symbol
+     *            the headers of the type, made in the table of this session.
+     */
+
+    public synchronized void addCompiledType(CLSymbol symbol) {
+        classSymbols().declare(symbol);
+        compiledTypes.add(symbol.type());
+    }
+
+    /**
+     * Returns the types compiled by an earlier session.
+     *
+     * @return the compiled types.
+     */
+
+    public synchronized ArrayList<Type> compiledTypes() {
+        return compiledTypes;
+    }
+
+    /**
+     * Returns the table interning the images of the identifiers and literals
+     * scanned in this session.
+     *
+     * @return the symbol table.
+     */
+
+    public SymbolTable symbols() {
+        return symbols;
+    }
+
+    /**
+     * Sets the table of the library classes that the units of this session
+     * may refer to. Any type declared in the session before is forgotten.
+     *
+     * @param classSymbols
+     *            the table of library classes.
+     */
+
+    public synchronized void classSymbols(CLSymbolTable classSymbols) {
+        this.classSymbols = new CLSymbolTable(classSymbols);
+    }
+
+    /**
+     * Returns the table of the types declared in this session, over that of
+     * the library classes that its units may refer to: by default, those on
+     * the class path of this JVM and its system classes.
+     *
+     * @return the table of classes.
+     */
+
+    public synchronized CLSymbolTable classSymbols() {
+        if (classSymbols == null) {
+            classSymbols = new CLSymbolTable(CLSymbolTable.forPath(null,
+                    null));
+        }
+        return classSymbols;
+    }
+
+    /**
+     * Runs the specified task on the current thread, with this as its current
+     * session and with the specified streams, and restores the session,
+     * streams and compilation unit of the thread when it is done.
+     *
+     * @param task
+     *            the task.
+     * @param output
+     *            the output stream; {@code null} for STDOUT.
+     * @param diagnostics
+     *            the diagnostics stream; {@code null} for STDERR.
+     */
+
+    public void run(Runnable task, PrintStream output,
+            PrintStream diagnostics) {
+        Session session = current.get();
+        PrintStream oldOutput = out.get();
+        PrintStream oldDiagnostics = err.get();
+        JCompilationUnit unit = JAST.compilationUnit();
+        current.set(this);
+        streams(output, diagnostics);
+        try {
+            task.run();
+        } finally {
+            current.set(session);
+            streams(oldOutput, oldDiagnostics);
+            JAST.compilationUnit(unit);
+        }
+    }
+
+    /**
+     * Starts the specified task on a thread of this session's pool, with this
+     * as its current session, and with the streams and directory of the
+     * calling thread; and returns at once. Only a parallel session has a pool.
+     *
+     * @param task
+     *            the task.
+     * @exception IllegalStateException
+     *                if this session is sequential.
+     */
+
+    public void execute(final Runnable task) {
+        if (pool == null) {
+            throw new IllegalStateException("Sequential session");
+        }
+        final PrintStream output = out();
+        final PrintStream diagnostics = err();
+        final File dir = directory.get();
+        pool.execute(new Runnable() {
+            public void run() {
+                current.set(Session.this);
+                streams(output, diagnostics);
+                directory(dir);
+                try {
+                    task.run();
+                } finally {
+                    current.remove();
+                    streams(null, null);
+                    directory(null);
+                    JAST.compilationUnit(null);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs the specified task for units 0 to count - 1, in parallel if this
+     * session allows it, and returns when all of them are done. Each task runs
+     * with this as its current session, and with the streams and directory of
+     * the calling thread.
+     *
+     * @param count
+     *            number of units.
+     * @param task
+     *            the task to run for each unit.
+     */
+
+    public void forEach(int count, final Task task) {
+        if (pool == null || count < 2) {
+            for (int i = 0; i < count; i++) {
+                task.run(i);
+            }
+            return;
+        }
+        final PrintStream output = out();
+        final PrintStream diagnostics = err();
+        final File dir = directory.get();
+        final ByteArrayOutputStream[] outputs = 
+            new ByteArrayOutputStream[count];
+        final ByteArrayOutputStream[] errors = 
+            new ByteArrayOutputStream[count];
+        ArrayList<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+        for (int i = 0; i < count; i++) {
+            final int unit = i;
+            outputs[i] = new ByteArrayOutputStream();
+            errors[i] = new ByteArrayOutputStream();
+            tasks.add(pool.submit(new Runnable() {
+                public void run() {
+                    current.set(Session.this);
+                    streams(new PrintStream(outputs[unit], true),
+                            new PrintStream(errors[unit], true));
+                    directory(dir);
+                    try {
+                        task.run(unit);
+                    } finally {
+                        current.remove();
+                        streams(null, null);
+                        directory(null);
+                        JAST.compilationUnit(null);
+                    }
+                }
+            }));
+        }
+        try {
+            for (ForkJoinTask<?> t : tasks) {
+                t.join();
+            }
+        } finally {
+            for (int i = 0; i < count; i++) {
+                output.write(outputs[i].toByteArray(), 0, outputs[i].size());
+                diagnostics.write(errors[i].toByteArray(), 0, errors[i].size());
+            }
+            output.flush();
+            diagnostics.flush();
+        }
+    }
+
+}
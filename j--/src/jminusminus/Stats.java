@@ -0,0 +1,446 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.PrintStream;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Statistics gathered by a compilation session when asked for (-Xstats): for
+ * each source file and each phase of the compiler, the wall time, the CPU time,
+ * and the number of bytes allocated by the thread running the phase (as told
+ * by the platform's {@link ThreadMXBean}); and, for each source file, counts of
+ * the things the compiler worked through, from tokens to register allocation
+ * intervals.
+ * <p>
+ * A phase is measured from a call to {@link #start(String, Phase)} to the
+ * matching call to {@link #stop()}, on the thread doing the work; a phase
+ * started within another one (writing a class file within code generation, for
+ * example) is charged to itself only, so the figures of the phases add up.
+ * Counts are added with {@link #count(Counter, long)} and charged to the
+ * source file of the phase under way. When the current session does not
+ * gather statistics, these methods do nothing.
+ */
+
+class Stats {
+
+    /**
+     * The phases of the compiler.
+     */
+
+    enum Phase {
+        PARSE("parse"), PRE_ANALYZE("preAnalyze"), ANALYZE("analyze"),
+        CODEGEN("codegen"), WRITE("write"), SPIM("spim");
+
+        /** Name of the phase. */
+        private String name;
+
+        /**
+         * Constructs a Phase.
+         *
+         * @param name
+         *            name of the phase.
+         */
+
+        private Phase(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the phase.
+         *
+         * @return the name.
+         */
+
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * The things counted.
+     */
+
+    enum Counter {
+        TOKENS("tokens"), AST_NODES("astNodes"),
+        CONSTANT_POOL_ENTRIES("constantPoolEntries"),
+        BYTECODE_BYTES("bytecodeBytes"), CFG_BLOCKS("cfgBlocks"),
+        INTERVALS("intervals");
+
+        /** Name of the counter. */
+        private String name;
+
+        /**
+         * Constructs a Counter.
+         *
+         * @param name
+         *            name of the counter.
+         */
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the counter.
+         *
+         * @return the name.
+         */
+
+        public String toString() {
+            return name;
+        }
+    }
+
+    /** Index of the wall time in a measurement. */
+    private static final int WALL = 0;
+
+    /** Index of the CPU time in a measurement. */
+    private static final int CPU = 1;
+
+    /** Index of the allocated bytes in a measurement. */
+    private static final int ALLOCATED = 2;
+
+    /** The platform's thread bean. */
+    private static final ThreadMXBean bean = ManagementFactory
+            .getThreadMXBean();
+
+    /** The phase under way on each thread. */
+    private static ThreadLocal<Frame> current = new ThreadLocal<Frame>();
+
+    /**
+     * Maps source file names to their measurements (wall time and CPU time in
+     * nanoseconds, and allocated bytes), indexed by phase.
+     */
+    private LinkedHashMap<String, long[][]> measurements;
+
+    /** Maps source file names to their counts, indexed by counter. */
+    private LinkedHashMap<String, long[]> counts;
+
+    /**
+     * A phase under way on a thread.
+     */
+
+    private static class Frame {
+
+        /** The statistics the phase is charged to. */
+        Stats stats;
+
+        /** The source file. */
+        String file;
+
+        /** The phase. */
+        Phase phase;
+
+        /** The phase this one was started within; null if none. */
+        Frame outer;
+
+        /** Wall time, CPU time and allocated bytes when last resumed. */
+        long[] start = new long[3];
+
+        /** Counts not yet charged. */
+        long[] counts = new long[Counter.values().length];
+
+    }
+
+    /**
+     * Constructs an empty Stats.
+     */
+
+    public Stats() {
+        measurements = new LinkedHashMap<String, long[][]>();
+        counts = new LinkedHashMap<String, long[]>();
+    }
+
+    /**
+     * Starts measuring the specified phase for the specified source file, on
+     * the current thread, pausing the phase under way if there is one.
+     *
+     * @param file
+     *            name of the source file.
+     * @param phase
+     *            the phase.
+     */
+
+    public static void start(String file, Phase phase) {
+        Stats stats = Session.current().stats();
+        if (stats == null) {
+            return;
+        }
+        Frame frame = new Frame();
+        frame.stats = stats;
+        frame.file = file;
+        frame.phase = phase;
+        frame.outer = current.get();
+        if (frame.outer != null) {
+            frame.outer.stats.charge(frame.outer);
+        }
+        sample(frame.start);
+        current.set(frame);
+    }
+
+    /**
+     * Stops measuring the phase under way on the current thread, resuming the
+     * phase it was started within.
+     */
+
+    public static void stop() {
+        Frame frame = current.get();
+        if (frame == null) {
+            return;
+        }
+        frame.stats.charge(frame);
+        if (frame.outer == null) {
+            current.remove();
+        } else {
+            sample(frame.outer.start);
+            current.set(frame.outer);
+        }
+    }
+
+    /**
+     * Adds the specified amount to the specified counter of the source file of
+     * the phase under way on the current thread.
+     *
+     * @param counter
+     *            the counter.
+     * @param amount
+     *            the amount.
+     */
+
+    public static void count(Counter counter, long amount) {
+        Frame frame = current.get();
+        if (frame != null) {
+            frame.counts[counter.ordinal()] += amount;
+        }
+    }
+
+    /**
+     * Charges what the specified frame measured since it was last resumed,
+     * and its counts, to its source file and phase.
+     *
+     * @param frame
+     *            the frame.
+     */
+
+    private synchronized void charge(Frame frame) {
+        long[] now = new long[3];
+        sample(now);
+        long[][] measurement = measurements.get(frame.file);
+        long[] count = counts.get(frame.file);
+        if (measurement == null) {
+            measurement = new long[Phase.values().length][3];
+            measurements.put(frame.file, measurement);
+            count = new long[Counter.values().length];
+            counts.put(frame.file, count);
+        }
+        for (int i = 0; i < 3; i++) {
+            measurement[frame.phase.ordinal()][i] += now[i] - frame.start[i];
+        }
+        for (int i = 0; i < count.length; i++) {
+            count[i] += frame.counts[i];
+            frame.counts[i] = 0;
+        }
+    }
+
+    /**
+     * Stores the wall time, the CPU time and the bytes allocated so far by the
+     * current thread in the specified array. The CPU time and the allocated
+     * bytes are 0 if the platform does not measure them.
+     *
+     * @param sample
+     *            where to store them.
+     */
+
+    private static void sample(long[] sample) {
+        sample[WALL] = System.nanoTime();
+        sample[CPU] = bean.isCurrentThreadCpuTimeSupported() ? bean
+                .getCurrentThreadCpuTime() : 0;
+        sample[ALLOCATED] = 0;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            long allocated = ((com.sun.management.ThreadMXBean) bean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+            sample[ALLOCATED] = Math.max(0, allocated);
+        }
+    }
+
+    /**
+     * Returns the totals, over all source files, of the measurements of the
+     * specified phase: the wall time and the CPU time in nanoseconds, and the
+     * allocated bytes.
+     *
+     * @param phase
+     *            the phase.
+     * @return the totals.
+     */
+
+    public synchronized long[] total(Phase phase) {
+        long[] total = new long[3];
+        for (long[][] measurement : measurements.values()) {
+            for (int i = 0; i < 3; i++) {
+                total[i] += measurement[phase.ordinal()][i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Prints the statistics, one line per source file and phase followed by
+     * the totals, and then one line of counts per source file followed by the
+     * totals.
+     *
+     * @param out
+     *            where to print.
+     */
+
+    public synchronized void print(PrintStream out) {
+        long[][] total = new long[Phase.values().length][3];
+        long[] totalCounts = new long[Counter.values().length];
+        out.printf("%-40s %-10s %12s %12s %14s\n", "file", "phase",
+                "wall (ms)", "cpu (ms)", "allocated (KB)");
+        for (String file : measurements.keySet()) {
+            long[][] measurement = measurements.get(file);
+            for (Phase phase : Phase.values()) {
+                long[] m = measurement[phase.ordinal()];
+                if (m[WALL] == 0) {
+                    continue;
+                }
+                printMeasurement(out, file, phase.toString(), m);
+                for (int i = 0; i < 3; i++) {
+                    total[phase.ordinal()][i] += m[i];
+                }
+            }
+        }
+        long[] all = new long[3];
+        for (Phase phase : Phase.values()) {
+            long[] m = total[phase.ordinal()];
+            if (m[WALL] == 0) {
+                continue;
+            }
+            printMeasurement(out, "total", phase.toString(), m);
+            for (int i = 0; i < 3; i++) {
+                all[i] += m[i];
+            }
+        }
+        printMeasurement(out, "total", "all", all);
+        out.println();
+
+        out.printf("%-40s", "file");
+        for (Counter counter : Counter.values()) {
+            out.printf(" %20s", counter);
+        }
+        out.println();
+        for (String file : counts.keySet()) {
+            printCounts(out, file, counts.get(file));
+            for (int i = 0; i < totalCounts.length; i++) {
+                totalCounts[i] += counts.get(file)[i];
+            }
+        }
+        printCounts(out, "total", totalCounts);
+    }
+
+    /**
+     * Prints the statistics as a JSON object: an array of source files, each
+     * with its measurements by phase and its counts.
+     *
+     * @param out
+     *            where to print.
+     */
+
+    public synchronized void printJson(PrintStream out) {
+        out.println("{");
+        out.println("  \"files\": [");
+        int f = 0;
+        for (String file : measurements.keySet()) {
+            long[][] measurement = measurements.get(file);
+            out.println("    {");
+            out.printf("      \"file\": \"%s\",\n", escape(file));
+            out.println("      \"phases\": {");
+            int p = 0;
+            for (Phase phase : Phase.values()) {
+                long[] m = measurement[phase.ordinal()];
+                out.printf("        \"%s\": {\"wallNanos\": %d, "
+                        + "\"cpuNanos\": %d, \"allocatedBytes\": %d}%s\n",
+                        phase, m[WALL], m[CPU], m[ALLOCATED],
+                        ++p < Phase.values().length ? "," : "");
+            }
+            out.println("      },");
+            out.println("      \"counts\": {");
+            long[] count = counts.get(file);
+            for (Counter counter : Counter.values()) {
+                out.printf("        \"%s\": %d%s\n", counter, count[counter
+                        .ordinal()], counter.ordinal() + 1 < count.length ? ","
+                        : "");
+            }
+            out.println("      }");
+            out.printf("    }%s\n", ++f < measurements.size() ? "," : "");
+        }
+        out.println("  ]");
+        out.println("}");
+    }
+
+    /**
+     * Prints one line of measurements.
+     *
+     * @param out
+     *            where to print.
+     * @param file
+     *            name of the source file.
+     * @param phase
+     *            name of the phase.
+     * @param m
+     *            the measurement.
+     */
+
+    private static void printMeasurement(PrintStream out, String file,
+            String phase, long[] m) {
+        out.printf("%-40s %-10s %12.3f %12.3f %14d\n", file, phase,
+                m[WALL] / 1e6, m[CPU] / 1e6, m[ALLOCATED] / 1024);
+    }
+
+    /**
+     * Prints one line of counts.
+     *
+     * @param out
+     *            where to print.
+     * @param file
+     *            name of the source file.
+     * @param count
+     *            the counts.
+     */
+
+    private static void printCounts(PrintStream out, String file, long[] count) {
+        out.printf("%-40s", file);
+        for (long c : count) {
+            out.printf(" %20d", c);
+        }
+        out.println();
+    }
+
+    /**
+     * Returns the specified string escaped for a JSON string literal.
+     *
+     * @param s
+     *            the string.
+     * @return the escaped string.
+     */
+
+    private static String escape(String s) {
+        StringBuffer escaped = new StringBuffer();
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < ' ') {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+}
@@ -0,0 +1,220 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+/**
+ * A table interning the images of identifiers and literals: it hands out one
+ * (canonical) String per distinct image, and finds the String for a range of
+ * characters of the source without building a new one, when the image was seen
+ * before. The hash of each String is computed once, when it is interned.
+ * <p>
+ * Each {@link Session} has a table shared by all of its units, so that a name
+ * is the same String wherever it occurs in the session, and maps keyed by
+ * names compare them by identity (which {@code String.equals} tries first).
+ * As the shared table is used by the threads of a parallel session, it is
+ * synchronized; each {@link Scanner} has a local table in front of it, so a
+ * scanner only takes the lock the first time it sees an image.
+ * <p>
+ * A table is an open-addressed hash table, which doubles when half full.
+ */
+
+class SymbolTable {
+
+    /** The interned images; null where a slot is free. */
+    private String[] table;
+
+    /** Number of images interned. */
+    private int size;
+
+    /** The table this one is in front of; null if this is a shared one. */
+    private SymbolTable shared;
+
+    /**
+     * Constructs an empty, shared, SymbolTable.
+     */
+
+    public SymbolTable() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty SymbolTable in front of the specified shared one:
+     * an image not found here is interned there.
+     *
+     * @param shared
+     *            the shared table.
+     */
+
+    public SymbolTable(SymbolTable shared) {
+        table = new String[256];
+        size = 0;
+        this.shared = shared;
+    }
+
+    /**
+     * Returns the interned String having the specified characters, interning
+     * one if there is none yet.
+     *
+     * @param chars
+     *            the characters.
+     * @param offset
+     *            index of the first character.
+     * @param count
+     *            number of characters.
+     * @return the interned String.
+     */
+
+    public String intern(char[] chars, int offset, int count) {
+        int hash = 0;
+        for (int i = 0; i < count; i++) {
+            hash = 31 * hash + chars[offset + i];
+        }
+        return intern(chars, offset, count, hash);
+    }
+
+    /**
+     * Returns the interned String having the specified characters, whose hash
+     * (as computed by {@code String.hashCode}) is known, interning one if
+     * there is none yet.
+     *
+     * @param chars
+     *            the characters.
+     * @param offset
+     *            index of the first character.
+     * @param count
+     *            number of characters.
+     * @param hash
+     *            the hash of the characters.
+     * @return the interned String.
+     */
+
+    public String intern(char[] chars, int offset, int count, int hash) {
+        if (shared == null) {
+            synchronized (this) {
+                return find(chars, offset, count, hash, null);
+            }
+        }
+        return find(chars, offset, count, hash, null);
+    }
+
+    /**
+     * Returns the interned String equal to the specified one, interning it if
+     * there is none yet.
+     *
+     * @param s
+     *            the String.
+     * @return the interned String.
+     */
+
+    public String intern(String s) {
+        if (shared == null) {
+            synchronized (this) {
+                return find(null, 0, s.length(), s.hashCode(), s);
+            }
+        }
+        return find(null, 0, s.length(), s.hashCode(), s);
+    }
+
+    /**
+     * Returns the number of images interned.
+     *
+     * @return the number of images.
+     */
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the interned String having the specified characters, or equal to
+     * the specified String (if chars is null), interning one if there is none
+     * yet: the one of the shared table, if this table is in front of one.
+     *
+     * @param chars
+     *            the characters; null to look for the String.
+     * @param offset
+     *            index of the first character.
+     * @param count
+     *            number of characters.
+     * @param hash
+     *            the hash of the characters, or of the String.
+     * @param string
+     *            the String, if chars is null.
+     * @return the interned String.
+     */
+
+    private String find(char[] chars, int offset, int count, int hash,
+            String string) {
+        int mask = table.length - 1;
+        int i = hash & mask;
+        for (String s = table[i]; s != null; s = table[i]) {
+            if (s.hashCode() == hash
+                    && (chars == null ? s.equals(string) : matches(s, chars,
+                            offset, count))) {
+                return s;
+            }
+            i = (i + 1) & mask;
+        }
+        String s;
+        if (shared != null) {
+            s = chars == null ? shared.intern(string) : shared.intern(chars,
+                    offset, count, hash);
+        } else {
+            s = chars == null ? string : new String(chars, offset, count);
+            s.hashCode();
+        }
+        table[i] = s;
+        if (++size * 2 > table.length) {
+            grow();
+        }
+        return s;
+    }
+
+    /**
+     * Returns true if the specified String has the specified characters;
+     * false otherwise.
+     *
+     * @param s
+     *            the String.
+     * @param chars
+     *            the characters.
+     * @param offset
+     *            index of the first character.
+     * @param count
+     *            number of characters.
+     * @return true or false.
+     */
+
+    private static boolean matches(String s, char[] chars, int offset,
+            int count) {
+        if (s.length() != count) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (s.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Doubles the table, rehashing the images interned.
+     */
+
+    private void grow() {
+        String[] old = table;
+        table = new String[2 * old.length];
+        int mask = table.length - 1;
+        for (String s : old) {
+            if (s != null) {
+                int i = s.hashCode() & mask;
+                while (table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = s;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,350 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.Arrays;
+
+/**
+ * The tokens scanned from a source file, held in parallel arrays rather than
+ * as one {@link TokenInfo} per token: for the i-th token, the ordinal of its
+ * kind, the offsets (in the characters of the source) of its first character
+ * and of the character following it, and its line. Tokens are addressed by
+ * their index, the first token being at index 0.
+ * <p>
+ * The image of a token of a fixed kind (a reserved word, an operator or a
+ * separator) is the image of its kind. The image of an identifier or a literal
+ * is its text in the source, built (and interned) only when it is first asked
+ * for; unless the scanner has recorded a different image for the token, for
+ * example a literal having an escape or a type suffix.
+ * <p>
+ * Tokens may be replaced, after an edit to the source (see
+ * {@link IncrementalParser}). The shift of the offsets and lines of the tokens
+ * following an edit is only recorded, and applied to a token when it is
+ * read; when the next edit comes, the shift is applied for good to the tokens
+ * between the two, so that the cost of an edit is proportional to its
+ * distance from the previous one, rather than to the number of tokens
+ * following it.
+ */
+
+class TokenStream {
+
+    /** The token kinds, by ordinal. */
+    private static final TokenKind[] KINDS = TokenKind.values();
+
+    /** The characters of the source. */
+    private char[] chars;
+
+    /** Where the images of identifiers and literals are interned. */
+    private SymbolTable symbols;
+
+    /** Number of tokens. */
+    private int size;
+
+    /** Ordinals of the kinds of the tokens. */
+    private int[] kinds;
+
+    /** Offsets of the first characters of the tokens. */
+    private int[] starts;
+
+    /** Offsets of the characters following the tokens. */
+    private int[] ends;
+
+    /** Lines of the tokens. */
+    private int[] lines;
+
+    /** Images of the tokens; null where not built yet. */
+    private String[] images;
+
+    /** Index of the first token the shift below is to be applied to. */
+    private int shifted;
+
+    /**
+     * The shift of the offsets and of the lines of the tokens from index
+     * shifted on.
+     */
+    private int charShift, lineShift;
+
+    /**
+     * Constructs an empty TokenStream over the specified characters.
+     *
+     * @param chars
+     *            the characters of the source.
+     * @param symbols
+     *            where the images of identifiers and literals are interned.
+     */
+
+    public TokenStream(char[] chars, SymbolTable symbols) {
+        this(chars, symbols, Math.max(16, chars.length / 4));
+    }
+
+    /**
+     * Constructs an empty TokenStream over the specified characters, with
+     * room for the specified number of tokens.
+     *
+     * @param chars
+     *            the characters of the source.
+     * @param symbols
+     *            where the images of identifiers and literals are interned.
+     * @param capacity
+     *            the number of tokens there is room for.
+     */
+
+    public TokenStream(char[] chars, SymbolTable symbols, int capacity) {
+        this.chars = chars;
+        this.symbols = symbols;
+        kinds = new int[capacity];
+        starts = new int[capacity];
+        ends = new int[capacity];
+        lines = new int[capacity];
+        images = new String[capacity];
+    }
+
+    /**
+     * Appends a token to the stream, and returns its index.
+     *
+     * @param kind
+     *            the token's kind.
+     * @param start
+     *            offset of its first character.
+     * @param end
+     *            offset of the character following it.
+     * @param line
+     *            its line.
+     * @param image
+     *            its image; null if it is the image of its kind, or its text.
+     * @return the index of the token.
+     */
+
+    public int add(TokenKind kind, int start, int end, int line, String image) {
+        if (charShift != 0 || lineShift != 0) {
+            shift(shifted, size, charShift, lineShift);
+            charShift = lineShift = 0;
+        }
+        if (size == kinds.length) {
+            grow(2 * size);
+        }
+        kinds[size] = kind.ordinal();
+        starts[size] = start;
+        ends[size] = end;
+        lines[size] = line;
+        images[size] = image;
+        return size++;
+    }
+
+    /**
+     * Replaces the specified range of tokens with the first tokens of the
+     * specified stream, scanned from the source after an edit to it: the
+     * tokens following the range are moved, and their offsets and lines
+     * shifted by the change to the number of characters and lines of the
+     * source preceding them.
+     *
+     * @param from
+     *            index of the first token replaced.
+     * @param to
+     *            index of the token following the last one replaced.
+     * @param with
+     *            the tokens replacing them.
+     * @param count
+     *            number of tokens of with replacing them.
+     * @param charDelta
+     *            the change to the offsets of the following tokens.
+     * @param lineDelta
+     *            the change to the lines of the following tokens.
+     * @param chars
+     *            the characters of the edited source.
+     */
+
+    public void replace(int from, int to, TokenStream with, int count,
+            int charDelta, int lineDelta, char[] chars) {
+        int delta = count - (to - from);
+        if (size + delta > kinds.length) {
+            grow(Math.max(size + delta, 2 * kinds.length));
+        }
+
+        // The tokens following the replaced ones are to be shifted; those
+        // between them and the ones already to be shifted are shifted now
+        if (charShift == 0 && lineShift == 0) {
+            shifted = from + count;
+        } else if (shifted <= to) {
+            shift(shifted, from, charShift, lineShift);
+            shifted = from + count;
+        } else {
+            shift(to, shifted, charDelta, lineDelta);
+            shifted += delta;
+        }
+        charShift += charDelta;
+        lineShift += lineDelta;
+
+        if (delta != 0) {
+            int tail = size - to;
+            System.arraycopy(kinds, to, kinds, to + delta, tail);
+            System.arraycopy(starts, to, starts, to + delta, tail);
+            System.arraycopy(ends, to, ends, to + delta, tail);
+            System.arraycopy(lines, to, lines, to + delta, tail);
+            System.arraycopy(images, to, images, to + delta, tail);
+        }
+        System.arraycopy(with.kinds, 0, kinds, from, count);
+        System.arraycopy(with.starts, 0, starts, from, count);
+        System.arraycopy(with.ends, 0, ends, from, count);
+        System.arraycopy(with.lines, 0, lines, from, count);
+        System.arraycopy(with.images, 0, images, from, count);
+        size += delta;
+        this.chars = chars;
+    }
+
+    /**
+     * Shifts the offsets and the lines of the specified range of tokens.
+     *
+     * @param from
+     *            index of the first token.
+     * @param to
+     *            index of the token following the last one.
+     * @param charDelta
+     *            the shift of the offsets.
+     * @param lineDelta
+     *            the shift of the lines.
+     */
+
+    private void shift(int from, int to, int charDelta, int lineDelta) {
+        for (int i = from; i < to; i++) {
+            starts[i] += charDelta;
+            ends[i] += charDelta;
+            lines[i] += lineDelta;
+        }
+    }
+
+    /**
+     * Returns the index of the first token ending at or after the specified
+     * offset; the number of tokens if there is none.
+     *
+     * @param offset
+     *            the offset.
+     * @return the index of the token.
+     */
+
+    public int endingAfter(int offset) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (end(mid) < offset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of tokens.
+     *
+     * @return the number of tokens.
+     */
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kind of the specified token.
+     *
+     * @param i
+     *            index of the token.
+     * @return its kind.
+     */
+
+    public TokenKind kind(int i) {
+        return KINDS[kinds[i]];
+    }
+
+    /**
+     * Returns the offset of the first character of the specified token.
+     *
+     * @param i
+     *            index of the token.
+     * @return the offset.
+     */
+
+    public int start(int i) {
+        return i < shifted ? starts[i] : starts[i] + charShift;
+    }
+
+    /**
+     * Returns the offset of the character following the specified token.
+     *
+     * @param i
+     *            index of the token.
+     * @return the offset.
+     */
+
+    public int end(int i) {
+        return i < shifted ? ends[i] : ends[i] + charShift;
+    }
+
+    /**
+     * Returns the line of the specified token.
+     *
+     * @param i
+     *            index of the token.
+     * @return the line.
+     */
+
+    public int line(int i) {
+        return i < shifted ? lines[i] : lines[i] + lineShift;
+    }
+
+    /**
+     * Returns the image of the specified token.
+     *
+     * @param i
+     *            index of the token.
+     * @return the image.
+     */
+
+    public String image(int i) {
+        if (images[i] != null) {
+            return images[i];
+        }
+        TokenKind kind = KINDS[kinds[i]];
+        switch (kind) {
+        case IDENTIFIER:
+        case INT_LITERAL:
+        case DOUBLE_LITERAL:
+        case CHAR_LITERAL:
+        case STRING_LITERAL:
+            images[i] = symbols.intern(chars, start(i), end(i) - start(i));
+            return images[i];
+        default:
+            return kind.image();
+        }
+    }
+
+    /**
+     * Makes room for the specified number of tokens.
+     *
+     * @param capacity
+     *            the number of tokens.
+     */
+
+    private void grow(int capacity) {
+        kinds = Arrays.copyOf(kinds, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        images = Arrays.copyOf(images, capacity);
+    }
+
+    /**
+     * Returns the specified token as a TokenInfo.
+     *
+     * @param i
+     *            index of the token.
+     * @return the token.
+     */
+
+    public TokenInfo token(int i) {
+        return new TokenInfo(kind(i), image(i), line(i));
+    }
+
+}
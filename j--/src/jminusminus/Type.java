@@ -2,19 +2,27 @@
 
 package jminusminus;
 
-import java.lang.reflect.Array;
 import java.lang.reflect.Modifier;
 
 import java.util.Arrays;
 import java.util.ArrayList;
-import java.util.Hashtable;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * For representing j-- types. All types are represented underneath (in the
+ * For representing j-- types. Types are represented underneath (in the
  * classRep field) by Java objects of type {@code Class}. These objects
  * represent types in Java, so this should ease our interfacing with existing
  * Java classes.
  * <p>
+ * The library classes that a compilation refers to are not loaded, though:
+ * they are represented by their class files (in the symbol field; see
+ * {@link CLSymbolTable}), and the arrays of them by their component types.
+ * The types declared by a compilation session are represented in the same way,
+ * by the headers gathered from their declarations in pre-analysis (see
+ * {@link CLSymbol}). Only the primitive types and the library types built in to
+ * the compiler (such as {@link #STRING}) are represented by classes.
+ * <p>
  * Class types (reference types that are represented by the identifiers
  * introduced in class declarations) are represented using {@link TypeName}. So
  * for now, every TypeName represents a class. In the future, TypeName could be
@@ -33,9 +41,54 @@ class Type {
     private Class<?> classRep;
 
     /**
-     * Maps type names to their Type representations.
+     * The library class this type stands for, read from its class file (or
+     * the type declared by a session); null if the type is represented by a
+     * class, or is an array type.
+     */
+    private CLSymbol symbol;
+
+    /**
+     * The component type of an array type; null if the type is not an array
+     * type, or is represented by a class.
+     */
+    private Type component;
+
+    /** The type of the arrays of this type; null until asked for. */
+    private Type arrayType;
+
+    /**
+     * The members declared by the library class (or session type) this type
+     * stands for; null until one is looked up.
      */
-    private static Hashtable<String, Type> types = new Hashtable<String, Type>();
+    private MemberIndex members;
+
+    /** The descriptor of this type; null until asked for. */
+    private String descriptor;
+
+    /**
+     * Maps the classes representing types to the types: the primitive types,
+     * the library types built in to the compiler, and the classes that were
+     * not found as class files. Classes are compared by identity, and looked
+     * up without locking.
+     */
+    private static final ConcurrentHashMap<Class<?>, Type> classTypes =
+        new ConcurrentHashMap<Class<?>, Type>();
+
+    /** Maps the internal names of the built-in library types to the types. */
+    private static final ConcurrentHashMap<String, Type> builtIns =
+        new ConcurrentHashMap<String, Type>();
+
+    /**
+     * The members declared by each class, indexed when one is first looked up
+     * in it or in a subclass. The index is kept with the class, so it goes
+     * with it once the class is unloaded.
+     */
+    private static final ClassValue<MemberIndex> memberIndexes =
+        new ClassValue<MemberIndex>() {
+            protected MemberIndex computeValue(Class<?> classRep) {
+                return new MemberIndex(classRep);
+            }
+        };
 
     /**
      * The primitive type, int.
@@ -55,7 +108,7 @@ class Type {
     /**
      * java.lang.Iterable
      */
-    public final static Type ITERABLE = typeFor(Iterable.class);
+    public final static Type ITERABLE = builtIn(Iterable.class);
 
     /**
      * The primitive type, boolean.
@@ -65,35 +118,35 @@ class Type {
     /**
      * java.lang.Integer.
      */
-    public final static Type BOXED_INT = typeFor(java.lang.Integer.class);
+    public final static Type BOXED_INT = builtIn(java.lang.Integer.class);
 
     /**
      * java.lang.Double.
      */
-    public final static Type BOXED_DOUBLE = typeFor(java.lang.Double.class);
+    public final static Type BOXED_DOUBLE = builtIn(java.lang.Double.class);
 
     /**
      * java.lang.Character.
      */
-    public final static Type BOXED_CHAR = typeFor(java.lang.Character.class);
+    public final static Type BOXED_CHAR = builtIn(java.lang.Character.class);
 
     /**
      * java.lang.Boolean.
      */
-    public final static Type BOXED_BOOLEAN = typeFor(java.lang.Boolean.class);
+    public final static Type BOXED_BOOLEAN = builtIn(java.lang.Boolean.class);
 
     /**
      * The type java.lang.String.
      */
-    public static Type STRING = typeFor(java.lang.String.class);
+    public static Type STRING = builtIn(java.lang.String.class);
 
     /**
      * The type java.lang.Object.
      */
-    public static Type OBJECT = typeFor(java.lang.Object.class);
+    public static Type OBJECT = builtIn(java.lang.Object.class);
 
 
-    public static Type THROWABLE = typeFor(java.lang.Throwable.class);
+    public static Type THROWABLE = builtIn(java.lang.Throwable.class);
 
     /**
      * The void type.
@@ -135,19 +188,101 @@ class Type {
         super();
     }
 
+    /**
+     * Constructs the Type representation of a library type built in to the
+     * compiler, from its (Java) Class representation.
+     *
+     * @param classRep the Java representation.
+     * @return the Type representation of this classRep.
+     */
+
+    private static Type builtIn(Class<?> classRep) {
+        Type type = new Type(classRep);
+        classTypes.put(classRep, type);
+        builtIns.put(type.jvmName(), type);
+        return type;
+    }
+
+    /**
+     * Constructs the Type representation of a library class from its class
+     * file, or of a type declared by a session from its headers. Use
+     * {@link CLSymbol#type()} -- that makes one Type for each CLSymbol.
+     *
+     * @param symbol the class.
+     * @return the Type representation of the class.
+     */
+
+    static Type symbolType(CLSymbol symbol) {
+        Type type = new Type();
+        type.symbol = symbol;
+        return type;
+    }
+
     /**
      * Constructs a Type representation for a type from its (Java) Class
      * representation. Make sure there is a unique Type for each unique type.
+     * A library class that is not built in to the compiler is represented by
+     * its class file, if the current session finds it (so it is the same Type
+     * for the session only); an array class, by its component type.
      *
      * @param classRep the Java representation.
      * @return the Type representation of this classRep.
      */
 
     public static Type typeFor(Class<?> classRep) {
-        if (types.get(descriptorFor(classRep)) == null) {
-            types.put(descriptorFor(classRep), new Type(classRep));
+        if (classRep.isArray()) {
+            return typeFor(classRep.getComponentType()).arrayType();
+        }
+        Type type = classTypes.get(classRep);
+        if (type == null && !classRep.isPrimitive()) {
+            type = typeFor(Session.current().classSymbols(), classRep
+                    .getName().replace('.', '/'));
+        }
+        if (type == null) {
+            type = new Type(classRep);
+            Type known = classTypes.putIfAbsent(classRep, type);
+            type = known == null ? type : known;
+        }
+        return type;
+    }
+
+    /**
+     * Returns the Type representation of the library class (or session type)
+     * having the specified internal name, found in the specified table; the
+     * library types built in to the compiler stand for themselves. A session
+     * type found is recorded as a dependency of the unit being compiled.
+     *
+     * @param table the table of classes.
+     * @param name  the internal name -- java/util/ArrayList for example.
+     * @return the Type representation, or {@code null} if there is no such
+     * class.
+     */
+
+    static Type typeFor(CLSymbolTable table, String name) {
+        Type type = builtIns.get(name);
+        if (type == null) {
+            CLSymbol symbol = table.symbol(name);
+            type = symbol == null ? null : symbol.type();
+            JCompilationUnit unit = JAST.compilationUnit();
+            if (type != null && symbol.isDeclared() && unit != null) {
+                unit.addDependency(type);
+            }
+        }
+        return type;
+    }
+
+    /**
+     * Returns the type of the arrays of this type.
+     *
+     * @return the array type.
+     */
+
+    public synchronized Type arrayType() {
+        if (arrayType == null) {
+            arrayType = new Type();
+            arrayType.component = this;
         }
-        return types.get(descriptorFor(classRep));
+        return arrayType;
     }
 
     /**
@@ -162,15 +297,26 @@ class Type {
     }
 
     /**
-     * This setter is used by {@link JCompilationUnit#preAnalyze()} to set this
-     * {@code classRep} to the specified partial class, computed during
-     * pre-analysis.
+     * Returns the headers of the library class (or session type) this type
+     * stands for.
      *
-     * @param classRep the partial class.
+     * @return the class, or {@code null} if this type is represented by a
+     * class, or is an array type.
      */
 
-    public void setClassRep(Class<?> classRep) {
-        this.classRep = classRep;
+    public CLSymbol symbol() {
+        return symbol;
+    }
+
+    /**
+     * Is this a type declared by a compilation session (by one of its units,
+     * or by an earlier session whose types it was given)?
+     *
+     * @return true or false.
+     */
+
+    public boolean isSessionType() {
+        return symbol != null && symbol.isDeclared();
     }
 
     /**
@@ -192,17 +338,19 @@ class Type {
      */
 
     public boolean isArray() {
-        return classRep.isArray();
+        return component != null || classRep != null && classRep.isArray();
     }
 
     /**
-     * An array type's component type. Meaningful only for array types.
+     * An array type's component type; ANY for any other type.
      *
      * @return the component type.
      */
 
     public Type componentType() {
-        return typeFor(classRep.getComponentType());
+        return component != null ? component : classRep != null
+                && classRep.isArray() ? typeFor(classRep.getComponentType())
+                : Type.ANY;
     }
 
     /**
@@ -213,10 +361,42 @@ class Type {
      */
 
     public Type superClass() {
+        if (component != null) {
+            return OBJECT;
+        }
+        if (symbol != null) {
+            return symbol.superName() == null || isInterface() ? null
+                    : typeFor(symbol.table(), symbol.superName());
+        }
         return classRep == null || classRep.getSuperclass() == null ? null
                 : typeFor(classRep.getSuperclass());
     }
 
+    /**
+     * Returns the interfaces this type implements directly (or, if it is an
+     * interface, extends). Meaningful only to class and interface
+     * {@code Types}.
+     *
+     * @return the interfaces.
+     */
+
+    public ArrayList<Type> interfaces() {
+        ArrayList<Type> interfaces = new ArrayList<Type>();
+        if (symbol != null) {
+            for (String name : symbol.interfaceNames()) {
+                Type type = typeFor(symbol.table(), name);
+                if (type != null) {
+                    interfaces.add(type);
+                }
+            }
+        } else if (component == null && classRep != null) {
+            for (Class<?> anInterface : classRep.getInterfaces()) {
+                interfaces.add(typeFor(anInterface));
+            }
+        }
+        return interfaces;
+    }
+
     /**
      * Is this a primitive type?
      *
@@ -224,7 +404,8 @@ class Type {
      */
 
     public boolean isPrimitive() {
-        return classRep.isPrimitive();
+        return component == null && symbol == null && classRep != null
+                && classRep.isPrimitive();
     }
 
     /**
@@ -234,7 +415,7 @@ class Type {
      */
 
     public boolean isInterface() {
-        return classRep.isInterface();
+        return Modifier.isInterface(modifiers());
     }
 
     /**
@@ -254,7 +435,7 @@ class Type {
      */
 
     public boolean isFinal() {
-        return Modifier.isFinal(classRep.getModifiers());
+        return Modifier.isFinal(modifiers());
     }
 
     /**
@@ -264,7 +445,26 @@ class Type {
      */
 
     public boolean isAbstract() {
-        return Modifier.isAbstract(classRep.getModifiers());
+        return Modifier.isAbstract(modifiers());
+    }
+
+    /**
+     * Returns the modifiers of this type, as encoded by {@link Modifier}
+     * (which encodes them as the access flags of a class file do). An array
+     * type is public (if its component type is), final and abstract; the
+     * "any" type is public, so that no further error is reported on it.
+     *
+     * @return the modifiers.
+     */
+
+    private int modifiers() {
+        if (component != null) {
+            return component.modifiers()
+                    & (Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE)
+                    | Modifier.FINAL | Modifier.ABSTRACT;
+        }
+        return symbol != null ? symbol.accessFlags() : classRep != null
+                ? classRep.getModifiers() : Modifier.PUBLIC;
     }
 
     /**
@@ -276,7 +476,44 @@ class Type {
      */
 
     public boolean isJavaAssignableFrom(Type that) {
-        return this.classRep.isAssignableFrom(that.classRep);
+        if (this.classRep != null && that.classRep != null) {
+            return this.classRep.isAssignableFrom(that.classRep);
+        }
+        if (this.equals(that)) {
+            return true;
+        }
+        if (this.isPrimitive() || that.isPrimitive()) {
+            return false;
+        }
+        String descriptor = toDescriptor();
+        if (that.isArray()) {
+            return this.isArray() ? componentType().isJavaAssignableFrom(
+                    that.componentType())
+                    : descriptor.equals("Ljava/lang/Object;")
+                    || descriptor.equals("Ljava/lang/Cloneable;")
+                    || descriptor.equals("Ljava/io/Serializable;");
+        }
+        if (this.isArray()) {
+            return false;
+        }
+        if (descriptor.equals("Ljava/lang/Object;")) {
+            return true;
+        }
+
+        // Search the super types of that
+        ArrayList<Type> superTypes = new ArrayList<Type>();
+        superTypes.add(that);
+        for (int i = 0; i < superTypes.size(); i++) {
+            Type type = superTypes.get(i);
+            if (type.superClass() != null) {
+                superTypes.add(type.superClass());
+            }
+            superTypes.addAll(type.interfaces());
+            if (i > 0 && type.toDescriptor().equals(descriptor)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -315,9 +552,9 @@ class Type {
 
     private ArrayList<Method> declaredAbstractMethods() {
         ArrayList<Method> declaredAbstractMethods = new ArrayList<Method>();
-        for (java.lang.reflect.Method method : classRep.getDeclaredMethods()) {
-            if (Modifier.isAbstract(method.getModifiers())) {
-                declaredAbstractMethods.add(new Method(method));
+        for (Method method : declaredMethods()) {
+            if (method.isAbstract()) {
+                declaredAbstractMethods.add(method);
             }
         }
         return declaredAbstractMethods;
@@ -331,14 +568,38 @@ class Type {
 
     private ArrayList<Method> declaredConcreteMethods() {
         ArrayList<Method> declaredConcreteMethods = new ArrayList<Method>();
-        for (java.lang.reflect.Method method : classRep.getDeclaredMethods()) {
-            if (!Modifier.isAbstract(method.getModifiers())) {
-                declaredConcreteMethods.add(new Method(method));
+        for (Method method : declaredMethods()) {
+            if (!method.isAbstract()) {
+                declaredConcreteMethods.add(method);
             }
         }
         return declaredConcreteMethods;
     }
 
+    /**
+     * Returns a list of this class' declared methods (not including its
+     * constructors and class initializer).
+     *
+     * @return a list of declared methods.
+     */
+
+    private ArrayList<Method> declaredMethods() {
+        ArrayList<Method> declaredMethods = new ArrayList<Method>();
+        if (symbol != null) {
+            for (CLSymbol.MemberHeader method : symbol.methods()) {
+                if (!method.name.startsWith("<")) {
+                    declaredMethods.add(new Method(symbol, method));
+                }
+            }
+        } else if (component == null) {
+            for (java.lang.reflect.Method method : classRep
+                    .getDeclaredMethods()) {
+                declaredMethods.add(new Method(method));
+            }
+        }
+        return declaredMethods;
+    }
+
     /**
      * An assertion that this type matches one of the specified types. If there
      * is no match, an error message is returned.
@@ -355,7 +616,7 @@ class Type {
                 return;
             }
         }
-        JAST.compilationUnit.reportSemanticError(line,
+        JAST.compilationUnit().reportSemanticError(line,
                 "Type %s doesn't match any of the expected types %s", this,
                 Arrays.toString(expectedTypes));
     }
@@ -370,7 +631,7 @@ class Type {
 
     public void mustMatchExpected(int line, Type expectedType) {
         if (!matchesExpected(expectedType)) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Type %s doesn't match type %s", this, expectedType);
         }
     }
@@ -421,29 +682,48 @@ class Type {
      */
 
     public String simpleName() {
+        if (component != null) {
+            return component.simpleName() + "[]";
+        }
+        if (symbol != null) {
+            String name = symbol.name();
+            name = name.substring(name.lastIndexOf('/') + 1);
+            return name.substring(name.lastIndexOf('$') + 1);
+        }
         return classRep.getSimpleName();
     }
 
     /**
      * A printable (j--) string representation of this type. For example, int[],
-     * java.lang.String.
+     * java.lang.String; "any" for the "any" type.
      *
      * @return the string representation.
      */
 
     public String toString() {
-        return toJava(this.classRep);
+        return component != null ? component.toString() + "[]"
+                : symbol != null ? symbol.name().replace('/', '.')
+                : classRep != null ? toJava(this.classRep) : "any";
     }
 
     /**
      * The JVM descriptor for this type. For example, Ljava/lang/String; for
-     * java.lang.String, [[Z for boolean[][].
+     * java.lang.String, [[Z for boolean[][]. It is computed once, when first
+     * asked for (by whichever thread asks first; they all compute the same
+     * string).
      *
      * @return the descriptor.
      */
 
     public String toDescriptor() {
-        return descriptorFor(classRep);
+        String descriptor = this.descriptor;
+        if (descriptor == null) {
+            descriptor = component != null ? "[" + component.toDescriptor()
+                    : symbol != null ? "L" + symbol.name() + ";"
+                    : descriptorFor(classRep);
+            this.descriptor = descriptor;
+        }
+        return descriptor;
     }
 
     /**
@@ -453,7 +733,7 @@ class Type {
      * @param cls internal representation whose descriptor is required.
      * @return the JVM descriptor.
      */
-    private static String descriptorFor(Class<?> cls) {
+    static String descriptorFor(Class<?> cls) {
         return cls == null ? "V" : cls == void.class ? "V"
                 : cls.isArray() ? "[" + descriptorFor(cls.getComponentType())
                 : cls.isPrimitive() ? (cls == int.class ? "I"
@@ -473,6 +753,7 @@ class Type {
 
     public String jvmName() {
         return this.isArray() || this.isPrimitive() ? this.toDescriptor()
+                : symbol != null ? symbol.name()
                 : classRep.getName().replace('.', '/');
     }
 
@@ -526,23 +807,15 @@ class Type {
      */
 
     public Method methodFor(String name, Type[] argTypes) {
-        Class[] classes = new Class[argTypes.length];
-        for (int i = 0; i < argTypes.length; i++) {
-            classes[i] = argTypes[i].classRep;
-        }
-        Class cls = classRep;
+        String key = MemberIndex.key(name, argTypes);
 
         // Search this class and all superclasses
-        while (cls != null) {
-            java.lang.reflect.Method[] methods = cls.getDeclaredMethods();
-            for (java.lang.reflect.Method method : methods) {
-                if (method.getName().equals(name)
-                        && Type.argTypesMatch(classes, method
-                        .getParameterTypes())) {
-                    return new Method(method);
-                }
+        for (MemberIndex members = memberIndex(); members != null;
+                members = members.superClass()) {
+            Method method = members.method(key);
+            if (method != null) {
+                return method;
             }
-            cls = cls.getSuperclass();
         }
         return null;
     }
@@ -558,20 +831,10 @@ class Type {
      */
 
     public Constructor constructorFor(Type[] argTypes) {
-        Class[] classes = new Class[argTypes.length];
-        for (int i = 0; i < argTypes.length; i++) {
-            classes[i] = argTypes[i].classRep;
-        }
-
         // Search only this class (we don't inherit constructors)
-        java.lang.reflect.Constructor[] constructors = classRep
-                .getDeclaredConstructors();
-        for (java.lang.reflect.Constructor constructor : constructors) {
-            if (argTypesMatch(classes, constructor.getParameterTypes())) {
-                return new Constructor(constructor);
-            }
-        }
-        return null;
+        MemberIndex members = component == null ? memberIndex() : null;
+        return members == null ? null : members.constructor(MemberIndex.key(
+                "<init>", argTypes));
     }
 
     /**
@@ -582,19 +845,38 @@ class Type {
      */
 
     public Field fieldFor(String name) {
-        Class<?> cls = classRep;
-        while (cls != null) {
-            java.lang.reflect.Field[] fields = cls.getDeclaredFields();
-            for (java.lang.reflect.Field field : fields) {
-                if (field.getName().equals(name)) {
-                    return new Field(field);
-                }
+        for (MemberIndex members = memberIndex(); members != null;
+                members = members.superClass()) {
+            Field field = members.field(name);
+            if (field != null) {
+                return field;
             }
-            cls = cls.getSuperclass();
         }
         return null;
     }
 
+    /**
+     * Returns the index of the members declared by this type: for an array
+     * type, those of java.lang.Object, which it inherits.
+     *
+     * @return the index, or {@code null} if this type has no members.
+     */
+
+    private MemberIndex memberIndex() {
+        if (component != null) {
+            return OBJECT.memberIndex();
+        }
+        if (symbol != null) {
+            synchronized (this) {
+                if (members == null) {
+                    members = new MemberIndex(this);
+                }
+                return members;
+            }
+        }
+        return classRep == null ? null : memberIndexes.get(classRep);
+    }
+
     /**
      * Converts an array of argument types to a string representation of a
      * parenthesized list of the types, for example, (int, boolean,
@@ -627,7 +909,8 @@ class Type {
      */
 
     public boolean checkAccess(int line, Member member) {
-        if (!checkAccess(line, classRep, member.declaringType().classRep)) {
+        Type declaringType = member.declaringType();
+        if (!checkAccess(line, this, declaringType)) {
             return false;
         }
 
@@ -635,31 +918,24 @@ class Type {
         if (member.isPublic()) {
             return true;
         }
-        java.lang.Package p1 = classRep.getPackage();
-        java.lang.Package p2 = member.declaringType().classRep.getPackage();
-        if ((p1 == null ? "" : p1.getName()).equals((p2 == null ? "" : p2
-                .getName()))) {
+        if (packageOf().equals(declaringType.packageOf())) {
             return true;
         }
         if (member.isProtected()) {
-            if (classRep.getPackage().getName().equals(
-                    member.declaringType().classRep.getPackage().getName())
-                    || typeFor(member.getClass().getDeclaringClass())
-                    .isJavaAssignableFrom(this)) {
+            if (declaringType.isJavaAssignableFrom(this)) {
                 return true;
             } else {
-                JAST.compilationUnit.reportSemanticError(line,
+                JAST.compilationUnit().reportSemanticError(line,
                         "The protected member, " + member.name()
                                 + ", is not accessible.");
                 return false;
             }
         }
         if (member.isPrivate()) {
-            if (descriptorFor(classRep).equals(
-                    descriptorFor(member.member().getDeclaringClass()))) {
+            if (toDescriptor().equals(declaringType.toDescriptor())) {
                 return true;
             } else {
-                JAST.compilationUnit.reportSemanticError(line,
+                JAST.compilationUnit().reportSemanticError(line,
                         "The private member, " + member.name()
                                 + ", is not accessible.");
                 return false;
@@ -667,10 +943,10 @@ class Type {
         }
 
         // Otherwise, the member has default access
-        if (packageName().equals(member.declaringType().packageName())) {
+        if (packageName().equals(declaringType.packageName())) {
             return true;
         } else {
-            JAST.compilationUnit.reportSemanticError(line, "The member, "
+            JAST.compilationUnit().reportSemanticError(line, "The member, "
                     + member.name()
                     + ", is not accessible because it's in a different "
                     + "package.");
@@ -693,7 +969,7 @@ class Type {
         if (targetType.isArray()) {
             return this.checkAccess(line, targetType.componentType());
         }
-        return checkAccess(line, classRep, targetType.classRep);
+        return checkAccess(line, this, targetType);
     }
 
     /**
@@ -705,22 +981,45 @@ class Type {
      * @return {@code true} if access is valid; {@code false} otherwise.
      */
 
-    public static boolean checkAccess(int line, Class referencingType,
-                                      Class type) {
-        java.lang.Package p1 = referencingType.getPackage();
-        java.lang.Package p2 = type.getPackage();
-        if (Modifier.isPublic(type.getModifiers())
-                || (p1 == null ? "" : p1.getName()).equals((p2 == null ? ""
-                : p2.getName()))) {
+    public static boolean checkAccess(int line, Type referencingType,
+                                      Type type) {
+        if (Modifier.isPublic(type.modifiers())
+                || referencingType.packageOf().equals(type.packageOf())) {
             return true;
         } else {
-            JAST.compilationUnit.reportSemanticError(line, "The type, "
-                    + type.getCanonicalName() + ", is not accessible from "
-                    + referencingType.getCanonicalName());
+            JAST.compilationUnit().reportSemanticError(line, "The type, "
+                    + type.canonicalName() + ", is not accessible from "
+                    + referencingType.canonicalName());
             return false;
         }
     }
 
+    /**
+     * Returns the internal name of the package of this (class) type: for
+     * example, java/lang for java.lang.String; the empty string for the
+     * unnamed package.
+     *
+     * @return the package's internal name.
+     */
+
+    private String packageOf() {
+        String name = jvmName();
+        return name.lastIndexOf('/') == -1 ? "" : name.substring(0, name
+                .lastIndexOf('/'));
+    }
+
+    /**
+     * Returns the canonical name of this (class) type: for example,
+     * java.util.Map.Entry for the member type Entry of java.util.Map.
+     *
+     * @return the canonical name.
+     */
+
+    private String canonicalName() {
+        return classRep != null ? classRep.getCanonicalName() : toString()
+                .replace('$', '.');
+    }
+
     /**
      * Resolves this type in the given context. Notice that this has meaning
      * only for TypeName and ArrayTypeName, where names are replaced by real
@@ -755,6 +1054,190 @@ class Type {
         return signature;
     }
 
+    /**
+     * The members declared by a class, found through reflection (or in the
+     * headers of its class file) once rather than on every lookup. Methods and constructors are keyed by their names
+     * and the descriptors of their parameters, so that a lookup compares one
+     * string; where several share a key, the first one declared is kept, as a
+     * search of the declared members would find it. Inherited members are in
+     * the index of the superclass. An index is not changed once built, so it
+     * may be shared by threads.
+     */
+
+    private static class MemberIndex {
+
+        /** The class; null if the members were read from a class file. */
+        private Class<?> classRep;
+
+        /** The type whose class file the members were read from. */
+        private Type type;
+
+        /** Methods, by name and parameters. */
+        private HashMap<String, Method> methods = new HashMap<String, Method>();
+
+        /** Constructors, by name and parameters. */
+        private HashMap<String, Constructor> constructors =
+            new HashMap<String, Constructor>();
+
+        /** Fields, by name. */
+        private HashMap<String, Field> fields = new HashMap<String, Field>();
+
+        /**
+         * Constructs the MemberIndex of the specified class.
+         *
+         * @param classRep the class.
+         */
+
+        public MemberIndex(Class<?> classRep) {
+            this.classRep = classRep;
+            for (java.lang.reflect.Constructor<?> constructor : classRep
+                    .getDeclaredConstructors()) {
+                String key = key("<init>", constructor.getParameterTypes());
+                if (!constructors.containsKey(key)) {
+                    constructors.put(key, new Constructor(constructor));
+                }
+            }
+            for (java.lang.reflect.Method method : classRep
+                    .getDeclaredMethods()) {
+                String key = key(method.getName(), method.getParameterTypes());
+                if (!methods.containsKey(key)) {
+                    methods.put(key, new Method(method));
+                }
+            }
+            for (java.lang.reflect.Field field : classRep.getDeclaredFields()) {
+                if (!fields.containsKey(field.getName())) {
+                    fields.put(field.getName(), new Field(field));
+                }
+            }
+        }
+
+        /**
+         * Constructs the MemberIndex of the specified type, from the headers
+         * of its class file.
+         *
+         * @param type the type.
+         */
+
+        public MemberIndex(Type type) {
+            this.type = type;
+            for (CLSymbol.MemberHeader member : type.symbol.methods()) {
+                String key = key(member.name, member.descriptor);
+                if (member.name.equals("<init>")) {
+                    if (!constructors.containsKey(key)) {
+                        constructors.put(key, new Constructor(type.symbol,
+                                member));
+                    }
+                } else if (!member.name.equals("<clinit>")
+                        && !methods.containsKey(key)) {
+                    methods.put(key, new Method(type.symbol, member));
+                }
+            }
+            for (CLSymbol.MemberHeader member : type.symbol.fields()) {
+                if (!fields.containsKey(member.name)) {
+                    fields.put(member.name, new Field(type.symbol, member));
+                }
+            }
+        }
+
+        /**
+         * Returns the index of the superclass.
+         *
+         * @return the index, or {@code null} if there is no superclass.
+         */
+
+        public MemberIndex superClass() {
+            if (classRep == null) {
+                Type superClass = type.superClass();
+                return superClass == null ? null : superClass.memberIndex();
+            }
+            Class<?> superClass = classRep.getSuperclass();
+            return superClass == null ? null : memberIndexes.get(superClass);
+        }
+
+        /**
+         * Returns the method having the specified key.
+         *
+         * @param key the key.
+         * @return the method, or {@code null}.
+         */
+
+        public Method method(String key) {
+            return methods.get(key);
+        }
+
+        /**
+         * Returns the constructor having the specified key.
+         *
+         * @param key the key.
+         * @return the constructor, or {@code null}.
+         */
+
+        public Constructor constructor(String key) {
+            return constructors.get(key);
+        }
+
+        /**
+         * Returns the field having the specified name.
+         *
+         * @param name the field name.
+         * @return the field, or {@code null}.
+         */
+
+        public Field field(String name) {
+            return fields.get(name);
+        }
+
+        /**
+         * Returns the key of a member having the specified name and
+         * parameter types: the name followed by the descriptors of the types,
+         * one after another. As each descriptor ends where the next starts,
+         * parameter types match if and only if the keys are equal.
+         *
+         * @param name       the name.
+         * @param paramTypes the parameter types.
+         * @return the key.
+         */
+
+        public static String key(String name, Class<?>[] paramTypes) {
+            StringBuilder key = new StringBuilder(name).append('(');
+            for (Class<?> paramType : paramTypes) {
+                key.append(descriptorFor(paramType));
+            }
+            return key.toString();
+        }
+
+        /**
+         * Returns the key of a member having the specified name and
+         * parameters matching the specified argument types.
+         *
+         * @param name     the name.
+         * @param argTypes the argument types.
+         * @return the key.
+         */
+
+        public static String key(String name, Type[] argTypes) {
+            StringBuilder key = new StringBuilder(name).append('(');
+            for (Type argType : argTypes) {
+                key.append(argType.toDescriptor());
+            }
+            return key.toString();
+        }
+
+        /**
+         * Returns the key of a member having the specified name and
+         * descriptor.
+         *
+         * @param name       the name.
+         * @param descriptor the (method) descriptor.
+         * @return the key.
+         */
+
+        public static String key(String name, String descriptor) {
+            return name + descriptor.substring(0, descriptor.indexOf(')'));
+        }
+
+    }
+
 }
 
 /**
@@ -851,15 +1334,13 @@ class TypeName extends Type {
     public Type resolve(Context context) {
         Type resolvedType = context.lookupType(name);
         if (resolvedType == null) {
-            // Try loading a type with the give fullname
-            try {
-                resolvedType = typeFor(Class.forName(name));
+            // Try finding a library class with the given fullname
+            resolvedType = typeFor(Session.current().classSymbols(),
+                    name.replace('.', '/'));
+            if (resolvedType != null) {
                 context.addType(line, resolvedType);
-                // context.compilationUnitContext().addEntry(line,
-                // resolvedType.toString(),
-                // new TypeNameDefn(resolvedType));
-            } catch (Exception e) {
-                JAST.compilationUnit.reportSemanticError(line, "Unable to locate a type named %s", name);
+            } else {
+                JAST.compilationUnit().reportSemanticError(line, "Unable to locate a type named %s", name);
                 resolvedType = Type.ANY;
             }
         }
@@ -870,7 +1351,7 @@ class TypeName extends Type {
             } else {
                 referencingType = ((JTypeDecl) (context.interfaceContext.definition())).thisType();
             }
-            Type.checkAccess(line, referencingType.classRep(), resolvedType.classRep());
+            Type.checkAccess(line, referencingType, resolvedType);
         }
         return resolvedType;
     }
@@ -939,12 +1420,7 @@ class ArrayTypeName extends Type {
 
     public Type resolve(Context context) {
         componentType = componentType.resolve(context);
-
-        // The API forces us to make an instance and get its
-        // type.
-        Class classRep = Array.newInstance(componentType().classRep(), 0)
-                .getClass();
-        return Type.typeFor(classRep);
+        return componentType.arrayType();
     }
 
 }
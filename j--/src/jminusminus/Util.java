@@ -2,6 +2,8 @@
 
 package jminusminus;
 
+import java.io.PrintStream;
+
 /**
  * This class defines helper functions.
  */
@@ -92,6 +94,9 @@ class PrettyPrinter {
     /** Current indentation (number of blank spaces). */
     private int indent;
 
+    /** Where to print (STDOUT, unless redirected by the session). */
+    private PrintStream out;
+
     /**
      * Constructs a PrettyPrinter with an indentation width of 2.
      */
@@ -110,6 +115,7 @@ class PrettyPrinter {
     public PrettyPrinter(int indentWidth) {
         this.indentWidth = indentWidth;
         indent = 0;
+        out = Session.out();
     }
 
     /**
@@ -136,7 +142,7 @@ class PrettyPrinter {
 
     public void println() {
         doIndent();
-        System.out.println();
+        out.println();
     }
 
     /**
@@ -148,7 +154,7 @@ class PrettyPrinter {
 
     public void println(String s) {
         doIndent();
-        System.out.println(s);
+        out.println(s);
     }
 
     /**
@@ -160,7 +166,7 @@ class PrettyPrinter {
 
     public void print(String s) {
         doIndent();
-        System.out.print(s);
+        out.print(s);
     }
 
     /**
@@ -174,7 +180,7 @@ class PrettyPrinter {
 
     public void printf(String format, Object... args) {
         doIndent();
-        System.out.printf(format, args);
+        out.printf(format, args);
     }
 
     /**
@@ -183,7 +189,7 @@ class PrettyPrinter {
 
     private void doIndent() {
         for (int i = 0; i < indent; i++) {
-            System.out.print(" ");
+            out.print(" ");
         }
     }
 
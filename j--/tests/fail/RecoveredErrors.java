@@ -0,0 +1,26 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package fail;
+
+import java.lang.System;
+
+// This program has a syntax error, and type errors after it that must
+// still be reported; it shouldn't compile.
+
+public class RecoveredErrors {
+
+    public static int sum(int[] a) {
+        int s = 0;
+        for (int i = 0; i < a.length; i++) {
+            s += a[i] +;
+        }
+        boolean b = s;
+        return s;
+    }
+
+    public static void main(String[] args) {
+        int n = sum(args);
+        System.out.println(n);
+    }
+
+}
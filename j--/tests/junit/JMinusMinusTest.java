@@ -2,8 +2,20 @@
 
 package junit;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.JarFile;
 import junit.framework.TestCase;
+import jminusminus.Diagnostic;
+import jminusminus.IncrementalParser;
+import jminusminus.JMinusMinusCompiler;
 import jminusminus.Main;
 
 /**
@@ -52,6 +64,608 @@ public class JMinusMinusTest extends TestCase {
         assertFalse(errorHasOccurred);
     }
 
+    /**
+     * Run the j-- compiler against all of the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, in a single
+     * invocation.
+     */
+
+    public void testPassTogether() {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with handwritten frontend) on %d files "
+                + "together ...\n\n", args.size() - 2);
+        Main.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+
+        // We want all tests to pass
+        assertFalse(Main.errorHasOccurred());
+    }
+
+    /**
+     * Run the j-- compiler against all of the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, in a single
+     * invocation, both sequentially and in parallel, and check that the class
+     * files generated are the same.
+     */
+
+    public void testPassParallel() throws IOException {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File sequentialDir = new File(genClassDir, "sequential");
+        File parallelDir = new File(genClassDir, "parallel");
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> sourceFiles = new ArrayList<String>();
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                sourceFiles.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with handwritten frontend) on %d files "
+                + "in parallel ...\n\n", sourceFiles.size());
+        ArrayList<String> args = new ArrayList<String>(sourceFiles);
+        args.add(0, "-d");
+        args.add(1, sequentialDir.getAbsolutePath());
+        Main.main(args.toArray(new String[args.size()]));
+        assertFalse(Main.errorHasOccurred());
+        args = new ArrayList<String>(sourceFiles);
+        args.add(0, "-j");
+        args.add(1, "4");
+        args.add(2, "-d");
+        args.add(3, parallelDir.getAbsolutePath());
+        Main.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+        assertFalse(Main.errorHasOccurred());
+
+        // We want the same class files
+        assertSameFiles(sequentialDir, parallelDir);
+    }
+
+    /**
+     * Run the j-- compiler against all of the fail-test files under the folder
+     * specified by FAIL_TESTS_DIR property in the build.xml file, in a single
+     * invocation, both sequentially and in parallel, and check that the
+     * errors are reported in the same order.
+     */
+
+    public void testFailParallel() {
+        File failTestsDir = new File(System.getProperty("FAIL_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File[] files = failTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with handwritten frontend) on %d files "
+                + "in parallel ...\n\n", args.size() - 2);
+        String sequential = errors(args);
+        assertTrue(Main.errorHasOccurred());
+        args.add(0, "-j");
+        args.add(1, "4");
+        String parallel = errors(args);
+        System.out.printf("\n\n");
+        assertTrue(Main.errorHasOccurred());
+
+        // We want the same errors, in the same order
+        assertTrue(sequential.length() > 0);
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Run the j-- compiler incrementally against all of the pass-test files
+     * under the folder specified by PASS_TESTS_DIR property in the build.xml
+     * file, twice, and check that the second run compiles none of them; and
+     * likewise for one of them compiled to SPIM.
+     * Then check that a file calling a method whose signature changed is
+     * compiled again.
+     */
+
+    public void testIncremental() throws IOException {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File incrementalDir = new File(genClassDir, "incremental");
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-i");
+        args.add("-d");
+        args.add(incrementalDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with handwritten frontend) on %d files "
+                + "incrementally ...\n\n", args.size() - 3);
+        Main.main(args.toArray(new String[args.size()]));
+        assertFalse(Main.errorHasOccurred());
+        File index = new File(incrementalDir, ".j--index");
+        assertTrue(index.exists());
+        long lastModified = index.lastModified();
+        index.setLastModified(lastModified - 10000);
+        Main.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+        assertFalse(Main.errorHasOccurred());
+
+        // We want nothing to be compiled (and so the index left alone)
+        assertEquals(lastModified - 10000, index.lastModified());
+
+        // Likewise when compiling to SPIM, the .s file being named after the
+        // source file alone
+        File spimDir = new File(genClassDir, "incremental-spim");
+        spimDir.mkdirs();
+        String[] spimArgs = { "-i", "-s", "naive", "-d",
+                spimDir.getAbsolutePath(),
+                new File(passTestsDir, "HelloWorld.java").toString() };
+        Main.main(spimArgs);
+        assertFalse(Main.errorHasOccurred());
+        File spimIndex = new File(spimDir, ".j--index");
+        assertTrue(new File(spimDir, "HelloWorld.s").exists());
+        spimIndex.setLastModified(lastModified - 10000);
+        Main.main(spimArgs);
+        assertFalse(Main.errorHasOccurred());
+        assertEquals(lastModified - 10000, spimIndex.lastModified());
+
+        // Change the signature of a static method called (through the type
+        // name) from another file: we want the caller to be compiled again,
+        // and so the call to be found in error
+        File sourceDir = new File(genClassDir, "incremental-src");
+        sourceDir.mkdirs();
+        File a = new File(sourceDir, "A.java");
+        File b = new File(sourceDir, "B.java");
+        Files.write(a.toPath(), ("public class A {\n"
+                + "    public static int f() {\n"
+                + "        return 1;\n"
+                + "    }\n"
+                + "}\n").getBytes("UTF-8"));
+        Files.write(b.toPath(), ("public class B {\n"
+                + "    public static int g() {\n"
+                + "        return A.f() + 1;\n"
+                + "    }\n"
+                + "}\n").getBytes("UTF-8"));
+        File dependentDir = new File(genClassDir, "incremental-deps");
+        new File(dependentDir, ".j--index").delete();
+        String[] dependentArgs = { "-i", "-d", dependentDir.getAbsolutePath(),
+                a.toString(), b.toString() };
+        Main.main(dependentArgs);
+        assertFalse(Main.errorHasOccurred());
+        Files.write(a.toPath(), ("public class A {\n"
+                + "    public static boolean f() {\n"
+                + "        return true;\n"
+                + "    }\n"
+                + "}\n").getBytes("UTF-8"));
+        Main.main(dependentArgs);
+        System.out.printf("\n\n");
+        assertTrue(Main.errorHasOccurred());
+    }
+
+    /**
+     * Asserts that the files under the expected folder are all found, with the
+     * same contents, under the actual folder.
+     */
+
+    private void assertSameFiles(File expected, File actual)
+            throws IOException {
+        File[] files = expected.listFiles();
+        assertNotNull(files);
+        for (File file : files) {
+            File other = new File(actual, file.getName());
+            if (file.isDirectory()) {
+                assertSameFiles(file, other);
+            } else {
+                assertTrue(other.toString(), Arrays.equals(
+                        Files.readAllBytes(file.toPath()),
+                        Files.readAllBytes(other.toPath())));
+            }
+        }
+    }
+
+    /**
+     * Start a resident j-- compiler, and run it (through the client) against
+     * all of the pass-test files and one of the fail-test files under the
+     * folders specified by PASS_TESTS_DIR and FAIL_TESTS_DIR properties in the
+     * build.xml file. Check that a request may not make the daemon serve
+     * another socket, nor run a program (with -run).
+     */
+
+    public void testDaemon() throws InterruptedException, IOException {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File failTestsDir = new File(System.getProperty("FAIL_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        final File socket = new File(System.getProperty("java.io.tmpdir"),
+                "j--.test" + System.nanoTime() + ".sock");
+        Thread daemon = new Thread() {
+            public void run() {
+                Main.main(new String[] { "--daemon=" + socket });
+            }
+        };
+        daemon.start();
+        for (int i = 0; i < 100 && !socket.exists(); i++) {
+            Thread.sleep(50);
+        }
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("--client=" + socket);
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with handwritten frontend) on %d files "
+                + "through the daemon ...\n\n", args.size() - 3);
+        Main.main(args.toArray(new String[args.size()]));
+        boolean passErrorHasOccurred = Main.errorHasOccurred();
+        File argFile = new File(genClassDir, "daemon.args");
+        Files.write(argFile.toPath(), ("--daemon=" + socket + ".other")
+                .getBytes());
+        Main.main(new String[] { "--client=" + socket, "@" + argFile });
+        boolean daemonErrorHasOccurred = Main.errorHasOccurred();
+        Main.main(new String[] { "--client=" + socket, "-run",
+                new File(passTestsDir, "HelloWorld.java").toString() });
+        boolean runErrorHasOccurred = Main.errorHasOccurred();
+        Main.main(new String[] { "--client=" + socket, "-d",
+                genClassDir.getAbsolutePath(),
+                new File(failTestsDir, "TypeErrors.java").toString() });
+        boolean failErrorHasOccurred = Main.errorHasOccurred();
+        Main.main(new String[] { "--stop=" + socket });
+        daemon.join(5000);
+        System.out.printf("\n\n");
+
+        // We want the pass tests to pass, the fail test to fail, and the
+        // daemon to stop
+        assertFalse(passErrorHasOccurred);
+        assertTrue(daemonErrorHasOccurred);
+        assertTrue(runErrorHasOccurred);
+        assertFalse(new File(socket + ".other").exists());
+        assertTrue(failErrorHasOccurred);
+        assertFalse(daemon.isAlive());
+    }
+
+    /**
+     * Run the j-- compiler against all of the pass-test files, writing the
+     * classes to a jar file, both sequentially and in parallel, and check
+     * that both jars are the same.
+     */
+
+    public void testJar() throws IOException {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File jarDir = new File(System.getProperty("GEN_CLASS_DIR"), "jar");
+        jarDir.mkdirs();
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> sources = new ArrayList<String>();
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                sources.add(files[i].toString());
+            }
+        }
+        File sequential = new File(jarDir, "sequential.jar");
+        File parallel = new File(jarDir, "parallel.jar");
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-jar");
+        args.add(sequential.toString());
+        args.addAll(sources);
+        System.out.printf("Running j-- (with handwritten frontend) on %d files "
+                + "into a jar ...\n\n", sources.size());
+        Main.main(args.toArray(new String[args.size()]));
+        boolean errorHasOccurred = Main.errorHasOccurred();
+        args.set(1, parallel.toString());
+        args.add(0, "-j");
+        args.add(1, "4");
+        Main.main(args.toArray(new String[args.size()]));
+        errorHasOccurred |= Main.errorHasOccurred();
+        System.out.printf("\n\n");
+
+        assertFalse(errorHasOccurred);
+        assertTrue(Arrays.equals(Files.readAllBytes(sequential.toPath()),
+                Files.readAllBytes(parallel.toPath())));
+        JarFile jar = new JarFile(sequential);
+        try {
+            assertNotNull(jar.getEntry("pass/HelloWorld.class"));
+            assertNotNull(jar.getManifest());
+        } finally {
+            jar.close();
+        }
+    }
+
+    /**
+     * Compile two sources held in memory through the programmatic interface,
+     * load the classes compiled and run one of them; then compile a source
+     * with a type error, and check the error reported.
+     */
+
+    public void testInMemory() throws Exception {
+        Map<String, CharSequence> sources = 
+            new LinkedHashMap<String, CharSequence>();
+        sources.put("pkg/Twice.java", "package pkg;\n"
+                + "public class Twice {\n"
+                + "    public static int of(int x) { return Other.add(x, x); }\n"
+                + "}\n");
+        sources.put("pkg/Other.java", "package pkg;\n"
+                + "public class Other {\n"
+                + "    public static int add(int x, int y) { return x + y; }\n"
+                + "}\n");
+        JMinusMinusCompiler.Result result = JMinusMinusCompiler
+                .compile(sources);
+        assertTrue(result.diagnostics().toString(), result.succeeded());
+        assertEquals(Arrays.asList("pkg.Twice", "pkg.Other"),
+                new ArrayList<String>(result.classes().keySet()));
+        final Map<String, byte[]> classes = result.classes();
+        ClassLoader loader = new ClassLoader() {
+            protected Class<?> findClass(String name)
+                    throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        Object twice = loader.loadClass("pkg.Twice").getMethod("of",
+                int.class).invoke(null, 21);
+        assertEquals(42, twice);
+
+        sources.put("pkg/Other.java", "package pkg;\n"
+                + "public class Other {\n"
+                + "    public static int add(int x, int y) {\n"
+                + "        return x + true;\n"
+                + "    }\n"
+                + "}\n");
+        result = JMinusMinusCompiler.compile(sources);
+        assertFalse(result.succeeded());
+        assertTrue(result.classes().isEmpty());
+        Diagnostic diagnostic = result.diagnostics().get(0);
+        assertEquals("pkg/Other.java", diagnostic.file());
+        assertEquals(4, diagnostic.line());
+    }
+
+    /**
+     * Compile a source having syntax errors in two members and a type error
+     * in a third, and check that all three are reported in one compilation.
+     */
+
+    public void testErrorRecovery() {
+        Map<String, CharSequence> sources =
+            new LinkedHashMap<String, CharSequence>();
+        sources.put("Errors.java", "public class Errors {\n"
+                + "    int f(int a) {\n"
+                + "        int x = a + ;\n"
+                + "        return x;\n"
+                + "    }\n"
+                + "    int g(int a b) {\n"
+                + "        return a;\n"
+                + "    }\n"
+                + "    void h() {\n"
+                + "        int y = true;\n"
+                + "    }\n"
+                + "}\n");
+        JMinusMinusCompiler.Result result = JMinusMinusCompiler
+                .compile(sources);
+        assertFalse(result.succeeded());
+        assertTrue(result.classes().isEmpty());
+        ArrayList<Integer> lines = new ArrayList<Integer>();
+        for (Diagnostic diagnostic : result.diagnostics()) {
+            lines.add(diagnostic.line());
+        }
+        assertEquals(Arrays.asList(3, 6, 10), lines);
+    }
+
+    /**
+     * Compile sources ending within a string literal and within a number,
+     * and check that the errors are reported on their last lines.
+     */
+
+    public void testErrorAtEndOfFile() {
+        Map<String, CharSequence> sources =
+            new LinkedHashMap<String, CharSequence>();
+        sources.put("S.java", "class S {\n    String s = \"abc");
+        sources.put("E.java", "class E {\n    double d = 1e");
+        JMinusMinusCompiler.Result result = JMinusMinusCompiler
+                .compile(sources);
+        assertFalse(result.succeeded());
+        ArrayList<String> files = new ArrayList<String>();
+        for (Diagnostic diagnostic : result.diagnostics()) {
+            if (!files.contains(diagnostic.file())) {
+                // The first error of each file is the scanner's
+                files.add(diagnostic.file());
+                assertEquals(2, diagnostic.line());
+            }
+        }
+        assertEquals(Arrays.asList("S.java", "E.java"), files);
+    }
+
+    /**
+     * Compile a source having a syntax error in the declaration of a class,
+     * whose super class cannot be found either, and a use of the class, and
+     * check that the errors are reported (rather than the compiler failing).
+     */
+
+    public void testErrorRecoveryInDeclaration() {
+        Map<String, CharSequence> sources =
+            new LinkedHashMap<String, CharSequence>();
+        sources.put("Use.java", "public class Use {\n"
+                + "    int f(Base b) {\n"
+                + "        return b.x + b.g() + ;\n"
+                + "    }\n"
+                + "}\n"
+                + "class Base extends Missing {\n"
+                + "    int x\n"
+                + "    int g() { return x; }\n"
+                + "}\n");
+        JMinusMinusCompiler.Result result = JMinusMinusCompiler
+                .compile(sources);
+        assertFalse(result.succeeded());
+        ArrayList<Integer> lines = new ArrayList<Integer>();
+        for (Diagnostic diagnostic : result.diagnostics()) {
+            lines.add(diagnostic.line());
+        }
+        assertEquals(Arrays.asList(3, 8, 6), lines);
+    }
+
+    /**
+     * Run the j-- compiler against the fail-test file having a syntax error
+     * followed by type errors, and check that the type errors are reported
+     * too.
+     */
+
+    public void testErrorsAfterRecovery() {
+        File file = new File(System.getProperty("FAIL_TESTS_DIR"),
+                "RecoveredErrors.java");
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-a");
+        args.add(file.toString());
+        String errors = errors(args);
+        assertTrue(Main.errorHasOccurred());
+        assertTrue(errors.contains(file + ":15: "));
+        assertTrue(errors.contains(file + ":17: Type int doesn't match type "
+                + "boolean"));
+        assertTrue(errors.contains(file + ":22: Cannot find method for: "
+                + "sum(java.lang.String[])"));
+    }
+
+    /**
+     * Edit a source with an IncrementalParser, introducing and fixing syntax
+     * errors within members and adding a line, and check the AST and the
+     * errors after each edit against those of the source parsed from scratch.
+     */
+
+    public void testIncrementalParser() {
+        String source = "public class Edited {\n"
+                + "    int f(int a) {\n"
+                + "        int x = a;\n"
+                + "        return x;\n"
+                + "    }\n"
+                + "    int g(int a, int b) {\n"
+                + "        return a;\n"
+                + "    }\n"
+                + "}\n";
+        IncrementalParser parser = new IncrementalParser("Edited.java", source);
+        assertFalse(parser.errorHasOccurred());
+
+        int f = source.indexOf("a;");
+        parser.edit(f + 1, 0, " +");
+        assertIncremental(parser, 3);
+        int g = parser.source().indexOf("int b");
+        parser.edit(g + 3, 1, "");
+        assertIncremental(parser, 3, 6);
+        parser.edit(f + 1, 2, "");
+        assertIncremental(parser, 6);
+        parser.edit(parser.source().indexOf("intb") + 3, 0, " ");
+        assertIncremental(parser);
+        parser.edit(source.indexOf("    int g"), 0, "\n");
+        assertIncremental(parser);
+        assertEquals(source.replace("    int g", "\n    int g"), parser
+                .source());
+    }
+
+    /**
+     * Edit a source with an IncrementalParser, adding and removing whole
+     * members of nested classes within lines, first in a later class and then
+     * in an earlier one (so that the spans of the members between them are
+     * shifted while a shift is pending), and check the AST and the errors
+     * after each edit against those of the source parsed from scratch.
+     */
+
+    public void testIncrementalParserMembers() {
+        String source = "public class Edited {\n"
+                + "    class Inner {\n"
+                + "        int f() { return 1; } int g() { return 2; }\n"
+                + "    }\n"
+                + "    int h() { return 3; }\n"
+                + "    class Other {\n"
+                + "        int k() { return 4; } int l() { return 5; }\n"
+                + "    }\n"
+                + "}\n";
+        IncrementalParser parser = new IncrementalParser("Edited.java", source);
+        assertFalse(parser.errorHasOccurred());
+
+        replace(parser, "} int l", "} int m() { return 7; } int l");
+        assertIncremental(parser);
+        replace(parser, "} int g", "} int n() { return 6; } int g");
+        assertIncremental(parser);
+        replace(parser, "} int m() { return 7; } int l", "} int l");
+        assertIncremental(parser);
+        replace(parser, "return 3;", "int x = ; return 3;");
+        assertIncremental(parser, 5);
+        replace(parser, "int n() { return 6; }", "int q( { return 8; }");
+        assertIncremental(parser, 3, 5);
+        replace(parser, "int x = ; ", "");
+        assertIncremental(parser, 3);
+        replace(parser, "} int q( { return 8; } int g", "} int g");
+        assertIncremental(parser);
+        assertEquals(source, parser.source());
+    }
+
+    /**
+     * Replaces the first occurrence of the specified text in the source of
+     * the specified IncrementalParser with the specified replacement.
+     */
+
+    private void replace(IncrementalParser parser, String text,
+            String replacement) {
+        int offset = parser.source().indexOf(text);
+        assertTrue(offset >= 0);
+        parser.edit(offset, text.length(), replacement);
+    }
+
+    /**
+     * Asserts that the specified IncrementalParser has errors at the
+     * specified lines, and the same errors and AST as its source parsed from
+     * scratch.
+     */
+
+    private void assertIncremental(IncrementalParser parser, Integer... lines) {
+        ArrayList<Integer> actual = new ArrayList<Integer>();
+        for (Diagnostic diagnostic : parser.diagnostics()) {
+            actual.add(diagnostic.line());
+        }
+        assertEquals(Arrays.asList(lines), actual);
+        assertEquals(lines.length > 0, parser.errorHasOccurred());
+        IncrementalParser scratch = new IncrementalParser("Edited.java", parser
+                .source());
+        assertEquals(scratch.diagnostics().toString(), parser.diagnostics()
+                .toString());
+        assertEquals(ast(scratch), ast(parser));
+    }
+
+    /**
+     * Compile and run (with -run) a pass-test file, checking what it prints,
+     * and try to run a fail-test file.
+     */
+
+    public void testRun() {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File failTestsDir = new File(System.getProperty("FAIL_TESTS_DIR"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(output, true));
+        try {
+            Main.main(new String[] { "-run",
+                    new File(passTestsDir, "HelloWorld.java").toString() });
+        } finally {
+            System.setOut(out);
+        }
+        assertFalse(Main.errorHasOccurred());
+        assertEquals("Hello, World!", output.toString().trim());
+
+        Main.main(new String[] { "-run",
+                new File(failTestsDir, "TypeErrors.java").toString() });
+        assertTrue(Main.errorHasOccurred());
+    }
+
     /**
      * Run the j-- compiler against each fail-test file under the folder
      * specified by FAIL_TESTS_DIR property in the build.xml file. FRONT_END
@@ -83,6 +697,48 @@ public class JMinusMinusTest extends TestCase {
         assertTrue(errorHasOccurred);
     }
 
+    /**
+     * Runs the j-- compiler with the specified arguments, and returns what it
+     * printed to STDERR.
+     *
+     * @param args
+     *            the arguments.
+     * @return the errors.
+     */
+
+    private String errors(ArrayList<String> args) {
+        PrintStream err = System.err;
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errors, true));
+        try {
+            Main.main(args.toArray(new String[args.size()]));
+        } finally {
+            System.setErr(err);
+        }
+        return errors.toString();
+    }
+
+    /**
+     * Returns the AST of the specified IncrementalParser, as it is
+     * pretty-printed.
+     *
+     * @param parser
+     *            the IncrementalParser.
+     * @return the AST.
+     */
+
+    private String ast(IncrementalParser parser) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream ast = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(ast, true));
+        try {
+            parser.writeToStdOut();
+        } finally {
+            System.setOut(out);
+        }
+        return ast.toString();
+    }
+
     /**
      * Entry point.
      * 
@@ -3,8 +3,13 @@
 package junit;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import junit.framework.TestCase;
 import jminusminus.JavaCCMain;
+import jminusminus.Main;
 
 /**
  * JUnit test case for running the j-- compiler on the j-- test programs under
@@ -52,6 +57,132 @@ public class JMinusMinusTestJavaCC extends TestCase {
         assertFalse(errorHasOccurred);
     }
 
+    /**
+     * Run the j-- compiler against all of the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, in a single
+     * invocation.
+     */
+
+    public void testPassTogether() {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with javacc frontend) on %d files "
+                + "together ...\n\n", args.size() - 2);
+        JavaCCMain.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+
+        // We want all tests to pass
+        assertFalse(JavaCCMain.errorHasOccurred());
+    }
+
+    /**
+     * Run the j-- compiler against all of the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, in a single
+     * invocation, both sequentially and in parallel, and check that the class
+     * files generated are the same.
+     */
+
+    public void testPassParallel() throws IOException {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File sequentialDir = new File(genClassDir, "sequential");
+        File parallelDir = new File(genClassDir, "parallel");
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> sourceFiles = new ArrayList<String>();
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                sourceFiles.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with JavaCC frontend) on %d files "
+                + "in parallel ...\n\n", sourceFiles.size());
+        ArrayList<String> args = new ArrayList<String>(sourceFiles);
+        args.add(0, "-d");
+        args.add(1, sequentialDir.getAbsolutePath());
+        JavaCCMain.main(args.toArray(new String[args.size()]));
+        assertFalse(JavaCCMain.errorHasOccurred());
+        args = new ArrayList<String>(sourceFiles);
+        args.add(0, "-j");
+        args.add(1, "4");
+        args.add(2, "-d");
+        args.add(3, parallelDir.getAbsolutePath());
+        JavaCCMain.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+        assertFalse(JavaCCMain.errorHasOccurred());
+
+        // We want the same class files
+        assertSameFiles(sequentialDir, parallelDir);
+    }
+
+    /**
+     * Run the j-- compiler against all of the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, in a single
+     * invocation, with the handwritten front end and with the JavaCC one, and
+     * check that the class files generated are the same.
+     */
+
+    public void testFrontEnds() throws IOException {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File handwrittenDir = new File(genClassDir, "handwritten");
+        File javaccDir = new File(genClassDir, "javacc");
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> sourceFiles = new ArrayList<String>();
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                sourceFiles.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with both frontends) on %d files "
+                + "...\n\n", sourceFiles.size());
+        ArrayList<String> args = new ArrayList<String>(sourceFiles);
+        args.add(0, "-frontend");
+        args.add(1, "handwritten");
+        args.add(2, "-d");
+        args.add(3, handwrittenDir.getAbsolutePath());
+        Main.main(args.toArray(new String[args.size()]));
+        assertFalse(Main.errorHasOccurred());
+        args = new ArrayList<String>(sourceFiles);
+        args.add(0, "-d");
+        args.add(1, javaccDir.getAbsolutePath());
+        JavaCCMain.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+        assertFalse(JavaCCMain.errorHasOccurred());
+
+        // We want the same class files
+        assertSameFiles(handwrittenDir, javaccDir);
+    }
+
+    /**
+     * Asserts that the files under the expected folder are all found, with the
+     * same contents, under the actual folder.
+     */
+
+    private void assertSameFiles(File expected, File actual)
+            throws IOException {
+        File[] files = expected.listFiles();
+        assertNotNull(files);
+        for (File file : files) {
+            File other = new File(actual, file.getName());
+            if (file.isDirectory()) {
+                assertSameFiles(file, other);
+            } else {
+                assertTrue(other.toString(), Arrays.equals(
+                        Files.readAllBytes(file.toPath()),
+                        Files.readAllBytes(other.toPath())));
+            }
+        }
+    }
+
     /**
      * Run the j-- compiler against each fail-test file under the folder
      * specified by FAIL_TESTS_DIR property in the build.xml file.